@@ -0,0 +1,59 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.buffer.BufferPool;
+
+/**
+ * 响应体缓冲池配置
+ * @author liaochongwei
+ * @date 2026/10/17 17:30
+ */
+public class BufferPoolProperties {
+    /**
+     * 是否启用
+     */
+    private boolean enable = false;
+    /**
+     * 是否使用堆外内存
+     */
+    private boolean direct = false;
+    /**
+     * 每个尺寸等级最多缓存的内存块数
+     */
+    private Integer maxChunksPerClass = BufferPool.DEFAULT_MAX_CHUNKS;
+    /**
+     * 泄漏检测(为空时在debug日志级别下开启)
+     */
+    private Boolean leakDetection;
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    public void setDirect(boolean direct) {
+        this.direct = direct;
+    }
+
+    public Integer getMaxChunksPerClass() {
+        return maxChunksPerClass;
+    }
+
+    public void setMaxChunksPerClass(Integer maxChunksPerClass) {
+        this.maxChunksPerClass = maxChunksPerClass;
+    }
+
+    public Boolean getLeakDetection() {
+        return leakDetection;
+    }
+
+    public void setLeakDetection(Boolean leakDetection) {
+        this.leakDetection = leakDetection;
+    }
+}
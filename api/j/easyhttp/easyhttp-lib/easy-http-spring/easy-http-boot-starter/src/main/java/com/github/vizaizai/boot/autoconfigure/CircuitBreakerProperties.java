@@ -0,0 +1,132 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.breaker.CircuitBreakerSettings;
+
+/**
+ * 熔断配置(每个客户端单独一组熔断器，按请求方式+host+路由模板区分)
+ * @author liaochongwei
+ * @date 2026/10/18 18:40
+ */
+public class CircuitBreakerProperties {
+    /**
+     * 是否启用
+     */
+    private boolean enable = false;
+    /**
+     * 失败率阈值(%)
+     */
+    private Float failureRateThreshold = 50F;
+    /**
+     * 慢调用率阈值(%)
+     */
+    private Float slowCallRateThreshold = 100F;
+    /**
+     * 超过该耗时(ms)的调用记为慢调用
+     */
+    private Long slowCallDuration = 60000L;
+    /**
+     * 滑动窗口大小(最近的调用数)
+     */
+    private Integer slidingWindowSize = 100;
+    /**
+     * 窗口内至少有该数量的调用后才计算失败率
+     */
+    private Integer minimumCalls = 20;
+    /**
+     * 熔断后等待该时间(ms)进入半开状态
+     */
+    private Long waitDurationInOpen = 30000L;
+    /**
+     * 半开状态允许的试探调用数
+     */
+    private Integer permittedCallsInHalfOpen = 5;
+    /**
+     * 每个客户端最多保留的熔断器数量
+     */
+    private Integer maxBreakers = 1000;
+
+    public CircuitBreakerSettings toSettings() {
+        CircuitBreakerSettings settings = new CircuitBreakerSettings();
+        settings.setFailureRateThreshold(failureRateThreshold);
+        settings.setSlowCallRateThreshold(slowCallRateThreshold);
+        settings.setSlowCallDuration(slowCallDuration);
+        settings.setSlidingWindowSize(slidingWindowSize);
+        settings.setMinimumCalls(minimumCalls);
+        settings.setWaitDurationInOpen(waitDurationInOpen);
+        settings.setPermittedCallsInHalfOpen(permittedCallsInHalfOpen);
+        settings.setMaxBreakers(maxBreakers);
+        return settings;
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public Float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(Float failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public Float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(Float slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public Long getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(Long slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+    }
+
+    public Integer getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public void setSlidingWindowSize(Integer slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public Integer getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(Integer minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public Long getWaitDurationInOpen() {
+        return waitDurationInOpen;
+    }
+
+    public void setWaitDurationInOpen(Long waitDurationInOpen) {
+        this.waitDurationInOpen = waitDurationInOpen;
+    }
+
+    public Integer getPermittedCallsInHalfOpen() {
+        return permittedCallsInHalfOpen;
+    }
+
+    public void setPermittedCallsInHalfOpen(Integer permittedCallsInHalfOpen) {
+        this.permittedCallsInHalfOpen = permittedCallsInHalfOpen;
+    }
+
+    public Integer getMaxBreakers() {
+        return maxBreakers;
+    }
+
+    public void setMaxBreakers(Integer maxBreakers) {
+        this.maxBreakers = maxBreakers;
+    }
+}
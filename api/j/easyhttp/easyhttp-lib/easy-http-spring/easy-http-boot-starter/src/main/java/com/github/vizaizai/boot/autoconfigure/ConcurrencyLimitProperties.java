@@ -0,0 +1,81 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.entity.ConcurrencyLimitSettings;
+
+/**
+ * 并发限制配置(每个客户端单独一个限制器，可被@ConcurrencyLimit覆盖)
+ * @author liaochongwei
+ * @date 2026/10/18 23:20
+ */
+public class ConcurrencyLimitProperties {
+    /**
+     * 是否启用
+     */
+    private boolean enable = false;
+    /**
+     * 算法(fixed/aimd/gradient)
+     */
+    private ConcurrencyLimitSettings.Algorithm algorithm = ConcurrencyLimitSettings.Algorithm.FIXED;
+    /**
+     * 并发上限(自适应算法的初始上限)
+     */
+    private Integer limit = 20;
+    /**
+     * 自适应算法的最小上限
+     */
+    private Integer minLimit = 1;
+    /**
+     * 自适应算法的最大上限
+     */
+    private Integer maxLimit = 200;
+
+    public ConcurrencyLimitSettings toSettings() {
+        ConcurrencyLimitSettings settings = new ConcurrencyLimitSettings();
+        settings.setEnable(enable);
+        settings.setAlgorithm(algorithm);
+        settings.setLimit(limit);
+        settings.setMinLimit(minLimit);
+        settings.setMaxLimit(maxLimit);
+        return settings;
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public ConcurrencyLimitSettings.Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(ConcurrencyLimitSettings.Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public Integer getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(Integer minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public Integer getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(Integer maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.client.apache.PoolSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 默认客户端(ApacheHttpClient)连接池配置
+ * @author liaochongwei
+ * @date 2026/10/18 10:10
+ */
+public class ConnectionPoolProperties {
+    /**
+     * 最大连接数
+     */
+    private Integer maxTotal = 500;
+    /**
+     * 每个主机的默认最大连接数
+     */
+    private Integer defaultMaxPerRoute = 20;
+    /**
+     * 指定主机的最大连接数，键为host:port或scheme://host:port(含冒号时需写为[host:port])
+     */
+    private Map<String, Integer> maxPerRoute = new LinkedHashMap<>();
+    /**
+     * 从连接池获取连接的超时时间(ms)
+     */
+    private Integer connectionRequestTimeout = 15000;
+    /**
+     * 连接空闲超过该时间(ms)后，复用前先校验，小于0不校验
+     */
+    private Integer validateAfterInactivity = 2000;
+    /**
+     * 连接存活时间(ms)，小于等于0不限制
+     */
+    private Long timeToLive = -1L;
+    /**
+     * 空闲连接最大保留时间(ms)，小于等于0只关闭过期连接
+     */
+    private Long maxIdleTime = 60000L;
+
+    /**
+     * 转换为连接池设置
+     * @return PoolSettings
+     */
+    public PoolSettings toPoolSettings() {
+        PoolSettings settings = new PoolSettings();
+        settings.setMaxTotal(maxTotal);
+        settings.setDefaultMaxPerRoute(defaultMaxPerRoute);
+        settings.setMaxPerRoute(new LinkedHashMap<>(maxPerRoute));
+        settings.setConnectionRequestTimeout(connectionRequestTimeout);
+        settings.setValidateAfterInactivity(validateAfterInactivity);
+        settings.setTimeToLive(timeToLive);
+        settings.setMaxIdleTime(maxIdleTime);
+        return settings;
+    }
+
+    public Integer getMaxTotal() {
+        return maxTotal;
+    }
+
+    public void setMaxTotal(Integer maxTotal) {
+        this.maxTotal = maxTotal;
+    }
+
+    public Integer getDefaultMaxPerRoute() {
+        return defaultMaxPerRoute;
+    }
+
+    public void setDefaultMaxPerRoute(Integer defaultMaxPerRoute) {
+        this.defaultMaxPerRoute = defaultMaxPerRoute;
+    }
+
+    public Map<String, Integer> getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    public void setMaxPerRoute(Map<String, Integer> maxPerRoute) {
+        this.maxPerRoute = maxPerRoute;
+    }
+
+    public Integer getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    public void setConnectionRequestTimeout(Integer connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
+    public Integer getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    public void setValidateAfterInactivity(Integer validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+    }
+
+    public Long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public Long getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(Long maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+}
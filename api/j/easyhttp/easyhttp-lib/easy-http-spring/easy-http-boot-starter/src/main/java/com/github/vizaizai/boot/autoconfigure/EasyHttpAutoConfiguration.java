@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.vizaizai.boot.support.EnvironmentPathConverter;
 import com.github.vizaizai.boot.support.InterceptorsBean;
 import com.github.vizaizai.boot.support.SpringInterceptorGenerator;
+import com.github.vizaizai.buffer.BufferPool;
+import com.github.vizaizai.cache.HttpCache;
 import com.github.vizaizai.client.AbstractClient;
 import com.github.vizaizai.client.ApacheHttpClient;
 import com.github.vizaizai.codec.Decoder;
@@ -16,14 +18,18 @@ import com.github.vizaizai.interceptor.ErrorInterceptor;
 import com.github.vizaizai.interceptor.InterceptorGenerator;
 import com.github.vizaizai.retry.DefaultRule;
 import com.github.vizaizai.retry.RetryTrigger;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.nio.file.Paths;
+
 /**
  * @author 廖重威
  * @date 2020/8/1 19:16
@@ -42,14 +48,14 @@ public class EasyHttpAutoConfiguration {
     @ConditionalOnClass({Jackson2ObjectMapperBuilder.class})
     @ConditionalOnMissingBean
     @Bean
-    Encoder springJacksonEncoder(ObjectMapper objectMapper) {
-        return new JacksonEncoder(objectMapper);
+    Encoder springJacksonEncoder(ObjectMapper objectMapper, EasyHttpProperties properties) {
+        return new JacksonEncoder(objectMapper, properties.isStreamRequestBody());
     }
 
     @ConditionalOnMissingBean
     @Bean
-    AbstractClient defaultClient() {
-        return ApacheHttpClient.getInstance();
+    AbstractClient defaultClient(EasyHttpProperties properties) {
+        return ApacheHttpClient.getInstance(properties.getPool().toPoolSettings());
     }
 
     @ConditionalOnMissingBean
@@ -62,6 +68,30 @@ public class EasyHttpAutoConfiguration {
         return config;
     }
 
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easy-http.buffer-pool", name = "enable", havingValue = "true")
+    @Bean
+    BufferPool bufferPool(EasyHttpProperties properties) {
+        BufferPoolProperties poolProperties = properties.getBufferPool();
+        BufferPool bufferPool = BufferPool.create(poolProperties.isDirect(), poolProperties.getMaxChunksPerClass());
+        if (poolProperties.getLeakDetection() != null) {
+            bufferPool.leakDetection(poolProperties.getLeakDetection());
+        }
+        return bufferPool;
+    }
+
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "easy-http.cache", name = "enable", havingValue = "true")
+    @Bean
+    HttpCache httpCache(EasyHttpProperties properties) {
+        HttpCacheProperties cacheProperties = properties.getCache();
+        if (StringUtils.isBlank(cacheProperties.getDiskDirectory())) {
+            return HttpCache.memory(cacheProperties.getMaxMemorySize().toBytes());
+        }
+        return HttpCache.create(cacheProperties.getMaxMemorySize().toBytes(), Paths.get(cacheProperties.getDiskDirectory()),
+                cacheProperties.getMaxDiskSize().toBytes());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     InterceptorsBean interceptorsBean() {
@@ -1,5 +1,6 @@
 package com.github.vizaizai.boot.autoconfigure;
 
+import com.github.vizaizai.entity.ExecutionMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -23,6 +24,10 @@ public class EasyHttpProperties {
      * 基本路径列表
      */
     private Map<String,String> baseEndpoints;
+    /**
+     * 客户端负载均衡(客户端名称 -> 实例列表)，优先于baseEndpoints
+     */
+    private Map<String, LoadBalanceProperties> loadBalance;
     /**
      * 打印请求日志
      */
@@ -47,11 +52,59 @@ public class EasyHttpProperties {
      * 字符编码
      */
     private Charset encoding = StandardCharsets.UTF_8;
+    /**
+     * JSON请求体是否流式写出: 开启后直接序列化到连接输出流(chunked)，不产生完整的字节数组，适合大对象；
+     * 默认关闭，序列化后按Content-Length发送
+     */
+    private boolean streamRequestBody = false;
+    /**
+     * 执行模式(platform/virtual)，virtual时异步方法在虚拟线程上执行(JDK21+，低版本JDK回退为固定大小的平台线程池)
+     */
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
+    /**
+     * 存在截止时间(@Timeout(total)、Deadline参数或Deadline.with)时，传递剩余时间预算(ms)的请求头名称，为空不传递
+     */
+    private String deadlineHeader;
     /**
      * 重试
      */
     @NestedConfigurationProperty
     private RetryProperties retry;
+    /**
+     * 响应体缓冲池
+     */
+    @NestedConfigurationProperty
+    private BufferPoolProperties bufferPool;
+    /**
+     * HTTP缓存
+     */
+    @NestedConfigurationProperty
+    private HttpCacheProperties cache;
+    /**
+     * 默认客户端连接池
+     */
+    @NestedConfigurationProperty
+    private ConnectionPoolProperties pool = new ConnectionPoolProperties();
+    /**
+     * 熔断
+     */
+    @NestedConfigurationProperty
+    private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+    /**
+     * 对冲请求
+     */
+    @NestedConfigurationProperty
+    private HedgeProperties hedge = new HedgeProperties();
+    /**
+     * 并发限制
+     */
+    @NestedConfigurationProperty
+    private ConcurrencyLimitProperties concurrencyLimit = new ConcurrencyLimitProperties();
+    /**
+     * 限流
+     */
+    @NestedConfigurationProperty
+    private RateLimitProperties rateLimit = new RateLimitProperties();
 
 
     public String getBaseEndpoint() {
@@ -70,6 +123,14 @@ public class EasyHttpProperties {
         this.baseEndpoints = baseEndpoints;
     }
 
+    public Map<String, LoadBalanceProperties> getLoadBalance() {
+        return loadBalance;
+    }
+
+    public void setLoadBalance(Map<String, LoadBalanceProperties> loadBalance) {
+        this.loadBalance = loadBalance;
+    }
+
     public Integer getConnectTimeout() {
         return connectTimeout;
     }
@@ -94,6 +155,62 @@ public class EasyHttpProperties {
         this.retry = retry;
     }
 
+    public BufferPoolProperties getBufferPool() {
+        return bufferPool;
+    }
+
+    public void setBufferPool(BufferPoolProperties bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    public HttpCacheProperties getCache() {
+        return cache;
+    }
+
+    public void setCache(HttpCacheProperties cache) {
+        this.cache = cache;
+    }
+
+    public ConnectionPoolProperties getPool() {
+        return pool;
+    }
+
+    public void setPool(ConnectionPoolProperties pool) {
+        this.pool = pool;
+    }
+
+    public CircuitBreakerProperties getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public HedgeProperties getHedge() {
+        return hedge;
+    }
+
+    public void setHedge(HedgeProperties hedge) {
+        this.hedge = hedge;
+    }
+
+    public ConcurrencyLimitProperties getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    public void setConcurrencyLimit(ConcurrencyLimitProperties concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    public RateLimitProperties getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitProperties rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
     public boolean isRequestLog() {
         return requestLog;
     }
@@ -118,6 +235,30 @@ public class EasyHttpProperties {
         this.logItemSuffix = logItemSuffix;
     }
 
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    public String getDeadlineHeader() {
+        return deadlineHeader;
+    }
+
+    public void setDeadlineHeader(String deadlineHeader) {
+        this.deadlineHeader = deadlineHeader;
+    }
+
+    public boolean isStreamRequestBody() {
+        return streamRequestBody;
+    }
+
+    public void setStreamRequestBody(boolean streamRequestBody) {
+        this.streamRequestBody = streamRequestBody;
+    }
+
     public Charset getEncoding() {
         return encoding;
     }
@@ -0,0 +1,93 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.lb.HealthCheckSettings;
+
+/**
+ * 主动健康检查配置
+ * @author liaochongwei
+ * @date 2026/10/18 22:00
+ */
+public class HealthCheckProperties {
+    /**
+     * 是否启用
+     */
+    private boolean enable = false;
+    /**
+     * 检查路径
+     */
+    private String path = "/";
+    /**
+     * 检查间隔(ms)
+     */
+    private Long intervalTime = 10000L;
+    /**
+     * 检查请求超时时间(ms)
+     */
+    private Integer timeout = 2000;
+    /**
+     * 连续通过该次数后恢复
+     */
+    private Integer healthyThreshold = 2;
+    /**
+     * 连续失败该次数后标记为不健康
+     */
+    private Integer unhealthyThreshold = 2;
+
+    public HealthCheckSettings toSettings() {
+        HealthCheckSettings settings = new HealthCheckSettings();
+        settings.setPath(path);
+        settings.setIntervalTime(intervalTime);
+        settings.setTimeout(timeout);
+        settings.setHealthyThreshold(healthyThreshold);
+        settings.setUnhealthyThreshold(unhealthyThreshold);
+        return settings;
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public Long getIntervalTime() {
+        return intervalTime;
+    }
+
+    public void setIntervalTime(Long intervalTime) {
+        this.intervalTime = intervalTime;
+    }
+
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Integer timeout) {
+        this.timeout = timeout;
+    }
+
+    public Integer getHealthyThreshold() {
+        return healthyThreshold;
+    }
+
+    public void setHealthyThreshold(Integer healthyThreshold) {
+        this.healthyThreshold = healthyThreshold;
+    }
+
+    public Integer getUnhealthyThreshold() {
+        return unhealthyThreshold;
+    }
+
+    public void setUnhealthyThreshold(Integer unhealthyThreshold) {
+        this.unhealthyThreshold = unhealthyThreshold;
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.entity.HedgeSettings;
+
+/**
+ * 对冲请求配置(对所有GET/HEAD方法生效，可被@Hedge覆盖)
+ * @author liaochongwei
+ * @date 2026/10/18 20:10
+ */
+public class HedgeProperties {
+    /**
+     * 是否启用
+     */
+    private boolean enable = false;
+    /**
+     * 固定延迟(ms)，为空时取观测到的延迟分位数
+     */
+    private Long delay;
+    /**
+     * 延迟分位数(1-99)
+     */
+    private Integer percentile = 95;
+    /**
+     * 对冲请求占请求量的比例上限
+     */
+    private Double maxRatio = 0.1;
+    /**
+     * 允许的突发对冲数
+     */
+    private Integer maxBurst = 10;
+
+    public HedgeSettings toHedgeSettings() {
+        HedgeSettings settings = new HedgeSettings();
+        settings.setEnable(enable);
+        settings.setDelay(delay);
+        settings.setPercentile(percentile);
+        settings.setMaxRatio(maxRatio);
+        settings.setMaxBurst(maxBurst);
+        return settings;
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public Long getDelay() {
+        return delay;
+    }
+
+    public void setDelay(Long delay) {
+        this.delay = delay;
+    }
+
+    public Integer getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(Integer percentile) {
+        this.percentile = percentile;
+    }
+
+    public Double getMaxRatio() {
+        return maxRatio;
+    }
+
+    public void setMaxRatio(Double maxRatio) {
+        this.maxRatio = maxRatio;
+    }
+
+    public Integer getMaxBurst() {
+        return maxBurst;
+    }
+
+    public void setMaxBurst(Integer maxBurst) {
+        this.maxBurst = maxBurst;
+    }
+}
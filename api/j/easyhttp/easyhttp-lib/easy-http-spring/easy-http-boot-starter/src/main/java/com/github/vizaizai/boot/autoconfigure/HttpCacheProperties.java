@@ -0,0 +1,59 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * HTTP缓存配置
+ * @author liaochongwei
+ * @date 2026/10/17 22:20
+ */
+public class HttpCacheProperties {
+    /**
+     * 是否启用
+     */
+    private boolean enable = false;
+    /**
+     * 内存缓存最大容量
+     */
+    private DataSize maxMemorySize = DataSize.ofMegabytes(64);
+    /**
+     * 磁盘缓存目录(为空时不启用磁盘缓存)
+     */
+    private String diskDirectory;
+    /**
+     * 磁盘缓存最大容量
+     */
+    private DataSize maxDiskSize = DataSize.ofMegabytes(512);
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public DataSize getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    public void setMaxMemorySize(DataSize maxMemorySize) {
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    public String getDiskDirectory() {
+        return diskDirectory;
+    }
+
+    public void setDiskDirectory(String diskDirectory) {
+        this.diskDirectory = diskDirectory;
+    }
+
+    public DataSize getMaxDiskSize() {
+        return maxDiskSize;
+    }
+
+    public void setMaxDiskSize(DataSize maxDiskSize) {
+        this.maxDiskSize = maxDiskSize;
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.lb.EndpointGroup;
+import com.github.vizaizai.lb.LoadBalancer;
+import com.github.vizaizai.lb.LoadBalancers;
+import com.github.vizaizai.limit.RateLimiter;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 客户端负载均衡配置(一个客户端名称对应多个实例，代替baseEndpoints中的单个地址)
+ * @author liaochongwei
+ * @date 2026/10/18 21:50
+ */
+public class LoadBalanceProperties {
+    /**
+     * 实例列表
+     */
+    private List<EndpointProperties> endpoints = new ArrayList<>();
+    /**
+     * 负载均衡策略
+     */
+    private Strategy strategy = Strategy.ROUND_ROBIN;
+    /**
+     * 被动异常摘除
+     */
+    @NestedConfigurationProperty
+    private OutlierProperties outlier = new OutlierProperties();
+    /**
+     * 主动健康检查
+     */
+    @NestedConfigurationProperty
+    private HealthCheckProperties healthCheck = new HealthCheckProperties();
+    /**
+     * 整组限流(同一名称的客户端共用配额，客户端与方法上未设置限流时生效)
+     */
+    @NestedConfigurationProperty
+    private RateLimitProperties rateLimit = new RateLimitProperties();
+    private RateLimiter rateLimiter;
+
+    public EndpointGroup toEndpointGroup() {
+        EndpointGroup group = EndpointGroup.create(this.toLoadBalancer());
+        for (EndpointProperties endpoint : endpoints) {
+            group.add(endpoint.getUrl(), endpoint.getWeight());
+        }
+        if (outlier != null && outlier.isEnable()) {
+            group.outlierDetection(outlier.toSettings());
+        }
+        if (healthCheck != null && healthCheck.isEnable()) {
+            group.healthCheck(healthCheck.toSettings());
+        }
+        if (rateLimit != null && rateLimit.isEnable()) {
+            group.rateLimit(this.getRateLimiter());
+        }
+        return group;
+    }
+
+    private synchronized RateLimiter getRateLimiter() {
+        if (rateLimiter == null) {
+            String name = endpoints.stream().map(EndpointProperties::getUrl).collect(Collectors.joining(","));
+            rateLimiter = RateLimiter.create(name, rateLimit.toSettings());
+        }
+        return rateLimiter;
+    }
+
+    private LoadBalancer toLoadBalancer() {
+        switch (strategy) {
+            case WEIGHTED:
+                return LoadBalancers.weighted();
+            case LEAST_OUTSTANDING:
+                return LoadBalancers.leastOutstanding();
+            case POWER_OF_TWO_CHOICES:
+                return LoadBalancers.powerOfTwoChoices();
+            default:
+                return LoadBalancers.roundRobin();
+        }
+    }
+
+    public List<EndpointProperties> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<EndpointProperties> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public OutlierProperties getOutlier() {
+        return outlier;
+    }
+
+    public void setOutlier(OutlierProperties outlier) {
+        this.outlier = outlier;
+    }
+
+    public HealthCheckProperties getHealthCheck() {
+        return healthCheck;
+    }
+
+    public void setHealthCheck(HealthCheckProperties healthCheck) {
+        this.healthCheck = healthCheck;
+    }
+
+    public RateLimitProperties getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimitProperties rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public enum Strategy {
+        /**
+         * 轮询
+         */
+        ROUND_ROBIN,
+        /**
+         * 平滑加权轮询
+         */
+        WEIGHTED,
+        /**
+         * 最少在途请求
+         */
+        LEAST_OUTSTANDING,
+        /**
+         * 两次随机选择(延迟EWMA * 在途请求数)
+         */
+        POWER_OF_TWO_CHOICES
+    }
+
+    public static class EndpointProperties {
+        /**
+         * 实例地址
+         */
+        private String url;
+        /**
+         * 权重
+         */
+        private int weight = 1;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public void setWeight(int weight) {
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.lb.OutlierSettings;
+
+/**
+ * 被动异常实例摘除配置
+ * @author liaochongwei
+ * @date 2026/10/18 21:55
+ */
+public class OutlierProperties {
+    /**
+     * 是否启用
+     */
+    private boolean enable = true;
+    /**
+     * 连续失败次数阈值
+     */
+    private Integer consecutiveFailures = 5;
+    /**
+     * 基础摘除时长(ms)，随摘除次数递增
+     */
+    private Long baseEjectionTime = 30000L;
+    /**
+     * 最大摘除时长(ms)
+     */
+    private Long maxEjectionTime = 300000L;
+    /**
+     * 最多摘除的实例比例(%)
+     */
+    private Integer maxEjectionPercent = 50;
+
+    public OutlierSettings toSettings() {
+        OutlierSettings settings = new OutlierSettings();
+        settings.setConsecutiveFailures(consecutiveFailures);
+        settings.setBaseEjectionTime(baseEjectionTime);
+        settings.setMaxEjectionTime(maxEjectionTime);
+        settings.setMaxEjectionPercent(maxEjectionPercent);
+        return settings;
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public Integer getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public void setConsecutiveFailures(Integer consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+    }
+
+    public Long getBaseEjectionTime() {
+        return baseEjectionTime;
+    }
+
+    public void setBaseEjectionTime(Long baseEjectionTime) {
+        this.baseEjectionTime = baseEjectionTime;
+    }
+
+    public Long getMaxEjectionTime() {
+        return maxEjectionTime;
+    }
+
+    public void setMaxEjectionTime(Long maxEjectionTime) {
+        this.maxEjectionTime = maxEjectionTime;
+    }
+
+    public Integer getMaxEjectionPercent() {
+        return maxEjectionPercent;
+    }
+
+    public void setMaxEjectionPercent(Integer maxEjectionPercent) {
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+}
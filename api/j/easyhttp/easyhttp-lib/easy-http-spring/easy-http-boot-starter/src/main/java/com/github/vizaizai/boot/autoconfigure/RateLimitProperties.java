@@ -0,0 +1,81 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.entity.RateLimitSettings;
+
+/**
+ * 限流配置(每个客户端单独一个限流器，可被@RateLimit覆盖)
+ * @author liaochongwei
+ * @date 2026/10/19 00:05
+ */
+public class RateLimitProperties {
+    /**
+     * 是否启用
+     */
+    private boolean enable = false;
+    /**
+     * 每秒许可数
+     */
+    private Double permitsPerSecond;
+    /**
+     * 允许的突发请求数
+     */
+    private Integer burst = 1;
+    /**
+     * 模式(fail-fast/wait)
+     */
+    private RateLimitSettings.Mode mode = RateLimitSettings.Mode.WAIT;
+    /**
+     * 最长等待时间(ms)，wait模式下生效
+     */
+    private Long timeout = 1000L;
+
+    public RateLimitSettings toSettings() {
+        RateLimitSettings settings = new RateLimitSettings();
+        settings.setEnable(enable);
+        settings.setPermitsPerSecond(permitsPerSecond);
+        settings.setBurst(burst);
+        settings.setMode(mode);
+        settings.setTimeout(timeout);
+        return settings;
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public Double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public void setPermitsPerSecond(Double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public Integer getBurst() {
+        return burst;
+    }
+
+    public void setBurst(Integer burst) {
+        this.burst = burst;
+    }
+
+    public RateLimitSettings.Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(RateLimitSettings.Mode mode) {
+        this.mode = mode;
+    }
+
+    public Long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Long timeout) {
+        this.timeout = timeout;
+    }
+}
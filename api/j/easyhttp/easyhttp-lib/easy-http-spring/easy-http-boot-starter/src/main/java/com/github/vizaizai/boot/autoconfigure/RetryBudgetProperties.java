@@ -0,0 +1,63 @@
+package com.github.vizaizai.boot.autoconfigure;
+
+import com.github.vizaizai.retry.RetryBudget;
+
+/**
+ * 重试预算配置(令牌桶)
+ * @author liaochongwei
+ * @date 2026/10/18 16:50
+ */
+public class RetryBudgetProperties {
+    /**
+     * 是否启用
+     */
+    private boolean enable = false;
+    /**
+     * 重试量占请求量的比例上限
+     */
+    private Double ratio = 0.1;
+    /**
+     * 桶容量(允许的突发重试数)
+     */
+    private Integer maxTokens = 10;
+    /**
+     * 是否按host分别计算(否则每个客户端共享)
+     */
+    private boolean perHost = false;
+
+    public RetryBudget toRetryBudget() {
+        return perHost ? RetryBudget.perHost(ratio, maxTokens) : RetryBudget.perClient(ratio, maxTokens);
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public Double getRatio() {
+        return ratio;
+    }
+
+    public void setRatio(Double ratio) {
+        this.ratio = ratio;
+    }
+
+    public Integer getMaxTokens() {
+        return maxTokens;
+    }
+
+    public void setMaxTokens(Integer maxTokens) {
+        this.maxTokens = maxTokens;
+    }
+
+    public boolean isPerHost() {
+        return perHost;
+    }
+
+    public void setPerHost(boolean perHost) {
+        this.perHost = perHost;
+    }
+}
@@ -1,5 +1,9 @@
 package com.github.vizaizai.boot.autoconfigure;
 
+import com.github.vizaizai.retry.Backoff;
+import com.github.vizaizai.retry.Backoffs;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
 /**
  * @author 廖重威
  * @date 2020/12/17 19:19
@@ -14,10 +18,37 @@ public class RetryProperties {
      */
     private Integer maxAttempts = 3;
     /**
-     * 间隔时间(ms)
+     * 间隔时间(ms)，指数退避/去相关抖动时为初始间隔
      */
     private Integer intervalTime = 10;
+    /**
+     * 退避策略
+     */
+    private BackoffType backoff = BackoffType.FIXED;
+    /**
+     * 最大间隔时间(ms)
+     */
+    private Integer maxIntervalTime = 10000;
+    /**
+     * 指数退避的倍数
+     */
+    private Double multiplier = 2.0;
+    /**
+     * 重试预算
+     */
+    @NestedConfigurationProperty
+    private RetryBudgetProperties budget = new RetryBudgetProperties();
 
+    public Backoff toBackoff() {
+        switch (backoff) {
+            case EXPONENTIAL:
+                return Backoffs.exponential(intervalTime, maxIntervalTime, multiplier, true);
+            case DECORRELATED_JITTER:
+                return Backoffs.decorrelatedJitter(intervalTime, maxIntervalTime);
+            default:
+                return Backoffs.fixed(intervalTime);
+        }
+    }
 
     public boolean isEnable() {
         return enable;
@@ -42,4 +73,54 @@ public class RetryProperties {
     public void setIntervalTime(Integer intervalTime) {
         this.intervalTime = intervalTime;
     }
+
+    public BackoffType getBackoff() {
+        return backoff;
+    }
+
+    public void setBackoff(BackoffType backoff) {
+        this.backoff = backoff;
+    }
+
+    public Integer getMaxIntervalTime() {
+        return maxIntervalTime;
+    }
+
+    public void setMaxIntervalTime(Integer maxIntervalTime) {
+        this.maxIntervalTime = maxIntervalTime;
+    }
+
+    public Double getMultiplier() {
+        return multiplier;
+    }
+
+    public void setMultiplier(Double multiplier) {
+        this.multiplier = multiplier;
+    }
+
+    public RetryBudgetProperties getBudget() {
+        return budget;
+    }
+
+    public void setBudget(RetryBudgetProperties budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * 退避策略类型
+     */
+    public enum BackoffType {
+        /**
+         * 固定间隔
+         */
+        FIXED,
+        /**
+         * 指数退避(全抖动)
+         */
+        EXPONENTIAL,
+        /**
+         * 去相关抖动
+         */
+        DECORRELATED_JITTER
+    }
 }
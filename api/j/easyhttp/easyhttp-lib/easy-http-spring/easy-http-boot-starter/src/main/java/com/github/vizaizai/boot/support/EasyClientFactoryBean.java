@@ -3,7 +3,13 @@ package com.github.vizaizai.boot.support;
 import com.github.vizaizai.EasyHttp;
 import com.github.vizaizai.boot.annotation.EasyHttpClient;
 import com.github.vizaizai.boot.autoconfigure.EasyHttpProperties;
+import com.github.vizaizai.boot.autoconfigure.CircuitBreakerProperties;
+import com.github.vizaizai.boot.autoconfigure.LoadBalanceProperties;
 import com.github.vizaizai.boot.autoconfigure.RetryProperties;
+import com.github.vizaizai.breaker.CircuitBreakerListener;
+import com.github.vizaizai.breaker.CircuitBreakerRegistry;
+import com.github.vizaizai.buffer.BufferPool;
+import com.github.vizaizai.cache.HttpCache;
 import com.github.vizaizai.client.AbstractClient;
 import com.github.vizaizai.codec.Decoder;
 import com.github.vizaizai.codec.Encoder;
@@ -12,9 +18,11 @@ import com.github.vizaizai.hander.mapping.PathConverter;
 import com.github.vizaizai.interceptor.HttpInterceptor;
 import com.github.vizaizai.interceptor.InterceptorGenerator;
 import com.github.vizaizai.interceptor.LogInterceptor;
+import com.github.vizaizai.lb.EndpointGroup;
 import com.github.vizaizai.retry.RetryTrigger;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -26,7 +34,7 @@ import java.util.List;
  * @author liaochongwei
  * @date 2020/7/28 14:34
  */
-public class EasyClientFactoryBean<T> implements FactoryBean<T>, ApplicationContextAware {
+public class EasyClientFactoryBean<T> implements FactoryBean<T>, ApplicationContextAware, DisposableBean {
 
     private  final Class<T> interfaceType;
     private T target;
@@ -37,6 +45,7 @@ public class EasyClientFactoryBean<T> implements FactoryBean<T>, ApplicationCont
     private EasyHttpProperties properties;
     private InterceptorsBean interceptorsBean;
     private ApplicationContext applicationContext;
+    private EndpointGroup endpointGroup;
 
     public EasyClientFactoryBean(Class<T> interfaceType) {
         this.interfaceType = interfaceType;
@@ -50,13 +59,15 @@ public class EasyClientFactoryBean<T> implements FactoryBean<T>, ApplicationCont
      */
     private void createTarget() {
         EasyHttpClient annotation = interfaceType.getAnnotation(EasyHttpClient.class);
-        String url;
+        String url = null;
         String value = annotation.value();
+        LoadBalanceProperties loadBalance = StringUtils.isBlank(value) || properties.getLoadBalance() == null
+                ? null : properties.getLoadBalance().get(value);
         // 使用默认url
         if (StringUtils.isBlank(value)) {
             url = properties.getBaseEndpoint();
-        }else {
-            url = properties.getBaseEndpoints().get(value);
+        }else if (loadBalance == null) {
+            url = properties.getBaseEndpoints() == null ? null : properties.getBaseEndpoints().get(value);
             if (StringUtils.isBlank(url)) {
                 throw new BeanInitializationException("the value '" + value +"'is not exists in easy-http.baseEndpoints");
             }
@@ -66,6 +77,14 @@ public class EasyClientFactoryBean<T> implements FactoryBean<T>, ApplicationCont
                                         .encoder(encoder)
                                         .config(requestConfig)
                                         .url(url);
+        // 客户端负载均衡(每个客户端单独的实例组)
+        if (loadBalance != null) {
+            if (loadBalance.getEndpoints() == null || loadBalance.getEndpoints().isEmpty()) {
+                throw new BeanInitializationException("no endpoints in easy-http.load-balance." + value);
+            }
+            this.endpointGroup = loadBalance.toEndpointGroup();
+            builder.loadBalance(this.endpointGroup);
+        }
 
         // 是否开启请求日志
         if (properties.isRequestLog()) {
@@ -108,9 +127,47 @@ public class EasyClientFactoryBean<T> implements FactoryBean<T>, ApplicationCont
         // 重试
         RetryProperties retryProperties = this.properties.getRetry();
         if (retryProperties != null && retryProperties.isEnable()) {
-            builder.retryable(retryProperties.getMaxAttempts(), retryProperties.getIntervalTime(),
+            builder.retryable(retryProperties.getMaxAttempts(), retryProperties.toBackoff(),
                     this.applicationContext.getBean(RetryTrigger.class));
+            // 每个客户端单独的重试预算
+            if (retryProperties.getBudget() != null && retryProperties.getBudget().isEnable()) {
+                builder.retryBudget(retryProperties.getBudget().toRetryBudget());
+            }
+        }
+        // 熔断
+        CircuitBreakerProperties circuitBreakerProperties = this.properties.getCircuitBreaker();
+        if (circuitBreakerProperties != null && circuitBreakerProperties.isEnable()) {
+            CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.create(circuitBreakerProperties.toSettings());
+            this.applicationContext.getBeanProvider(CircuitBreakerListener.class).orderedStream()
+                                   .forEach(circuitBreakers::addListener);
+            builder.circuitBreaker(circuitBreakers);
+        }
+        // 对冲请求(@Hedge的比例上限同样取该配置)
+        if (this.properties.getHedge() != null) {
+            builder.hedge(this.properties.getHedge().toHedgeSettings());
+        }
+        // 并发限制(接口上的@ConcurrencyLimit优先)
+        if (this.properties.getConcurrencyLimit() != null && this.properties.getConcurrencyLimit().isEnable()) {
+            builder.concurrencyLimit(this.properties.getConcurrencyLimit().toSettings());
+        }
+        // 限流(接口上的@RateLimit优先)
+        if (this.properties.getRateLimit() != null && this.properties.getRateLimit().isEnable()) {
+            builder.rateLimit(this.properties.getRateLimit().toSettings());
         }
+        // 响应体缓冲池
+        BufferPool bufferPool = this.applicationContext.getBeanProvider(BufferPool.class).getIfAvailable();
+        if (bufferPool != null) {
+            builder.bufferPool(bufferPool);
+        }
+        // HTTP缓存
+        HttpCache httpCache = this.applicationContext.getBeanProvider(HttpCache.class).getIfAvailable();
+        if (httpCache != null) {
+            builder.httpCache(httpCache);
+        }
+        // 执行模式
+        builder.executionMode(this.properties.getExecutionMode());
+        // 传递剩余时间预算的请求头
+        builder.deadlineHeader(this.properties.getDeadlineHeader());
         // 路径转化器
         PathConverter pathConverter = this.applicationContext.getBean(PathConverter.class);
         builder.pathConverter(pathConverter);
@@ -137,6 +194,16 @@ public class EasyClientFactoryBean<T> implements FactoryBean<T>, ApplicationCont
         return true;
     }
 
+    /**
+     * 停止实例组的健康检查
+     */
+    @Override
+    public void destroy() {
+        if (this.endpointGroup != null) {
+            this.endpointGroup.close();
+        }
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
@@ -1,17 +1,38 @@
 package com.github.vizaizai;
 
+import com.github.vizaizai.breaker.CircuitBreakerRegistry;
+import com.github.vizaizai.breaker.CircuitBreakerSettings;
+import com.github.vizaizai.buffer.BufferPool;
+import com.github.vizaizai.cache.HttpCache;
 import com.github.vizaizai.client.AbstractClient;
 import com.github.vizaizai.client.ApacheHttpClient;
+import com.github.vizaizai.client.apache.PoolSettings;
+import com.github.vizaizai.annotation.ConcurrencyLimit;
+import com.github.vizaizai.annotation.RateLimit;
 import com.github.vizaizai.codec.*;
 import com.github.vizaizai.hander.mapping.PathConverter;
 import com.github.vizaizai.interceptor.HttpInterceptor;
+import com.github.vizaizai.entity.ConcurrencyLimitSettings;
+import com.github.vizaizai.entity.RateLimitSettings;
+import com.github.vizaizai.entity.ExecutionMode;
+import com.github.vizaizai.entity.HedgeSettings;
 import com.github.vizaizai.entity.HttpRequestConfig;
 import com.github.vizaizai.entity.RetrySettings;
 import com.github.vizaizai.interceptor.InterceptorGenerator;
+import com.github.vizaizai.lb.EndpointGroup;
+import com.github.vizaizai.limit.ConcurrencyLimiter;
+import com.github.vizaizai.limit.RateLimiter;
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.proxy.JDKProxy;
 import com.github.vizaizai.proxy.ProxyContext;
 import com.github.vizaizai.proxy.ProxyHandler;
+import com.github.vizaizai.retry.Backoff;
+import com.github.vizaizai.retry.RetryBudget;
 import com.github.vizaizai.retry.RetryTrigger;
+import com.github.vizaizai.util.Assert;
+import com.github.vizaizai.util.VirtualThreads;
 
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
@@ -27,6 +48,19 @@ public class EasyHttp {
     public static Builder builder() {
         return new Builder();
     }
+
+    /**
+     * 获取代理对象的环境(可读取请求合并等统计信息)
+     * @param proxy EasyHttp创建的代理对象
+     * @return ProxyContext
+     */
+    public static ProxyContext<?> getProxyContext(Object proxy) {
+        Assert.notNull(proxy, "proxy must be not null");
+        if (!Proxy.isProxyClass(proxy.getClass()) || !(Proxy.getInvocationHandler(proxy) instanceof JDKProxy)) {
+            throw new EasyHttpException("The object is not created by EasyHttp");
+        }
+        return ((JDKProxy<?>) Proxy.getInvocationHandler(proxy)).getProxyContext();
+    }
     public static class Builder {
         private AbstractClient client;
         private HttpRequestConfig config;
@@ -38,8 +72,20 @@ public class EasyHttp {
         private RetrySettings retrySettings;
         private PathConverter pathConverter;
         private InterceptorGenerator interceptorGenerator;
+        private BufferPool bufferPool;
+        private ExecutionMode executionMode;
+        private boolean coalesce;
+        private HttpCache httpCache;
+        private PoolSettings poolSettings;
+        private String deadlineHeader;
+        private RetryBudget retryBudget;
+        private CircuitBreakerRegistry circuitBreakers;
+        private HedgeSettings hedgeSettings;
+        private EndpointGroup endpointGroup;
+        private ConcurrencyLimitSettings concurrencyLimit;
+        private RateLimitSettings rateLimit;
+        private RateLimiter rateLimiter;
         public Builder() {
-            this.client = ApacheHttpClient.getInstance();
             this.encoder = new JacksonEncoder();
             this.decoder = new JacksonDecoder();
             this.config =  HttpRequestConfig.defaultConfig();
@@ -53,6 +99,12 @@ public class EasyHttp {
             this.decoder = decoder;
             return this;
         }
+        /**
+         * 编码器: 默认为JacksonEncoder，JSON请求体序列化后按Content-Length发送；
+         * 大对象可使用JacksonEncoder.streaming()，直接序列化到连接输出流(chunked)
+         * @param encoder 编码器
+         * @return Builder
+         */
         public Builder encoder(Encoder encoder) {
             this.encoder = encoder;
             return this;
@@ -75,6 +127,27 @@ public class EasyHttp {
             this.executor = executor;
             return this;
         }
+
+        /**
+         * 执行模式: VIRTUAL时返回CompletableFuture的方法在虚拟线程上执行(未指定executor时生效)
+         * @param executionMode 执行模式
+         * @return Builder
+         */
+        public Builder executionMode(ExecutionMode executionMode) {
+            this.executionMode = executionMode;
+            return this;
+        }
+
+        /**
+         * 合并相同的在途请求(所有GET/HEAD方法，可被@Coalesce覆盖)
+         * @param coalesce 是否开启
+         * @return Builder
+         */
+        public Builder coalesce(boolean coalesce) {
+            this.coalesce = coalesce;
+            return this;
+        }
+
         /**
          * 可重试
          * @param retries 最大重试次数
@@ -95,6 +168,29 @@ public class EasyHttp {
             return this.retryable(retries,interval, null);
         }
 
+        /**
+         * 可重试(按退避策略计算间隔)
+         * @param retries 最大重试次数
+         * @param backoff 退避策略，见Backoffs
+         * @param retryTrigger 重试规则
+         * @return Builder
+         */
+        public Builder retryable(Integer retries, Backoff backoff, RetryTrigger retryTrigger) {
+            this.retryable(retries, (Integer) null, retryTrigger);
+            this.retrySettings.setBackoff(backoff);
+            return this;
+        }
+
+        /**
+         * 重试预算: 限制重试量占请求量的比例，避免故障时重试放大流量(开启重试时生效)
+         * @param retryBudget 重试预算
+         * @return Builder
+         */
+        public Builder retryBudget(RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
         public Builder pathConverter(PathConverter pathConverter) {
             this.pathConverter = pathConverter;
             return this;
@@ -105,20 +201,153 @@ public class EasyHttp {
             return this;
         }
 
+        /**
+         * 响应体缓冲池: 非流式响应读入池化内存块，解码完成后归还
+         * @param bufferPool 缓冲池(可多个客户端共享)
+         * @return Builder
+         */
+        public Builder bufferPool(BufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
+        /**
+         * HTTP缓存(RFC 7234): 按Cache-Control/Expires缓存GET响应，过期后条件请求验证
+         * @param httpCache 缓存(可多个客户端共享)
+         * @return Builder
+         */
+        public Builder httpCache(HttpCache httpCache) {
+            this.httpCache = httpCache;
+            return this;
+        }
+
+        /**
+         * 默认客户端(ApacheHttpClient)的连接池设置，指定client时不生效
+         * @param poolSettings 连接池设置
+         * @return Builder
+         */
+        public Builder connectionPool(PoolSettings poolSettings) {
+            this.poolSettings = poolSettings;
+            return this;
+        }
+
+        /**
+         * 存在截止时间时，将剩余时间预算(ms)通过该请求头传递给上游
+         * @param deadlineHeader 请求头名称
+         * @return Builder
+         */
+        public Builder deadlineHeader(String deadlineHeader) {
+            this.deadlineHeader = deadlineHeader;
+            return this;
+        }
+
+        /**
+         * 熔断: 按请求方式+host+路由模板统计失败率与慢调用率，熔断期间请求直接失败(CircuitBreakerOpenException)
+         * @param circuitBreakers 熔断器注册表(可添加状态变更监听)
+         * @return Builder
+         */
+        public Builder circuitBreaker(CircuitBreakerRegistry circuitBreakers) {
+            this.circuitBreakers = circuitBreakers;
+            return this;
+        }
+
+        public Builder circuitBreaker(CircuitBreakerSettings settings) {
+            return this.circuitBreaker(CircuitBreakerRegistry.create(settings));
+        }
+
+        /**
+         * 对冲请求: 对所有GET/HEAD方法开启(可被@Hedge覆盖)，首次请求超过延迟仍未完成时再发出一次，取先完成的结果
+         * @param hedgeSettings 对冲设置
+         * @return Builder
+         */
+        public Builder hedge(HedgeSettings hedgeSettings) {
+            this.hedgeSettings = hedgeSettings;
+            return this;
+        }
+
+        /**
+         * 客户端负载均衡: 基本路径由实例组按负载均衡策略选择(代替url)，重试时换一个实例
+         * @param endpointGroup 实例组(可多个客户端共享)
+         * @return Builder
+         */
+        public Builder loadBalance(EndpointGroup endpointGroup) {
+            this.endpointGroup = endpointGroup;
+            return this;
+        }
+
+        /**
+         * 并发限制: 客户端的在途请求数达到上限时直接失败(ConcurrencyLimitExceededException)，
+         * 接口上的@ConcurrencyLimit优先，方法上的@ConcurrencyLimit为该方法单独限制
+         * @param concurrencyLimit 并发限制设置
+         * @return Builder
+         */
+        public Builder concurrencyLimit(ConcurrencyLimitSettings concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+            return this;
+        }
+
+        /**
+         * 限流: 客户端的请求速率超过设置时等待或直接失败(RateLimitExceededException)，
+         * 接口上的@RateLimit优先，方法上的@RateLimit为该方法单独限流
+         * @param rateLimit 限流设置
+         * @return Builder
+         */
+        public Builder rateLimit(RateLimitSettings rateLimit) {
+            this.rateLimit = rateLimit;
+            return this;
+        }
+
+        /**
+         * 限流: 使用已有的限流器，多个客户端共用同一配额时使用
+         * @param rateLimiter 限流器
+         * @return Builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
         public <T> T build(Class<T> clazz) {
             ProxyHandler<T> proxyHandler = new ProxyHandler<>(clazz);
             ProxyContext<T> proxyContext = proxyHandler.getProxyContext();
 
-            proxyContext.setClient(client);
+            proxyContext.setClient(client != null ? client : ApacheHttpClient.getInstance(poolSettings));
             proxyContext.setUrl(url);
             proxyContext.setDecoder(decoder);
             proxyContext.setEncoder(encoder);
             proxyContext.setRequestConfig(config);
             proxyContext.setInterceptors(interceptors);
+            if (retrySettings != null && retryBudget != null) {
+                retrySettings.setBudget(retryBudget);
+            }
             proxyContext.setRetrySettings(retrySettings);
             proxyContext.setPathConverter(pathConverter);
-            proxyContext.setExecutor(executor);
+            if (executor == null && ExecutionMode.VIRTUAL.equals(executionMode)) {
+                proxyContext.setExecutor(VirtualThreads.executor());
+            }else {
+                proxyContext.setExecutor(executor);
+            }
             proxyContext.setInterceptorGenerator(interceptorGenerator);
+            proxyContext.setBufferPool(bufferPool);
+            proxyContext.setCoalesce(coalesce);
+            proxyContext.setHttpCache(httpCache);
+            proxyContext.setDeadlineHeader(deadlineHeader);
+            proxyContext.setCircuitBreakers(circuitBreakers);
+            proxyContext.setHedgeSettings(hedgeSettings);
+            proxyContext.setEndpointGroup(endpointGroup);
+            ConcurrencyLimit limit = clazz.getAnnotation(ConcurrencyLimit.class);
+            ConcurrencyLimitSettings limitSettings = limit != null ? ConcurrencyLimitSettings.of(limit) : concurrencyLimit;
+            if (limitSettings != null && Boolean.TRUE.equals(limitSettings.getEnable())) {
+                proxyContext.setConcurrencyLimiter(ConcurrencyLimiter.create(clazz.getSimpleName(), limitSettings));
+            }
+            RateLimit rate = clazz.getAnnotation(RateLimit.class);
+            if (rate != null) {
+                proxyContext.setRateLimiter(rate.value() > 0 ? RateLimiter.create(clazz.getSimpleName(), RateLimitSettings.of(rate)) : null);
+            }else if (rateLimiter != null) {
+                proxyContext.setRateLimiter(rateLimiter);
+            }else if (rateLimit != null && Boolean.TRUE.equals(rateLimit.getEnable())) {
+                proxyContext.setRateLimiter(RateLimiter.create(clazz.getSimpleName(), rateLimit));
+            }
 
             return proxyHandler.getProxyImpl();
         }
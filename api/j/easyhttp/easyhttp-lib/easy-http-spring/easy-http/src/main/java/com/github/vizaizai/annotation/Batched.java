@@ -0,0 +1,37 @@
+package com.github.vizaizai.annotation;
+
+
+import com.github.vizaizai.batch.BatchSplitter;
+import com.github.vizaizai.batch.DefaultBatchSplitter;
+
+import java.lang.annotation.*;
+
+/**
+ * 自动批量请求: 标注在单键方法(只有一个参数，即键)上，窗口期内或达到批量上限的调用合并为一次批量方法调用，
+ * 批量结果按键拆分后返回给各调用方。批量方法为同一接口中只有一个集合参数(接收键列表)的方法
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Batched {
+    /**
+     * @return 批量方法名
+     */
+    String method();
+    /**
+     * @return 批量结果元素中键的属性名(元素为Map时为键名)，批量结果为Map(键->结果)时可不指定
+     */
+    String key() default "";
+    /**
+     * @return 合并窗口(ms): 第一个调用到达后最多等待的时间
+     */
+    long window() default 10;
+    /**
+     * @return 单批最大键数，达到后立即发送
+     */
+    int maxSize() default 100;
+    /**
+     * @return 批量结果拆分器(需有无参构造)
+     */
+    Class<? extends BatchSplitter> splitter() default DefaultBatchSplitter.class;
+}
@@ -0,0 +1,31 @@
+package com.github.vizaizai.annotation;
+
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存方法的解码结果(与HTTP缓存语义无关): 以方法及其参数值为键，在有效期内直接返回缓存的结果，
+ * 不缓存异常。支持同步及CompletableFuture返回值，缓存的结果对象由所有调用方共享
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheResult {
+    /**
+     * @return 有效期
+     */
+    long ttl();
+    /**
+     * @return 有效期单位
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+    /**
+     * @return 最大缓存项数(超过时淘汰最久未使用的，缓存项较多时按随机采样近似)
+     */
+    int maxSize() default 1000;
+    /**
+     * @return 提前刷新比例(0~1): 缓存项存在时间超过ttl*refreshAhead后，命中时在后台异步刷新，调用方不等待。0表示不提前刷新
+     */
+    double refreshAhead() default 0;
+}
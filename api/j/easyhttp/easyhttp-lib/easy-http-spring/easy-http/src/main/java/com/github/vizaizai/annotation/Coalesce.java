@@ -0,0 +1,19 @@
+package com.github.vizaizai.annotation;
+
+
+import java.lang.annotation.*;
+
+/**
+ * 合并相同的在途请求(仅GET/HEAD且非流式响应): 请求方式、最终URL(含查询参数)与请求头均相同的并发调用只执行一次，
+ * 共享同一个解码结果或异常。拦截器中按调用方注入的信息(如ThreadLocal中的令牌)不参与比较，此类接口不要开启。
+ * 方法上的注解优先于接口上的注解
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesce {
+    /**
+     * @return 是否开启(方法上设为false可关闭接口级别的合并)
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,36 @@
+package com.github.vizaizai.annotation;
+
+import com.github.vizaizai.entity.ConcurrencyLimitSettings;
+
+import java.lang.annotation.*;
+
+/**
+ * 并发限制: 在途请求数达到上限时直接失败(ConcurrencyLimitExceededException)。
+ * 接口上的注解(优先于全局设置)对整个客户端共用一个限制器，方法上的注解为该方法单独一个限制器
+ * @author liaochongwei
+ * @date 2026/10/18 23:00
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConcurrencyLimit {
+    /**
+     * @return 并发上限(自适应算法的初始上限)，方法上设为0表示该方法不限制
+     */
+    int value();
+
+    /**
+     * @return 算法
+     */
+    ConcurrencyLimitSettings.Algorithm algorithm() default ConcurrencyLimitSettings.Algorithm.FIXED;
+
+    /**
+     * @return 自适应算法的最小上限
+     */
+    int minLimit() default 1;
+
+    /**
+     * @return 自适应算法的最大上限
+     */
+    int maxLimit() default 200;
+}
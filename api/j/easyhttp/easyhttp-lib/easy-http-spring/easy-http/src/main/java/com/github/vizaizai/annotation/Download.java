@@ -0,0 +1,14 @@
+package com.github.vizaizai.annotation;
+
+
+import java.lang.annotation.*;
+
+/**
+ * 下载目标文件，参数类型为Path或File。响应体直接写入该文件
+ */
+@Target({ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Download {
+    String TYPE = "download";
+}
@@ -0,0 +1,31 @@
+package com.github.vizaizai.annotation;
+
+
+import java.lang.annotation.*;
+
+/**
+ * 对冲请求(仅幂等且非流式的请求): 首次请求超过延迟仍未完成时再发出一次相同请求，取先完成的结果并取消另一个。
+ * 对冲数量受全局设置的比例上限约束；开启对冲的方法不再合并在途请求。
+ * 方法上的注解优先于接口上的注解，接口上的注解只对GET/HEAD生效
+ * @author liaochongwei
+ * @date 2026/10/18 19:25
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Hedge {
+    /**
+     * @return 是否开启(方法上设为false可关闭接口级别或全局的对冲)
+     */
+    boolean value() default true;
+
+    /**
+     * @return 固定延迟(ms)，小于0时取观测到的延迟分位数
+     */
+    long delay() default -1;
+
+    /**
+     * @return 延迟分位数(1-99)
+     */
+    int percentile() default 95;
+}
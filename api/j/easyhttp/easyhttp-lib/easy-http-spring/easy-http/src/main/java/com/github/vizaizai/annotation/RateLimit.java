@@ -0,0 +1,36 @@
+package com.github.vizaizai.annotation;
+
+import com.github.vizaizai.entity.RateLimitSettings;
+
+import java.lang.annotation.*;
+
+/**
+ * 限流: 按每秒许可数限制请求速率(GCRA)，重试同样消耗许可。
+ * 方法上的注解优先于接口上的注解，接口上的注解优先于全局设置与实例组的限流
+ * @author liaochongwei
+ * @date 2026/10/18 23:45
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimit {
+    /**
+     * @return 每秒许可数，方法上设为0表示该方法不限流
+     */
+    double value();
+
+    /**
+     * @return 允许的突发请求数
+     */
+    int burst() default 1;
+
+    /**
+     * @return 模式
+     */
+    RateLimitSettings.Mode mode() default RateLimitSettings.Mode.WAIT;
+
+    /**
+     * @return 最长等待时间(ms)，WAIT模式下生效
+     */
+    long timeout() default 1000;
+}
@@ -0,0 +1,30 @@
+package com.github.vizaizai.annotation;
+
+
+import java.lang.annotation.*;
+
+/**
+ * 超时设置(ms)，覆盖全局配置，小于0的项不覆盖。方法上的注解优先于接口上的注解，
+ * 调用时还可传入HttpRequestConfig类型的参数按次覆盖。total为整个调用(含重试)的时间预算，见Deadline
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Timeout {
+    /**
+     * @return 连接超时时间(JdkHttpClient只支持客户端级别的连接超时)
+     */
+    int connect() default -1;
+    /**
+     * @return 请求(读取)超时时间
+     */
+    int request() default -1;
+    /**
+     * @return 从连接池获取连接的超时时间(仅ApacheHttpClient)
+     */
+    int connectionRequest() default -1;
+    /**
+     * @return 总时间预算(含重试及重试间隔)，每次请求的各项超时不超过剩余预算
+     */
+    long total() default -1;
+}
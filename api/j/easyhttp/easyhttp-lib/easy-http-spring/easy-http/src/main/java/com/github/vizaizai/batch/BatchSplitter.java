@@ -0,0 +1,20 @@
+package com.github.vizaizai.batch;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量结果拆分器
+ * @author liaochongwei
+ * @date 2026/10/17 23:40
+ */
+public interface BatchSplitter {
+    /**
+     * 将批量方法的结果按键拆分为单键方法的结果
+     * @param keys 本批次的键(已去重)
+     * @param result 批量方法的解码结果(异步批量方法为完成后的值)
+     * @param keyProperty @Batched指定的键属性名
+     * @return 键 -> 单键方法的返回值(不存在的键对应null)
+     */
+    Map<Object, Object> split(List<Object> keys, Object result, String keyProperty);
+}
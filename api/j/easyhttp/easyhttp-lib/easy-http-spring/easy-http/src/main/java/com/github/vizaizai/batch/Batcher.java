@@ -0,0 +1,267 @@
+package com.github.vizaizai.batch;
+
+import com.github.vizaizai.annotation.Batched;
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.proxy.ProxyContext;
+import com.github.vizaizai.proxy.ProxyInvokes;
+import com.github.vizaizai.util.Assert;
+import com.github.vizaizai.util.TypeUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 批量合并器(@Batched): 收集单键调用，窗口到期或达到批量上限时调用一次批量方法，按键拆分结果。
+ * 批量方法在合并器自己的线程上调用(不使用客户端线程池)，同步调用方占满客户端线程池时也不会死锁
+ * @author liaochongwei
+ * @date 2026/10/17 23:50
+ */
+public class Batcher {
+    /**
+     * 共享的窗口定时器(只负责把到期的批次交给执行器)
+     */
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "easy-http-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * 批量方法调用的线程数(系统属性)，默认为CPU核数的2倍
+     */
+    public static final String FLUSH_THREADS_PROPERTY = "easy-http.batch.flush-threads";
+    /**
+     * 共享的批量方法调用线程池(空闲线程超时回收)
+     */
+    private static final ThreadPoolExecutor FLUSHER = flusher();
+    private final ProxyContext<?> proxyContext;
+    private final Method batchMethod;
+    private final String keyProperty;
+    private final long windowNanos;
+    private final int maxSize;
+    private final BatchSplitter splitter;
+    /**
+     * 单键方法是否为CompletableFuture返回值
+     */
+    private final boolean async;
+    private final boolean batchAsync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Call> pending = new ArrayList<>();
+    private ScheduledFuture<?> timer;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private Batcher(ProxyContext<?> proxyContext, Method method, Batched batched, Method batchMethod, BatchSplitter splitter) {
+        this.proxyContext = proxyContext;
+        this.batchMethod = batchMethod;
+        this.keyProperty = batched.key();
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(batched.window());
+        this.maxSize = batched.maxSize();
+        this.splitter = splitter;
+        this.async = TypeUtils.isAsync(method.getGenericReturnType());
+        this.batchAsync = TypeUtils.isAsync(batchMethod.getGenericReturnType());
+    }
+
+    /**
+     * 根据注解创建(校验单键方法与批量方法的签名)
+     * @param proxyContext 代理环境
+     * @param method 单键方法
+     * @param batched 注解
+     * @return Batcher
+     */
+    public static Batcher create(ProxyContext<?> proxyContext, Method method, Batched batched) {
+        Assert.isTrue(batched.window() > 0, "The window of @Batched must be greater than 0");
+        Assert.isTrue(batched.maxSize() > 0, "The maxSize of @Batched must be greater than 0");
+        if (method.getParameterCount() != 1) {
+            throw new EasyHttpException("The method with @Batched must have exactly one argument(the key)");
+        }
+        Method batchMethod = null;
+        for (Method candidate : method.getDeclaringClass().getMethods()) {
+            if (candidate.getName().equals(batched.method()) && candidate.getParameterCount() == 1
+                    && Collection.class.isAssignableFrom(candidate.getParameterTypes()[0])
+                    && candidate.getParameterTypes()[0].isAssignableFrom(ArrayList.class)) {
+                batchMethod = candidate;
+                break;
+            }
+        }
+        if (batchMethod == null) {
+            throw new EasyHttpException("The batch method '" + batched.method() + "' with one List argument is not found in "
+                    + method.getDeclaringClass().getName());
+        }
+        BatchSplitter splitter;
+        try {
+            splitter = batched.splitter().getDeclaredConstructor().newInstance();
+        }catch (Exception e) {
+            throw new EasyHttpException("Create instance 'splitter' error.", e);
+        }
+        return new Batcher(proxyContext, method, batched, batchMethod, splitter);
+    }
+
+    /**
+     * 提交单键调用
+     * @param key 键
+     * @return 单键方法的返回值
+     */
+    public Object submit(Object key) {
+        calls.increment();
+        Call call = new Call(key);
+        List<Call> full = null;
+        lock.lock();
+        try {
+            pending.add(call);
+            if (pending.size() >= maxSize) {
+                full = this.drain();
+            }else if (pending.size() == 1) {
+                timer = TIMER.schedule(this::flushPending, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            if (!async || batchAsync) {
+                // 同步调用方本就要等待结果，直接在当前线程调用批量方法
+                this.flush(full);
+            }else {
+                List<Call> batch = full;
+                FLUSHER.execute(() -> this.flush(batch));
+            }
+        }
+        if (async) {
+            return call.future;
+        }
+        try {
+            return call.future.join();
+        }catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new EasyHttpException(cause);
+        }
+    }
+
+    /**
+     * 取出当前批次(需持有锁)
+     */
+    private List<Call> drain() {
+        List<Call> batch = pending;
+        pending = new ArrayList<>();
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        return batch;
+    }
+
+    /**
+     * 窗口到期
+     */
+    private void flushPending() {
+        List<Call> batch;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = this.drain();
+        }finally {
+            lock.unlock();
+        }
+        FLUSHER.execute(() -> this.flush(batch));
+    }
+
+    /**
+     * 调用批量方法并分发结果
+     * @param batch 本批次调用
+     */
+    private void flush(List<Call> batch) {
+        batches.increment();
+        LinkedHashSet<Object> distinct = new LinkedHashSet<>();
+        for (Call call : batch) {
+            distinct.add(call.key);
+        }
+        List<Object> keys = new ArrayList<>(distinct);
+        try {
+            Object result = ProxyInvokes.invoke(batchMethod, new Object[]{ new ArrayList<>(keys) }, proxyContext);
+            if (batchAsync) {
+                ((CompletableFuture<?>) result).whenComplete((value, ex) -> this.complete(batch, keys, value, ex));
+            }else {
+                this.complete(batch, keys, result, null);
+            }
+        }catch (RuntimeException | Error e) {
+            this.complete(batch, keys, null, e);
+        }
+    }
+
+    private void complete(List<Call> batch, List<Object> keys, Object result, Throwable ex) {
+        if (ex == null) {
+            try {
+                Map<Object, Object> split = splitter.split(keys, result, keyProperty);
+                for (Call call : batch) {
+                    call.future.complete(split.get(call.key));
+                }
+                return;
+            }catch (RuntimeException e) {
+                ex = e;
+            }
+        }
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        for (Call call : batch) {
+            call.future.completeExceptionally(cause);
+        }
+    }
+
+    private static ThreadPoolExecutor flusher() {
+        int threads = Integer.getInteger(FLUSH_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors() * 2);
+        Assert.isTrue(threads > 0, FLUSH_THREADS_PROPERTY + " must be greater than 0");
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "easy-http-batcher-flush-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * @return 单键调用次数
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return 批量方法调用次数
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public Method getBatchMethod() {
+        return batchMethod;
+    }
+
+    private static class Call {
+        private final Object key;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        Call(Object key) {
+            this.key = key;
+        }
+    }
+}
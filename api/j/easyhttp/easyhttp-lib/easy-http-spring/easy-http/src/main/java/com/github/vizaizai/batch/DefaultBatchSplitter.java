@@ -0,0 +1,78 @@
+package com.github.vizaizai.batch;
+
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.util.Utils;
+
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 默认拆分器: 批量结果为集合/数组时按元素的键属性匹配(按字符串比较，兼容数字与字符串键)，为Map时按键取值。
+ * 单键方法的返回值需为元素类型本身，响应有包装(如ApiResult)时请自定义拆分器
+ * @author liaochongwei
+ * @date 2026/10/17 23:42
+ */
+public class DefaultBatchSplitter implements BatchSplitter {
+
+    @Override
+    public Map<Object, Object> split(List<Object> keys, Object result, String keyProperty) {
+        Map<Object, Object> split = new HashMap<>();
+        if (result == null) {
+            return split;
+        }
+        Map<String, Object> indexed = new HashMap<>();
+        if (result instanceof Map) {
+            ((Map<?, ?>) result).forEach((k, v) -> indexed.put(Utils.toString(k), v));
+        }else {
+            Iterable<?> elements;
+            if (result instanceof Iterable) {
+                elements = (Iterable<?>) result;
+            }else if (result.getClass().isArray()) {
+                Object[] array = new Object[Array.getLength(result)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = Array.get(result, i);
+                }
+                elements = Arrays.asList(array);
+            }else {
+                throw new EasyHttpException("The batch result must be a collection, an array or a map: " + result.getClass().getName());
+            }
+            if (keyProperty == null || keyProperty.isEmpty()) {
+                throw new EasyHttpException("The key of @Batched must be specified when the batch result is not a map");
+            }
+            for (Object element : elements) {
+                if (element != null) {
+                    indexed.putIfAbsent(Utils.toString(property(element, keyProperty)), element);
+                }
+            }
+        }
+        for (Object key : keys) {
+            split.put(key, indexed.get(Utils.toString(key)));
+        }
+        return split;
+    }
+
+    private static Object property(Object element, String name) {
+        if (element instanceof Map) {
+            return ((Map<?, ?>) element).get(name);
+        }
+        try {
+            BeanInfo beanInfo = Introspector.getBeanInfo(element.getClass());
+            for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+                Method getter = descriptor.getReadMethod();
+                if (descriptor.getName().equals(name) && getter != null) {
+                    return getter.invoke(element);
+                }
+            }
+        }catch (Exception e) {
+            throw new EasyHttpException("Read property '" + name + "' error.", e);
+        }
+        throw new EasyHttpException("The property '" + name + "' is not found in " + element.getClass().getName());
+    }
+}
@@ -0,0 +1,290 @@
+package com.github.vizaizai.breaker;
+
+import com.github.vizaizai.logging.LoggerFactory;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 熔断器(无锁): 关闭状态下按最近N次调用的失败率与慢调用率判断是否熔断；
+ * 熔断后等待一段时间进入半开状态，放行少量试探调用，按试探结果关闭或再次熔断。
+ * 每次状态变更都会替换为新的阶段对象，调用结果只记入其获取许可时所在的阶段
+ * @author liaochongwei
+ * @date 2026/10/18 17:55
+ */
+public class CircuitBreaker {
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        /**
+         * 关闭(正常放行)
+         */
+        CLOSED,
+        /**
+         * 打开(直接失败)
+         */
+        OPEN,
+        /**
+         * 半开(放行少量试探调用)
+         */
+        HALF_OPEN
+    }
+    private final String name;
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final long waitNanos;
+    private final int permittedCalls;
+    private final List<CircuitBreakerListener> listeners;
+    private final AtomicReference<Phase> phase;
+    private volatile long lastAccess;
+
+    CircuitBreaker(String name, CircuitBreakerSettings settings, List<CircuitBreakerListener> listeners) {
+        this.name = name;
+        this.failureRateThreshold = settings.getFailureRateThreshold();
+        this.slowCallRateThreshold = settings.getSlowCallRateThreshold();
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(settings.getSlowCallDuration());
+        this.windowSize = settings.getSlidingWindowSize();
+        this.minimumCalls = Math.min(settings.getMinimumCalls(), this.windowSize);
+        this.waitNanos = TimeUnit.MILLISECONDS.toNanos(settings.getWaitDurationInOpen());
+        this.permittedCalls = settings.getPermittedCallsInHalfOpen();
+        this.listeners = listeners;
+        this.lastAccess = System.nanoTime();
+        this.phase = new AtomicReference<>(this.closed());
+    }
+
+    /**
+     * 获取调用许可
+     * @return 许可，熔断时返回null
+     */
+    public Permit tryAcquire() {
+        long now = System.nanoTime();
+        this.lastAccess = now;
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return new Permit(current, now);
+                case OPEN:
+                    if (now - current.openedAt < waitNanos) {
+                        return null;
+                    }
+                    this.transition(current, this.halfOpen());
+                    break;
+                default:
+                    if (current.acquirePermit()) {
+                        return new Permit(current, now);
+                    }
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * 记录调用结果
+     */
+    private void record(Phase current, long nanos, boolean failed) {
+        int outcome = Window.RECORDED;
+        if (failed) {
+            outcome |= Window.FAILURE;
+        }
+        if (nanos >= slowCallNanos) {
+            outcome |= Window.SLOW;
+        }
+        Window window = current.window;
+        int recorded = window.record(outcome);
+        if (current.state == State.CLOSED) {
+            if (recorded >= minimumCalls && this.exceeded(window)) {
+                this.transition(current, this.open());
+            }
+        }else if (current.state == State.HALF_OPEN && recorded >= permittedCalls) {
+            this.transition(current, this.exceeded(window) ? this.open() : this.closed());
+        }
+    }
+
+    private boolean exceeded(Window window) {
+        return window.failureRate() >= failureRateThreshold || window.slowCallRate() >= slowCallRateThreshold;
+    }
+
+    private void transition(Phase from, Phase to) {
+        if (!phase.compareAndSet(from, to)) {
+            return;
+        }
+        for (CircuitBreakerListener listener : listeners) {
+            try {
+                listener.onStateChange(name, from.state, to.state);
+            }catch (RuntimeException e) {
+                log.warn("Circuit breaker listener error: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Phase closed() {
+        return new Phase(State.CLOSED, 0, new Window(windowSize), 0);
+    }
+
+    private Phase open() {
+        return new Phase(State.OPEN, System.nanoTime(), null, 0);
+    }
+
+    private Phase halfOpen() {
+        return new Phase(State.HALF_OPEN, 0, new Window(permittedCalls), permittedCalls);
+    }
+
+    /**
+     * 强制恢复为关闭状态
+     */
+    public void reset() {
+        this.transition(phase.get(), this.closed());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return phase.get().state;
+    }
+
+    /**
+     * 当前阶段的失败率(%)，打开状态下为-1
+     * @return 失败率
+     */
+    public float getFailureRate() {
+        Window window = phase.get().window;
+        return window == null ? -1 : window.failureRate();
+    }
+
+    /**
+     * 当前阶段的慢调用率(%)，打开状态下为-1
+     * @return 慢调用率
+     */
+    public float getSlowCallRate() {
+        Window window = phase.get().window;
+        return window == null ? -1 : window.slowCallRate();
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" + name + ", state=" + getState() + ", failureRate=" + getFailureRate() + '}';
+    }
+
+    /**
+     * 调用许可: 调用完成后记录结果，未实际发出请求时释放
+     */
+    public final class Permit {
+        private final Phase phase;
+        private final long start;
+
+        private Permit(Phase phase, long start) {
+            this.phase = phase;
+            this.start = start;
+        }
+
+        /**
+         * 记录调用结果
+         * @param failed 是否失败
+         */
+        public void record(boolean failed) {
+            CircuitBreaker.this.record(phase, System.nanoTime() - start, failed);
+        }
+
+        /**
+         * 释放许可(不计入统计)
+         */
+        public void release() {
+            if (phase.permits != null) {
+                phase.permits.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 阶段(不可变状态 + 该阶段的统计)
+     */
+    private static final class Phase {
+        private final State state;
+        private final long openedAt;
+        private final Window window;
+        private final AtomicInteger permits;
+
+        private Phase(State state, long openedAt, Window window, int permits) {
+            this.state = state;
+            this.openedAt = openedAt;
+            this.window = window;
+            this.permits = state == State.HALF_OPEN ? new AtomicInteger(permits) : null;
+        }
+
+        private boolean acquirePermit() {
+            int current;
+            do {
+                current = permits.get();
+                if (current <= 0) {
+                    return false;
+                }
+            }while (!permits.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+
+    /**
+     * 按调用次数的滑动窗口: 环形数组记录最近N次调用的结果，计数随覆盖增减
+     */
+    private static final class Window {
+        private static final int RECORDED = 1;
+        private static final int FAILURE = 2;
+        private static final int SLOW = 4;
+        private final int size;
+        private final AtomicIntegerArray slots;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger recorded = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger slowCalls = new AtomicInteger();
+
+        private Window(int size) {
+            this.size = size;
+            this.slots = new AtomicIntegerArray(size);
+        }
+
+        /**
+         * 记录结果
+         * @param outcome 结果
+         * @return 窗口内的调用数
+         */
+        private int record(int outcome) {
+            int index = (int) (cursor.getAndIncrement() % size);
+            int old = slots.getAndSet(index, outcome);
+            this.adjust(failures, old, outcome, FAILURE);
+            this.adjust(slowCalls, old, outcome, SLOW);
+            return old == 0 ? recorded.incrementAndGet() : recorded.get();
+        }
+
+        private void adjust(AtomicInteger counter, int old, int outcome, int flag) {
+            int delta = ((outcome & flag) != 0 ? 1 : 0) - ((old & flag) != 0 ? 1 : 0);
+            if (delta != 0) {
+                counter.addAndGet(delta);
+            }
+        }
+
+        private float failureRate() {
+            int total = recorded.get();
+            return total == 0 ? 0 : failures.get() * 100F / total;
+        }
+
+        private float slowCallRate() {
+            int total = recorded.get();
+            return total == 0 ? 0 : slowCalls.get() * 100F / total;
+        }
+    }
+}
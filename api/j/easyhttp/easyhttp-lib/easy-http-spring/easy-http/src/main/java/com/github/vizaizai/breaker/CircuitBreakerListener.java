@@ -0,0 +1,17 @@
+package com.github.vizaizai.breaker;
+
+/**
+ * 熔断器状态变更监听
+ * @author liaochongwei
+ * @date 2026/10/18 17:45
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+    /**
+     * 状态变更
+     * @param name 熔断器名称(请求方式 scheme://host:port/路由模板)
+     * @param from 原状态
+     * @param to 新状态
+     */
+    void onStateChange(String name, CircuitBreaker.State from, CircuitBreaker.State to);
+}
@@ -0,0 +1,127 @@
+package com.github.vizaizai.breaker;
+
+import com.github.vizaizai.entity.HttpMethod;
+import com.github.vizaizai.util.Assert;
+import com.github.vizaizai.util.Utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 熔断器注册表: 按"请求方式 scheme://host:port/路由模板"区分熔断器，数量超过上限时淘汰最久未使用的关闭状态熔断器
+ * @author liaochongwei
+ * @date 2026/10/18 18:20
+ */
+public class CircuitBreakerRegistry {
+    private final CircuitBreakerSettings settings;
+    private final List<CircuitBreakerListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    private CircuitBreakerRegistry(CircuitBreakerSettings settings) {
+        Assert.notNull(settings, "settings must be not null");
+        Assert.isTrue(settings.getSlidingWindowSize() > 0, "slidingWindowSize must be > 0");
+        Assert.isTrue(settings.getPermittedCallsInHalfOpen() > 0, "permittedCallsInHalfOpen must be > 0");
+        Assert.isTrue(settings.getMaxBreakers() > 0, "maxBreakers must be > 0");
+        this.settings = settings;
+    }
+
+    public static CircuitBreakerRegistry create() {
+        return new CircuitBreakerRegistry(new CircuitBreakerSettings());
+    }
+
+    public static CircuitBreakerRegistry create(CircuitBreakerSettings settings) {
+        return new CircuitBreakerRegistry(settings);
+    }
+
+    /**
+     * 添加状态变更监听
+     * @param listener 监听
+     * @return CircuitBreakerRegistry
+     */
+    public CircuitBreakerRegistry addListener(CircuitBreakerListener listener) {
+        this.listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * 获取请求对应的熔断器
+     * @param method 请求方式
+     * @param url 请求地址
+     * @param path 路由模板(如/books/{id})
+     * @return CircuitBreaker
+     */
+    public CircuitBreaker get(HttpMethod method, String url, String path) {
+        return this.get(nameOf(method, url, path));
+    }
+
+    /**
+     * 获取熔断器(不存在时创建)
+     * @param name 名称
+     * @return CircuitBreaker
+     */
+    public CircuitBreaker get(String name) {
+        CircuitBreaker breaker = breakers.get(name);
+        if (breaker != null) {
+            return breaker;
+        }
+        breaker = breakers.computeIfAbsent(name, k -> new CircuitBreaker(k, settings, listeners));
+        if (breakers.size() > settings.getMaxBreakers()) {
+            this.evict();
+        }
+        return breaker;
+    }
+
+    /**
+     * 淘汰最久未使用的关闭状态熔断器(一次淘汰至上限的90%，避免每次新增都扫描)
+     */
+    private synchronized void evict() {
+        int max = settings.getMaxBreakers();
+        if (breakers.size() <= max) {
+            return;
+        }
+        List<CircuitBreaker> closed = new ArrayList<>();
+        for (CircuitBreaker breaker : breakers.values()) {
+            if (breaker.getState() == CircuitBreaker.State.CLOSED) {
+                closed.add(breaker);
+            }
+        }
+        closed.sort(Comparator.comparingLong(CircuitBreaker::getLastAccess));
+        int target = Math.max(1, max - max / 10);
+        for (int i = 0; i < closed.size() && breakers.size() > target; i++) {
+            breakers.remove(closed.get(i).getName(), closed.get(i));
+        }
+    }
+
+    /**
+     * 熔断器名称: 请求方式 scheme://host:port/路由模板
+     * @param method 请求方式
+     * @param url 请求地址
+     * @param path 路由模板
+     * @return 名称
+     */
+    public static String nameOf(HttpMethod method, String url, String path) {
+        String route = path == null ? "" : path;
+        if (route.contains("://")) {
+            route = route.substring(Utils.hostOf(route).length());
+        }
+        int query = route.indexOf('?');
+        if (query > -1) {
+            route = route.substring(0, query);
+        }
+        return method + " " + Utils.hostOf(url) + route;
+    }
+
+    public Collection<CircuitBreaker> getAll() {
+        return Collections.unmodifiableCollection(breakers.values());
+    }
+
+    public CircuitBreakerSettings getSettings() {
+        return settings;
+    }
+}
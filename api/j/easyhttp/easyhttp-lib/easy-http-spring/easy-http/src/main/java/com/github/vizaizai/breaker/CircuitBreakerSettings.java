@@ -0,0 +1,105 @@
+package com.github.vizaizai.breaker;
+
+/**
+ * 熔断器设置
+ * @author liaochongwei
+ * @date 2026/10/18 17:40
+ */
+public class CircuitBreakerSettings {
+    /**
+     * 失败率阈值(%)，滑动窗口内失败率达到该值时熔断
+     */
+    private Float failureRateThreshold = 50F;
+    /**
+     * 慢调用率阈值(%)，滑动窗口内慢调用率达到该值时熔断
+     */
+    private Float slowCallRateThreshold = 100F;
+    /**
+     * 超过该耗时(ms)的调用记为慢调用
+     */
+    private Long slowCallDuration = 60000L;
+    /**
+     * 滑动窗口大小(最近的调用数)
+     */
+    private Integer slidingWindowSize = 100;
+    /**
+     * 窗口内至少有该数量的调用后才计算失败率
+     */
+    private Integer minimumCalls = 20;
+    /**
+     * 熔断后等待该时间(ms)进入半开状态
+     */
+    private Long waitDurationInOpen = 30000L;
+    /**
+     * 半开状态允许的试探调用数，全部完成后按失败率决定关闭或再次熔断
+     */
+    private Integer permittedCallsInHalfOpen = 5;
+    /**
+     * 每个客户端最多保留的熔断器数量(按host+路由模板区分)
+     */
+    private Integer maxBreakers = 1000;
+
+    public Float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(Float failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public Float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(Float slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public Long getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(Long slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+    }
+
+    public Integer getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public void setSlidingWindowSize(Integer slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public Integer getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(Integer minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public Long getWaitDurationInOpen() {
+        return waitDurationInOpen;
+    }
+
+    public void setWaitDurationInOpen(Long waitDurationInOpen) {
+        this.waitDurationInOpen = waitDurationInOpen;
+    }
+
+    public Integer getPermittedCallsInHalfOpen() {
+        return permittedCallsInHalfOpen;
+    }
+
+    public void setPermittedCallsInHalfOpen(Integer permittedCallsInHalfOpen) {
+        this.permittedCallsInHalfOpen = permittedCallsInHalfOpen;
+    }
+
+    public Integer getMaxBreakers() {
+        return maxBreakers;
+    }
+
+    public void setMaxBreakers(Integer maxBreakers) {
+        this.maxBreakers = maxBreakers;
+    }
+}
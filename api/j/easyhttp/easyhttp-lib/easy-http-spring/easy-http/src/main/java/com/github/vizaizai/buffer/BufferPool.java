@@ -0,0 +1,306 @@
+package com.github.vizaizai.buffer;
+
+import com.github.vizaizai.logging.LoggerFactory;
+import com.github.vizaizai.util.Assert;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 响应体缓冲池: 按尺寸等级(4K/16K/64K)缓存内存块，读取响应时按需借出，
+ * 响应体释放后归还，避免每次请求重新分配并扩容字节数组
+ * @author liaochongwei
+ * @date 2026/10/17 16:50
+ */
+public class BufferPool {
+    private static final Logger log = LoggerFactory.getLogger(BufferPool.class);
+    /**
+     * 尺寸等级
+     */
+    private static final int[] SIZE_CLASSES = {4 * 1024, 16 * 1024, 64 * 1024};
+    /**
+     * 每个等级默认最多缓存的内存块数
+     */
+    public static final int DEFAULT_MAX_CHUNKS = 256;
+    /**
+     * 开启泄漏检测的系统属性
+     */
+    public static final String LEAK_DETECTION_PROPERTY = "easy-http.buffer.leak-detection";
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * 是否使用堆外内存
+     */
+    private final boolean direct;
+    /**
+     * 每个等级最多缓存的内存块数
+     */
+    private final int maxChunksPerClass;
+    /**
+     * 是否开启泄漏检测
+     */
+    private volatile boolean leakDetection;
+    private final Queue<Chunk>[] queues;
+    private final AtomicInteger[] queueSizes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final AtomicLong outstanding = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    private BufferPool(boolean direct, int maxChunksPerClass) {
+        Assert.isTrue(maxChunksPerClass >= 0, "maxChunksPerClass must be >= 0");
+        this.direct = direct;
+        this.maxChunksPerClass = maxChunksPerClass;
+        this.leakDetection = Boolean.getBoolean(LEAK_DETECTION_PROPERTY) || log.isDebugEnabled();
+        this.queues = (Queue<Chunk>[]) new Queue<?>[SIZE_CLASSES.length];
+        this.queueSizes = new AtomicInteger[SIZE_CLASSES.length];
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            this.queues[i] = new ConcurrentLinkedQueue<>();
+            this.queueSizes[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * 堆内存缓冲池
+     */
+    public static BufferPool heap() {
+        return new BufferPool(false, DEFAULT_MAX_CHUNKS);
+    }
+
+    /**
+     * 堆外内存缓冲池
+     */
+    public static BufferPool direct() {
+        return new BufferPool(true, DEFAULT_MAX_CHUNKS);
+    }
+
+    /**
+     * 创建缓冲池
+     * @param direct 是否使用堆外内存
+     * @param maxChunksPerClass 每个尺寸等级最多缓存的内存块数
+     * @return BufferPool
+     */
+    public static BufferPool create(boolean direct, int maxChunksPerClass) {
+        return new BufferPool(direct, maxChunksPerClass);
+    }
+
+    /**
+     * 设置泄漏检测(默认在debug日志级别或系统属性easy-http.buffer.leak-detection=true时开启)
+     */
+    public BufferPool leakDetection(boolean leakDetection) {
+        this.leakDetection = leakDetection;
+        return this;
+    }
+
+    /**
+     * 读取输入流全部内容到池化内存块(读取完成后关闭输入流)
+     * @param in 输入流
+     * @param length 预期字节数，未知时传-1
+     * @return PooledBody
+     * @throws IOException I/O异常
+     */
+    public PooledBody read(InputStream in, long length) throws IOException {
+        Assert.notNull(in, "InputStream must be not null");
+        List<Chunk> chunks = new ArrayList<>(length > 0 ? (int) Math.min(length / SIZE_CLASSES[SIZE_CLASSES.length - 1] + 1, 64) : 4);
+        ReadableByteChannel channel = null;
+        long total = 0;
+        boolean success = false;
+        try {
+            Chunk chunk = null;
+            while (true) {
+                if (chunk == null || chunk.writable() == 0) {
+                    // 长度已知且已读满时，探测是否还有数据，避免多借一块
+                    int first = -1;
+                    if (length > -1 && total >= length) {
+                        first = in.read();
+                        if (first == -1) {
+                            break;
+                        }
+                    }
+                    chunk = this.acquire(nextSize(length, total, chunks.size()));
+                    chunks.add(chunk);
+                    if (first != -1) {
+                        chunk.buffer.put(0, (byte) first);
+                        chunk.length = 1;
+                        total ++;
+                    }
+                }
+                int read;
+                if (chunk.hasArray()) {
+                    read = in.read(chunk.array(), chunk.buffer.arrayOffset() + chunk.length, chunk.writable());
+                }else {
+                    if (channel == null) {
+                        channel = Channels.newChannel(in);
+                    }
+                    read = channel.read(chunk.writableView());
+                }
+                if (read == -1) {
+                    break;
+                }
+                chunk.length += read;
+                total += read;
+            }
+            success = true;
+        }finally {
+            try {
+                in.close();
+            }catch (IOException e) {
+                // ignore
+            }
+            if (!success) {
+                for (Chunk c : chunks) {
+                    this.release(c);
+                }
+            }
+        }
+        // 去掉末尾未写入的空块
+        int last = chunks.size() - 1;
+        if (last >= 0 && chunks.get(last).length == 0) {
+            this.release(chunks.remove(last));
+        }
+        return new PooledBody(this, chunks.toArray(new Chunk[0]), total);
+    }
+
+    /**
+     * 下一块的期望大小: 长度已知时按剩余字节选择，否则按块序号逐级增大
+     */
+    private static int nextSize(long length, long total, int index) {
+        if (length > -1) {
+            long remaining = length - total;
+            return (int) Math.min(Math.max(remaining, 1), SIZE_CLASSES[SIZE_CLASSES.length - 1]);
+        }
+        return SIZE_CLASSES[Math.min(index, SIZE_CLASSES.length - 1)];
+    }
+
+    /**
+     * 借出内存块
+     * @param size 期望大小
+     * @return Chunk
+     */
+    Chunk acquire(int size) {
+        int sizeClass = sizeClass(size);
+        Chunk chunk = queues[sizeClass].poll();
+        if (chunk != null) {
+            queueSizes[sizeClass].decrementAndGet();
+            hits.increment();
+        }else {
+            misses.increment();
+            int capacity = SIZE_CLASSES[sizeClass];
+            chunk = new Chunk(direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity), sizeClass);
+        }
+        outstanding.incrementAndGet();
+        return chunk;
+    }
+
+    /**
+     * 归还内存块
+     * @param chunk 内存块
+     */
+    void release(Chunk chunk) {
+        outstanding.decrementAndGet();
+        chunk.reset();
+        AtomicInteger queueSize = queueSizes[chunk.sizeClass];
+        if (queueSize.incrementAndGet() > maxChunksPerClass) {
+            queueSize.decrementAndGet();
+            discards.increment();
+            return;
+        }
+        queues[chunk.sizeClass].offer(chunk);
+    }
+
+    private static int sizeClass(int size) {
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            if (size <= SIZE_CLASSES[i]) {
+                return i;
+            }
+        }
+        return SIZE_CLASSES.length - 1;
+    }
+
+    /**
+     * 注册泄漏检测
+     */
+    LeakDetector track(Object body, Chunk[] chunks) {
+        if (!leakDetection) {
+            return null;
+        }
+        LeakDetector detector = new LeakDetector(this, chunks, new Throwable("Response body allocated here"));
+        detector.cleanable = CLEANER.register(body, detector);
+        return detector;
+    }
+
+    /**
+     * 指标快照
+     * @return BufferPoolMetrics
+     */
+    public BufferPoolMetrics metrics() {
+        long pooled = 0;
+        for (AtomicInteger queueSize : queueSizes) {
+            pooled += queueSize.get();
+        }
+        return new BufferPoolMetrics(hits.sum(), misses.sum(), discards.sum(), leaks.sum(), outstanding.get(), pooled);
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    public boolean isLeakDetection() {
+        return leakDetection;
+    }
+
+    /**
+     * 泄漏检测: 响应体未释放即被回收时记录日志，并将内存块归还池中
+     */
+    static class LeakDetector implements Runnable {
+        private final BufferPool pool;
+        private final Chunk[] chunks;
+        private final Throwable allocation;
+        /**
+         * 是否已正常释放
+         */
+        private volatile boolean released;
+        private Cleaner.Cleanable cleanable;
+
+        LeakDetector(BufferPool pool, Chunk[] chunks, Throwable allocation) {
+            this.pool = pool;
+            this.chunks = chunks;
+            this.allocation = allocation;
+        }
+
+        /**
+         * 正常释放，取消检测
+         */
+        void close() {
+            this.released = true;
+            this.cleanable.clean();
+        }
+
+        @Override
+        public void run() {
+            if (released) {
+                return;
+            }
+            pool.leaks.increment();
+            log.error("LEAK: PooledBody was garbage-collected before release(), {} chunk(s) reclaimed", chunks.length, allocation);
+            for (Chunk chunk : chunks) {
+                pool.release(chunk);
+            }
+        }
+    }
+}
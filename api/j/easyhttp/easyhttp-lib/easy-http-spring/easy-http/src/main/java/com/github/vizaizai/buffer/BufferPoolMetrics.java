@@ -0,0 +1,87 @@
+package com.github.vizaizai.buffer;
+
+/**
+ * 缓冲池指标快照
+ * @author liaochongwei
+ * @date 2026/10/17 16:45
+ */
+public class BufferPoolMetrics {
+    /**
+     * 命中次数(从池中取到内存块)
+     */
+    private final long hits;
+    /**
+     * 未命中次数(新分配内存块)
+     */
+    private final long misses;
+    /**
+     * 池已满而丢弃的内存块数
+     */
+    private final long discards;
+    /**
+     * 检测到的泄漏次数(未释放即被回收的响应体)
+     */
+    private final long leaks;
+    /**
+     * 借出未归还的内存块数
+     */
+    private final long outstanding;
+    /**
+     * 池中空闲的内存块数
+     */
+    private final long pooled;
+
+    BufferPoolMetrics(long hits, long misses, long discards, long leaks, long outstanding, long pooled) {
+        this.hits = hits;
+        this.misses = misses;
+        this.discards = discards;
+        this.leaks = leaks;
+        this.outstanding = outstanding;
+        this.pooled = pooled;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getDiscards() {
+        return discards;
+    }
+
+    public long getLeaks() {
+        return leaks;
+    }
+
+    public long getOutstanding() {
+        return outstanding;
+    }
+
+    public long getPooled() {
+        return pooled;
+    }
+
+    /**
+     * 命中率
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPoolMetrics{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", hitRate=" + String.format("%.4f", getHitRate()) +
+                ", discards=" + discards +
+                ", leaks=" + leaks +
+                ", outstanding=" + outstanding +
+                ", pooled=" + pooled +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.vizaizai.buffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 池化内存块(堆内或堆外)
+ * @author liaochongwei
+ * @date 2026/10/17 16:40
+ */
+final class Chunk {
+    /**
+     * 底层缓冲区
+     */
+    final ByteBuffer buffer;
+    /**
+     * 所属尺寸等级
+     */
+    final int sizeClass;
+    /**
+     * 已写入字节数
+     */
+    int length;
+
+    Chunk(ByteBuffer buffer, int sizeClass) {
+        this.buffer = buffer;
+        this.sizeClass = sizeClass;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    int writable() {
+        return buffer.capacity() - length;
+    }
+
+    boolean hasArray() {
+        return buffer.hasArray();
+    }
+
+    byte[] array() {
+        return buffer.array();
+    }
+
+    /**
+     * 已写入内容的只读视图
+     */
+    ByteBuffer readable() {
+        ByteBuffer view = buffer.duplicate();
+        view.position(0).limit(length);
+        return view.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * 可写区域视图
+     */
+    ByteBuffer writableView() {
+        ByteBuffer view = buffer.duplicate();
+        view.limit(view.capacity()).position(length);
+        return view;
+    }
+
+    void reset() {
+        this.length = 0;
+    }
+}
@@ -0,0 +1,239 @@
+package com.github.vizaizai.buffer;
+
+import com.github.vizaizai.entity.body.Body;
+import com.github.vizaizai.util.Assert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 池化响应体(由多个内存块组成，引用计数): 计数归零时内存块归还缓冲池，之后不可再读取。
+ * ResponseHandler解码完成后自动释放；共享给其它线程时需先retain()，用完后release()
+ * @author liaochongwei
+ * @date 2026/10/17 17:05
+ */
+public class PooledBody implements Body {
+    private final BufferPool pool;
+    private final Chunk[] chunks;
+    private final long length;
+    /**
+     * 引用计数
+     */
+    private final AtomicInteger refCnt = new AtomicInteger(1);
+    /**
+     * close()只释放一次创建时的引用
+     */
+    private final AtomicBoolean closed = new AtomicBoolean();
+    /**
+     * 泄漏检测(未开启时为null)
+     */
+    private final BufferPool.LeakDetector leakDetector;
+
+    PooledBody(BufferPool pool, Chunk[] chunks, long length) {
+        this.pool = pool;
+        this.chunks = chunks;
+        this.length = length;
+        this.leakDetector = pool.track(this, chunks);
+    }
+
+    /**
+     * 增加引用
+     * @return PooledBody
+     */
+    public PooledBody retain() {
+        int cnt;
+        do {
+            cnt = refCnt.get();
+            if (cnt <= 0) {
+                throw new IllegalStateException("PooledBody has already been released");
+            }
+        }while (!refCnt.compareAndSet(cnt, cnt + 1));
+        return this;
+    }
+
+    /**
+     * 减少引用，归零时归还内存块
+     * @return 是否已归还
+     */
+    public boolean release() {
+        int cnt;
+        do {
+            cnt = refCnt.get();
+            if (cnt <= 0) {
+                throw new IllegalStateException("PooledBody has already been released");
+            }
+        }while (!refCnt.compareAndSet(cnt, cnt - 1));
+        if (cnt != 1) {
+            return false;
+        }
+        if (leakDetector != null) {
+            leakDetector.close();
+        }
+        for (Chunk chunk : chunks) {
+            pool.release(chunk);
+        }
+        return true;
+    }
+
+    public int refCnt() {
+        return refCnt.get();
+    }
+
+    private void ensureAccessible() {
+        if (refCnt.get() <= 0) {
+            throw new IllegalStateException("PooledBody has already been released");
+        }
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * 各内存块的只读视图(不复制)
+     * @return ByteBuffer[]
+     */
+    public ByteBuffer[] asByteBuffers() {
+        this.ensureAccessible();
+        ByteBuffer[] buffers = new ByteBuffer[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            buffers[i] = chunks[i].readable();
+        }
+        return buffers;
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        return new CompositeInputStream(this.asByteBuffers());
+    }
+
+    @Override
+    public Reader asReader(Charset charset) throws IOException {
+        Assert.notNull(charset, "charset should not be null");
+        return new InputStreamReader(this.asInputStream(), charset);
+    }
+
+    @Override
+    public String asString(Charset charset) throws IOException {
+        this.ensureAccessible();
+        if (chunks.length == 1 && chunks[0].hasArray()) {
+            return new String(chunks[0].array(), chunks[0].buffer.arrayOffset(), chunks[0].length, charset);
+        }
+        byte[] bytes = new byte[(int) length];
+        int pos = 0;
+        for (ByteBuffer buffer : this.asByteBuffers()) {
+            int n = buffer.remaining();
+            buffer.get(bytes, pos, n);
+            pos += n;
+        }
+        return new String(bytes, charset);
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        this.ensureAccessible();
+        WritableByteChannel channel = null;
+        for (Chunk chunk : chunks) {
+            if (chunk.hasArray()) {
+                os.write(chunk.array(), chunk.buffer.arrayOffset(), chunk.length);
+                continue;
+            }
+            if (channel == null) {
+                channel = Channels.newChannel(os);
+            }
+            ByteBuffer buffer = chunk.readable();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * 释放创建时持有的引用(多次调用只释放一次)
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            this.release();
+        }
+    }
+
+    /**
+     * 依次读取多个缓冲区的输入流
+     */
+    private static class CompositeInputStream extends InputStream {
+        private final ByteBuffer[] buffers;
+        private int index;
+
+        CompositeInputStream(ByteBuffer[] buffers) {
+            this.buffers = buffers;
+        }
+
+        private ByteBuffer current() {
+            while (index < buffers.length && !buffers[index].hasRemaining()) {
+                index ++;
+            }
+            return index < buffers.length ? buffers[index] : null;
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer buffer = current();
+            return buffer == null ? -1 : buffer.get() & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int total = 0;
+            ByteBuffer buffer;
+            while (total < len && (buffer = current()) != null) {
+                int n = Math.min(len - total, buffer.remaining());
+                buffer.get(b, off + total, n);
+                total += n;
+            }
+            return total == 0 ? -1 : total;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = 0;
+            ByteBuffer buffer;
+            while (skipped < n && (buffer = current()) != null) {
+                int k = (int) Math.min(n - skipped, buffer.remaining());
+                buffer.position(buffer.position() + k);
+                skipped += k;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            long available = 0;
+            for (int i = index; i < buffers.length; i++) {
+                available += buffers[i].remaining();
+            }
+            return (int) Math.min(available, Integer.MAX_VALUE);
+        }
+    }
+}
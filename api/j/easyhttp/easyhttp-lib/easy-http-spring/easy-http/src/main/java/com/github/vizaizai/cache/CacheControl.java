@@ -0,0 +1,148 @@
+package com.github.vizaizai.cache;
+
+import com.github.vizaizai.util.value.HeadersNameValues;
+import com.github.vizaizai.util.value.NameValue;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache-Control指令解析(RFC 7234 5.2)及缓存相关的请求头工具
+ * @author liaochongwei
+ * @date 2026/10/17 21:20
+ */
+class CacheControl {
+    boolean noStore;
+    boolean noCache;
+    boolean onlyIfCached;
+    boolean mustRevalidate;
+    boolean isPublic;
+    /**
+     * 秒，未设置时为-1
+     */
+    long maxAge = -1;
+    long sMaxAge = -1;
+    long minFresh = -1;
+    /**
+     * 秒，未设置时为-1，未指定值时为Long.MAX_VALUE
+     */
+    long maxStale = -1;
+
+    static CacheControl parse(HeadersNameValues headers) {
+        CacheControl cc = new CacheControl();
+        List<String> values = values(headers, "Cache-Control");
+        for (String value : values) {
+            for (String directive : value.split(",")) {
+                String name = directive.trim();
+                String argument = null;
+                int eq = name.indexOf('=');
+                if (eq > 0) {
+                    argument = name.substring(eq + 1).trim();
+                    name = name.substring(0, eq).trim();
+                    if (argument.length() > 1 && argument.startsWith("\"") && argument.endsWith("\"")) {
+                        argument = argument.substring(1, argument.length() - 1);
+                    }
+                }
+                switch (name.toLowerCase()) {
+                    case "no-store":
+                        cc.noStore = true;
+                        break;
+                    case "no-cache":
+                        cc.noCache = true;
+                        break;
+                    case "only-if-cached":
+                        cc.onlyIfCached = true;
+                        break;
+                    case "must-revalidate":
+                    case "proxy-revalidate":
+                        cc.mustRevalidate = true;
+                        break;
+                    case "public":
+                        cc.isPublic = true;
+                        break;
+                    case "max-age":
+                        cc.maxAge = seconds(argument, -1);
+                        break;
+                    case "s-maxage":
+                        cc.sMaxAge = seconds(argument, -1);
+                        break;
+                    case "min-fresh":
+                        cc.minFresh = seconds(argument, -1);
+                        break;
+                    case "max-stale":
+                        cc.maxStale = seconds(argument, Long.MAX_VALUE);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        // HTTP/1.0 Pragma: no-cache(无Cache-Control时生效)
+        if (values.isEmpty() && values(headers, "Pragma").stream().anyMatch(e -> e.toLowerCase().contains("no-cache"))) {
+            cc.noCache = true;
+        }
+        return cc;
+    }
+
+    private static long seconds(String argument, long defaultValue) {
+        if (argument == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(0, Long.parseLong(argument));
+        }catch (NumberFormatException e) {
+            // 无效值按已过期处理
+            return 0;
+        }
+    }
+
+    /**
+     * 获取请求头(忽略大小写)
+     */
+    static List<String> values(HeadersNameValues headers, String name) {
+        List<String> values = new ArrayList<>(1);
+        if (headers == null) {
+            return values;
+        }
+        for (NameValue<String, String> header : headers) {
+            if (name.equalsIgnoreCase(header.getName()) && header.getValue() != null) {
+                values.add(header.getValue());
+            }
+        }
+        return values;
+    }
+
+    static String first(HeadersNameValues headers, String name) {
+        List<String> values = values(headers, name);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * 解析HTTP-date，无效时返回-1
+     */
+    static long date(HeadersNameValues headers, String name) {
+        String value = first(headers, name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        }catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    static long delta(HeadersNameValues headers, String name) {
+        String value = first(headers, name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        }catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
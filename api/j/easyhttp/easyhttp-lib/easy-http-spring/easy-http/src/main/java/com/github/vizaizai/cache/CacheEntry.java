@@ -0,0 +1,255 @@
+package com.github.vizaizai.cache;
+
+import com.github.vizaizai.entity.HttpRequest;
+import com.github.vizaizai.entity.HttpResponse;
+import com.github.vizaizai.entity.body.Body;
+import com.github.vizaizai.util.value.HeadersNameValues;
+import com.github.vizaizai.util.value.NameValue;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 缓存项(不可变): 响应状态、响应头、响应体及新鲜度计算(RFC 7234 4.2)
+ * @author liaochongwei
+ * @date 2026/10/17 21:30
+ */
+class CacheEntry {
+    /**
+     * 启发式新鲜度上限(24h)
+     */
+    private static final long MAX_HEURISTIC_LIFETIME = 24 * 60 * 60 * 1000L;
+    private final String key;
+    private final int statusCode;
+    private final HeadersNameValues headers;
+    private final Body body;
+    /**
+     * Vary请求头的取值(name小写)，响应无Vary时为空
+     */
+    private final Map<String, String> vary;
+    private final long requestTime;
+    private final long responseTime;
+    /**
+     * 新鲜度(ms)
+     */
+    private final long freshnessLifetime;
+    /**
+     * 收到响应时的校正年龄(ms)
+     */
+    private final long correctedInitialAge;
+    private final boolean noCache;
+    private final boolean mustRevalidate;
+    private final String etag;
+    private final String lastModified;
+
+    CacheEntry(String key, int statusCode, HeadersNameValues headers, Body body, Map<String, String> vary,
+               long requestTime, long responseTime) {
+        this.key = key;
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.vary = vary;
+        this.requestTime = requestTime;
+        this.responseTime = responseTime;
+        CacheControl cc = CacheControl.parse(headers);
+        this.noCache = cc.noCache;
+        this.mustRevalidate = cc.mustRevalidate;
+        this.etag = CacheControl.first(headers, "ETag");
+        this.lastModified = CacheControl.first(headers, "Last-Modified");
+        long date = CacheControl.date(headers, "Date");
+        long dateValue = date == -1 ? responseTime : date;
+        // 新鲜度: max-age > Expires - Date > 启发式(Last-Modified距今的10%)
+        if (cc.maxAge != -1) {
+            this.freshnessLifetime = cc.maxAge * 1000;
+        }else if (CacheControl.first(headers, "Expires") != null) {
+            long expires = CacheControl.date(headers, "Expires");
+            this.freshnessLifetime = expires == -1 ? 0 : Math.max(0, expires - dateValue);
+        }else {
+            long modified = CacheControl.date(headers, "Last-Modified");
+            this.freshnessLifetime = modified == -1 ? 0 : Math.min(MAX_HEURISTIC_LIFETIME, Math.max(0, (dateValue - modified) / 10));
+        }
+        // 年龄校正
+        long ageValue = CacheControl.delta(headers, "Age");
+        long apparentAge = Math.max(0, responseTime - dateValue);
+        long correctedAgeValue = (ageValue == -1 ? 0 : ageValue * 1000) + (responseTime - requestTime);
+        this.correctedInitialAge = Math.max(apparentAge, correctedAgeValue);
+    }
+
+    /**
+     * 根据响应创建缓存项
+     */
+    static CacheEntry create(String key, HttpRequest request, HttpResponse response, Body body,
+                             long requestTime, long responseTime) {
+        HeadersNameValues headers = new HeadersNameValues();
+        if (response.getHeaders() != null) {
+            headers.addAll(response.getHeaders());
+        }
+        return new CacheEntry(key, response.getStatusCode(), headers, body, varyValues(headers, request.getHeaders()),
+                requestTime, responseTime);
+    }
+
+    /**
+     * 记录响应Vary中列出的请求头取值
+     */
+    private static Map<String, String> varyValues(HeadersNameValues responseHeaders, HeadersNameValues requestHeaders) {
+        List<String> varies = CacheControl.values(responseHeaders, "Vary");
+        if (varies.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> vary = new LinkedHashMap<>();
+        for (String value : varies) {
+            for (String name : value.split(",")) {
+                String header = name.trim().toLowerCase();
+                if (!header.isEmpty()) {
+                    vary.put(header, String.join(",", CacheControl.values(requestHeaders, header)));
+                }
+            }
+        }
+        return vary;
+    }
+
+    /**
+     * 响应是否含Vary: *(不可缓存)
+     */
+    static boolean varyAll(HeadersNameValues responseHeaders) {
+        return CacheControl.values(responseHeaders, "Vary").stream().anyMatch(e -> e.trim().equals("*"));
+    }
+
+    /**
+     * 请求的Vary请求头是否与缓存时一致
+     */
+    boolean matches(HttpRequest request) {
+        for (Map.Entry<String, String> entry : vary.entrySet()) {
+            if (!entry.getValue().equals(String.join(",", CacheControl.values(request.getHeaders(), entry.getKey())))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long currentAge(long now) {
+        return correctedInitialAge + Math.max(0, now - responseTime);
+    }
+
+    /**
+     * 是否新鲜(可不经验证直接使用)
+     * @param now 当前时间
+     * @param request 请求的Cache-Control
+     */
+    boolean isFresh(long now, CacheControl request) {
+        if (noCache) {
+            return false;
+        }
+        long lifetime = freshnessLifetime;
+        if (request.maxAge != -1) {
+            lifetime = Math.min(lifetime, request.maxAge * 1000);
+        }
+        long age = currentAge(now);
+        if (request.minFresh != -1) {
+            age += request.minFresh * 1000;
+        }
+        if (request.maxStale != -1 && !mustRevalidate) {
+            lifetime = request.maxStale == Long.MAX_VALUE ? Long.MAX_VALUE : lifetime + request.maxStale * 1000;
+        }
+        return age < lifetime;
+    }
+
+    boolean hasValidators() {
+        return etag != null || lastModified != null;
+    }
+
+    /**
+     * 304后的缓存项: 以304的响应头更新存储的响应头(RFC 7234 4.3.4)，响应体不变
+     */
+    CacheEntry revalidate(HeadersNameValues notModified, long requestTime, long responseTime) {
+        HeadersNameValues merged = new HeadersNameValues();
+        if (notModified == null || notModified.isEmpty()) {
+            merged.addAll(this.headers);
+        }else {
+            for (NameValue<String, String> header : this.headers) {
+                if (CacheControl.values(notModified, header.getName()).isEmpty() || isBodyHeader(header.getName())) {
+                    merged.add(header);
+                }
+            }
+            for (NameValue<String, String> header : notModified) {
+                if (!isBodyHeader(header.getName())) {
+                    merged.add(header);
+                }
+            }
+        }
+        return new CacheEntry(key, statusCode, merged, body, vary, requestTime, responseTime);
+    }
+
+    private static boolean isBodyHeader(String name) {
+        return "Content-Length".equalsIgnoreCase(name)
+                || "Transfer-Encoding".equalsIgnoreCase(name)
+                || "Content-Encoding".equalsIgnoreCase(name);
+    }
+
+    /**
+     * 由缓存项生成响应(共享同一响应体，附带Age)
+     */
+    HttpResponse toResponse(long now) {
+        HttpResponse response = new HttpResponse();
+        response.setStatusCode(statusCode);
+        HeadersNameValues responseHeaders = new HeadersNameValues();
+        for (NameValue<String, String> header : headers) {
+            if (!"Age".equalsIgnoreCase(header.getName())) {
+                responseHeaders.add(header);
+            }
+        }
+        responseHeaders.add("Age", String.valueOf(currentAge(now) / 1000));
+        response.setHeaders(responseHeaders);
+        response.setBody(body);
+        return response;
+    }
+
+    /**
+     * 占用字节数估算(响应体 + 响应头)
+     */
+    long size() {
+        long size = body == null ? 0 : body.length();
+        for (NameValue<String, String> header : headers) {
+            size += header.getName().length() + (header.getValue() == null ? 0 : header.getValue().length()) + 4;
+        }
+        return size + key.length() + 64;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    HeadersNameValues getHeaders() {
+        return headers;
+    }
+
+    Body getBody() {
+        return body;
+    }
+
+    Map<String, String> getVary() {
+        return vary;
+    }
+
+    long getRequestTime() {
+        return requestTime;
+    }
+
+    long getResponseTime() {
+        return responseTime;
+    }
+
+    String getEtag() {
+        return etag;
+    }
+
+    String getLastModified() {
+        return lastModified;
+    }
+}
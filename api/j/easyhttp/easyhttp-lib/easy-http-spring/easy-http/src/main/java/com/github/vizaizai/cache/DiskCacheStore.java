@@ -0,0 +1,260 @@
+package com.github.vizaizai.cache;
+
+import com.github.vizaizai.entity.body.ByteBufferBody;
+import com.github.vizaizai.logging.LoggerFactory;
+import com.github.vizaizai.util.value.HeadersNameValues;
+import com.github.vizaizai.util.value.NameValue;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 磁盘缓存(内存淘汰的缓存项溢出到此): 每项一个文件，通过内存映射读取，按字节数限制容量，LRU淘汰。
+ * 仅在进程内有效，创建时清理目录中遗留的缓存文件
+ * @author liaochongwei
+ * @date 2026/10/17 21:50
+ */
+class DiskCacheStore {
+    private static final Logger log = LoggerFactory.getLogger(DiskCacheStore.class);
+    private static final String PREFIX = "easy-http-";
+    private static final String SUFFIX = ".cache";
+    private static final int MAGIC = 0x45484331;
+    private final Path directory;
+    private final long maxBytes;
+    /**
+     * 缓存键 -> 文件大小
+     */
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long bytes;
+
+    DiskCacheStore(Path directory, long maxBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    CacheEntry get(String key) {
+        lock.lock();
+        try {
+            if (!index.containsKey(key)) {
+                return null;
+            }
+        }finally {
+            lock.unlock();
+        }
+        Path file = this.file(key);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer, key);
+        }catch (IOException | RuntimeException e) {
+            log.warn("Failed to read cache file {}: {}", file, e.getMessage());
+            this.remove(key);
+            return null;
+        }
+    }
+
+    void put(CacheEntry entry) {
+        long size = entry.size();
+        if (size > maxBytes) {
+            this.remove(entry.getKey());
+            return;
+        }
+        Path file = this.file(entry.getKey());
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(directory, PREFIX, ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream os = Channels.newOutputStream(channel);
+                os.write(metadata(entry));
+                if (entry.getBody() != null) {
+                    entry.getBody().writeTo(os);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            size = Files.size(file);
+        }catch (IOException e) {
+            log.warn("Failed to write cache file {}: {}", file, e.getMessage());
+            if (tmp != null) {
+                deleteQuietly(tmp);
+            }
+            this.remove(entry.getKey());
+            return;
+        }
+        lock.lock();
+        try {
+            Long previous = index.put(entry.getKey(), size);
+            if (previous != null) {
+                bytes -= previous;
+            }
+            bytes += size;
+            Iterator<Map.Entry<String, Long>> iterator = index.entrySet().iterator();
+            while (bytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                iterator.remove();
+                bytes -= eldest.getValue();
+                deleteQuietly(this.file(eldest.getKey()));
+            }
+        }finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(String key) {
+        lock.lock();
+        try {
+            Long size = index.remove(key);
+            if (size != null) {
+                bytes -= size;
+            }
+            deleteQuietly(this.file(key));
+        }finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            for (String key : index.keySet()) {
+                deleteQuietly(this.file(key));
+            }
+            index.clear();
+            bytes = 0;
+        }finally {
+            lock.unlock();
+        }
+    }
+
+    int count() {
+        lock.lock();
+        try {
+            return index.size();
+        }finally {
+            lock.unlock();
+        }
+    }
+
+    long bytes() {
+        lock.lock();
+        try {
+            return bytes;
+        }finally {
+            lock.unlock();
+        }
+    }
+
+    private Path file(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(PREFIX);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return directory.resolve(sb.append(SUFFIX).toString());
+        }catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        }catch (IOException e) {
+            log.warn("Failed to delete cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 文件格式: magic | key | 状态码 | 请求时间 | 响应时间 | 响应头 | Vary | 响应体长度 | 响应体
+     */
+    private static byte[] metadata(CacheEntry entry) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(bos);
+        out.writeInt(MAGIC);
+        writeString(out, entry.getKey());
+        out.writeInt(entry.getStatusCode());
+        out.writeLong(entry.getRequestTime());
+        out.writeLong(entry.getResponseTime());
+        out.writeInt(entry.getHeaders().size());
+        for (NameValue<String, String> header : entry.getHeaders()) {
+            writeString(out, header.getName());
+            writeString(out, header.getValue());
+        }
+        out.writeInt(entry.getVary().size());
+        for (Map.Entry<String, String> vary : entry.getVary().entrySet()) {
+            writeString(out, vary.getKey());
+            writeString(out, vary.getValue());
+        }
+        out.writeLong(entry.getBody() == null ? -1 : entry.getBody().length());
+        out.flush();
+        return bos.toByteArray();
+    }
+
+    private static CacheEntry read(MappedByteBuffer buffer, String key) throws IOException {
+        if (buffer.getInt() != MAGIC || !key.equals(readString(buffer))) {
+            throw new IOException("corrupted cache file");
+        }
+        int statusCode = buffer.getInt();
+        long requestTime = buffer.getLong();
+        long responseTime = buffer.getLong();
+        HeadersNameValues headers = new HeadersNameValues();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            headers.add(readString(buffer), readString(buffer));
+        }
+        Map<String, String> vary = new LinkedHashMap<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            vary.put(readString(buffer), readString(buffer));
+        }
+        long length = buffer.getLong();
+        ByteBufferBody body = null;
+        if (length > -1) {
+            byte[] data = new byte[(int) length];
+            buffer.get(data);
+            body = ByteBufferBody.wrap(data);
+        }
+        return new CacheEntry(key, statusCode, headers, body, vary, requestTime, responseTime);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,370 @@
+package com.github.vizaizai.cache;
+
+import com.github.vizaizai.client.AbstractClient;
+import com.github.vizaizai.client.AsyncClient;
+import com.github.vizaizai.entity.HttpMethod;
+import com.github.vizaizai.entity.HttpRequest;
+import com.github.vizaizai.entity.HttpResponse;
+import com.github.vizaizai.entity.body.Body;
+import com.github.vizaizai.entity.body.ByteBufferBody;
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.util.Assert;
+import com.github.vizaizai.util.StreamUtils;
+import com.github.vizaizai.util.Utils;
+import com.github.vizaizai.util.value.HeadersNameValues;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 客户端HTTP缓存(RFC 7234，私有缓存): 位于RequestHandler与AbstractClient之间。
+ * <ul>
+ *     <li>只缓存GET的非流式响应，新鲜度来自max-age、Expires或Last-Modified(启发式)</li>
+ *     <li>过期后携带If-None-Match/If-Modified-Since验证，304时使用缓存的响应体</li>
+ *     <li>内存按字节数限制容量(LRU)，可选磁盘层(内存映射文件)承接内存淘汰的缓存项</li>
+ *     <li>POST/PUT/DELETE/PATCH成功后使同一URL的缓存失效</li>
+ * </ul>
+ * @author liaochongwei
+ * @date 2026/10/17 22:05
+ */
+public class HttpCache {
+    /**
+     * 可缓存的响应码(RFC 7231 6.1)
+     */
+    private static final Set<Integer> CACHEABLE_STATUS = new HashSet<>(Arrays.asList(200, 203, 204, 300, 301, 404, 405, 410, 414, 501));
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    private final MemoryCacheStore memory;
+    /**
+     * 磁盘层(未开启时为null)
+     */
+    private final DiskCacheStore disk;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private HttpCache(MemoryCacheStore memory, DiskCacheStore disk) {
+        this.memory = memory;
+        this.disk = disk;
+    }
+
+    /**
+     * 内存缓存
+     * @param maxBytes 最大字节数
+     * @return HttpCache
+     */
+    public static HttpCache memory(long maxBytes) {
+        Assert.isTrue(maxBytes > 0, "maxBytes must be greater than 0");
+        return new HttpCache(new MemoryCacheStore(maxBytes), null);
+    }
+
+    /**
+     * 内存 + 磁盘缓存
+     * @param maxMemoryBytes 内存最大字节数
+     * @param directory 磁盘缓存目录(创建时清理其中遗留的缓存文件)
+     * @param maxDiskBytes 磁盘最大字节数
+     * @return HttpCache
+     */
+    public static HttpCache create(long maxMemoryBytes, Path directory, long maxDiskBytes) {
+        Assert.isTrue(maxMemoryBytes > 0, "maxMemoryBytes must be greater than 0");
+        if (directory == null || maxDiskBytes <= 0) {
+            return memory(maxMemoryBytes);
+        }
+        try {
+            return new HttpCache(new MemoryCacheStore(maxMemoryBytes), new DiskCacheStore(directory, maxDiskBytes));
+        }catch (IOException e) {
+            throw new EasyHttpException("Failed to create cache directory: " + directory, e);
+        }
+    }
+
+    /**
+     * 经缓存执行请求
+     * @param request 请求
+     * @param client 客户端
+     * @return 响应
+     * @throws IOException I/O异常
+     */
+    public HttpResponse execute(HttpRequest request, AbstractClient client) throws IOException {
+        Exchange exchange = this.prepare(request);
+        if (exchange.cached != null) {
+            return exchange.cached;
+        }
+        HttpResponse response;
+        try {
+            response = client.request(request);
+        }finally {
+            exchange.restore();
+        }
+        return this.complete(exchange, response);
+    }
+
+    /**
+     * 经缓存执行非阻塞请求
+     * @param request 请求
+     * @param client 客户端
+     * @return 响应
+     */
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request, AsyncClient client) {
+        Exchange exchange = this.prepare(request);
+        if (exchange.cached != null) {
+            return CompletableFuture.completedFuture(exchange.cached);
+        }
+        CompletableFuture<HttpResponse> future;
+        try {
+            future = client.requestAsync(request);
+        }finally {
+            exchange.restore();
+        }
+        return future.thenApply(response -> {
+            try {
+                return this.complete(exchange, response);
+            }catch (IOException e) {
+                throw new EasyHttpException(e);
+            }
+        });
+    }
+
+    /**
+     * 查找缓存: 新鲜时直接返回，过期且有验证器时添加条件请求头
+     */
+    private Exchange prepare(HttpRequest request) {
+        Exchange exchange = new Exchange(request);
+        if (!HttpMethod.GET.equals(request.getMethod()) || request.isStreaming()) {
+            return exchange;
+        }
+        // 调用方自行发起的条件请求不经过缓存
+        if (CacheControl.first(request.getHeaders(), IF_NONE_MATCH) != null
+                || CacheControl.first(request.getHeaders(), IF_MODIFIED_SINCE) != null) {
+            return exchange;
+        }
+        exchange.key = key(request);
+        exchange.cacheControl = CacheControl.parse(request.getHeaders());
+        if (exchange.cacheControl.noStore) {
+            return exchange;
+        }
+        long now = System.currentTimeMillis();
+        CacheEntry entry = this.lookup(exchange.key);
+        if (entry != null && !entry.matches(request)) {
+            entry = null;
+        }
+        if (entry != null && !exchange.cacheControl.noCache && entry.isFresh(now, exchange.cacheControl)) {
+            hits.increment();
+            exchange.cached = entry.toResponse(now);
+            return exchange;
+        }
+        if (exchange.cacheControl.onlyIfCached) {
+            misses.increment();
+            HttpResponse response = new HttpResponse();
+            response.setStatusCode(504);
+            response.setMessage("Gateway Timeout");
+            exchange.cached = response;
+            return exchange;
+        }
+        if (entry != null && entry.hasValidators()) {
+            exchange.entry = entry;
+            exchange.conditional(entry);
+        }
+        exchange.requestTime = now;
+        return exchange;
+    }
+
+    /**
+     * 处理响应: 304时使用缓存的响应体，可缓存的响应存入缓存
+     */
+    private HttpResponse complete(Exchange exchange, HttpResponse response) throws IOException {
+        HttpRequest request = exchange.request;
+        if (exchange.key == null) {
+            // 不安全的方法成功后使缓存失效
+            if (!HttpMethod.GET.equals(request.getMethod()) && !HttpMethod.HEAD.equals(request.getMethod())
+                    && response.getStatusCode() >= 200 && response.getStatusCode() < 400) {
+                this.invalidate(key(request));
+            }
+            return response;
+        }
+        long responseTime = System.currentTimeMillis();
+        if (exchange.entry != null) {
+            revalidations.increment();
+            if (response.getStatusCode() == 304) {
+                notModified.increment();
+                StreamUtils.ensureClosed(response.getBody());
+                CacheEntry updated = exchange.entry.revalidate(response.getHeaders(), exchange.requestTime, responseTime);
+                this.store(updated);
+                return updated.toResponse(responseTime);
+            }
+        }else {
+            misses.increment();
+        }
+        if (this.isStorable(exchange, response)) {
+            Body body = this.buffer(response);
+            this.store(CacheEntry.create(exchange.key, request, response, body, exchange.requestTime, responseTime));
+        }else if (exchange.entry != null) {
+            this.invalidate(exchange.key);
+        }
+        return response;
+    }
+
+    /**
+     * 响应是否可存储(RFC 7234 3)
+     */
+    private boolean isStorable(Exchange exchange, HttpResponse response) {
+        if (exchange.cacheControl.noStore || !CACHEABLE_STATUS.contains(response.getStatusCode())) {
+            return false;
+        }
+        HeadersNameValues headers = response.getHeaders();
+        CacheControl cc = CacheControl.parse(headers);
+        if (cc.noStore || CacheEntry.varyAll(headers)) {
+            return false;
+        }
+        // 带认证信息的请求只在响应明确允许时缓存
+        if (CacheControl.first(exchange.request.getHeaders(), "Authorization") != null
+                && !cc.isPublic && !cc.mustRevalidate && cc.sMaxAge == -1) {
+            return false;
+        }
+        // 需有新鲜度信息或验证器
+        return cc.maxAge != -1 || cc.noCache
+                || CacheControl.first(headers, "Expires") != null
+                || CacheControl.first(headers, "ETag") != null
+                || CacheControl.first(headers, "Last-Modified") != null;
+    }
+
+    /**
+     * 将响应体转为可共享的ByteBufferBody(已是则直接使用)，并替换响应中的响应体
+     */
+    private Body buffer(HttpResponse response) throws IOException {
+        Body body = response.getBody();
+        if (body == null || body instanceof ByteBufferBody) {
+            return body;
+        }
+        ByteBufferBody buffered = ByteBufferBody.read(body.asInputStream(), body.length());
+        StreamUtils.ensureClosed(body);
+        response.setBody(buffered);
+        return buffered;
+    }
+
+    private CacheEntry lookup(String key) {
+        CacheEntry entry = memory.get(key);
+        if (entry != null || disk == null) {
+            return entry;
+        }
+        entry = disk.get(key);
+        if (entry != null) {
+            diskHits.increment();
+            // 提升到内存
+            disk.remove(key);
+            this.spill(memory.put(entry));
+        }
+        return entry;
+    }
+
+    private void store(CacheEntry entry) {
+        stores.increment();
+        this.spill(memory.put(entry));
+    }
+
+    /**
+     * 内存淘汰的缓存项写入磁盘
+     */
+    private void spill(List<CacheEntry> evicted) {
+        for (CacheEntry entry : evicted) {
+            evictions.increment();
+            if (disk != null) {
+                disk.put(entry);
+            }
+        }
+    }
+
+    /**
+     * 使缓存失效
+     * @param key 缓存键(URL含查询参数)
+     */
+    public void invalidate(String key) {
+        memory.remove(key);
+        if (disk != null) {
+            disk.remove(key);
+        }
+    }
+
+    public void clear() {
+        memory.clear();
+        if (disk != null) {
+            disk.clear();
+        }
+    }
+
+    public HttpCacheStats stats() {
+        return new HttpCacheStats(hits.sum(), diskHits.sum(), misses.sum(), revalidations.sum(), notModified.sum(),
+                stores.sum(), evictions.sum(), memory.count(), memory.bytes(),
+                disk == null ? 0 : disk.count(), disk == null ? 0 : disk.bytes());
+    }
+
+    /**
+     * 缓存键: 逻辑URL(含查询参数)，负载均衡时各实例共用一份缓存
+     * @param request 请求
+     * @return key
+     */
+    public static String key(HttpRequest request) {
+        String url = request.getLogicalUrl();
+        String params = Utils.asUrlEncoded(request.getParams());
+        if (params == null) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + params;
+    }
+
+    /**
+     * 一次请求的缓存上下文
+     */
+    private static class Exchange {
+        private final HttpRequest request;
+        /**
+         * 缓存键(不经过缓存时为null)
+         */
+        private String key;
+        private CacheControl cacheControl;
+        /**
+         * 待验证的缓存项
+         */
+        private CacheEntry entry;
+        /**
+         * 可直接返回的响应
+         */
+        private HttpResponse cached;
+        private long requestTime;
+        private boolean conditional;
+
+        Exchange(HttpRequest request) {
+            this.request = request;
+        }
+
+        void conditional(CacheEntry entry) {
+            if (entry.getEtag() != null) {
+                request.addHeader(IF_NONE_MATCH, entry.getEtag());
+            }
+            if (entry.getLastModified() != null) {
+                request.addHeader(IF_MODIFIED_SINCE, entry.getLastModified());
+            }
+            this.conditional = true;
+        }
+
+        /**
+         * 移除添加的条件请求头
+         */
+        void restore() {
+            if (conditional && request.getHeaders() != null) {
+                request.getHeaders().remove(IF_NONE_MATCH);
+                request.getHeaders().remove(IF_MODIFIED_SINCE);
+                conditional = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.vizaizai.cache;
+
+/**
+ * HTTP缓存统计快照
+ * @author liaochongwei
+ * @date 2026/10/17 22:00
+ */
+public class HttpCacheStats {
+    /**
+     * 命中次数(新鲜缓存直接返回，含磁盘命中)
+     */
+    private final long hits;
+    /**
+     * 磁盘命中次数
+     */
+    private final long diskHits;
+    /**
+     * 未命中次数(发出了完整请求)
+     */
+    private final long misses;
+    /**
+     * 验证次数(发出了条件请求)
+     */
+    private final long revalidations;
+    /**
+     * 验证后未修改(304，使用缓存的响应体)的次数
+     */
+    private final long notModified;
+    /**
+     * 存入次数
+     */
+    private final long stores;
+    /**
+     * 内存淘汰次数
+     */
+    private final long evictions;
+    private final int memoryEntries;
+    private final long memoryBytes;
+    private final int diskEntries;
+    private final long diskBytes;
+
+    HttpCacheStats(long hits, long diskHits, long misses, long revalidations, long notModified, long stores,
+                   long evictions, int memoryEntries, long memoryBytes, int diskEntries, long diskBytes) {
+        this.hits = hits;
+        this.diskHits = diskHits;
+        this.misses = misses;
+        this.revalidations = revalidations;
+        this.notModified = notModified;
+        this.stores = stores;
+        this.evictions = evictions;
+        this.memoryEntries = memoryEntries;
+        this.memoryBytes = memoryBytes;
+        this.diskEntries = diskEntries;
+        this.diskBytes = diskBytes;
+    }
+
+    /**
+     * 命中率(命中 + 304) / 总请求数
+     */
+    public double getHitRate() {
+        long total = hits + misses + revalidations;
+        return total == 0 ? 0 : (double) (hits + notModified) / total;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getDiskHits() {
+        return diskHits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getRevalidations() {
+        return revalidations;
+    }
+
+    public long getNotModified() {
+        return notModified;
+    }
+
+    public long getStores() {
+        return stores;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getMemoryEntries() {
+        return memoryEntries;
+    }
+
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    public int getDiskEntries() {
+        return diskEntries;
+    }
+
+    public long getDiskBytes() {
+        return diskBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "HttpCacheStats{" +
+                "hits=" + hits +
+                ", diskHits=" + diskHits +
+                ", misses=" + misses +
+                ", hitRate=" + String.format("%.4f", getHitRate()) +
+                ", revalidations=" + revalidations +
+                ", notModified=" + notModified +
+                ", stores=" + stores +
+                ", evictions=" + evictions +
+                ", memoryEntries=" + memoryEntries +
+                ", memoryBytes=" + memoryBytes +
+                ", diskEntries=" + diskEntries +
+                ", diskBytes=" + diskBytes +
+                '}';
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.vizaizai.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 内存缓存(按字节数限制容量，LRU淘汰)
+ * @author liaochongwei
+ * @date 2026/10/17 21:40
+ */
+class MemoryCacheStore {
+    private final long maxBytes;
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long bytes;
+
+    MemoryCacheStore(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    CacheEntry get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        }finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 存入缓存项
+     * @return 被淘汰的缓存项(超过容量的缓存项本身也会被返回)
+     */
+    List<CacheEntry> put(CacheEntry entry) {
+        long size = entry.size();
+        if (size > maxBytes) {
+            this.remove(entry.getKey());
+            return Collections.singletonList(entry);
+        }
+        List<CacheEntry> evicted = null;
+        lock.lock();
+        try {
+            CacheEntry previous = entries.put(entry.getKey(), entry);
+            if (previous != null) {
+                bytes -= previous.size();
+            }
+            bytes += size;
+            Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+            while (bytes > maxBytes && iterator.hasNext()) {
+                CacheEntry eldest = iterator.next().getValue();
+                iterator.remove();
+                bytes -= eldest.size();
+                if (evicted == null) {
+                    evicted = new ArrayList<>();
+                }
+                evicted.add(eldest);
+            }
+        }finally {
+            lock.unlock();
+        }
+        return evicted == null ? Collections.emptyList() : evicted;
+    }
+
+    CacheEntry remove(String key) {
+        lock.lock();
+        try {
+            CacheEntry removed = entries.remove(key);
+            if (removed != null) {
+                bytes -= removed.size();
+            }
+            return removed;
+        }finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            bytes = 0;
+        }finally {
+            lock.unlock();
+        }
+    }
+
+    int count() {
+        lock.lock();
+        try {
+            return entries.size();
+        }finally {
+            lock.unlock();
+        }
+    }
+
+    long bytes() {
+        lock.lock();
+        try {
+            return bytes;
+        }finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.github.vizaizai.cache;
+
+import com.github.vizaizai.annotation.CacheResult;
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.util.Assert;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 方法结果缓存(@CacheResult): 按参数值缓存解码结果，命中无锁，超过数量时随机采样，淘汰其中最久未访问的(近似LRU)；
+ * 同一参数的并发加载只执行一次，临近过期时在后台提前刷新
+ * @author liaochongwei
+ * @date 2026/10/17 23:00
+ */
+public class ResultCache {
+    /**
+     * 淘汰时采样的缓存项数
+     */
+    private static final int EVICTION_SAMPLES = 8;
+    private final String name;
+    private final long ttlNanos;
+    /**
+     * 提前刷新时间点(写入后经过的纳秒数)，0表示不提前刷新
+     */
+    private final long refreshNanos;
+    private final int maxSize;
+    /**
+     * 是否为CompletableFuture返回值
+     */
+    private final boolean async;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * 缓存键的随机访问视图(淘汰时按下标随机采样)，由写锁保护
+     */
+    private final List<Key> slots = new ArrayList<>();
+    /**
+     * 写锁(只在写入、淘汰时使用，命中不加锁)
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /**
+     * 加载中的键(包括后台刷新)
+     */
+    private final Map<Key, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private ResultCache(String name, long ttlNanos, long refreshNanos, int maxSize, boolean async) {
+        this.name = name;
+        this.ttlNanos = ttlNanos;
+        this.refreshNanos = refreshNanos;
+        this.maxSize = maxSize;
+        this.async = async;
+    }
+
+    /**
+     * 根据注解创建
+     * @param method 目标方法
+     * @param cacheResult 注解
+     * @param async 是否为CompletableFuture返回值
+     * @return ResultCache
+     */
+    public static ResultCache create(Method method, CacheResult cacheResult, boolean async) {
+        Assert.isTrue(cacheResult.ttl() > 0, "The ttl of @CacheResult must be greater than 0");
+        Assert.isTrue(cacheResult.maxSize() > 0, "The maxSize of @CacheResult must be greater than 0");
+        Assert.isTrue(cacheResult.refreshAhead() >= 0 && cacheResult.refreshAhead() < 1,
+                "The refreshAhead of @CacheResult must be in [0, 1)");
+        long ttlNanos = cacheResult.unit().toNanos(cacheResult.ttl());
+        long refreshNanos = (long) (ttlNanos * cacheResult.refreshAhead());
+        String name = method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+        return new ResultCache(name, ttlNanos, refreshNanos, cacheResult.maxSize(), async);
+    }
+
+    /**
+     * 获取结果
+     * @param args 方法参数
+     * @param loader 实际调用(异步方法返回CompletableFuture)
+     * @param executor 后台刷新线程池(为空时使用ForkJoinPool.commonPool())
+     * @return 方法返回值
+     */
+    public Object get(Object[] args, Supplier<Object> loader, Executor executor) {
+        Key key = new Key(args);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.writeTime < ttlNanos) {
+            hits.increment();
+            entry.accessTime = now;
+            if (refreshNanos > 0 && now - entry.writeTime >= refreshNanos && !loading.containsKey(key)) {
+                this.refresh(key, loader, executor == null ? ForkJoinPool.commonPool() : executor);
+            }
+            return async ? CompletableFuture.completedFuture(entry.value) : entry.value;
+        }
+        misses.increment();
+        CompletableFuture<Object> future = this.load(key, loader);
+        if (async) {
+            return future.thenApply(e -> e);
+        }
+        return join(future);
+    }
+
+    /**
+     * 后台刷新(刷新失败时保留旧值直至过期)
+     */
+    private void refresh(Key key, Supplier<Object> loader, Executor executor) {
+        refreshes.increment();
+        try {
+            executor.execute(() -> this.load(key, loader));
+        }catch (RuntimeException e) {
+            loadFailures.increment();
+        }
+    }
+
+    /**
+     * 加载(相同键只加载一次)
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> load(Key key, Supplier<Object> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loading.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            Object result = loader.get();
+            if (async) {
+                ((CompletableFuture<Object>) result).whenComplete((value, ex) -> this.finish(key, future, value, ex));
+            }else {
+                this.finish(key, future, result, null);
+            }
+        }catch (RuntimeException | Error e) {
+            this.finish(key, future, null, e);
+        }
+        return future;
+    }
+
+    private void finish(Key key, CompletableFuture<Object> future, Object value, Throwable ex) {
+        if (ex == null) {
+            this.put(key, value);
+        }else {
+            loadFailures.increment();
+        }
+        loading.remove(key, future);
+        if (ex == null) {
+            future.complete(value);
+        }else {
+            future.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+        }
+    }
+
+    private void put(Key key, Object value) {
+        writeLock.lock();
+        try {
+            Entry entry = new Entry(value, System.nanoTime());
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                entry.slot = previous.slot;
+                return;
+            }
+            entry.slot = slots.size();
+            slots.add(key);
+            while (entries.size() > maxSize) {
+                this.remove(this.sample());
+                evictions.increment();
+            }
+        }finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 随机采样，返回其中最久未访问的键(数量不超过采样数时即为最久未访问的键，需持有写锁)
+     */
+    private Key sample() {
+        int size = slots.size();
+        if (size <= EVICTION_SAMPLES) {
+            Key eldest = null;
+            for (Key key : slots) {
+                if (eldest == null || entries.get(key).accessTime - entries.get(eldest).accessTime < 0) {
+                    eldest = key;
+                }
+            }
+            return eldest;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Key eldest = slots.get(random.nextInt(size));
+        for (int i = 1; i < EVICTION_SAMPLES; i++) {
+            Key key = slots.get(random.nextInt(size));
+            if (entries.get(key).accessTime - entries.get(eldest).accessTime < 0) {
+                eldest = key;
+            }
+        }
+        return eldest;
+    }
+
+    /**
+     * 移除缓存项，以最后一个键填补其下标(需持有写锁)
+     */
+    private void remove(Key key) {
+        Entry entry = entries.remove(key);
+        Key last = slots.remove(slots.size() - 1);
+        if (entry.slot < slots.size()) {
+            slots.set(entry.slot, last);
+            entries.get(last).slot = entry.slot;
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        }catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EasyHttpException(cause);
+        }
+    }
+
+    public void invalidateAll() {
+        writeLock.lock();
+        try {
+            entries.clear();
+            slots.clear();
+        }finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public ResultCacheStats stats() {
+        return new ResultCacheStats(name, hits.sum(), misses.sum(), refreshes.sum(), loadFailures.sum(), evictions.sum(), this.size());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long writeTime;
+        /**
+         * 最近访问时间(System.nanoTime())
+         */
+        private volatile long accessTime;
+        /**
+         * 在slots中的下标(由写锁保护)
+         */
+        private int slot;
+
+        Entry(Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+            this.accessTime = writeTime;
+        }
+    }
+
+    /**
+     * 参数值键(数组按内容比较)
+     */
+    private static final class Key {
+        private final Object[] args;
+        private final int hash;
+
+        Key(Object[] args) {
+            this.args = args == null ? new Object[0] : args.clone();
+            this.hash = Arrays.deepHashCode(this.args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Key && Arrays.deepEquals(args, ((Key) o).args));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
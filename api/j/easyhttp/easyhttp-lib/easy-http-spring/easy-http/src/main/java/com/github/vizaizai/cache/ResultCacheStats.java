@@ -0,0 +1,82 @@
+package com.github.vizaizai.cache;
+
+/**
+ * 方法结果缓存统计快照
+ * @author liaochongwei
+ * @date 2026/10/17 22:55
+ */
+public class ResultCacheStats {
+    /**
+     * 方法名(接口名#方法名)
+     */
+    private final String name;
+    private final long hits;
+    private final long misses;
+    /**
+     * 后台提前刷新次数
+     */
+    private final long refreshes;
+    /**
+     * 加载失败次数(含后台刷新)
+     */
+    private final long loadFailures;
+    private final long evictions;
+    private final int size;
+
+    ResultCacheStats(String name, long hits, long misses, long refreshes, long loadFailures, long evictions, int size) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.refreshes = refreshes;
+        this.loadFailures = loadFailures;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    public long getLoadFailures() {
+        return loadFailures;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCacheStats{" +
+                "name='" + name + '\'' +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", hitRate=" + String.format("%.4f", getHitRate()) +
+                ", refreshes=" + refreshes +
+                ", loadFailures=" + loadFailures +
+                ", evictions=" + evictions +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -1,10 +1,14 @@
 package com.github.vizaizai.client;
 
+import com.github.vizaizai.buffer.BufferPool;
 import com.github.vizaizai.entity.HttpRequest;
 import com.github.vizaizai.entity.HttpRequestConfig;
 import com.github.vizaizai.entity.HttpResponse;
+import com.github.vizaizai.entity.body.Body;
+import com.github.vizaizai.entity.body.ByteBufferBody;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * @author liaochongwei
@@ -19,10 +23,44 @@ public abstract class AbstractClient {
      */
     public abstract HttpResponse request(HttpRequest request) throws IOException;
 
+    /**
+     * 缓存响应体(可重复读取): 配置了缓冲池时读入池化内存块
+     * @param request HttpRequest
+     * @param in 响应流
+     * @param length 响应体字节数，未知时为-1
+     * @return Body
+     */
+    protected Body bufferBody(HttpRequest request, InputStream in, long length) throws IOException {
+        if (in == null) {
+            return null;
+        }
+        BufferPool bufferPool = request.getBufferPool();
+        if (bufferPool != null) {
+            return bufferPool.read(in, length);
+        }
+        return ByteBufferBody.read(in, length);
+    }
+
+    /**
+     * 本次请求的配置: 请求上的配置 > 客户端默认配置 > 全局默认配置
+     * @param request HttpRequest
+     * @return HttpRequestConfig
+     */
+    protected HttpRequestConfig configOf(HttpRequest request) {
+        if (request.getConfig() != null) {
+            return request.getConfig();
+        }
+        return httpRequestConfig != null ? httpRequestConfig : HttpRequestConfig.defaultConfig();
+    }
+
     public HttpRequestConfig getHttpRequestConfig() {
         return httpRequestConfig;
     }
 
+    /**
+     * 设置客户端默认配置(请求上未携带配置时使用)
+     * @param config HttpRequestConfig
+     */
     public void setConfig(HttpRequestConfig config) {
         this.httpRequestConfig = config;
     }
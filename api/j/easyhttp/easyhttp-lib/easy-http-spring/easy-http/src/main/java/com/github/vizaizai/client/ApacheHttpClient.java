@@ -3,6 +3,11 @@ package com.github.vizaizai.client;
 
 import com.github.vizaizai.client.apache.BodyEntity;
 import com.github.vizaizai.client.apache.HttpDeleteWithBody;
+import com.github.vizaizai.client.apache.InstrumentedConnectionManager;
+import com.github.vizaizai.client.apache.PoolSettings;
+import com.github.vizaizai.client.apache.PoolStats;
+import com.github.vizaizai.client.apache.ResponseContentStream;
+import com.github.vizaizai.entity.Deadline;
 import com.github.vizaizai.entity.HttpMethod;
 import com.github.vizaizai.entity.HttpRequest;
 import com.github.vizaizai.entity.HttpRequestConfig;
@@ -12,6 +17,7 @@ import com.github.vizaizai.entity.body.InputStreamBody;
 import com.github.vizaizai.entity.body.RequestBody;
 import com.github.vizaizai.entity.body.RequestBodyType;
 import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.util.Utils;
 import com.github.vizaizai.util.VUtils;
 import com.github.vizaizai.util.value.HeadersNameValues;
 import com.github.vizaizai.util.value.StringNameValues;
@@ -20,18 +26,23 @@ import org.apache.http.HttpEntity;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.*;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.EntityUtils;
 
 import javax.net.ssl.HostnameVerifier;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -40,55 +51,49 @@ import java.util.List;
  * @date 2020/7/30 17:28
  */
 public class ApacheHttpClient extends AbstractClient {
-    private RequestConfig config;
     private final CloseableHttpClient httpClient;
     private final SSLConnectionSocketFactory sslConnectionSocketFactory;
     private final HostnameVerifier hostnameVerifier;
+    private final PoolSettings poolSettings;
+    private final InstrumentedConnectionManager connectionManager;
 
-    private ApacheHttpClient(SSLConnectionSocketFactory sslConnectionSocketFactory, HostnameVerifier hostnameVerifier) {
+    private ApacheHttpClient(SSLConnectionSocketFactory sslConnectionSocketFactory, HostnameVerifier hostnameVerifier, PoolSettings poolSettings) {
         this.sslConnectionSocketFactory = sslConnectionSocketFactory;
         this.hostnameVerifier = hostnameVerifier;
+        this.poolSettings = poolSettings == null ? new PoolSettings() : poolSettings;
 
-        // SSL
         HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-        if (sslConnectionSocketFactory != null) {
-            httpClientBuilder.setSSLSocketFactory(sslConnectionSocketFactory);
+        // SSL(自定义连接池时HttpClientBuilder上的SSL设置不生效，需注册到连接池)
+        SSLConnectionSocketFactory sslSocketFactory = sslConnectionSocketFactory;
+        if (sslSocketFactory == null) {
+            sslSocketFactory = hostnameVerifier == null ? SSLConnectionSocketFactory.getSocketFactory()
+                    : new SSLConnectionSocketFactory(SSLContexts.createDefault(), hostnameVerifier);
         }
-        if (hostnameVerifier != null) {
-            httpClientBuilder.setSSLHostnameVerifier(hostnameVerifier);
-        }
-        // 创建连接池管理器
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-        // 设置最大连接
-        connectionManager.setMaxTotal(500);
-        // 设置每个主机的最大连接数
-        connectionManager.setDefaultMaxPerRoute(20);
-
+        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build();
+        // 创建连接池管理器(后台关闭过期及空闲超时的连接)
+        this.connectionManager = new InstrumentedConnectionManager(registry, this.poolSettings);
         httpClientBuilder.setConnectionManager(connectionManager);
         this.httpClient  = httpClientBuilder.build();
 
     }
 
     public static ApacheHttpClient getInstance() {
-        return new ApacheHttpClient(null, null);
+        return new ApacheHttpClient(null, null, null);
+    }
+    public static ApacheHttpClient getInstance(PoolSettings poolSettings) {
+        return new ApacheHttpClient(null, null, poolSettings);
     }
     public static ApacheHttpClient getInstance(SSLConnectionSocketFactory sslConnectionSocketFactory) {
-        return new ApacheHttpClient(sslConnectionSocketFactory, null);
+        return new ApacheHttpClient(sslConnectionSocketFactory, null, null);
     }
     public static ApacheHttpClient getInstance(SSLConnectionSocketFactory sslConnectionSocketFactory, HostnameVerifier hostnameVerifier) {
-        return new ApacheHttpClient(sslConnectionSocketFactory, hostnameVerifier);
+        return new ApacheHttpClient(sslConnectionSocketFactory, hostnameVerifier, null);
     }
-
-    @Override
-    public void setConfig(HttpRequestConfig httpConfig) {
-       super.setConfig(httpConfig);
-       if (config == null) {
-           config = RequestConfig.custom()
-                   .setConnectTimeout(httpConfig.getConnectTimeout()) //设置连接超时时间
-                   .setConnectionRequestTimeout(15000) // 获取连接超时时间
-                   .setSocketTimeout(httpConfig.getRequestTimeout()) //请求超时时间
-                   .build();
-       }
+    public static ApacheHttpClient getInstance(SSLConnectionSocketFactory sslConnectionSocketFactory, HostnameVerifier hostnameVerifier, PoolSettings poolSettings) {
+        return new ApacheHttpClient(sslConnectionSocketFactory, hostnameVerifier, poolSettings);
     }
 
     @Override
@@ -98,9 +103,7 @@ public class ApacheHttpClient extends AbstractClient {
         HeadersNameValues headers = request.getHeaders();
         StringNameValues params = request.getParams();
         RequestBodyType bodyType = request.getBody() == null ? null : request.getBody().getType();
-        if (config == null) {
-            throw new EasyHttpException("HttpClient request configuration is null");
-        }
+        RequestConfig config = this.requestConfig(super.configOf(request), request.getDeadline());
         if (method == null) {
             throw new EasyHttpException("HttpClient request method is not supported");
         }
@@ -109,7 +112,7 @@ public class ApacheHttpClient extends AbstractClient {
         if (params != null && !params.isEmpty()) {
             params.forEach(e-> queryParams.add(new BasicNameValuePair(e.getName(), e.getValue())));
         }
-        url = this.convertUrl(url, queryParams, bodyType);
+        url = this.convertUrl(url, queryParams, bodyType, request.getEncoding());
         HttpUriRequest httpUriRequest;
         switch (method) {
             case GET:
@@ -166,7 +169,11 @@ public class ApacheHttpClient extends AbstractClient {
         }
         // 返回数据
         HttpResponse result = new HttpResponse();
-        try (CloseableHttpResponse response = httpClient.execute(httpUriRequest)){
+        request.onCancel(httpUriRequest::abort);
+        CloseableHttpResponse response = httpClient.execute(httpUriRequest);
+        // 流式响应的连接在响应流关闭后释放
+        boolean leased = false;
+        try {
             // 响应头
             Header[] allHeaders = response.getAllHeaders();
             if (allHeaders != null && allHeaders.length > 0) {
@@ -179,31 +186,70 @@ public class ApacheHttpClient extends AbstractClient {
                 result.setHeaders(headersNameValues);
             }
 
+            result.setStatusCode(response.getStatusLine().getStatusCode());
+            result.setMessage(response.getStatusLine().getReasonPhrase());
             HttpEntity httpEntity = response.getEntity();
             if (httpEntity == null) {
                 result.setMessage("Response body is null");
                 return result;
             }
-            result.setBody(InputStreamBody.ofNullable(httpEntity.getContent(),(int) httpEntity.getContentLength()));
-            result.setStatusCode(response.getStatusLine().getStatusCode());
-            result.setMessage(response.getStatusLine().getReasonPhrase());
+            if (request.isStreaming()) {
+                ResponseContentStream content = new ResponseContentStream(httpEntity.getContent(), response);
+                result.setBody(InputStreamBody.streaming(content, httpEntity.getContentLength()));
+                leased = true;
+            }else {
+                result.setBody(this.bufferBody(request, httpEntity.getContent(), httpEntity.getContentLength()));
+            }
+        }finally {
+            if (!leased) {
+                response.close();
+            }
         }
         return result;
 
     }
 
+    /**
+     * 按本次请求的配置创建RequestConfig(不修改客户端状态，共享客户端的各请求可使用不同的超时)
+     * @param httpConfig 请求配置
+     * @param deadline 截止时间(可为空)
+     * @return RequestConfig
+     */
+    private RequestConfig requestConfig(HttpRequestConfig httpConfig, Deadline deadline) {
+        Integer connectionRequestTimeout = httpConfig.getConnectionRequestTimeout();
+        if (connectionRequestTimeout == null) {
+            connectionRequestTimeout = poolSettings.getConnectionRequestTimeout();
+            if (deadline != null) {
+                long remaining = Math.max(deadline.remainingMillis(), 1);
+                connectionRequestTimeout = connectionRequestTimeout == null || connectionRequestTimeout <= 0
+                        ? (int) Math.min(remaining, Integer.MAX_VALUE) : (int) Math.min(connectionRequestTimeout, remaining);
+            }
+        }
+        RequestConfig.Builder builder = RequestConfig.custom();
+        if (httpConfig.getConnectTimeout() != null) {
+            builder.setConnectTimeout(httpConfig.getConnectTimeout()); //设置连接超时时间
+        }
+        if (connectionRequestTimeout != null) {
+            builder.setConnectionRequestTimeout(connectionRequestTimeout); // 获取连接超时时间
+        }
+        if (httpConfig.getRequestTimeout() != null) {
+            builder.setSocketTimeout(httpConfig.getRequestTimeout()); //请求超时时间
+        }
+        return builder.build();
+    }
+
     /**
      * 转化url
      * @param url 原url
      * @param queryParams 待拼接参数
      * @return String
      */
-    private String convertUrl(String url,  List<BasicNameValuePair> queryParams, RequestBodyType bodyType) {
+    private String convertUrl(String url,  List<BasicNameValuePair> queryParams, RequestBodyType bodyType, Charset encoding) {
         if (VUtils.isEmpty(queryParams) || RequestBodyType.X_WWW_FROM_URL_ENCODED.equals(bodyType)) {
             return url;
         }
         try {
-            String urlParam = EntityUtils.toString(new UrlEncodedFormEntity(queryParams, this.getHttpRequestConfig().getEncoding()));
+            String urlParam = EntityUtils.toString(new UrlEncodedFormEntity(queryParams, encoding == null ? Utils.UTF_8 : encoding));
             if (url.contains("?")) {
                 url = url + "&" + urlParam;
             }else {
@@ -232,6 +278,11 @@ public class ApacheHttpClient extends AbstractClient {
         // 文本类型
         if (body.getContent()!= null) {
             Body content = body.getContent();
+            // 流式内容直接写入连接
+            if (content.isStreaming()) {
+                return new BodyEntity(body, request.getEncoding(),
+                        ContentType.create(request.getContentType(), request.getEncoding()).toString());
+            }
             return new InputStreamEntity(content.asInputStream(), content.length(),
                     ContentType.create(request.getContentType(), request.getEncoding()));
         }
@@ -245,4 +296,16 @@ public class ApacheHttpClient extends AbstractClient {
     public HostnameVerifier getHostnameVerifier() {
         return hostnameVerifier;
     }
+
+    public PoolSettings getPoolSettings() {
+        return poolSettings;
+    }
+
+    /**
+     * 连接池统计(使用中/等待中/空闲的连接数及获取连接的等待时间)
+     * @return PoolStats
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getPoolStats();
+    }
 }
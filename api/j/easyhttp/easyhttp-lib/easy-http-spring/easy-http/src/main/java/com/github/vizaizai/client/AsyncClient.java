@@ -0,0 +1,21 @@
+package com.github.vizaizai.client;
+
+import com.github.vizaizai.entity.HttpRequest;
+import com.github.vizaizai.entity.HttpResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 非阻塞客户端: 返回CompletableFuture的方法不再占用线程等待响应，
+ * 解码及后置拦截作为响应完成后的回调执行
+ * @author liaochongwei
+ * @date 2026/10/17 18:10
+ */
+public interface AsyncClient {
+    /**
+     * 异步执行HTTP请求
+     * @param request HttpRequest
+     * @return CompletableFuture&lt;HttpResponse&gt;
+     */
+    CompletableFuture<HttpResponse> requestAsync(HttpRequest request);
+}
@@ -0,0 +1,66 @@
+package com.github.vizaizai.client;
+
+import com.github.vizaizai.entity.body.Body;
+import com.github.vizaizai.entity.body.ByteBufferBody;
+
+import java.net.http.HttpResponse.BodySubscriber;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * 响应体订阅者: 按Content-Length预分配，收到的缓冲区直接写入，完成后包装为ByteBufferBody(不再合并复制)
+ * @author liaochongwei
+ * @date 2026/10/17 19:10
+ */
+class ByteBufferBodySubscriber implements BodySubscriber<Body> {
+    /**
+     * 最大预分配字节数(Content-Length不可信时避免一次性分配过大)
+     */
+    private static final int MAX_PRESIZE = 8 * 1024 * 1024;
+    private static final int DEFAULT_SIZE = 8192;
+    private final CompletableFuture<Body> result = new CompletableFuture<>();
+    private byte[] data;
+    private int count;
+
+    ByteBufferBodySubscriber(long length) {
+        this.data = new byte[length > -1 ? (int) Math.min(length, MAX_PRESIZE) : DEFAULT_SIZE];
+    }
+
+    @Override
+    public CompletionStage<Body> getBody() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        for (ByteBuffer item : items) {
+            int n = item.remaining();
+            if (count + n > data.length) {
+                data = Arrays.copyOf(data, Math.max(count + n, data.length << 1));
+            }
+            item.get(data, count, n);
+            count += n;
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        data = null;
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        result.complete(ByteBufferBody.wrap(data, 0, count));
+        data = null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.vizaizai.client;
+
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 直接发布已有缓冲区的BodyPublisher(不复制)，每次订阅使用独立视图，可重复发送
+ * @author liaochongwei
+ * @date 2026/10/17 19:05
+ */
+class ByteBufferPublisher implements BodyPublisher {
+    private final ByteBuffer[] buffers;
+    private final long length;
+
+    ByteBufferPublisher(ByteBuffer... buffers) {
+        this.buffers = buffers;
+        long total = 0;
+        for (ByteBuffer buffer : buffers) {
+            total += buffer.remaining();
+        }
+        this.length = total;
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new BufferSubscription(subscriber, buffers));
+    }
+
+    private static class BufferSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final ByteBuffer[] buffers;
+        private final AtomicLong demand = new AtomicLong();
+        /**
+         * 防止onNext中再次request()造成重入
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private int index;
+
+        BufferSubscription(Flow.Subscriber<? super ByteBuffer> subscriber, ByteBuffer[] buffers) {
+            this.subscriber = subscriber;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                cancelled = true;
+                subscriber.onError(new IllegalArgumentException("non-positive subscription request: " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (!cancelled && index < buffers.length && demand.get() > 0) {
+                    ByteBuffer buffer = buffers[index++].duplicate();
+                    demand.decrementAndGet();
+                    subscriber.onNext(buffer);
+                }
+                if (!cancelled && index == buffers.length) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                }
+                missed = wip.addAndGet(-missed);
+            }while (missed != 0);
+        }
+    }
+}
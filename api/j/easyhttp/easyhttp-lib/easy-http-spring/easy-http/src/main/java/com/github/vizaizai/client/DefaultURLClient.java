@@ -7,7 +7,6 @@ import com.github.vizaizai.entity.HttpResponse;
 import com.github.vizaizai.entity.body.InputStreamBody;
 import com.github.vizaizai.entity.body.RequestBody;
 import com.github.vizaizai.entity.body.RequestBodyType;
-import com.github.vizaizai.util.Utils;
 import com.github.vizaizai.util.VUtils;
 import com.github.vizaizai.util.value.HeadersNameValues;
 import com.github.vizaizai.util.value.NameValue;
@@ -17,6 +16,7 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLSocketFactory;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
@@ -55,7 +55,7 @@ public class DefaultURLClient extends AbstractClient{
 
     @Override
     public HttpResponse request(HttpRequest request) throws IOException{
-        HttpRequestConfig config = super.getHttpRequestConfig();
+        HttpRequestConfig config = super.configOf(request);
 
         Entity entity = new Entity(request);
         HeadersNameValues headers = new HeadersNameValues();
@@ -65,6 +65,7 @@ public class DefaultURLClient extends AbstractClient{
         final HttpURLConnection connection;
         url = new URL(entity.url);
         connection = (HttpURLConnection) url.openConnection();
+        request.onCancel(connection::disconnect);
         // ssl
         if (connection instanceof HttpsURLConnection) {
             HttpsURLConnection sslConnection = (HttpsURLConnection) connection;
@@ -83,7 +84,13 @@ public class DefaultURLClient extends AbstractClient{
         connection.setInstanceFollowRedirects(false);
         // 不支持PATCH请求
         connection.setRequestMethod(request.getMethod().name());
-        connection.setChunkedStreamingMode(8192);
+        // 长度已知时直接按Content-Length流式写出，否则chunked
+        long length = entity.body == null ? -1 : entity.body.length(request.getEncoding());
+        if (length > -1) {
+            connection.setFixedLengthStreamingMode(length);
+        }else {
+            connection.setChunkedStreamingMode(8192);
+        }
 
         for (NameValue<String,String> nameValue : headers) {
             connection.addRequestProperty(nameValue.getName(), nameValue.getValue());
@@ -94,17 +101,19 @@ public class DefaultURLClient extends AbstractClient{
                 entity.body.writeTo(out, request.getEncoding());
             }
         }
-        return this.convertResponse(connection);
+        return this.convertResponse(connection, request);
 
     }
 
     /**
      * 转化为HttpResponse
      * @param connection
+     * @param request 请求
      * @return HttpResponse
      * @throws IOException
      */
-    private HttpResponse convertResponse(HttpURLConnection connection) throws IOException {
+    private HttpResponse convertResponse(HttpURLConnection connection, HttpRequest request) throws IOException {
+        boolean streaming = request.isStreaming();
 
         HttpResponse response = new HttpResponse();
         int status = connection.getResponseCode();
@@ -128,10 +137,12 @@ public class DefaultURLClient extends AbstractClient{
             response.setHeaders(headersNameValues);
         }
 
-        if (status >= 400) {
-            response.setBody(InputStreamBody.ofNullable(connection.getErrorStream(), connection.getContentLength()));
+        // 流式响应不缓存响应体，关闭流后连接归还keep-alive缓存
+        InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        if (streaming) {
+            response.setBody(InputStreamBody.streaming(in, connection.getContentLengthLong()));
         } else {
-            response.setBody(InputStreamBody.ofNullable(connection.getInputStream(), connection.getContentLength()));
+            response.setBody(this.bufferBody(request, in, connection.getContentLengthLong()));
         }
 
         return response;
@@ -149,9 +160,6 @@ public class DefaultURLClient extends AbstractClient{
         if (request.getContentType() != null) {
             headers.add(CONTENT_TYPE, request.getContentType());
         }
-        if (request.getContentType() != null && request.getBody() != null) {
-            headers.add(CONTENT_LENGTH, Utils.toString(request.getBody().length(request.getEncoding())));
-        }
         if (request.getHeaders().getHeaders(ACCEPT).isEmpty()) {
             headers.add(ACCEPT,"*/*");
         }
@@ -0,0 +1,263 @@
+package com.github.vizaizai.client;
+
+import com.github.vizaizai.buffer.PooledBody;
+import com.github.vizaizai.entity.HttpRequest;
+import com.github.vizaizai.entity.HttpRequestConfig;
+import com.github.vizaizai.entity.HttpResponse;
+import com.github.vizaizai.entity.body.Body;
+import com.github.vizaizai.entity.body.ByteArrayBody;
+import com.github.vizaizai.entity.body.ByteBufferBody;
+import com.github.vizaizai.entity.body.InputStreamBody;
+import com.github.vizaizai.entity.body.JacksonBody;
+import com.github.vizaizai.entity.body.RequestBody;
+import com.github.vizaizai.entity.body.RequestBodyType;
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.util.Utils;
+import com.github.vizaizai.util.VUtils;
+import com.github.vizaizai.util.value.HeadersNameValues;
+import com.github.vizaizai.util.value.NameValue;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.vizaizai.util.Utils.ACCEPT;
+import static com.github.vizaizai.util.Utils.CONTENT_TYPE;
+
+/**
+ * 基于java.net.http.HttpClient的客户端(支持非阻塞异步请求)。
+ * 默认使用HTTP/2: https经ALPN协商，http通过h2c升级，服务端不支持时回退HTTP/1.1；
+ * 同一主机的并发请求在少量连接上多路复用，不受连接池每路由上限约束
+ * @author liaochongwei
+ * @date 2026/10/17 18:15
+ */
+public class JdkHttpClient extends AbstractClient implements AsyncClient {
+    /**
+     * HttpClient不允许手动设置的请求头
+     */
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    static {
+        RESTRICTED_HEADERS.add("connection");
+        RESTRICTED_HEADERS.add("content-length");
+        RESTRICTED_HEADERS.add("expect");
+        RESTRICTED_HEADERS.add("host");
+        RESTRICTED_HEADERS.add("upgrade");
+    }
+    /**
+     * 响应体收集为ByteBufferBody(按Content-Length预分配)
+     */
+    private static final BodyHandler<Body> BODY_HANDLER = info ->
+            new ByteBufferBodySubscriber(info.headers().firstValueAsLong(Utils.CONTENT_LENGTH).orElse(-1));
+    private final HttpClient httpClient;
+
+    private JdkHttpClient(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public static JdkHttpClient getInstance() {
+        return getInstance(defaultBuilder().build());
+    }
+
+    public static JdkHttpClient getInstance(SSLContext sslContext) {
+        return getInstance(defaultBuilder().sslContext(sslContext).build());
+    }
+
+    /**
+     * 指定协议版本
+     * @param version HTTP_2(默认)或HTTP_1_1
+     * @return JdkHttpClient
+     */
+    public static JdkHttpClient getInstance(HttpClient.Version version) {
+        return getInstance(defaultBuilder().version(version).build());
+    }
+
+    public static JdkHttpClient getInstance(HttpClient httpClient) {
+        return new JdkHttpClient(httpClient);
+    }
+
+    private static HttpClient.Builder defaultBuilder() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofMillis(HttpRequestConfig.defaultConfig().getConnectTimeout()));
+    }
+
+    @Override
+    public HttpResponse request(HttpRequest request) throws IOException {
+        java.net.http.HttpRequest httpRequest = this.convertRequest(request);
+        // 未配置缓冲池时响应体直接收集为ByteBufferBody
+        if (!request.isStreaming() && request.getBufferPool() == null) {
+            java.net.http.HttpResponse<Body> response = this.send(httpRequest, BODY_HANDLER);
+            HttpResponse result = this.convertResponse(response);
+            result.setBody(response.body());
+            return result;
+        }
+        java.net.http.HttpResponse<InputStream> response = this.send(httpRequest, BodyHandlers.ofInputStream());
+        HttpResponse result = this.convertResponse(response);
+        long length = response.headers().firstValueAsLong(Utils.CONTENT_LENGTH).orElse(-1);
+        if (request.isStreaming()) {
+            result.setBody(InputStreamBody.streaming(response.body(), length));
+        }else {
+            result.setBody(this.bufferBody(request, response.body(), length));
+        }
+        return result;
+    }
+
+    private <T> java.net.http.HttpResponse<T> send(java.net.http.HttpRequest httpRequest, BodyHandler<T> bodyHandler) throws IOException {
+        try {
+            return httpClient.send(httpRequest, bodyHandler);
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> requestAsync(HttpRequest request) {
+        java.net.http.HttpRequest httpRequest;
+        try {
+            httpRequest = this.convertRequest(request);
+        }catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        // 流式响应在响应头到达后即完成，响应体由调用方读取
+        if (request.isStreaming()) {
+            CompletableFuture<java.net.http.HttpResponse<InputStream>> sent = httpClient.sendAsync(httpRequest, BodyHandlers.ofInputStream());
+            // 取消时中止交换(释放连接/流)
+            request.onCancel(() -> sent.cancel(true));
+            return sent.thenApply(response -> {
+                HttpResponse result = this.convertResponse(response);
+                long length = response.headers().firstValueAsLong(Utils.CONTENT_LENGTH).orElse(-1);
+                result.setBody(InputStreamBody.streaming(response.body(), length));
+                return result;
+            });
+        }
+        CompletableFuture<java.net.http.HttpResponse<Body>> sent = httpClient.sendAsync(httpRequest, BODY_HANDLER);
+        request.onCancel(() -> sent.cancel(true));
+        return sent.thenApply(response -> {
+            HttpResponse result = this.convertResponse(response);
+            result.setBody(response.body());
+            return result;
+        });
+    }
+
+    /**
+     * 转化为java.net.http.HttpRequest
+     */
+    private java.net.http.HttpRequest convertRequest(HttpRequest request) {
+        if (request.getMethod() == null) {
+            throw new EasyHttpException("HttpClient request method is not supported");
+        }
+        HttpRequestConfig config = super.configOf(request);
+        Charset encoding = request.getEncoding() == null ? Utils.UTF_8 : request.getEncoding();
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder()
+                .uri(URI.create(this.convertUrl(request, encoding)))
+                .method(request.getMethod().name(), publisher(request.getBody(), encoding));
+        if (config.getRequestTimeout() != null && config.getRequestTimeout() > 0) {
+            builder.timeout(Duration.ofMillis(config.getRequestTimeout()));
+        }
+        HeadersNameValues headers = request.getHeaders();
+        if (VUtils.isNotEmpty(headers)) {
+            for (NameValue<String, String> nameValue : headers) {
+                if (nameValue.getName() != null && nameValue.getValue() != null
+                        && !RESTRICTED_HEADERS.contains(nameValue.getName())) {
+                    builder.header(nameValue.getName(), nameValue.getValue());
+                }
+            }
+        }
+        if (request.getContentType() != null && (headers == null || headers.getHeaders(CONTENT_TYPE).isEmpty())) {
+            builder.header(CONTENT_TYPE, request.getContentType());
+        }
+        if (headers == null || headers.getHeaders(ACCEPT).isEmpty()) {
+            builder.header(ACCEPT, "*/*");
+        }
+        return builder.build();
+    }
+
+    /**
+     * 拼接查询参数(x-www-form-urlencoded的参数已在请求体中)
+     */
+    private String convertUrl(HttpRequest request, Charset encoding) {
+        String url = request.getUrl();
+        RequestBodyType bodyType = request.getBody() == null ? null : request.getBody().getType();
+        if (RequestBodyType.X_WWW_FROM_URL_ENCODED.equals(bodyType)) {
+            return url;
+        }
+        String urlParams = Utils.asUrlEncoded(request.getParams(), encoding.name());
+        if (urlParams == null) {
+            return url;
+        }
+        return url.contains("?") ? url + "&" + urlParams : url + "?" + urlParams;
+    }
+
+    /**
+     * 请求体发布器: 内存中的请求体直接发布其缓冲区(不复制)；
+     * 其余按输入流发送，长度已知时按Content-Length发送，否则chunked
+     */
+    private static BodyPublisher publisher(RequestBody body, Charset encoding) {
+        if (body == null || RequestBodyType.NONE.equals(body.getType())) {
+            return BodyPublishers.noBody();
+        }
+        Body content = body.getContent();
+        if (content instanceof ByteBufferBody) {
+            return new ByteBufferPublisher(((ByteBufferBody) content).asByteBuffer());
+        }
+        if (content instanceof ByteArrayBody) {
+            return new ByteBufferPublisher(((ByteArrayBody) content).asByteBuffer());
+        }
+        if (content instanceof JacksonBody) {
+            return new ByteBufferPublisher(((JacksonBody) content).asByteBuffer());
+        }
+        if (content instanceof PooledBody) {
+            return new ByteBufferPublisher(((PooledBody) content).asByteBuffers());
+        }
+        long length = body.length(encoding);
+        BodyPublisher publisher = BodyPublishers.ofInputStream(() -> {
+            try {
+                return body.getInputStream(encoding);
+            }catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return length > -1 ? BodyPublishers.fromPublisher(publisher, length) : publisher;
+    }
+
+    /**
+     * 转化为HttpResponse(不含响应体)
+     */
+    private HttpResponse convertResponse(java.net.http.HttpResponse<?> response) {
+        HttpResponse result = new HttpResponse();
+        result.setStatusCode(response.statusCode());
+        HttpHeaders httpHeaders = response.headers();
+        if (!httpHeaders.map().isEmpty()) {
+            HeadersNameValues headersNameValues = new HeadersNameValues();
+            for (Map.Entry<String, List<String>> entry : httpHeaders.map().entrySet()) {
+                if (entry.getKey() != null && !entry.getKey().startsWith(":")) {
+                    headersNameValues.addHeaders(entry.getKey(), entry.getValue());
+                }
+            }
+            result.setHeaders(headersNameValues);
+        }
+        return result;
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+}
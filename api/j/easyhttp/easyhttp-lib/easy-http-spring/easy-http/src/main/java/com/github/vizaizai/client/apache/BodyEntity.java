@@ -25,11 +25,12 @@ public class BodyEntity extends AbstractHttpEntity {
 
     @Override
     public boolean isRepeatable() {
-        return false;
+        return requestBody.isRepeatable(charset);
     }
 
     @Override
     public long getContentLength() {
+        // -1时使用chunked传输
         return requestBody.length(this.charset);
     }
 
@@ -45,6 +46,6 @@ public class BodyEntity extends AbstractHttpEntity {
 
     @Override
     public boolean isStreaming() {
-        return false;
+        return !this.isRepeatable();
     }
 }
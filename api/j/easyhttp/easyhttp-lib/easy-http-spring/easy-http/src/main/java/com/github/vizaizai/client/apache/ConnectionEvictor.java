@@ -0,0 +1,53 @@
+package com.github.vizaizai.client.apache;
+
+import org.apache.http.conn.HttpClientConnectionManager;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 后台连接清理: 所有连接池共用一个守护线程，定时关闭过期及空闲超时的连接(连接池被回收后自动停止)
+ * @author liaochongwei
+ * @date 2026/10/18 09:50
+ */
+class ConnectionEvictor {
+    private static final long MAX_INTERVAL = 5000;
+    private static final long MIN_INTERVAL = 100;
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "easy-http-connection-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ConnectionEvictor() {
+    }
+
+    /**
+     * 注册连接池
+     * @param manager 连接池
+     * @param maxIdleTime 空闲连接最大保留时间(ms)，小于等于0只关闭过期连接
+     */
+    static void register(HttpClientConnectionManager manager, long maxIdleTime) {
+        WeakReference<HttpClientConnectionManager> reference = new WeakReference<>(manager);
+        long interval = maxIdleTime > 0 ? Math.max(MIN_INTERVAL, Math.min(MAX_INTERVAL, maxIdleTime / 2)) : MAX_INTERVAL;
+        AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+        task.set(SCHEDULER.scheduleWithFixedDelay(() -> {
+            HttpClientConnectionManager target = reference.get();
+            if (target == null) {
+                ScheduledFuture<?> future = task.get();
+                if (future != null) {
+                    future.cancel(false);
+                }
+                return;
+            }
+            target.closeExpiredConnections();
+            if (maxIdleTime > 0) {
+                target.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS));
+    }
+}
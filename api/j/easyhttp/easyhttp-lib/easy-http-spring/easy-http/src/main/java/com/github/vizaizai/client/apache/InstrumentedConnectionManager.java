@@ -0,0 +1,93 @@
+package com.github.vizaizai.client.apache;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 记录获取连接等待时间的连接池管理器(创建后由ConnectionEvictor定时清理)
+ * @author liaochongwei
+ * @date 2026/10/18 09:40
+ */
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+    private final LeaseWaitHistogram.Recorder leaseWait = new LeaseWaitHistogram.Recorder();
+
+    public InstrumentedConnectionManager(Registry<ConnectionSocketFactory> registry, PoolSettings settings) {
+        super(registry, null, null, null,
+                settings.getTimeToLive() == null ? -1 : settings.getTimeToLive(), TimeUnit.MILLISECONDS);
+        if (settings.getMaxTotal() != null) {
+            this.setMaxTotal(settings.getMaxTotal());
+        }
+        if (settings.getDefaultMaxPerRoute() != null) {
+            this.setDefaultMaxPerRoute(settings.getDefaultMaxPerRoute());
+        }
+        if (settings.getMaxPerRoute() != null) {
+            settings.getMaxPerRoute().forEach((host, max) -> this.setMaxPerRoute(route(host), max));
+        }
+        if (settings.getValidateAfterInactivity() != null) {
+            this.setValidateAfterInactivity(settings.getValidateAfterInactivity());
+        }
+        ConnectionEvictor.register(this, settings.getMaxIdleTime() == null ? -1 : settings.getMaxIdleTime());
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ConnectionRequest request = super.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                boolean timedOut = false;
+                try {
+                    return request.get(timeout, unit);
+                }catch (ConnectionPoolTimeoutException e) {
+                    timedOut = true;
+                    throw e;
+                }finally {
+                    leaseWait.record(System.nanoTime() - start, timedOut);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    /**
+     * 连接池统计
+     * @return PoolStats
+     */
+    public PoolStats getPoolStats() {
+        Map<String, PoolStats.Route> routes = new LinkedHashMap<>();
+        for (HttpRoute route : this.getRoutes()) {
+            routes.put(route.getTargetHost().toURI(), new PoolStats.Route(this.getStats(route)));
+        }
+        return new PoolStats(new PoolStats.Route(this.getTotalStats()), routes, leaseWait.snapshot());
+    }
+
+    /**
+     * 解析主机配置为路由(未指定端口时按协议默认端口，与请求时的路由一致)
+     * @param host host:port或scheme://host:port
+     * @return HttpRoute
+     */
+    static HttpRoute route(String host) {
+        HttpHost httpHost = HttpHost.create(host);
+        boolean secure = "https".equalsIgnoreCase(httpHost.getSchemeName());
+        if (httpHost.getPort() < 0) {
+            httpHost = new HttpHost(httpHost.getHostName(), secure ? 443 : 80, httpHost.getSchemeName());
+        }
+        return new HttpRoute(httpHost, null, secure);
+    }
+}
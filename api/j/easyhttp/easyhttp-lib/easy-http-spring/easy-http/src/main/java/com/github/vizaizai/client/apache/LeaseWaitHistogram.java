@@ -0,0 +1,143 @@
+package com.github.vizaizai.client.apache;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 从连接池获取连接的等待时间直方图(快照)
+ * @author liaochongwei
+ * @date 2026/10/18 09:20
+ */
+public class LeaseWaitHistogram {
+    /**
+     * 各区间的上界(ms)，最后一个区间无上界
+     */
+    private static final long[] BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+    private final long[] counts;
+    private final long count;
+    private final long timeouts;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    private LeaseWaitHistogram(long[] counts, long timeouts, long totalNanos, long maxNanos) {
+        this.counts = counts;
+        this.count = Arrays.stream(counts).sum();
+        this.timeouts = timeouts;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @return 各区间的上界(ms)
+     */
+    public long[] getBounds() {
+        return BOUNDS.clone();
+    }
+
+    /**
+     * @return 各区间的次数(比上界多一项，最后一项为超过最大上界的次数)
+     */
+    public long[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * @return 获取连接次数(含超时)
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return 获取连接超时次数
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * @return 平均等待时间(ms)
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) totalNanos / count / 1000_000;
+    }
+
+    /**
+     * @return 最大等待时间(ms)
+     */
+    public double getMax() {
+        return maxNanos / 1000_000d;
+    }
+
+    /**
+     * 分位数(按区间上界估算，落在最后一个区间时返回最大等待时间)
+     * @param quantile 0~1
+     * @return 等待时间(ms)
+     */
+    public double getPercentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < BOUNDS.length; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(rank, 1)) {
+                return Math.min(BOUNDS[i], getMax());
+            }
+        }
+        return getMax();
+    }
+
+    @Override
+    public String toString() {
+        return "LeaseWaitHistogram{" +
+                "count=" + count +
+                ", timeouts=" + timeouts +
+                ", mean=" + String.format("%.3f", getMean()) +
+                "ms, p50=" + String.format("%.3f", getPercentile(0.5)) +
+                "ms, p99=" + String.format("%.3f", getPercentile(0.99)) +
+                "ms, max=" + String.format("%.3f", getMax()) +
+                "ms}";
+    }
+
+    /**
+     * 记录器
+     */
+    static class Recorder {
+        private final LongAdder[] counts = new LongAdder[BOUNDS.length + 1];
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Recorder() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos, boolean timeout) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int index = 0;
+            while (index < BOUNDS.length && millis >= BOUNDS[index]) {
+                index++;
+            }
+            counts[index].increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (timeout) {
+                timeouts.increment();
+            }
+        }
+
+        LeaseWaitHistogram snapshot() {
+            long[] snapshot = new long[counts.length];
+            for (int i = 0; i < counts.length; i++) {
+                snapshot[i] = counts[i].sum();
+            }
+            return new LeaseWaitHistogram(snapshot, timeouts.sum(), totalNanos.sum(), maxNanos.get());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.vizaizai.client.apache;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 连接池统计快照
+ * @author liaochongwei
+ * @date 2026/10/18 09:30
+ */
+public class PoolStats {
+    /**
+     * 全部路由的合计
+     */
+    private final Route total;
+    /**
+     * 各路由(scheme://host:port)的统计
+     */
+    private final Map<String, Route> routes;
+    /**
+     * 获取连接的等待时间
+     */
+    private final LeaseWaitHistogram leaseWait;
+
+    PoolStats(Route total, Map<String, Route> routes, LeaseWaitHistogram leaseWait) {
+        this.total = total;
+        this.routes = Collections.unmodifiableMap(routes);
+        this.leaseWait = leaseWait;
+    }
+
+    public Route getTotal() {
+        return total;
+    }
+
+    public Map<String, Route> getRoutes() {
+        return routes;
+    }
+
+    public LeaseWaitHistogram getLeaseWait() {
+        return leaseWait;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{" +
+                "total=" + total +
+                ", routes=" + routes +
+                ", leaseWait=" + leaseWait +
+                '}';
+    }
+
+    /**
+     * 路由统计
+     */
+    public static class Route {
+        /**
+         * 使用中的连接数
+         */
+        private final int leased;
+        /**
+         * 等待获取连接的请求数
+         */
+        private final int pending;
+        /**
+         * 空闲可用的连接数
+         */
+        private final int available;
+        /**
+         * 最大连接数
+         */
+        private final int max;
+
+        Route(org.apache.http.pool.PoolStats stats) {
+            this.leased = stats.getLeased();
+            this.pending = stats.getPending();
+            this.available = stats.getAvailable();
+            this.max = stats.getMax();
+        }
+
+        public int getLeased() {
+            return leased;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+
+        public int getAvailable() {
+            return available;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return "{leased=" + leased + ", pending=" + pending + ", available=" + available + ", max=" + max + '}';
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.vizaizai.client.apache;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 流式响应内容: 读取到末尾时连接自动归还连接池，提前关闭时中断连接(不再读取剩余内容)
+ * @author liaochongwei
+ * @date 2026/10/17 14:36
+ */
+public class ResponseContentStream extends FilterInputStream {
+    private final CloseableHttpResponse response;
+
+    public ResponseContentStream(InputStream content, CloseableHttpResponse response) {
+        super(content);
+        this.response = response;
+    }
+
+    @Override
+    public void close() throws IOException {
+        response.close();
+    }
+}
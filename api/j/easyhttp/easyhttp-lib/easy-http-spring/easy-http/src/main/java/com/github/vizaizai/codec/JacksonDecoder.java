@@ -1,16 +1,21 @@
 package com.github.vizaizai.codec;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.github.vizaizai.entity.HttpResponse;
+import com.github.vizaizai.entity.body.Body;
 import com.github.vizaizai.exception.CodecException;
+import com.github.vizaizai.util.Utils;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 默认解码器
@@ -20,6 +25,10 @@ import java.util.Collections;
 public class JacksonDecoder implements Decoder {
 
     private final ObjectMapper mapper;
+    /**
+     * 按类型缓存的ObjectReader
+     */
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
 
     public JacksonDecoder() {
         this(Collections.<Module>emptyList());
@@ -36,23 +45,35 @@ public class JacksonDecoder implements Decoder {
 
     @Override
     public Object decode(HttpResponse response, Type type) {
-        if (response.getBody() == null) {
+        Body body = response.getBody();
+        if (body == null || body.length() == 0) {
             return null;
         }
-        try {
-            Reader reader = response.getBody().asReader(this.encoding());
-            if (!reader.markSupported()) {
-                reader = new BufferedReader(reader, 1);
-            }
-            reader.mark(1);
-            if (reader.read() == -1) {
+        ObjectReader reader = this.readerFor(type);
+        Charset charset = this.encoding();
+        // UTF-8直接按字节解析，其它编码走字符流
+        try (JsonParser parser = Utils.UTF_8.equals(charset) ? reader.createParser(body.asInputStream())
+                                                              : reader.createParser(body.asReader(charset))) {
+            if (parser.nextToken() == null) {
                 return null; // Eagerly returning null avoids "No content to map due to end-of-input"
             }
-            reader.reset();
-            return mapper.readValue(reader, mapper.constructType(type));
+            return reader.readValue(parser);
         } catch (IOException e) {
             throw new CodecException(e);
         }
     }
 
+    /**
+     * 获取类型对应的ObjectReader
+     * @param type 类型
+     * @return ObjectReader
+     */
+    private ObjectReader readerFor(Type type) {
+        ObjectReader reader = readers.get(type);
+        if (reader != null) {
+            return reader;
+        }
+        return readers.computeIfAbsent(type, k -> mapper.readerFor(mapper.constructType(k)));
+    }
+
 }
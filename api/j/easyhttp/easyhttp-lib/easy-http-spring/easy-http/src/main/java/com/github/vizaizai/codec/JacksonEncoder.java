@@ -1,20 +1,18 @@
 package com.github.vizaizai.codec;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.github.vizaizai.exception.CodecException;
 import com.github.vizaizai.entity.body.Body;
-import com.github.vizaizai.entity.body.ByteArrayBody;
-import com.github.vizaizai.util.Utils;
+import com.github.vizaizai.entity.body.JacksonBody;
 
 import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 默认编码
@@ -23,21 +21,50 @@ import java.util.Collections;
  */
 public class JacksonEncoder implements Encoder {
     private final ObjectMapper mapper;
+    /**
+     * 是否流式写出请求体(chunked，不确定Content-Length)
+     */
+    private final boolean streaming;
+    /**
+     * 按类型缓存的ObjectWriter
+     */
+    private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
 
     public JacksonEncoder() {
         this(Collections.<Module>emptyList());
     }
 
     public JacksonEncoder(Iterable<Module> modules) {
-        this(new ObjectMapper()
-                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
-                .configure(SerializationFeature.INDENT_OUTPUT, true)
-                .setDefaultPrettyPrinter(new MinimalPrettyPrinter()) // 最小输出
-                .registerModules(modules));
+        this(defaultMapper(modules));
     }
 
     public JacksonEncoder(ObjectMapper mapper) {
+        this(mapper, false);
+    }
+
+    /**
+     * @param mapper ObjectMapper
+     * @param streaming 是否流式写出请求体: 开启后发送时直接序列化到连接输出流(chunked)，适合大对象
+     */
+    public JacksonEncoder(ObjectMapper mapper, boolean streaming) {
         this.mapper = mapper;
+        this.streaming = streaming;
+    }
+
+    /**
+     * 默认配置，请求体流式写出(chunked)
+     * @return JacksonEncoder
+     */
+    public static JacksonEncoder streaming() {
+        return new JacksonEncoder(defaultMapper(Collections.<Module>emptyList()), true);
+    }
+
+    private static ObjectMapper defaultMapper(Iterable<Module> modules) {
+        return new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(SerializationFeature.INDENT_OUTPUT, true)
+                .setDefaultPrettyPrinter(new MinimalPrettyPrinter()) // 最小输出
+                .registerModules(modules);
     }
 
     @Override
@@ -45,11 +72,19 @@ public class JacksonEncoder implements Encoder {
         if (object == null) {
             return null;
         }
-        JavaType javaType = mapper.getTypeFactory().constructType(bodyType);
-        try {
-            return ByteArrayBody.ofNullable(mapper.writerFor(javaType).writeValueAsString(object).getBytes(Utils.UTF_8));
-        }catch (JsonProcessingException e) {
-            throw new CodecException(e);
+        return JacksonBody.ofNullable(this.writerFor(bodyType), object, streaming);
+    }
+
+    /**
+     * 获取类型对应的ObjectWriter
+     * @param type 类型
+     * @return ObjectWriter
+     */
+    private ObjectWriter writerFor(Type type) {
+        ObjectWriter writer = writers.get(type);
+        if (writer != null) {
+            return writer;
         }
+        return writers.computeIfAbsent(type, k -> mapper.writerFor(mapper.constructType(k)));
     }
 }
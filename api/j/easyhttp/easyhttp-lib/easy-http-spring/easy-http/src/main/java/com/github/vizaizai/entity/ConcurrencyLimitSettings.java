@@ -0,0 +1,100 @@
+package com.github.vizaizai.entity;
+
+import com.github.vizaizai.annotation.ConcurrencyLimit;
+
+/**
+ * 并发限制设置
+ * @author liaochongwei
+ * @date 2026/10/18 22:50
+ */
+public class ConcurrencyLimitSettings {
+    public enum Algorithm {
+        /**
+         * 固定上限
+         */
+        FIXED,
+        /**
+         * 加性增乘性减
+         */
+        AIMD,
+        /**
+         * 按延迟梯度调整(类Vegas)
+         */
+        GRADIENT
+    }
+    /**
+     * 是否开启
+     */
+    private Boolean enable;
+    /**
+     * 算法
+     */
+    private Algorithm algorithm = Algorithm.FIXED;
+    /**
+     * 并发上限(自适应算法的初始上限)
+     */
+    private Integer limit = 20;
+    /**
+     * 自适应算法的最小上限
+     */
+    private Integer minLimit = 1;
+    /**
+     * 自适应算法的最大上限
+     */
+    private Integer maxLimit = 200;
+
+    /**
+     * 注解上的设置
+     * @param annotation @ConcurrencyLimit
+     * @return ConcurrencyLimitSettings(value不大于0时为不开启)
+     */
+    public static ConcurrencyLimitSettings of(ConcurrencyLimit annotation) {
+        ConcurrencyLimitSettings settings = new ConcurrencyLimitSettings();
+        settings.setEnable(annotation.value() > 0);
+        settings.setAlgorithm(annotation.algorithm());
+        settings.setLimit(annotation.value());
+        settings.setMinLimit(annotation.minLimit());
+        settings.setMaxLimit(annotation.maxLimit());
+        return settings;
+    }
+
+    public Boolean getEnable() {
+        return enable;
+    }
+
+    public void setEnable(Boolean enable) {
+        this.enable = enable;
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public Integer getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(Integer minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public Integer getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(Integer maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+}
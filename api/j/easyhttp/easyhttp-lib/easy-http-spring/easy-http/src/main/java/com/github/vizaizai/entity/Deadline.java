@@ -0,0 +1,109 @@
+package com.github.vizaizai.entity;
+
+import com.github.vizaizai.util.Assert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 截止时间: 一次调用(含重试)的总时间预算。
+ * 可通过@Timeout(total)、方法参数或当前线程上下文(Deadline.with)指定，同时存在时取最早的
+ * @author liaochongwei
+ * @date 2026/10/18 12:00
+ */
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    /**
+     * 截止时间(System.nanoTime)
+     */
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 从现在起经过指定时间后截止
+     * @param duration 时长
+     * @param unit 单位
+     * @return Deadline
+     */
+    public static Deadline after(long duration, TimeUnit unit) {
+        Assert.notNull(unit, "unit must be not null");
+        return new Deadline(System.nanoTime() + unit.toNanos(duration));
+    }
+
+    public static Deadline afterMillis(long millis) {
+        return after(millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 当前线程上下文中的截止时间
+     * @return Deadline(未设置时为null)
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 在截止时间上下文中执行(已存在上下文时取较早的)，期间发起的请求共享同一预算
+     * @param deadline 截止时间
+     * @param supplier 执行内容
+     * @return 执行结果
+     */
+    public static <T> T with(Deadline deadline, Supplier<T> supplier) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(earliest(previous, deadline));
+        try {
+            return supplier.get();
+        }finally {
+            if (previous == null) {
+                CURRENT.remove();
+            }else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void with(Deadline deadline, Runnable runnable) {
+        with(deadline, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * 取较早的截止时间(可为null)
+     */
+    public static Deadline earliest(Deadline a, Deadline b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.deadlineNanos - b.deadlineNanos <= 0 ? a : b;
+    }
+
+    /**
+     * 剩余时间
+     * @param unit 单位
+     * @return 剩余时间(已过期时小于等于0)
+     */
+    public long remaining(TimeUnit unit) {
+        return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    public long remainingMillis() {
+        return this.remaining(TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + this.remainingMillis() + "ms}";
+    }
+}
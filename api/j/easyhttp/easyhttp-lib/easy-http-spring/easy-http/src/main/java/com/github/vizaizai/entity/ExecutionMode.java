@@ -0,0 +1,17 @@
+package com.github.vizaizai.entity;
+
+/**
+ * 执行模式: 决定返回CompletableFuture的方法(阻塞客户端)在哪类线程上执行请求
+ * @author liaochongwei
+ * @date 2026/10/17 19:50
+ */
+public enum ExecutionMode {
+    /**
+     * 平台线程: 使用Builder指定的线程池，未指定时使用ForkJoinPool.commonPool()
+     */
+    PLATFORM,
+    /**
+     * 虚拟线程: 每个请求一个虚拟线程(JDK21+)，低版本JDK回退为固定大小的平台线程池(easy-http.virtual.fallback-threads，默认200)
+     */
+    VIRTUAL
+}
@@ -0,0 +1,69 @@
+package com.github.vizaizai.entity;
+
+/**
+ * 对冲请求设置
+ * @author liaochongwei
+ * @date 2026/10/18 19:20
+ */
+public class HedgeSettings {
+    /**
+     * 是否开启
+     */
+    private Boolean enable;
+    /**
+     * 首次请求超过该时间(ms)未完成时发出对冲请求，为空或小于0时取该方法观测到的延迟分位数
+     */
+    private Long delay;
+    /**
+     * 延迟分位数(1-99)，未指定固定延迟时生效
+     */
+    private Integer percentile = 95;
+    /**
+     * 对冲请求占请求量的比例上限
+     */
+    private Double maxRatio = 0.1;
+    /**
+     * 允许的突发对冲数
+     */
+    private Integer maxBurst = 10;
+
+    public Boolean getEnable() {
+        return enable;
+    }
+
+    public void setEnable(Boolean enable) {
+        this.enable = enable;
+    }
+
+    public Long getDelay() {
+        return delay;
+    }
+
+    public void setDelay(Long delay) {
+        this.delay = delay;
+    }
+
+    public Integer getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(Integer percentile) {
+        this.percentile = percentile;
+    }
+
+    public Double getMaxRatio() {
+        return maxRatio;
+    }
+
+    public void setMaxRatio(Double maxRatio) {
+        this.maxRatio = maxRatio;
+    }
+
+    public Integer getMaxBurst() {
+        return maxBurst;
+    }
+
+    public void setMaxBurst(Integer maxBurst) {
+        this.maxBurst = maxBurst;
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.vizaizai.entity;
 
+import com.github.vizaizai.buffer.BufferPool;
 import com.github.vizaizai.entity.body.RequestBody;
 import com.github.vizaizai.util.value.HeadersNameValues;
 import com.github.vizaizai.util.value.StringNameValues;
@@ -50,6 +51,10 @@ public class HttpRequest {
      * 是否异步
      */
     private boolean async;
+    /**
+     * 是否流式响应(响应体不缓存，连接在响应流关闭后归还)
+     */
+    private boolean streaming;
     /**
      * 请求开始时间戳
      */
@@ -58,6 +63,27 @@ public class HttpRequest {
      * 请求配置
      */
     private HttpRequestConfig config;
+    /**
+     * 响应体缓冲池(为空时不使用池化缓冲)
+     */
+    private BufferPool bufferPool;
+    /**
+     * 截止时间(为空时不限制)
+     */
+    private Deadline deadline;
+    /**
+     * 是否已取消
+     */
+    private volatile boolean cancelled;
+    /**
+     * 取消时的回调(由客户端设置，中断在途请求并释放连接)
+     */
+    private volatile Runnable cancelHandler;
+    /**
+     * 负载均衡时选中的实例地址与实例组的逻辑地址(缓存与合并按逻辑地址计算键)
+     */
+    private String endpointUrl;
+    private String logicalUrl;
 
     public void addHeader(String name, String value) {
         if (this.headers == null) {
@@ -114,6 +140,27 @@ public class HttpRequest {
         this.url = url;
     }
 
+    /**
+     * 设置负载均衡选中的实例
+     * @param endpointUrl 实例地址
+     * @param logicalUrl 实例组的逻辑地址
+     */
+    public void setEndpoint(String endpointUrl, String logicalUrl) {
+        this.endpointUrl = endpointUrl;
+        this.logicalUrl = logicalUrl;
+    }
+
+    /**
+     * 逻辑URL: 负载均衡时以实例组的逻辑地址代替选中的实例地址，同一请求发往不同实例时相同
+     * @return url
+     */
+    public String getLogicalUrl() {
+        if (endpointUrl == null || url == null || !url.startsWith(endpointUrl)) {
+            return url;
+        }
+        return logicalUrl + url.substring(endpointUrl.length());
+    }
+
     public String getContentType() {
         return contentType;
     }
@@ -146,6 +193,14 @@ public class HttpRequest {
         this.async = async;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public long getStartTime() {
         return startTime;
     }
@@ -169,4 +224,46 @@ public class HttpRequest {
     public void setEncoding(Charset encoding) {
         this.encoding = encoding;
     }
+
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    public void setBufferPool(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * 设置取消回调(已取消时立即执行)
+     * @param cancelHandler 回调
+     */
+    public void onCancel(Runnable cancelHandler) {
+        this.cancelHandler = cancelHandler;
+        if (this.cancelled) {
+            cancelHandler.run();
+        }
+    }
+
+    /**
+     * 取消请求: 中断在途请求并释放连接
+     */
+    public void cancel() {
+        this.cancelled = true;
+        Runnable handler = this.cancelHandler;
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
 }
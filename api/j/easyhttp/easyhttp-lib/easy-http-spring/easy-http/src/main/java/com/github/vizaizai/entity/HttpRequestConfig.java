@@ -12,6 +12,10 @@ import java.nio.charset.Charset;
 public class HttpRequestConfig {
     private Integer connectTimeout;
     private Integer requestTimeout;
+    /**
+     * 从连接池获取连接的超时时间(ms)，为空时使用客户端连接池的设置
+     */
+    private Integer connectionRequestTimeout;
     private Charset encoding;
 
     public HttpRequestConfig() {
@@ -31,6 +35,41 @@ public class HttpRequestConfig {
         this.encoding = encoding;
     }
 
+    /**
+     * 复制(每个请求持有独立的配置，拦截器修改时不影响其它请求)
+     * @return HttpRequestConfig
+     */
+    public HttpRequestConfig copy() {
+        HttpRequestConfig copy = new HttpRequestConfig(connectTimeout, requestTimeout, encoding);
+        copy.setConnectionRequestTimeout(connectionRequestTimeout);
+        return copy;
+    }
+
+    /**
+     * 合并覆盖配置(覆盖配置中不为空的项优先)，返回新的配置
+     * @param override 覆盖配置
+     * @return HttpRequestConfig
+     */
+    public HttpRequestConfig merge(HttpRequestConfig override) {
+        HttpRequestConfig merged = this.copy();
+        if (override == null) {
+            return merged;
+        }
+        if (override.connectTimeout != null) {
+            merged.setConnectTimeout(override.connectTimeout);
+        }
+        if (override.requestTimeout != null) {
+            merged.setRequestTimeout(override.requestTimeout);
+        }
+        if (override.connectionRequestTimeout != null) {
+            merged.setConnectionRequestTimeout(override.connectionRequestTimeout);
+        }
+        if (override.encoding != null) {
+            merged.setEncoding(override.encoding);
+        }
+        return merged;
+    }
+
     public Integer getConnectTimeout() {
         return connectTimeout;
     }
@@ -47,6 +86,14 @@ public class HttpRequestConfig {
         this.requestTimeout = requestTimeout;
     }
 
+    public Integer getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    public void setConnectionRequestTimeout(Integer connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
     public Charset getEncoding() {
         return encoding == null ? Utils.UTF_8 : encoding;
     }
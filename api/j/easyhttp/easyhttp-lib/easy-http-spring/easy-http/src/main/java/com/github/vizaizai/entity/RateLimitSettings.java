@@ -0,0 +1,96 @@
+package com.github.vizaizai.entity;
+
+import com.github.vizaizai.annotation.RateLimit;
+
+/**
+ * 限流设置
+ * @author liaochongwei
+ * @date 2026/10/18 23:40
+ */
+public class RateLimitSettings {
+    public enum Mode {
+        /**
+         * 超过速率时直接失败
+         */
+        FAIL_FAST,
+        /**
+         * 等待至有许可(不超过timeout)，异步方法由定时器延迟发出而不占用线程
+         */
+        WAIT
+    }
+    /**
+     * 是否开启
+     */
+    private Boolean enable;
+    /**
+     * 每秒许可数
+     */
+    private Double permitsPerSecond;
+    /**
+     * 允许的突发请求数
+     */
+    private Integer burst = 1;
+    /**
+     * 模式
+     */
+    private Mode mode = Mode.WAIT;
+    /**
+     * 最长等待时间(ms)，WAIT模式下生效
+     */
+    private Long timeout = 1000L;
+
+    /**
+     * 注解上的设置
+     * @param annotation @RateLimit
+     * @return RateLimitSettings(value不大于0时为不开启)
+     */
+    public static RateLimitSettings of(RateLimit annotation) {
+        RateLimitSettings settings = new RateLimitSettings();
+        settings.setEnable(annotation.value() > 0);
+        settings.setPermitsPerSecond(annotation.value());
+        settings.setBurst(annotation.burst());
+        settings.setMode(annotation.mode());
+        settings.setTimeout(annotation.timeout());
+        return settings;
+    }
+
+    public Boolean getEnable() {
+        return enable;
+    }
+
+    public void setEnable(Boolean enable) {
+        this.enable = enable;
+    }
+
+    public Double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public void setPermitsPerSecond(Double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public Integer getBurst() {
+        return burst;
+    }
+
+    public void setBurst(Integer burst) {
+        this.burst = burst;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Long getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Long timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -1,5 +1,7 @@
 package com.github.vizaizai.entity;
 
+import com.github.vizaizai.retry.Backoff;
+import com.github.vizaizai.retry.RetryBudget;
 import com.github.vizaizai.retry.RetryTrigger;
 
 /**
@@ -24,6 +26,14 @@ public class RetrySettings {
      * 触发的重试条件
      */
     private RetryTrigger retryTrigger;
+    /**
+     * 退避策略(为空时按固定间隔intervalTime)
+     */
+    private Backoff backoff;
+    /**
+     * 重试预算(为空时不限制)
+     */
+    private RetryBudget budget;
 
     public Boolean getEnable() {
         return enable;
@@ -56,4 +66,20 @@ public class RetrySettings {
     public void setRetryTrigger(RetryTrigger retryTrigger) {
         this.retryTrigger = retryTrigger;
     }
+
+    public Backoff getBackoff() {
+        return backoff;
+    }
+
+    public void setBackoff(Backoff backoff) {
+        this.backoff = backoff;
+    }
+
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    public void setBudget(RetryBudget budget) {
+        this.budget = budget;
+    }
 }
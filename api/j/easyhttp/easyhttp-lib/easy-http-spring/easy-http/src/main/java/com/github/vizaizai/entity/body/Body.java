@@ -1,5 +1,6 @@
 package com.github.vizaizai.entity.body;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -11,7 +12,7 @@ import java.nio.charset.Charset;
  * @author liaochongwei
  * @date 2021/1/11 14:43
  */
-public interface Body {
+public interface Body extends Closeable {
     /**
      * 字节数
      */
@@ -22,6 +23,13 @@ public interface Body {
      */
     boolean isRepeatable();
 
+    /**
+     * 是否为流式写出(字节数需序列化后才能确定，发送时应使用chunked传输)
+     */
+    default boolean isStreaming() {
+        return false;
+    }
+
     /**
      * 转化为InputStream
      */
@@ -43,4 +51,11 @@ public interface Body {
      * 写入输出流
      */
     void writeTo(OutputStream os) throws IOException;
+
+    /**
+     * 释放资源(流式响应体关闭时归还连接)
+     */
+    @Override
+    default void close() throws IOException {
+    }
 }
@@ -4,6 +4,7 @@ import com.github.vizaizai.util.Assert;
 import com.github.vizaizai.util.StreamUtils;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 /**
@@ -42,6 +43,14 @@ public class ByteArrayBody implements Body{
         return true;
     }
 
+    /**
+     * 只读视图(不复制)
+     * @return ByteBuffer
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
     @Override
     public InputStream asInputStream() {
         return new ByteArrayInputStream(data);
@@ -60,6 +69,6 @@ public class ByteArrayBody implements Body{
 
     @Override
     public void writeTo(OutputStream os) throws IOException {
-        StreamUtils.copy(this.asInputStream(),os);
+        StreamUtils.copy(this.data, os);
     }
 }
@@ -0,0 +1,210 @@
+package com.github.vizaizai.entity.body;
+
+import com.github.vizaizai.util.Assert;
+import com.github.vizaizai.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 缓冲区请求/响应体(可重复读取): 内容只读取一次，拦截器与解码器共享同一块内存，不再复制
+ * @author liaochongwei
+ * @date 2026/10/17 16:10
+ */
+public class ByteBufferBody implements Body {
+    /**
+     * 读取时的最大预分配字节数(Content-Length不可信时避免一次性分配过大)
+     */
+    private static final int MAX_PRESIZE = 8 * 1024 * 1024;
+    private final byte[] data;
+    private final int offset;
+    private final int length;
+
+    private ByteBufferBody(byte[] data, int offset, int length) {
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static ByteBufferBody wrap(byte[] data) {
+        Assert.notNull(data, "data must be not null");
+        return new ByteBufferBody(data, 0, data.length);
+    }
+
+    public static ByteBufferBody wrap(byte[] data, int offset, int length) {
+        Assert.notNull(data, "data must be not null");
+        if (offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length);
+        }
+        return new ByteBufferBody(data, offset, length);
+    }
+
+    /**
+     * 读取输入流全部内容(读取完成后关闭输入流)
+     * @param in 输入流
+     * @param length 预期字节数，未知时传-1
+     * @return ByteBufferBody
+     * @throws IOException I/O异常
+     */
+    public static ByteBufferBody read(InputStream in, long length) throws IOException {
+        Assert.notNull(in, "InputStream must be not null");
+        try {
+            int capacity = length > -1 ? (int) Math.min(length, MAX_PRESIZE) : StreamUtils.BUFFER_SIZE;
+            byte[] buffer = new byte[Math.max(capacity, 1)];
+            int count = 0;
+            while (true) {
+                if (count == buffer.length) {
+                    // 长度已知且已读满时，探测是否还有数据，避免无谓扩容
+                    if (count == length) {
+                        int next = in.read();
+                        if (next == -1) {
+                            break;
+                        }
+                        buffer = grow(buffer, count);
+                        buffer[count++] = (byte) next;
+                        continue;
+                    }
+                    buffer = grow(buffer, count);
+                }
+                int read = in.read(buffer, count, buffer.length - count);
+                if (read == -1) {
+                    break;
+                }
+                count += read;
+            }
+            return new ByteBufferBody(buffer, 0, count);
+        }finally {
+            StreamUtils.ensureClosed(in);
+        }
+    }
+
+    private static byte[] grow(byte[] buffer, int count) {
+        int newCapacity = buffer.length << 1;
+        if (newCapacity < 0) {
+            if (count == Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Required body size too large");
+            }
+            newCapacity = Integer.MAX_VALUE - 8;
+        }
+        return Arrays.copyOf(buffer, newCapacity);
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * 只读视图(共享底层内存，不复制)
+     * @return ByteBuffer
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(data, offset, length).slice().asReadOnlyBuffer();
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        return new BufferInputStream(data, offset, length);
+    }
+
+    @Override
+    public Reader asReader(Charset charset) throws IOException {
+        Assert.notNull(charset, "charset should not be null");
+        return new InputStreamReader(this.asInputStream(), charset);
+    }
+
+    @Override
+    public String asString(Charset charset) throws IOException {
+        return new String(data, offset, length, charset);
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        os.write(data, offset, length);
+    }
+
+    /**
+     * 基于共享数组的输入流(非线程安全，每次调用asInputStream都会新建)
+     */
+    private static class BufferInputStream extends InputStream {
+        private final byte[] data;
+        private final int end;
+        private int pos;
+        private int mark;
+
+        BufferInputStream(byte[] data, int offset, int length) {
+            this.data = data;
+            this.pos = offset;
+            this.mark = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read() {
+            return pos < end ? (data[pos++] & 0xff) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (off < 0 || len < 0 || len > b.length - off) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (pos >= end) {
+                return -1;
+            }
+            int n = Math.min(len, end - pos);
+            System.arraycopy(data, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            long k = Math.max(0, Math.min(n, end - pos));
+            pos += (int) k;
+            return k;
+        }
+
+        @Override
+        public int available() {
+            return end - pos;
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            int n = end - pos;
+            out.write(data, pos, n);
+            pos = end;
+            return n;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark(int readLimit) {
+            this.mark = pos;
+        }
+
+        @Override
+        public void reset() {
+            this.pos = mark;
+        }
+    }
+}
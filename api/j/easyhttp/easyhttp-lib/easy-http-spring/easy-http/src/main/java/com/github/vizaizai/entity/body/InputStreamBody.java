@@ -8,45 +8,57 @@ import java.io.*;
 import java.nio.charset.Charset;
 
 /**
+ * 输入流(只能读取一次)，需重复读取时使用ByteBufferBody
  * @author liaochongwei
  * @date 2021/1/11 14:57
  */
 public class InputStreamBody implements Body {
     private final InputStream source;
-    private Integer length;
-    private byte[] copyBytes;
-    private final boolean repeatable;
+    private final long length;
 
-    private InputStreamBody(InputStream inputStream, Integer length, boolean repeatable) {
+    private InputStreamBody(InputStream inputStream, Integer length) {
         this.source = inputStream;
-        this.length = length;
-        this.repeatable = repeatable;
         try {
-            // 支持重复读
-            if (this.repeatable) {
-                this.copyBytes = StreamUtils.copyToByteArray(inputStream);
-            }
             // 长度为空
-            if (length == null) {
-                 this.length = inputStream.available();
-            }
-
+            this.length = length == null ? inputStream.available() : length;
         }catch (IOException e) {
             throw new EasyHttpException(e);
         }
+    }
 
+    private InputStreamBody(InputStream inputStream, long length) {
+        this.source = inputStream;
+        this.length = length;
     }
-    public static Body ofNullable(InputStream inputStream, Integer length) {
+
+    /**
+     * 流式响应体(只能读取一次)，长度可超过2GB
+     * @param inputStream 输入流
+     * @param length 长度，未知时为-1
+     * @return Body
+     */
+    public static Body streaming(InputStream inputStream, long length) {
         if (inputStream == null) {
             return null;
         }
-        return new InputStreamBody(inputStream, length,true);
+        return new InputStreamBody(inputStream, length < 0 ? -1 : length);
+    }
+    public static Body ofNullable(InputStream inputStream, Integer length) {
+        return ofNullable(inputStream, length, true);
     }
     public static Body ofNullable(InputStream inputStream, Integer length, boolean repeatable) {
         if (inputStream == null) {
             return null;
         }
-        return new InputStreamBody(inputStream, length, repeatable);
+        // 支持重复读: 按已知长度一次性读入缓冲区
+        if (repeatable) {
+            try {
+                return ByteBufferBody.read(inputStream, length == null ? -1 : length);
+            }catch (IOException e) {
+                throw new EasyHttpException(e);
+            }
+        }
+        return new InputStreamBody(inputStream, length);
     }
 
     @Override
@@ -56,21 +68,12 @@ public class InputStreamBody implements Body {
 
     @Override
     public boolean isRepeatable() {
-        return this.repeatable;
+        return false;
     }
 
     @Override
     public InputStream asInputStream() {
-        if (!this.repeatable) {
-            return this.source;
-        }
-        final ByteArrayInputStream bais = new ByteArrayInputStream(copyBytes);
-        return new InputStream() {
-            @Override
-            public int read() throws IOException {
-                return bais.read();
-            }
-        };
+        return this.source;
     }
 
     @Override
@@ -88,4 +91,9 @@ public class InputStreamBody implements Body {
     public void writeTo(OutputStream os) throws IOException {
         StreamUtils.copy(source, os);
     }
+
+    @Override
+    public void close() throws IOException {
+        this.source.close();
+    }
 }
@@ -0,0 +1,138 @@
+package com.github.vizaizai.entity.body;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.vizaizai.exception.CodecException;
+import com.github.vizaizai.util.Assert;
+import com.github.vizaizai.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * JSON请求体(惰性序列化): 默认序列化为字节数组并缓存，按Content-Length发送；
+ * 显式开启流式时由Jackson直接写入连接输出流(chunked)，不产生中间String/byte[]，适合大对象。
+ * 传输方式在创建时确定，不受日志、拦截器是否读取过内容的影响
+ * @author liaochongwei
+ * @date 2026/10/17 15:05
+ */
+public class JacksonBody implements Body {
+    /**
+     * 序列化器(不关闭目标流)
+     */
+    private final ObjectWriter writer;
+    /**
+     * 待序列化对象
+     */
+    private final Object value;
+    /**
+     * 是否流式写出(chunked)
+     */
+    private final boolean streaming;
+    /**
+     * 已序列化的字节
+     */
+    private byte[] bytes;
+
+    private JacksonBody(ObjectWriter writer, Object value, boolean streaming) {
+        this.writer = writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.value = value;
+        this.streaming = streaming;
+    }
+
+    public static Body ofNullable(ObjectWriter writer, Object value) {
+        return ofNullable(writer, value, false);
+    }
+
+    /**
+     * 创建JSON请求体
+     * @param writer 序列化器
+     * @param value 待序列化对象
+     * @param streaming 是否流式写出(chunked)
+     * @return Body
+     */
+    public static Body ofNullable(ObjectWriter writer, Object value, boolean streaming) {
+        if (value == null) {
+            return null;
+        }
+        Assert.notNull(writer, "writer must be not null");
+        return new JacksonBody(writer, value, streaming);
+    }
+
+    /**
+     * 序列化为字节数组(只执行一次)
+     */
+    private byte[] bytes() {
+        if (this.bytes == null) {
+            try {
+                this.bytes = writer.writeValueAsBytes(value);
+            }catch (JsonProcessingException e) {
+                throw new CodecException(e);
+            }
+        }
+        return this.bytes;
+    }
+
+    @Override
+    public long length() {
+        return this.bytes().length;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return this.streaming;
+    }
+
+    /**
+     * 序列化结果的只读视图(不复制)
+     * @return ByteBuffer
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(this.bytes()).asReadOnlyBuffer();
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        return new ByteArrayInputStream(this.bytes());
+    }
+
+    @Override
+    public Reader asReader(Charset charset) throws IOException {
+        Assert.notNull(charset, "charset should not be null");
+        return new InputStreamReader(this.asInputStream(), charset);
+    }
+
+    @Override
+    public String asString(Charset charset) throws IOException {
+        return new String(this.bytes(), charset);
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        if (!this.streaming || this.bytes != null) {
+            StreamUtils.copy(this.bytes(), os);
+            return;
+        }
+        try {
+            writer.writeValue(os, value);
+        }catch (JsonProcessingException e) {
+            throw new CodecException(e);
+        }
+    }
+
+    public Object getValue() {
+        return value;
+    }
+}
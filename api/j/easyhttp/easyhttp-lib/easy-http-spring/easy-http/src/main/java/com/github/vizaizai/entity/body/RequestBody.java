@@ -7,7 +7,6 @@ import com.github.vizaizai.util.Assert;
 import com.github.vizaizai.util.Utils;
 import com.github.vizaizai.util.value.StringNameValues;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -98,14 +97,31 @@ public class RequestBody {
         }
         if (source instanceof FormBodyParts) {
             FormBodyParts formBodyParts = (FormBodyParts) source;
-            return new ByteArrayInputStream(formBodyParts.getBytes(charset));
+            return formBodyParts.getInputStream(charset);
         }
         return null;
     }
 
+    /**
+     * 是否可重复写出(用于重试)
+     */
+    public boolean isRepeatable(Charset charset) {
+        if (this.content != null) {
+            return this.content.isRepeatable();
+        }
+        if (source instanceof FormBodyParts) {
+            FormBodyParts formBodyParts = (FormBodyParts) source;
+            return formBodyParts.isRepeatable(charset);
+        }
+        return true;
+    }
+
+    /**
+     * 请求体字节数，未知时返回-1
+     */
     public long length(Charset charset) {
         if (this.content != null) {
-            return this.content.length();
+            return this.content.isStreaming() ? -1 : this.content.length();
         }
         // form-data
         if (source instanceof FormBodyParts) {
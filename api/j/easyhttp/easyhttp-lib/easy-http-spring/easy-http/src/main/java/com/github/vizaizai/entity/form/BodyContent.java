@@ -13,4 +13,18 @@ public interface BodyContent {
     String getContentType();
     InputStream getInputStream() throws IOException;
     boolean isFile();
+
+    /**
+     * 内容字节数(不读取内容)，未知时返回-1
+     */
+    default long length() {
+        return -1;
+    }
+
+    /**
+     * 是否可重复读取(每次调用getInputStream都返回新的流)
+     */
+    default boolean isRepeatable() {
+        return false;
+    }
 }
@@ -1,7 +1,6 @@
 package com.github.vizaizai.entity.form;
 
 import com.github.vizaizai.entity.ContentType;
-import com.github.vizaizai.exception.EasyHttpException;
 import com.github.vizaizai.util.Assert;
 
 import java.io.File;
@@ -10,14 +9,12 @@ import java.io.IOException;
 import java.io.InputStream;
 
 /**
- * 文件请求体内容
+ * 文件请求体内容(发送时才打开文件)
  * @author liaochongwei
  * @date 2021/2/5 16:15
  */
 public class FileContent implements BodyContent {
-    private InputStream inputStream;
     private final File file;
-    private Integer length;
     private String contentType;
     private String filename;
 
@@ -35,16 +32,7 @@ public class FileContent implements BodyContent {
 
     private static FileContent toFileBody(File file) {
         Assert.notNull(file,"file must be not null");
-        FileInputStream inputStream;
-        try {
-            inputStream = new FileInputStream(file);
-            FileContent content = new FileContent(file);
-            content.inputStream = inputStream;
-            content.length = inputStream.available();
-            return content;
-        }catch (IOException ex) {
-            throw new EasyHttpException(ex);
-        }
+        return new FileContent(file);
     }
 
 
@@ -66,8 +54,8 @@ public class FileContent implements BodyContent {
     }
 
     @Override
-    public InputStream getInputStream() {
-        return inputStream;
+    public InputStream getInputStream() throws IOException {
+        return new FileInputStream(file);
     }
 
     @Override
@@ -80,7 +68,17 @@ public class FileContent implements BodyContent {
     }
 
     public Integer getLength() {
-        return length;
+        return (int) Math.min(file.length(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long length() {
+        return file.length();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
     }
 
     @Override
@@ -3,8 +3,11 @@ package com.github.vizaizai.entity.form;
 import com.github.vizaizai.util.Utils;
 import com.github.vizaizai.util.value.NameValues;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 
 /**
@@ -34,9 +37,24 @@ public class FormBodyParts extends NameValues<String, BodyContent> {
         this.checkEncoder(charset);
         return encoder.getLength();
     }
+    public boolean isRepeatable(Charset charset) {
+        this.checkEncoder(charset);
+        return encoder.isRepeatable();
+    }
+    public InputStream getInputStream(Charset charset) {
+        this.checkEncoder(charset);
+        return encoder.asInputStream();
+    }
     public byte[] getBytes(Charset charset) {
         this.checkEncoder(charset);
-        return encoder.getData();
+        long length = encoder.getLength();
+        ByteArrayOutputStream os = new ByteArrayOutputStream(length > 0 && length < Integer.MAX_VALUE ? (int) length : 1024);
+        try {
+            encoder.encode(os);
+        }catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return os.toByteArray();
     }
 
     private void checkEncoder(Charset charset) {
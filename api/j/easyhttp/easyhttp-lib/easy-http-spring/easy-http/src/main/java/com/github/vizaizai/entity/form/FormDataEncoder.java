@@ -4,29 +4,60 @@ import com.github.vizaizai.exception.EasyHttpException;
 import com.github.vizaizai.util.StreamUtils;
 import com.github.vizaizai.util.value.NameValue;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static com.github.vizaizai.util.Utils.ASCII;
 
 /**
- * form-data请求体编码
+ * form-data请求体编码(流式): 各部分的头部只编码一次，内容在发送时才读取
  * @author liaochongwei
  * @date 2021/2/10 11:08
  */
 public class FormDataEncoder {
 
-    private long length;
-    private byte[] data;
+    /**
+     * 总字节数，存在未知长度的部分时为-1
+     */
+    private final long length;
+    /**
+     * 是否可重复写出(所有部分都可重复读取)
+     */
+    private final boolean repeatable;
+    /**
+     * 是否已写出过
+     */
+    private boolean consumed;
     private final String boundary;
     private final Charset charset;
-    private final List<NameValue<String, BodyContent>> bodies;
+    /**
+     * 各部分头部(含起始boundary)
+     */
+    private final List<byte[]> preambles = new ArrayList<>();
+    /**
+     * 各部分内容
+     */
+    private final List<BodyContent> contents = new ArrayList<>();
+    /**
+     * 结束boundary
+     */
+    private final byte[] closing;
 
     private static final ByteBuffer FIELD_SEP = encode(ASCII,": ");
     private static final ByteBuffer ITEM_SEP = encode(ASCII,"; ");
@@ -38,13 +69,28 @@ public class FormDataEncoder {
 
     public FormDataEncoder(String boundary, Charset charset, List<NameValue<String, BodyContent>> bodies) {
         this.boundary = boundary;
-        this.bodies = bodies;
         this.charset = charset;
-        try {
-            this.init();
-        }catch (Exception e) {
-            throw new EasyHttpException(e);
+        long total = 0;
+        boolean allRepeatable = true;
+        for (NameValue<String, BodyContent> nameValue : bodies) {
+            BodyContent value = nameValue.getValue();
+            if (value == null) {
+                continue;
+            }
+            byte[] preamble = this.preamble(nameValue.getName(), value);
+            this.preambles.add(preamble);
+            this.contents.add(value);
+            long contentLength = value.length();
+            if (total > -1 && contentLength > -1) {
+                total = total + preamble.length + contentLength + CR_LF.remaining();
+            }else {
+                total = -1;
+            }
+            allRepeatable = allRepeatable && value.isRepeatable();
         }
+        this.closing = this.closing();
+        this.length = total > -1 ? total + this.closing.length : -1;
+        this.repeatable = allRepeatable;
     }
 
     private static ByteBuffer encode(
@@ -52,88 +98,157 @@ public class FormDataEncoder {
         return charset.encode(CharBuffer.wrap(string));
     }
 
-    private  void writeBytes(
-            final ByteBuffer b, final OutputStream out) throws IOException {
-        length = length + b.remaining();
+    private static void writeBytes(
+            final ByteBuffer b, final ByteArrayOutputStream out) {
         out.write(b.array(), 0, b.remaining());
     }
 
-    private  void writeBytes(
-            final String s, final Charset charset, final OutputStream out) throws IOException {
-        final ByteBuffer b = encode(charset, s);
-        writeBytes(b, out);
+    private static void writeBytes(
+            final String s, final Charset charset, final ByteArrayOutputStream out) {
+        writeBytes(encode(charset, s), out);
     }
 
-    private void write(
-            final InputStream is, final OutputStream out) throws IOException {
-        length = length + is.available();
-        StreamUtils.copy(is, out);
-    }
+    /**
+     * 编码部分头部
+     */
+    private byte[] preamble(String name, BodyContent value) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream(128);
+        /* ----------boundary start--------*/
+        writeBytes(TWO_DASHES, os); // --
+        writeBytes(this.boundary, this.charset, os); // boundary
+        writeBytes(CR_LF, os); // 换行
+        /* ----------boundary end--------*/
 
-    private void init() throws IOException {
-        ByteArrayOutputStream os = new ByteArrayOutputStream();
-        for (NameValue<String, BodyContent> nameValue : this.bodies) {
-            BodyContent value = nameValue.getValue();
-            if (value == null) {
-                continue;
-            }
-            /* ----------boundary start--------*/
-            writeBytes(TWO_DASHES, os); // --
-            writeBytes(this.boundary, this.charset, os); // boundary
-            writeBytes(CR_LF, os); // 换行
-            /* ----------boundary end--------*/
+        /* -----------Content-Disposition start--------*/
+        writeBytes(CONTENT_DISPOSITION, os); // Content-Disposition
+        writeBytes(FIELD_SEP, os); // :
+        writeBytes(FORM_DATA, os); // form-data
+        writeBytes(ITEM_SEP, os); // ;
+        writeBytes("name=\"" + name + "\"", this.charset, os); // name=""
+        // 文件
+        if (value.isFile()) {
+            String filename = value.getFilename() == null ? "" : value.getFilename();
+            writeBytes(ITEM_SEP, os); // ;
+            writeBytes("filename=\"" + filename + "\"", this.charset, os); // filename=""
+        }
+        writeBytes(CR_LF, os); // 换行
+        /* -----------Content-Disposition end--------*/
 
-            /* -----------Content-Disposition start--------*/
-            writeBytes(CONTENT_DISPOSITION, os); // Content-Disposition
+        /* -----------Content-Type start--------*/
+        if (value.isFile() && value.getContentType() != null) {
+            writeBytes(CONTENT_TYPE, os); // Content-Type
             writeBytes(FIELD_SEP, os); // :
-            writeBytes(FORM_DATA, os); // form-data
-            writeBytes(ITEM_SEP, os); // ;
-            writeBytes("name=\"" + nameValue.getName() + "\"", this.charset, os); // name=""
-            // 文件
-            if (value.isFile()) {
-                String filename = value.getFilename() == null ? "" : value.getFilename();
-                writeBytes(ITEM_SEP, os); // ;
-                writeBytes("filename=\"" + filename + "\"", this.charset, os); // filename=""
-            }
+            writeBytes(value.getContentType(), this.charset, os);
             writeBytes(CR_LF, os); // 换行
-            /* -----------Content-Disposition end--------*/
-
-            /* -----------Content-Type start--------*/
-            if (value.isFile() && value.getContentType() != null) {
-                writeBytes(CONTENT_TYPE, os); // Content-Type
-                writeBytes(FIELD_SEP, os); // :
-                writeBytes(value.getContentType(), this.charset, os);
-                writeBytes(CR_LF, os); // 换行
-            }
-            /* -----------Content-Type end--------*/
+        }
+        /* -----------Content-Type end--------*/
 
-            /* -----------空行 start--------*/
-            writeBytes(CR_LF, os); // 换行
-            /* -----------空行 end--------*/
+        /* -----------空行 start--------*/
+        writeBytes(CR_LF, os); // 换行
+        /* -----------空行 end--------*/
+        return os.toByteArray();
+    }
 
-            /* -----------值 start--------*/
-            write(value.getInputStream(), os);
-            writeBytes(CR_LF, os); // 换行
-            /* -----------值 end--------*/
-        }
-        /* ----------boundary start--------*/
+    /**
+     * 编码结束boundary
+     */
+    private byte[] closing() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream(64);
         writeBytes(TWO_DASHES, os); // --
         writeBytes(this.boundary, this.charset, os); // boundary
         writeBytes(TWO_DASHES, os); // --
         writeBytes(CR_LF, os); // 换行
-        /* ----------boundary end--------*/
-        this.data = os.toByteArray();
+        return os.toByteArray();
     }
 
+    /**
+     * 写出请求体，文件内容通过FileChannel传输
+     * @param os 输出流
+     */
     public void encode(OutputStream os) throws IOException {
-        StreamUtils.copy(this.data, os);
+        this.checkRepeatable();
+        WritableByteChannel channel = null;
+        for (int i = 0; i < contents.size(); i++) {
+            os.write(preambles.get(i));
+            BodyContent content = contents.get(i);
+            if (content instanceof FileContent) {
+                if (channel == null) {
+                    channel = Channels.newChannel(os);
+                }
+                transfer((FileContent) content, channel);
+            }else {
+                StreamUtils.copy(content.getInputStream(), os);
+            }
+            os.write(CR_LF.array(), 0, CR_LF.remaining());
+        }
+        os.write(this.closing);
+        os.flush();
+    }
+
+    private static void transfer(FileContent content, WritableByteChannel target) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(content.getFile().toPath(), StandardOpenOption.READ)) {
+            long size = fileChannel.size();
+            long position = 0;
+            while (position < size) {
+                position += fileChannel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    /**
+     * 按顺序惰性打开各部分内容的输入流
+     * @return InputStream
+     */
+    public InputStream asInputStream() {
+        this.checkRepeatable();
+        List<Object> parts = new ArrayList<>(contents.size() * 3 + 1);
+        for (int i = 0; i < contents.size(); i++) {
+            parts.add(preambles.get(i));
+            parts.add(contents.get(i));
+            parts.add(CR_LF);
+        }
+        parts.add(this.closing);
+        return new SequenceInputStream(new Enumeration<InputStream>() {
+            private int index = 0;
+            @Override
+            public boolean hasMoreElements() {
+                return index < parts.size();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (!hasMoreElements()) {
+                    throw new NoSuchElementException();
+                }
+                Object part = parts.get(index++);
+                if (part instanceof byte[]) {
+                    return new ByteArrayInputStream((byte[]) part);
+                }
+                if (part instanceof ByteBuffer) {
+                    ByteBuffer buffer = (ByteBuffer) part;
+                    return new ByteArrayInputStream(buffer.array(), 0, buffer.remaining());
+                }
+                try {
+                    return ((BodyContent) part).getInputStream();
+                }catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+    }
+
+    private void checkRepeatable() {
+        if (this.consumed && !this.repeatable) {
+            throw new EasyHttpException("The form-data body is not repeatable");
+        }
+        this.consumed = true;
     }
 
     public long getLength() {
         return length;
     }
 
-    public byte[] getData() {
-        return data;
+    public boolean isRepeatable() {
+        return repeatable;
     }
 }
@@ -14,6 +14,10 @@ import java.io.InputStream;
 public class InputStreamContent implements BodyContent {
     private final InputStream inputStream;
     private Integer length;
+    /**
+     * 调用方声明的内容字节数，未声明时为-1
+     */
+    private long declaredLength = -1;
     private String contentType;
     private String filename;
 
@@ -56,6 +60,16 @@ public class InputStreamContent implements BodyContent {
         this.filename = filename;
         return this;
     }
+
+    /**
+     * 声明内容字节数，用于预先计算Content-Length
+     * @param length 字节数
+     * @return InputStreamContent
+     */
+    public InputStreamContent length(long length) {
+        this.declaredLength = length;
+        return this;
+    }
     @Override
     public String getFilename() {
         return this.filename;
@@ -75,6 +89,11 @@ public class InputStreamContent implements BodyContent {
         return length;
     }
 
+    @Override
+    public long length() {
+        return declaredLength;
+    }
+
     public String getContentType() {
         return contentType;
     }
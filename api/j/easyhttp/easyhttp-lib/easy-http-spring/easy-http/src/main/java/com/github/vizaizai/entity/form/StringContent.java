@@ -49,4 +49,14 @@ public class StringContent implements BodyContent {
     public boolean isFile() {
         return false;
     }
+
+    @Override
+    public long length() {
+        return this.content.length;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
 }
@@ -0,0 +1,19 @@
+package com.github.vizaizai.exception;
+
+/**
+ * 熔断器处于打开状态，请求未发送直接失败
+ * @author liaochongwei
+ * @date 2026/10/18 17:50
+ */
+public class CircuitBreakerOpenException extends EasyHttpException {
+    private final String name;
+
+    public CircuitBreakerOpenException(String name) {
+        super("Circuit breaker is open: " + name);
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
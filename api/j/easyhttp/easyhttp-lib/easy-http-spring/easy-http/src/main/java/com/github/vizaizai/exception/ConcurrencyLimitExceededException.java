@@ -0,0 +1,25 @@
+package com.github.vizaizai.exception;
+
+/**
+ * 在途请求数已达并发上限，请求未发送直接失败
+ * @author liaochongwei
+ * @date 2026/10/18 22:55
+ */
+public class ConcurrencyLimitExceededException extends EasyHttpException {
+    private final String name;
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String name, int limit) {
+        super("Concurrency limit exceeded: " + name + " (limit=" + limit + ")");
+        this.name = name;
+        this.limit = limit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
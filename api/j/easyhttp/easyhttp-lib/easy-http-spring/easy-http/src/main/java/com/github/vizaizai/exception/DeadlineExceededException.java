@@ -0,0 +1,12 @@
+package com.github.vizaizai.exception;
+
+/**
+ * 截止时间已到(调用的时间预算已用完)
+ * @author liaochongwei
+ * @date 2026/10/18 12:05
+ */
+public class DeadlineExceededException extends EasyHttpException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.vizaizai.exception;
+
+/**
+ * 超过限流速率(或等待时间超过上限)，请求未发送直接失败
+ * @author liaochongwei
+ * @date 2026/10/18 23:50
+ */
+public class RateLimitExceededException extends EasyHttpException {
+    private final String name;
+
+    public RateLimitExceededException(String name) {
+        super("Rate limit exceeded: " + name);
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
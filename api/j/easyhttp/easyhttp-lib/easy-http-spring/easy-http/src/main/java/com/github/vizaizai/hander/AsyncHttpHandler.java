@@ -1,7 +1,12 @@
 package com.github.vizaizai.hander;
 
+import com.github.vizaizai.breaker.CircuitBreaker;
+import com.github.vizaizai.entity.HttpResponse;
+
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 
 /**
  * 异步HTTP处理器
@@ -28,11 +33,100 @@ public class AsyncHttpHandler extends HttpHandler {
     }
     @Override
     public Object execute() {
+        if (RetryHandler.enableRetry(this.requestHandler.getRetrySettings())) {
+            return this.executeWithRetry();
+        }
+        // 客户端支持非阻塞请求时，不再占用线程等待响应
+        if (this.requestHandler.isAsyncCapable()) {
+            return this.doHttpAsync().thenApply(this::resultOf);
+        }
         if (executor == null) {
             return CompletableFuture.supplyAsync(super::execute);
         }
         return CompletableFuture.supplyAsync(super::execute, executor);
     }
+
+    /**
+     * 异步重试: 重试间隔由定时器调度，等待期间不占用工作线程
+     * @return CompletableFuture
+     */
+    private CompletableFuture<Object> executeWithRetry() {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        RetryHandler retryHandler = new RetryHandler(this);
+        retryHandler.begin();
+        this.attempt(retryHandler, result);
+        return result;
+    }
+
+    private void attempt(RetryHandler retryHandler, CompletableFuture<Object> result) {
+        this.attempt().whenComplete((value, ex) -> {
+            try {
+                if (ex != null) {
+                    throw ex;
+                }
+                long delay = retryHandler.nextDelay();
+                if (delay < 0) {
+                    result.complete(this.resultOf(value));
+                    return;
+                }
+                RetryHandler.schedule(() -> {
+                    retryHandler.reset();
+                    this.attempt(retryHandler, result);
+                }, delay);
+            }catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * 执行一次请求(异常记录在响应中)
+     * @return 解码结果
+     */
+    private CompletableFuture<Object> attempt() {
+        if (this.requestHandler.isAsyncCapable()) {
+            return this.doHttpAsync();
+        }
+        if (executor == null) {
+            return CompletableFuture.supplyAsync(this::doHttp);
+        }
+        return CompletableFuture.supplyAsync(this::doHttp, executor);
+    }
+
+    /**
+     * 非阻塞执行: 后置拦截与解码在响应完成后执行(配置了线程池时在该线程池中执行)，异常记录在响应中
+     * @return CompletableFuture
+     */
+    private CompletableFuture<Object> doHttpAsync() {
+        CompletableFuture<HttpResponse> future;
+        CircuitBreaker.Permit acquired = null;
+        try {
+            acquired = this.acquire();
+            future = this.requestHandler.executeAsync();
+        }catch (RuntimeException | Error e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        CircuitBreaker.Permit permit = acquired;
+        BiFunction<HttpResponse, Throwable, Object> complete = (response, ex) -> {
+            try {
+                if (ex != null) {
+                    this.fail(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                    return null;
+                }
+                return this.responseHandler.response(response).execute();
+            }catch (Throwable e) {
+                this.fail(e);
+                return null;
+            }finally {
+                this.record(permit);
+            }
+        };
+        if (executor == null) {
+            return future.handle(complete);
+        }
+        return future.handleAsync(complete, executor);
+    }
+
     public Executor getExecutor() {
         return executor;
     }
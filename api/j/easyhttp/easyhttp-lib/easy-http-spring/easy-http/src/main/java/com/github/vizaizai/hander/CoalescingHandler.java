@@ -0,0 +1,46 @@
+package com.github.vizaizai.hander;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 请求合并处理器: 包装HttpHandler/AsyncHttpHandler，相同的在途请求共享一次执行
+ * @author liaochongwei
+ * @date 2026/10/17 20:50
+ */
+public class CoalescingHandler implements Handler<Object> {
+    private final HttpHandler delegate;
+    private final RequestCoalescer coalescer;
+
+    public CoalescingHandler(HttpHandler delegate, RequestCoalescer coalescer) {
+        this.delegate = delegate;
+        this.coalescer = coalescer;
+    }
+
+    public static CoalescingHandler create(HttpHandler delegate, RequestCoalescer coalescer) {
+        return new CoalescingHandler(delegate, coalescer);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object execute() {
+        String key = RequestCoalescer.key(delegate.requestHandler.getMethodParser().getTarget(), delegate.getRequest());
+        boolean[] executed = new boolean[1];
+        try {
+            if (delegate instanceof AsyncHttpHandler) {
+                return coalescer.executeAsync(key, () -> {
+                    executed[0] = true;
+                    return (CompletableFuture<Object>) delegate.execute();
+                });
+            }
+            return coalescer.execute(key, () -> {
+                executed[0] = true;
+                return delegate.execute();
+            });
+        }finally {
+            // 被合并的调用未发出请求，释放选中实例的在途计数
+            if (!executed[0]) {
+                delegate.requestHandler.completed(true, false);
+            }
+        }
+    }
+}
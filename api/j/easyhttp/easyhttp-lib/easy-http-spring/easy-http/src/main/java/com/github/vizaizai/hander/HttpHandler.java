@@ -1,7 +1,10 @@
 package com.github.vizaizai.hander;
 
+import com.github.vizaizai.breaker.CircuitBreaker;
 import com.github.vizaizai.codec.Decoder;
 import com.github.vizaizai.codec.Encoder;
+import com.github.vizaizai.exception.CircuitBreakerOpenException;
+import com.github.vizaizai.exception.DeadlineExceededException;
 import com.github.vizaizai.exception.EasyHttpException;
 import com.github.vizaizai.interceptor.HttpInterceptor;
 import com.github.vizaizai.entity.HttpRequest;
@@ -10,8 +13,8 @@ import com.github.vizaizai.entity.RetrySettings;
 import com.github.vizaizai.parser.ArgsParser;
 import com.github.vizaizai.parser.InterfaceParser;
 import com.github.vizaizai.parser.MethodParser;
-import com.github.vizaizai.retry.RetryLimiter;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -42,23 +45,88 @@ public class HttpHandler implements Handler<Object>, Context{
     @Override
     public Object execute() {
         Object result;
-        String url = this.requestHandler.getRequest().getUrl();
-        if (RetryHandler.enableRetry(this.requestHandler.getRetrySettings()) && !RetryLimiter.limit(url)) {
-            try {
-                result = new RetryHandler(this).execute();
-                RetryLimiter.delete(url);
-            }catch (RuntimeException | Error e) {
-                // 重试全部失败，记录失败时间
-                RetryLimiter.add(url);
-                throw e;
-            }
+        if (RetryHandler.enableRetry(this.requestHandler.getRetrySettings())) {
+            result = new RetryHandler(this).execute();
         }else {
             result = this.doHttp();
         }
+        return this.resultOf(result);
+    }
+
+    public Object doHttp() {
+        CircuitBreaker.Permit permit = null;
+        try {
+            permit = this.acquire();
+            return responseHandler.response(requestHandler.execute()).execute();
+        }catch (Throwable ex) {
+            this.fail(ex);
+            return null;
+        }finally {
+            this.record(permit);
+        }
+    }
+
+    /**
+     * 获取熔断器许可
+     * @return 许可(未开启熔断时为null)
+     * @throws CircuitBreakerOpenException 熔断中
+     */
+    protected CircuitBreaker.Permit acquire() {
+        CircuitBreaker breaker = this.requestHandler.getCircuitBreaker();
+        if (breaker == null) {
+            return null;
+        }
+        CircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (permit == null) {
+            throw new CircuitBreakerOpenException(breaker.getName());
+        }
+        return permit;
+    }
+
+    /**
+     * 记录调用结果(熔断器与负载均衡实例): 5xx或IO异常计为失败，请求未发出(截止时间已到)或被取消(对冲)时不计入
+     * @param permit 熔断器许可
+     */
+    protected void record(CircuitBreaker.Permit permit) {
         HttpResponse response = this.responseHandler.getResponse();
-        Throwable cause = response.getCause();
+        Throwable cause = response == null ? null : response.getCause();
+        boolean skipped = cause instanceof DeadlineExceededException || this.getRequest().isCancelled();
+        boolean failed = !skipped && (response == null || response.getStatusCode() >= 500
+                || cause instanceof IOException || (cause != null && cause.getCause() instanceof IOException));
+        this.requestHandler.completed(skipped, failed);
+        if (permit == null) {
+            return;
+        }
+        if (skipped) {
+            permit.release();
+            return;
+        }
+        permit.record(failed);
+    }
+
+    /**
+     * 记录请求异常
+     * @param cause 异常
+     */
+    protected void fail(Throwable cause) {
+        HttpResponse response = responseHandler.getResponse();
+        if (response == null) {
+            response = HttpResponse.exception(cause);
+        }else {
+            response.setCause(cause);
+        }
+        responseHandler.setResponse(response);
+    }
+
+    /**
+     * 返回结果，请求发生了异常时抛出
+     * @param result 解码结果
+     * @return 结果
+     */
+    protected Object resultOf(Object result) {
+        Throwable cause = this.responseHandler.getResponse().getCause();
         // 没有异常则直接返回
-        if (response.getCause() == null) {
+        if (cause == null) {
             return result;
         }
         if (cause instanceof RuntimeException) {
@@ -68,28 +136,6 @@ public class HttpHandler implements Handler<Object>, Context{
             throw (Error)cause;
         }
         throw new EasyHttpException(cause);
-
-    }
-
-    public Object doHttp() {
-        Throwable cause = null;
-        Object result = null;
-        try {
-            result = responseHandler.response(requestHandler.execute()).execute();
-        }catch (Throwable ex) {
-            cause = ex;
-        }
-        //发生了异常
-        if (cause != null) {
-            HttpResponse response = responseHandler.getResponse();
-            if (response == null) {
-                response = HttpResponse.exception(cause);
-            }else {
-                response.setCause(cause);
-            }
-            responseHandler.setResponse(response);
-        }
-        return result;
     }
 
     @Override
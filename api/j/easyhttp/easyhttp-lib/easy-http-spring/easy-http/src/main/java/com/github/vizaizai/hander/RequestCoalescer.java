@@ -0,0 +1,140 @@
+package com.github.vizaizai.hander;
+
+import com.github.vizaizai.entity.HttpRequest;
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.util.Utils;
+import com.github.vizaizai.util.value.NameValue;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 在途请求合并(single-flight): 相同键的并发调用只有第一个真正执行，其余等待并共享其结果或异常，执行完成后即移除
+ * @author liaochongwei
+ * @date 2026/10/17 20:40
+ */
+public class RequestCoalescer {
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    /**
+     * 实际执行次数
+     */
+    private final LongAdder executions = new LongAdder();
+    /**
+     * 被合并(未实际执行)的调用次数
+     */
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * 合并同步调用
+     * @param key 请求键
+     * @param call 实际调用
+     * @return 结果
+     */
+    public Object execute(String key, Supplier<Object> call) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+        executions.increment();
+        try {
+            Object result = call.get();
+            future.complete(result);
+            return result;
+        }catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        }finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 合并异步调用(各调用方拿到独立的CompletableFuture，取消互不影响)
+     * @param key 请求键
+     * @param call 实际调用
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Object> executeAsync(String key, Supplier<CompletableFuture<Object>> call) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.thenApply(e -> e);
+        }
+        executions.increment();
+        CompletableFuture<Object> result;
+        try {
+            result = call.get();
+        }catch (RuntimeException | Error e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        result.whenComplete((value, ex) -> {
+            inFlight.remove(key, future);
+            if (ex != null) {
+                future.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            }else {
+                future.complete(value);
+            }
+        });
+        return future.thenApply(e -> e);
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        }catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EasyHttpException(cause);
+        }
+    }
+
+    /**
+     * 请求键: 接口方法 + 请求方式 + 逻辑URL(含查询参数，负载均衡时与选中的实例无关) + 请求头。
+     * 同一URL的不同方法返回类型可能不同，不能共享解码结果
+     * @param method 接口方法
+     * @param request HttpRequest
+     * @return key
+     */
+    public static String key(Method method, HttpRequest request) {
+        StringBuilder sb = new StringBuilder(192);
+        String url = request.getLogicalUrl();
+        sb.append(method).append('\n').append(request.getMethod()).append(' ').append(url);
+        String params = Utils.asUrlEncoded(request.getParams());
+        if (params != null) {
+            sb.append(url.contains("?") ? '&' : '?').append(params);
+        }
+        if (request.getHeaders() != null) {
+            for (NameValue<String, String> header : request.getHeaders()) {
+                sb.append('\n').append(header.getName()).append(':').append(header.getValue());
+            }
+        }
+        return sb.toString();
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
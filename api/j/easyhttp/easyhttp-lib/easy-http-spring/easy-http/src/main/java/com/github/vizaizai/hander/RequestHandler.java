@@ -4,7 +4,12 @@ import com.github.vizaizai.annotation.Body;
 import com.github.vizaizai.annotation.Headers;
 import com.github.vizaizai.annotation.Param;
 import com.github.vizaizai.annotation.Var;
+import com.github.vizaizai.breaker.CircuitBreaker;
+import com.github.vizaizai.breaker.CircuitBreakerRegistry;
+import com.github.vizaizai.buffer.BufferPool;
+import com.github.vizaizai.cache.HttpCache;
 import com.github.vizaizai.client.AbstractClient;
+import com.github.vizaizai.client.AsyncClient;
 import com.github.vizaizai.codec.Encoder;
 import com.github.vizaizai.entity.*;
 import com.github.vizaizai.entity.body.RequestBody;
@@ -12,11 +17,17 @@ import com.github.vizaizai.entity.body.RequestBodyType;
 import com.github.vizaizai.entity.form.BodyContent;
 import com.github.vizaizai.entity.form.FormBodyParts;
 import com.github.vizaizai.entity.form.FormData;
+import com.github.vizaizai.exception.DeadlineExceededException;
+import com.github.vizaizai.exception.EasyHttpException;
 import com.github.vizaizai.interceptor.InterceptorExecutor;
+import com.github.vizaizai.lb.Endpoint;
+import com.github.vizaizai.lb.EndpointGroup;
 import com.github.vizaizai.parser.Arg;
 import com.github.vizaizai.parser.ArgsParser;
 import com.github.vizaizai.parser.InterfaceParser;
 import com.github.vizaizai.parser.MethodParser;
+import com.github.vizaizai.parser.MethodTemplate;
+import com.github.vizaizai.parser.PathTemplate;
 import com.github.vizaizai.proxy.ProxyContext;
 import com.github.vizaizai.util.Assert;
 import com.github.vizaizai.util.TypeUtils;
@@ -28,9 +39,9 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 请求处理器
@@ -44,6 +55,10 @@ public class RequestHandler implements Handler<HttpResponse>{
      * 请求基本路径
      */
     private String url;
+    /**
+     * 方法请求模板
+     */
+    private MethodTemplate methodTemplate;
     /**
      * 接口解析器
      */
@@ -80,6 +95,38 @@ public class RequestHandler implements Handler<HttpResponse>{
      * 重试设置
      */
     private RetrySettings retrySettings;
+    /**
+     * 响应体缓冲池
+     */
+    private BufferPool bufferPool;
+    /**
+     * HTTP缓存
+     */
+    private HttpCache httpCache;
+    /**
+     * 传递剩余时间预算的请求头
+     */
+    private String deadlineHeader;
+    /**
+     * 熔断器
+     */
+    private CircuitBreakerRegistry circuitBreakers;
+    /**
+     * 实例组(负载均衡)
+     */
+    private EndpointGroup endpointGroup;
+    /**
+     * 本次请求选中的实例
+     */
+    private Endpoint endpoint;
+    /**
+     * 是否计入了实例的在途请求数(选中时计入，避免选择与发出之间的并发请求都选中同一个实例)
+     */
+    private boolean outstanding;
+    /**
+     * 实例请求发出时间(ns)，未发出时为-1
+     */
+    private long sentAt = -1;
 
     /**
      * 创建RequestHandler
@@ -87,31 +134,28 @@ public class RequestHandler implements Handler<HttpResponse>{
      * @return RequestHandler
      */
     public static RequestHandler create(ProxyContext<?> proxyContext, Method method, Object[] args) {
-        // 接口解析
-        InterfaceParser interfaceParser = InterfaceParser.doParse(proxyContext.getTargetClazz());
-        // 方法解析
-        MethodParser methodParser = MethodParser.doParse(method, proxyContext);
-        // 参数解析
-        List<Arg> argList = new LinkedList<>();
-        for (int i = 0; args != null && i < args.length; i++) {
-            argList.add(Arg.instance(args[i],method, i));
-        }
-        ArgsParser argsParser = ArgsParser.doParse(argList);
+        // 方法模板(接口解析、方法解析、参数模板、拦截器排序只在首次调用时进行)
+        MethodTemplate template = proxyContext.getMethodTemplate(method);
 
         RequestHandler handler = new RequestHandler();
         handler.url = proxyContext.getUrl();
         handler.encoder = proxyContext.getEncoder();
-        handler.client(proxyContext.getClient(),proxyContext.getRequestConfig());
-
-        handler.interfaceParser = interfaceParser;
-        handler.argsParser = argsParser;
-        handler.methodParser = methodParser;
-        handler.retrySettings = proxyContext.getRetrySettings();
+        handler.client(proxyContext.getClient(), template.getRequestConfig());
+        handler.bufferPool = proxyContext.getBufferPool();
+        handler.httpCache = proxyContext.getHttpCache();
+        handler.deadlineHeader = proxyContext.getDeadlineHeader();
+        handler.circuitBreakers = proxyContext.getCircuitBreakers();
+        handler.endpointGroup = proxyContext.getEndpointGroup();
+
+        handler.methodTemplate = template;
+        handler.interfaceParser = template.getInterfaceParser();
+        handler.methodParser = template.getMethodParser();
+        // 绑定参数值
+        handler.argsParser = template.bind(args);
+        handler.retrySettings = template.getRetrySettings();
 
         // 拦截执行器
-        handler.interceptorExecutor = InterceptorExecutor.create(proxyContext.getInterceptors());
-        // 添加方法级别的拦截器
-        handler.interceptorExecutor.addInterceptors(methodParser.getInterceptors());
+        handler.interceptorExecutor = InterceptorExecutor.createOrdered(template.getInterceptors());
 
         // 初始化请求
         handler.initRequest();
@@ -133,15 +177,26 @@ public class RequestHandler implements Handler<HttpResponse>{
 
         this.request = new HttpRequest();
 
-        // 设置配置
+        // 设置配置(每个请求独立一份，HttpRequestConfig参数按次覆盖)
+        List<Arg> configArgs = argsParser.getArgs(Arg.CONFIG);
+        this.config = configArgs.isEmpty() ? this.config.copy() : this.config.merge((HttpRequestConfig) configArgs.get(0).getSource());
         this.request.setConfig(this.config);
 
+        // 截止时间: 参数、@Timeout(total)与线程上下文中最早的
+        this.request.setDeadline(this.resolveDeadline());
+
         // 字符编码
         this.request.setEncoding(this.config.getEncoding());
 
         // 是否异步
         this.request.setAsync(this.getMethodParser().isAsync());
 
+        // 是否流式响应
+        this.request.setStreaming(this.getMethodParser().isStreaming());
+
+        // 响应体缓冲池
+        this.request.setBufferPool(this.bufferPool);
+
         // 设置请求方式
         this.request.setMethod(methodParser.getHttpMethod());
 
@@ -154,9 +209,6 @@ public class RequestHandler implements Handler<HttpResponse>{
         // 处理请求headers
         this.handleHeaders();
 
-        // 处理重试设置
-        this.handleRetry();
-
         // 参数解析列表不为空，则需要解析方法参数
         if (!argsParser.isEmpty()) {
             // 处理请求query参数
@@ -171,9 +223,137 @@ public class RequestHandler implements Handler<HttpResponse>{
     public HttpResponse execute() throws IOException {
         // 执行过滤
         this.doInterceptor();
-        client.setConfig(this.request.getConfig());
+        this.applyDeadline();
+        this.sent();
+        if (httpCache != null) {
+            return httpCache.execute(this.request, client);
+        }
         return client.request(this.request);
     }
+
+    /**
+     * 非阻塞执行(客户端需实现AsyncClient)
+     * @return CompletableFuture&lt;HttpResponse&gt;
+     */
+    public CompletableFuture<HttpResponse> executeAsync() {
+        if (!(client instanceof AsyncClient)) {
+            throw new EasyHttpException("Client '" + client.getClass().getSimpleName() + "' does not support non-blocking requests");
+        }
+        // 执行过滤
+        this.doInterceptor();
+        this.applyDeadline();
+        this.sent();
+        if (httpCache != null) {
+            return httpCache.executeAsync(this.request, (AsyncClient) client);
+        }
+        return ((AsyncClient) client).requestAsync(this.request);
+    }
+
+    /**
+     * 确定本次调用的截止时间
+     * @return Deadline(无限制时为null)
+     */
+    private Deadline resolveDeadline() {
+        Deadline deadline = Deadline.current();
+        if (methodParser.getTotalTimeout() > -1) {
+            deadline = Deadline.earliest(deadline, Deadline.afterMillis(methodParser.getTotalTimeout()));
+        }
+        List<Arg> deadlineArgs = argsParser.getArgs(Arg.DEADLINE);
+        if (!deadlineArgs.isEmpty()) {
+            deadline = Deadline.earliest(deadline, (Deadline) deadlineArgs.get(0).getSource());
+        }
+        return deadline;
+    }
+
+    /**
+     * 按剩余时间预算收紧本次请求的超时(每次重试重新计算)，并按需通过请求头传递剩余预算
+     */
+    private void applyDeadline() {
+        Deadline deadline = this.request.getDeadline();
+        if (deadline == null) {
+            return;
+        }
+        long remaining = deadline.remainingMillis();
+        if (remaining <= 0) {
+            throw new DeadlineExceededException("Deadline exceeded before request: " + this.request.getUrl());
+        }
+        int budget = (int) Math.min(remaining, Integer.MAX_VALUE);
+        HttpRequestConfig requestConfig = this.request.getConfig();
+        requestConfig.setConnectTimeout(shrink(requestConfig.getConnectTimeout(), budget));
+        requestConfig.setRequestTimeout(shrink(requestConfig.getRequestTimeout(), budget));
+        // 为空时由客户端按连接池设置与剩余预算取较小值
+        if (requestConfig.getConnectionRequestTimeout() != null) {
+            requestConfig.setConnectionRequestTimeout(shrink(requestConfig.getConnectionRequestTimeout(), budget));
+        }
+        if (VUtils.isNotBlank(deadlineHeader)) {
+            this.request.getHeaders().remove(deadlineHeader);
+            this.request.addHeader(deadlineHeader, String.valueOf(remaining));
+        }
+    }
+
+    /**
+     * 超时时间不超过剩余预算(未设置或0表示不限制)
+     */
+    private static Integer shrink(Integer timeout, int budget) {
+        return timeout == null || timeout <= 0 ? budget : Math.min(timeout, budget);
+    }
+
+    /**
+     * 请求发出(重试时重新计入实例的在途请求数)
+     */
+    private void sent() {
+        if (endpoint == null) {
+            return;
+        }
+        if (!outstanding) {
+            endpointGroup.begin(endpoint);
+            outstanding = true;
+        }
+        sentAt = System.nanoTime();
+    }
+
+    /**
+     * 记录实例的请求结果(延迟、失败与异常摘除)
+     * @param skipped 请求未实际发出或被取消，只释放在途计数
+     * @param failed 是否失败
+     */
+    public void completed(boolean skipped, boolean failed) {
+        if (!outstanding) {
+            return;
+        }
+        if (skipped || sentAt < 0) {
+            endpointGroup.release(endpoint);
+        }else {
+            endpointGroup.record(endpoint, System.nanoTime() - sentAt, failed);
+        }
+        outstanding = false;
+        sentAt = -1;
+    }
+
+    /**
+     * 重试时切换到其它实例(只有一个可用实例时不变)
+     */
+    void reselect() {
+        if (endpoint == null) {
+            return;
+        }
+        Endpoint next = endpointGroup.choose(endpoint);
+        String current = this.request.getUrl();
+        if (next == endpoint || current == null || !current.startsWith(endpoint.getUrl())) {
+            return;
+        }
+        this.request.setUrl(next.getUrl() + current.substring(endpoint.getUrl().length()));
+        this.request.setEndpoint(next.getUrl(), endpointGroup.getLogicalUrl());
+        this.endpoint = next;
+        this.url = next.getUrl();
+    }
+
+    /**
+     * 是否可非阻塞执行
+     */
+    public boolean isAsyncCapable() {
+        return client instanceof AsyncClient;
+    }
     /**
      * 执行过滤器
      */
@@ -189,23 +369,25 @@ public class RequestHandler implements Handler<HttpResponse>{
      * 处理path
      */
     private void handlePath() {
-        String path = this.methodParser.getPath();
-        Map<String,String> pathParams = new HashMap<>();
-        List<Arg> args = argsParser.getArgs(Var.TYPE);
-        for (Arg arg : args) {
-            // var替换路径
-            if (this.methodParser.getVarCount() > 0) {
-                String key = Utils.urlEncode(arg.getVarName(), this.request.getEncoding().name());
-                String value = Utils.urlEncode(Utils.toText(arg.getSource()),this.request.getEncoding().name());
-                pathParams.put(key,value);
+        PathTemplate pathTemplate = this.methodParser.getPathTemplate();
+        Object[] values = null;
+        // var替换路径
+        if (pathTemplate.getVarCount() > 0) {
+            for (Arg arg : argsParser.getArgs(Var.TYPE)) {
+                int slot = pathTemplate.indexOf(arg.getVarName());
+                if (slot == -1) {
+                    continue;
+                }
+                if (values == null) {
+                    values = new Object[pathTemplate.getVarSlots()];
+                }
+                values[slot] = Utils.toText(arg.getSource());
             }
         }
-        String formatPath = Utils.formatPlaceholder(path, pathParams);
-        if(VUtils.isNotBlank(formatPath) && (formatPath.startsWith(HTTP) || formatPath.startsWith(HTTPS))) {
-            this.request.setUrl(formatPath);
-            return;
+        this.request.setUrl(pathTemplate.expand(this.url, values, this.request.getEncoding()));
+        if (endpoint != null) {
+            this.request.setEndpoint(endpoint.getUrl(), endpointGroup.getLogicalUrl());
         }
-        this.request.setUrl(this.url + formatPath);
     }
 
     /**
@@ -284,35 +466,15 @@ public class RequestHandler implements Handler<HttpResponse>{
         }
     }
 
-    /**
-     * 处理重试设置
-     */
-    private void handleRetry() {
-        // 方法上的设置
-        RetrySettings methodSettings = this.methodParser.getRetrySettings();
-        if (methodSettings == null) {
+    private void handleUrl() {
+        // 多实例时按负载均衡选择实例(绝对路径不经过实例组)
+        if (endpointGroup != null && !methodParser.getPathTemplate().isAbsolute()) {
+            this.endpoint = endpointGroup.choose();
+            this.url = endpoint.getUrl();
+            endpointGroup.begin(endpoint);
+            this.outstanding = true;
             return;
         }
-        // 全局默认设置
-        if (this.retrySettings == null) {
-            this.retrySettings = new RetrySettings();
-        }
-        // 方法上的重试设置优先级更高
-        if (methodSettings.getEnable() != null) {
-            this.retrySettings.setEnable(methodSettings.getEnable());
-        }
-
-        if (methodSettings.getMaxAttempts() != null && methodSettings.getMaxAttempts() > 0) {
-            this.retrySettings.setMaxAttempts(methodSettings.getMaxAttempts());
-        }
-
-        if (methodSettings.getIntervalTime() != null && methodSettings.getIntervalTime() > -1) {
-            this.retrySettings.setIntervalTime(methodSettings.getIntervalTime());
-        }
-
-    }
-
-    private void handleUrl() {
         if (this.url == null) {
             this.url = "";
         }
@@ -440,6 +602,10 @@ public class RequestHandler implements Handler<HttpResponse>{
         return methodParser;
     }
 
+    public MethodTemplate getMethodTemplate() {
+        return methodTemplate;
+    }
+
     public ArgsParser getArgsParser() {
         return argsParser;
     }
@@ -474,4 +640,23 @@ public class RequestHandler implements Handler<HttpResponse>{
     public RetrySettings getRetrySettings() {
         return retrySettings;
     }
+
+    /**
+     * 本次请求选中的实例
+     * @return Endpoint(未配置实例组时为null)
+     */
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 本次请求对应的熔断器
+     * @return CircuitBreaker(未开启熔断时为null)
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        if (circuitBreakers == null) {
+            return null;
+        }
+        return circuitBreakers.get(request.getMethod(), request.getUrl(), methodParser.getPath());
+    }
 }
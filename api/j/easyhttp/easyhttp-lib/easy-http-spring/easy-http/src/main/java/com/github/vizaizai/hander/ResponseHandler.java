@@ -1,15 +1,33 @@
 package com.github.vizaizai.hander;
 
+import com.github.vizaizai.annotation.Download;
+import com.github.vizaizai.buffer.PooledBody;
 import com.github.vizaizai.codec.Decoder;
 import com.github.vizaizai.codec.SimpleDecoder;
+import com.github.vizaizai.exception.CodeStatusException;
 import com.github.vizaizai.exception.EasyHttpException;
 import com.github.vizaizai.interceptor.InterceptorExecutor;
 import com.github.vizaizai.entity.HttpRequest;
 import com.github.vizaizai.entity.HttpResponse;
+import com.github.vizaizai.entity.body.Body;
+import com.github.vizaizai.parser.Arg;
 import com.github.vizaizai.proxy.ProxyContext;
+import com.github.vizaizai.util.StreamUtils;
 import com.github.vizaizai.util.TypeUtils;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 响应处理器
@@ -22,11 +40,27 @@ public class ResponseHandler implements Handler<Object>{
     private InterceptorExecutor interceptorExecutor;
     private Decoder decoder;
     private Type returnType;
+    /**
+     * 响应流消费者
+     */
+    private Consumer<InputStream> streamConsumer;
+    /**
+     * 是否下载到文件
+     */
+    private boolean download;
+    /**
+     * 下载目标文件(为空时下载到临时文件)
+     */
+    private Path downloadTarget;
 
     private ResponseHandler() {
     }
 
     public ResponseHandler response(HttpResponse response) {
+        // 重试时释放上一次未被读取的响应体
+        if (this.response != null && this.response != response) {
+            StreamUtils.ensureClosed(this.response.getBody());
+        }
         this.response = response;
         this.response.setReturnType(this.returnType);
         this.response.setEncoding(this.decoder.encoding());
@@ -39,38 +73,149 @@ public class ResponseHandler implements Handler<Object>{
      * @return ResponseHandler
      */
     public static ResponseHandler create(ProxyContext<?> proxyContext, RequestHandler requestHandler) {
-        Type returnType = requestHandler.getMethodParser().getTarget().getGenericReturnType();
         ResponseHandler handler = new ResponseHandler();
         handler.request = requestHandler.getRequest();
-        handler.returnType = TypeUtils.getDecodeType(returnType);
+        handler.returnType = requestHandler.getMethodTemplate().getReturnType();
         handler.decoder = proxyContext.getDecoder();
         handler.interceptorExecutor = requestHandler.getInterceptorExecutor();
+        handler.streamConsumer = streamConsumer(requestHandler);
+        handler.download = requestHandler.getMethodParser().isDownload();
+        handler.downloadTarget = downloadTarget(requestHandler);
         return handler;
     }
 
+    private static Path downloadTarget(RequestHandler requestHandler) {
+        List<Arg> args = requestHandler.getArgsParser().getArgs(Download.TYPE);
+        Object target = args.isEmpty() ? null : args.get(0).getSource();
+        if (target instanceof File) {
+            return ((File) target).toPath();
+        }
+        return (Path) target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<InputStream> streamConsumer(RequestHandler requestHandler) {
+        List<Arg> args = requestHandler.getArgsParser().getArgs(Arg.STREAM_CONSUMER);
+        return args.isEmpty() ? null : (Consumer<InputStream>) args.get(0).getSource();
+    }
+
     @Override
     public Object execute() {
         if (response == null) {
             throw new EasyHttpException("Response is null");
         }
-        // 执行后置拦截
-        interceptorExecutor.doPostInterceptors(this.request, this.response);
-        // 返回类型为HttpResponse
-        if (TypeUtils.equals(this.returnType, HttpResponse.class)) {
-            return response;
+        // 流式响应
+        if (this.request.isStreaming()) {
+            return this.streaming();
+        }
+        // 返回HttpResponse时响应体交由调用方，否则解码完成后释放池化响应体
+        boolean keepBody = false;
+        try {
+            // 执行后置拦截
+            interceptorExecutor.doPostInterceptors(this.request, this.response);
+            // 返回类型为HttpResponse
+            if (TypeUtils.equals(this.returnType, HttpResponse.class)) {
+                keepBody = true;
+                return response;
+            }
+            // 如果已经序列化,则直接返回
+            if (this.response.isDeserialize()) {
+                return this.response.getReturnObject();
+            }
+            // 响应解码
+            if (TypeUtils.isBaseType(this.returnType)) {
+                this.decoder = new SimpleDecoder();
+            }
+            Object returnObject = this.decoder.decode(this.response, this.returnType);
+            this.response.setReturnObject(returnObject);
+            this.response.setDeserialize(true);
+            return returnObject;
+        }finally {
+            if (!keepBody) {
+                this.releaseBody();
+            }
+        }
+    }
+
+    /**
+     * 归还池化响应体的内存块
+     */
+    private void releaseBody() {
+        Body body = this.response.getBody();
+        if (body instanceof PooledBody) {
+            ((PooledBody) body).close();
+        }
+    }
+
+    /**
+     * 处理流式响应: 响应体不缓存，由调用方关闭流后归还连接
+     * @return InputStream、Reader或null(由Consumer消费)
+     */
+    private Object streaming() {
+        Body body = this.response.getBody();
+        try {
+            // 执行后置拦截
+            interceptorExecutor.doPostInterceptors(this.request, this.response);
+            if (this.download) {
+                return this.download(body);
+            }
+            if (this.streamConsumer != null) {
+                try (InputStream in = body == null ? null : body.asInputStream()) {
+                    this.streamConsumer.accept(in);
+                }
+                return TypeUtils.equals(this.returnType, HttpResponse.class) ? this.response : null;
+            }
+            if (TypeUtils.equals(this.returnType, HttpResponse.class)) {
+                return this.response;
+            }
+            if (body == null) {
+                return null;
+            }
+            if (TypeUtils.equals(this.returnType, Reader.class)) {
+                return body.asReader(this.response.getEncoding());
+            }
+            return body.asInputStream();
+        }catch (IOException e) {
+            StreamUtils.ensureClosed(body);
+            throw new EasyHttpException(e);
+        }catch (RuntimeException | Error e) {
+            StreamUtils.ensureClosed(body);
+            throw e;
+        }
+    }
+
+    /**
+     * 将响应体写入目标文件: 先写入同目录下的临时文件，完成后原子替换目标文件
+     * @param body 响应体
+     * @return Path、File或null
+     */
+    private Object download(Body body) throws IOException {
+        if (!this.response.isOk()) {
+            throw new CodeStatusException(this.response.getStatusCode(), this.response.getMessage());
         }
-        // 如果已经序列化,则直接返回
-        if (this.response.isDeserialize()) {
-            return this.response.getReturnObject();
+        Path target = this.downloadTarget == null ? Files.createTempFile("easy-http-", ".download") : this.downloadTarget;
+        Path dir = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(dir, target.getFileName().toString(), ".part");
+        try {
+            try (InputStream in = body == null ? null : body.asInputStream();
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                if (in != null) {
+                    StreamUtils.transfer(in, channel);
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
         }
-        // 响应解码
-        if (TypeUtils.isBaseType(this.returnType)) {
-            this.decoder = new SimpleDecoder();
+        if (TypeUtils.equals(this.returnType, File.class)) {
+            return target.toFile();
         }
-        Object returnObject = this.decoder.decode(this.response, this.returnType);
-        this.response.setReturnObject(returnObject);
-        this.response.setDeserialize(true);
-        return returnObject;
+        return TypeUtils.isVoid(this.returnType) ? null : target;
     }
 
     public void setResponse(HttpResponse response) {
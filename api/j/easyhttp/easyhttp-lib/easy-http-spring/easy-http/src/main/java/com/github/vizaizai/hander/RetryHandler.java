@@ -1,51 +1,181 @@
 package com.github.vizaizai.hander;
 
+import com.github.vizaizai.entity.Deadline;
+import com.github.vizaizai.entity.HttpResponse;
 import com.github.vizaizai.entity.RetrySettings;
+import com.github.vizaizai.exception.CodeStatusException;
+import com.github.vizaizai.exception.DeadlineExceededException;
 import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.limit.RateLimiter;
+import com.github.vizaizai.parser.MethodTemplate;
+import com.github.vizaizai.retry.Backoff;
+import com.github.vizaizai.retry.Backoffs;
 import com.github.vizaizai.retry.DefaultRule;
+import com.github.vizaizai.retry.RetryBudget;
 import com.github.vizaizai.retry.RetryTrigger;
-import com.github.vizaizai.retry.core.Retry;
-import com.github.vizaizai.retry.mode.Modes;
 
-import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * 重试处理: 按退避策略计算间隔，受截止时间与重试预算约束，有限流器时重试同样消耗许可
  * @author liaochongwei
  * @date 2020/12/16 16:34
  */
 public class RetryHandler implements Handler<Object>{
-    private final Context context;
+    /**
+     * 异步重试的定时器(不占用工作线程等待)
+     */
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "easy-http-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final HttpHandler httpHandler;
+    /**
+     * 最大重试次数
+     */
+    private final int max;
+    private final Backoff backoff;
+    private final RetryTrigger retryTrigger;
+    private final RetryBudget budget;
+    private final RateLimiter rateLimiter;
+    /**
+     * 已重试次数
+     */
+    private int attempts;
+    /**
+     * 上一次的等待时间(ms)
+     */
+    private long lastDelay;
 
-    public RetryHandler(Context context) {
-        this.context = context;
+    public RetryHandler(HttpHandler httpHandler) {
+        RetrySettings retrySettings = httpHandler.getRetrySettings();
+        if (!enableRetry(retrySettings)) {
+            throw new EasyHttpException("Can't retry");
+        }
+        this.httpHandler = httpHandler;
+        this.max = retrySettings.getMaxAttempts() == null ? 3 : retrySettings.getMaxAttempts();
+        if (retrySettings.getBackoff() != null) {
+            this.backoff = retrySettings.getBackoff();
+        }else {
+            this.backoff = Backoffs.fixed(retrySettings.getIntervalTime() == null ? 10 : retrySettings.getIntervalTime());
+        }
+        this.retryTrigger = retrySettings.getRetryTrigger() == null ? new DefaultRule() : retrySettings.getRetryTrigger();
+        this.budget = retrySettings.getBudget();
+        MethodTemplate template = httpHandler.requestHandler.getMethodTemplate();
+        this.rateLimiter = template == null ? null : template.getRateLimiter();
     }
 
     @Override
     public Object execute() {
-        RetrySettings retrySettings = context.getRetrySettings();
-        // 如果开启重试，注入重试任务
-        HttpHandler httpHandler = (HttpHandler) context;
-        if (!enableRetry(retrySettings)) {
-            throw new EasyHttpException("Can't retry");
-        }
-        // 最大重试次数
-        int max = retrySettings.getMaxAttempts() == null ? 3 : retrySettings.getMaxAttempts();
-        // 间隔时间（ms）
-        int intervalTime = retrySettings.getIntervalTime() == null ? 10 : retrySettings.getIntervalTime();
-        // 触发规则
-        RetryTrigger retryTrigger = retrySettings.getRetryTrigger() == null ? new DefaultRule() : retrySettings.getRetryTrigger();
-        Retry<Object> retry = Retry.inject(() -> {
+        this.begin();
+        while (true) {
             Object result = httpHandler.doHttp();
-            // 执行触发器，判断是否重试
-            if (retryTrigger.retryable(context)) {
-                throw new EasyHttpException(context.getResponse().getCause());
+            long delay = this.nextDelay();
+            if (delay < 0) {
+                return result;
+            }
+            if (delay > 0) {
+                try {
+                    Thread.sleep(delay);
+                }catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return result;
+                }
             }
-            return result;
-        });
-        return retry.max(max)
-                .mode(Modes.arithmetic(intervalTime, 0, ChronoUnit.MILLIS))
-                .retryFor(EasyHttpException.class)
-                .execute();
+            this.reset();
+        }
+    }
+
+    /**
+     * 开始请求(计入重试预算)
+     */
+    void begin() {
+        if (budget != null) {
+            budget.deposit(httpHandler.getRequest().getUrl());
+        }
+    }
+
+    /**
+     * 根据本次请求结果判断是否重试
+     * @return 重试前的等待时间(ms)，不重试时返回-1
+     */
+    long nextDelay() {
+        if (!retryTrigger.retryable(httpHandler)) {
+            return -1;
+        }
+        if (attempts >= max) {
+            return this.exhausted();
+        }
+        long delay = Math.max(0, backoff.delay(attempts + 1, lastDelay));
+        // 剩余时间预算不足以等待间隔后再请求一次时不再重试
+        if (!withinDeadline(httpHandler, delay)) {
+            return this.exhausted();
+        }
+        if (budget != null && !budget.tryAcquire(httpHandler.getRequest().getUrl())) {
+            return this.exhausted();
+        }
+        // 重试也占用一个许可，等待许可的时间并入重试间隔
+        if (rateLimiter != null) {
+            long wait = rateLimiter.reserve(Math.max(TimeUnit.MILLISECONDS.toNanos(delay), rateLimiter.maxWaitNanos()));
+            if (wait < 0) {
+                return this.exhausted();
+            }
+            delay = Math.max(delay, TimeUnit.NANOSECONDS.toMillis(wait + 999999));
+        }
+        attempts++;
+        lastDelay = delay;
+        return delay;
+    }
+
+    /**
+     * 不再重试但最后一次请求仍满足重试条件: 以异常结束(5xx响应没有异常时包装为状态码异常)
+     * @return -1
+     */
+    private long exhausted() {
+        HttpResponse response = httpHandler.getResponse();
+        if (response.getCause() == null) {
+            httpHandler.fail(new EasyHttpException("Retries exhausted: " + httpHandler.getRequest().getUrl(),
+                    new CodeStatusException(response.getStatusCode(), response.getMessage())));
+        }
+        return -1;
+    }
+
+    /**
+     * 清除上一次的响应，准备重试(多实例时换一个实例)
+     */
+    void reset() {
+        httpHandler.responseHandler.setResponse(null);
+        httpHandler.requestHandler.reselect();
+    }
+
+    /**
+     * 延迟执行重试
+     * @param task 重试任务
+     * @param delay 等待时间(ms)
+     */
+    static void schedule(Runnable task, long delay) {
+        TIMER.schedule(task, delay, TimeUnit.MILLISECONDS);
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * 截止时间是否还能容纳下一次重试
+     * @param context 上下文
+     * @param delay 等待时间(ms)
+     * @return boolean
+     */
+    private static boolean withinDeadline(Context context, long delay) {
+        if (context.getResponse().getCause() instanceof DeadlineExceededException) {
+            return false;
+        }
+        Deadline deadline = context.getRequest().getDeadline();
+        return deadline == null || deadline.remainingMillis() > delay;
     }
 
     /**
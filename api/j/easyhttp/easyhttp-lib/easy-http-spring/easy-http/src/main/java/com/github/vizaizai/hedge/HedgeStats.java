@@ -0,0 +1,80 @@
+package com.github.vizaizai.hedge;
+
+/**
+ * 对冲请求统计快照
+ * @author liaochongwei
+ * @date 2026/10/18 19:45
+ */
+public class HedgeStats {
+    /**
+     * 方法名(接口名#方法名)
+     */
+    private final String name;
+    private final long requests;
+    /**
+     * 发出的对冲请求数
+     */
+    private final long hedges;
+    /**
+     * 对冲请求先完成的次数
+     */
+    private final long wins;
+    /**
+     * 超过比例上限未发出的对冲数
+     */
+    private final long rejected;
+    /**
+     * 当前的对冲延迟(ms)，观测样本不足时为-1
+     */
+    private final long delayMillis;
+
+    HedgeStats(String name, long requests, long hedges, long wins, long rejected, long delayMillis) {
+        this.name = name;
+        this.requests = requests;
+        this.hedges = hedges;
+        this.wins = wins;
+        this.rejected = rejected;
+        this.delayMillis = delayMillis;
+    }
+
+    public double getHedgeRate() {
+        return requests == 0 ? 0 : (double) hedges / requests;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getHedges() {
+        return hedges;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "HedgeStats{" +
+                "name='" + name + '\'' +
+                ", requests=" + requests +
+                ", hedges=" + hedges +
+                ", hedgeRate=" + String.format("%.4f", getHedgeRate()) +
+                ", wins=" + wins +
+                ", rejected=" + rejected +
+                ", delayMillis=" + delayMillis +
+                '}';
+    }
+}
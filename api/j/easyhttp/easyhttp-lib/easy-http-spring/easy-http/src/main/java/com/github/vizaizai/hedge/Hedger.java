@@ -0,0 +1,220 @@
+package com.github.vizaizai.hedge;
+
+import com.github.vizaizai.entity.HedgeSettings;
+import com.github.vizaizai.entity.HttpRequest;
+import com.github.vizaizai.entity.HttpResponse;
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.hander.AsyncHttpHandler;
+import com.github.vizaizai.retry.RetryBudget;
+import com.github.vizaizai.util.Assert;
+import com.github.vizaizai.util.StreamUtils;
+
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 对冲请求: 首次请求超过延迟(固定值或观测到的延迟分位数)仍未完成时再发出一次相同请求，
+ * 取先成功完成的结果，并取消另一个请求以释放其连接。对冲数量按令牌桶限制在请求量的一定比例内
+ * @author liaochongwei
+ * @date 2026/10/18 19:50
+ */
+public class Hedger {
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "easy-http-hedger");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final String name;
+    /**
+     * 固定延迟(ns)，小于0时取延迟分位数
+     */
+    private final long delayNanos;
+    private final LatencyWindow latencies;
+    /**
+     * 对冲比例上限
+     */
+    private final RetryBudget budget;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private Hedger(String name, HedgeSettings settings) {
+        this.name = name;
+        this.delayNanos = settings.getDelay() == null || settings.getDelay() < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(settings.getDelay());
+        this.latencies = new LatencyWindow(settings.getPercentile());
+        this.budget = RetryBudget.perClient(settings.getMaxRatio(), settings.getMaxBurst());
+    }
+
+    public static Hedger create(Method method, HedgeSettings settings) {
+        Assert.isTrue(settings.getPercentile() != null && settings.getPercentile() > 0 && settings.getPercentile() < 100,
+                "percentile must be between 1 and 99");
+        Assert.isTrue(settings.getMaxRatio() != null && settings.getMaxBurst() != null, "maxRatio and maxBurst must be not null");
+        return new Hedger(method.getDeclaringClass().getSimpleName() + "#" + method.getName(), settings);
+    }
+
+    /**
+     * 执行对冲请求
+     * @param attempts 创建一次请求(每次调用返回新的处理器)
+     * @param async 是否返回CompletableFuture
+     * @return 结果
+     */
+    public Object execute(Supplier<AsyncHttpHandler> attempts, boolean async) {
+        requests.increment();
+        budget.deposit(name);
+        Race race = new Race(attempts);
+        race.start(false);
+        long delay = this.delayNanos();
+        if (delay > -1 && !race.result.isDone()) {
+            ScheduledFuture<?> timer = TIMER.schedule(race::hedge, delay, TimeUnit.NANOSECONDS);
+            race.result.whenComplete((value, ex) -> timer.cancel(false));
+        }
+        if (async) {
+            return race.result;
+        }
+        try {
+            return race.result.join();
+        }catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EasyHttpException(cause);
+        }
+    }
+
+    /**
+     * 当前的对冲延迟
+     * @return 延迟(ns)，观测样本不足时为-1(不对冲)
+     */
+    private long delayNanos() {
+        return delayNanos > -1 ? delayNanos : latencies.percentileNanos();
+    }
+
+    public HedgeStats stats() {
+        long delay = this.delayNanos();
+        return new HedgeStats(name, requests.sum(), hedges.sum(), wins.sum(), rejected.sum(),
+                delay < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(delay));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static void release(Object value) {
+        if (value instanceof HttpResponse) {
+            StreamUtils.ensureClosed(((HttpResponse) value).getBody());
+        }else if (value instanceof Closeable) {
+            StreamUtils.ensureClosed((Closeable) value);
+        }
+    }
+
+    /**
+     * 一次调用中的首次请求与对冲请求
+     */
+    private final class Race {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final Supplier<AsyncHttpHandler> attempts;
+        private final List<HttpRequest> inFlight = new CopyOnWriteArrayList<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean primaryRecorded = new AtomicBoolean();
+        private volatile HttpRequest primary;
+
+        private Race(Supplier<AsyncHttpHandler> attempts) {
+            this.attempts = attempts;
+        }
+
+        private void hedge() {
+            if (result.isDone()) {
+                return;
+            }
+            if (!budget.tryAcquire(name)) {
+                rejected.increment();
+                return;
+            }
+            hedges.increment();
+            this.start(true);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void start(boolean hedge) {
+            pending.incrementAndGet();
+            HttpRequest request = null;
+            CompletableFuture<Object> future;
+            try {
+                AsyncHttpHandler handler = attempts.get();
+                request = handler.getRequest();
+                if (!hedge) {
+                    primary = request;
+                }
+                inFlight.add(request);
+                future = (CompletableFuture<Object>) handler.execute();
+            }catch (RuntimeException | Error e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            // 发出时已有结果，直接取消
+            if (request != null && result.isDone()) {
+                request.cancel();
+            }
+            HttpRequest current = request;
+            future.whenComplete((value, ex) -> {
+                if (!hedge) {
+                    this.recordPrimary();
+                }
+                if (ex == null) {
+                    if (result.complete(value)) {
+                        if (hedge) {
+                            wins.increment();
+                        }
+                        this.cancelOthers(current);
+                    }else {
+                        // 落败但成功的请求: 释放其响应体
+                        release(value);
+                    }
+                    return;
+                }
+                // 全部失败时返回最后一个异常
+                if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                }
+            });
+        }
+
+        /**
+         * 记录首次请求的延迟(从调用开始计): 对冲请求获胜时首次请求被取消，以取消时已耗费的时间作为下限，
+         * 避免分位数只剩下较快的样本而不断下降
+         */
+        private void recordPrimary() {
+            if (primaryRecorded.compareAndSet(false, true)) {
+                latencies.record(System.nanoTime() - startedAt);
+            }
+        }
+
+        private void cancelOthers(HttpRequest winner) {
+            for (HttpRequest request : inFlight) {
+                if (request != winner) {
+                    if (request == primary) {
+                        this.recordPrimary();
+                    }
+                    request.cancel();
+                }
+            }
+        }
+    }
+}
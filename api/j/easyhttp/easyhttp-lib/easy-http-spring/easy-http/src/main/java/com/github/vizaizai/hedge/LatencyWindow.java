@@ -0,0 +1,57 @@
+package com.github.vizaizai.hedge;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 最近N次调用的延迟窗口: 每记录REFRESH次重新计算一次分位数，读取时无需排序
+ * @author liaochongwei
+ * @date 2026/10/18 19:40
+ */
+class LatencyWindow {
+    private static final int SIZE = 512;
+    /**
+     * 样本数达到该值后才给出分位数，之后每新增该数量的样本重新计算
+     */
+    static final int REFRESH = 20;
+    private final int percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(SIZE);
+    private final AtomicLong count = new AtomicLong();
+    private volatile long cached = -1;
+
+    LatencyWindow(int percentile) {
+        this.percentile = percentile;
+    }
+
+    /**
+     * 记录一次调用的延迟
+     * @param nanos 延迟(ns)
+     */
+    void record(long nanos) {
+        long n = count.getAndIncrement();
+        samples.set((int) (n % SIZE), nanos);
+        if ((n + 1) % REFRESH == 0) {
+            this.refresh(n + 1);
+        }
+    }
+
+    private void refresh(long total) {
+        int size = (int) Math.min(total, SIZE);
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        this.cached = copy[Math.max(0, Math.min(size - 1, index))];
+    }
+
+    /**
+     * 延迟分位数
+     * @return 分位数(ns)，样本不足时为-1
+     */
+    long percentileNanos() {
+        return cached;
+    }
+}
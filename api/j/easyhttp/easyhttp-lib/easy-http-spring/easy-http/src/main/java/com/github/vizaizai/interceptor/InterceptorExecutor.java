@@ -18,6 +18,10 @@ import java.util.stream.Collectors;
  */
 public class InterceptorExecutor {
     private List<HttpInterceptor> interceptors = new ArrayList<>();
+    /**
+     * 是否已排序
+     */
+    private boolean sorted;
     private InterceptorExecutor() {
     }
     public static InterceptorExecutor create(List<HttpInterceptor> interceptors) {
@@ -29,11 +33,34 @@ public class InterceptorExecutor {
         return operation;
     }
 
+    /**
+     * 使用已排序的拦截器创建(跳过排序)
+     * @param interceptors 已按order排序的拦截器
+     * @return InterceptorExecutor
+     */
+    public static InterceptorExecutor createOrdered(List<HttpInterceptor> interceptors) {
+        InterceptorExecutor operation = create(interceptors);
+        operation.sorted = true;
+        return operation;
+    }
+
+    /**
+     * 拦截器排序
+     * @param interceptors 拦截器
+     * @return 排序后的拦截器
+     */
+    public static List<HttpInterceptor> sort(List<HttpInterceptor> interceptors) {
+        return interceptors.stream()
+                .sorted(Comparator.comparing(HttpInterceptor::order))
+                .collect(Collectors.toList());
+    }
+
     public void addInterceptors(List<HttpInterceptor> interceptors) {
         if (VUtils.isEmpty(interceptors)) {
             return;
         }
         this.interceptors.addAll(interceptors);
+        this.sorted = false;
     }
 
     /**
@@ -50,12 +77,11 @@ public class InterceptorExecutor {
      * 拦截器排序
      */
     public void ordered() {
-        if (VUtils.isEmpty(interceptors)) {
+        if (this.sorted || VUtils.isEmpty(interceptors)) {
             return;
         }
-        this.interceptors = this.interceptors.stream()
-                .sorted(Comparator.comparing(HttpInterceptor::order))
-                .collect(Collectors.toList());
+        this.interceptors = sort(this.interceptors);
+        this.sorted = true;
     }
 
     /**
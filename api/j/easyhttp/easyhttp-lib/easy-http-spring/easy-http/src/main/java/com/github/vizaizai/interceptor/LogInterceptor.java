@@ -165,6 +165,9 @@ public class LogInterceptor implements HttpInterceptor {
                         if (bodyContent.getFilename() != null) {
                             logText.append(bodyContent.getFilename());
                         }
+                    }else if (!bodyContent.isRepeatable()) {
+                        // 不可重复读取的流不打印，避免发送前被消费
+                        logText.append("(Stream)");
                     }else {
                         logText.append("=");
                         logText.append(StreamUtils.copyToString(bodyContent.getInputStream(), request.getEncoding()));
@@ -0,0 +1,191 @@
+package com.github.vizaizai.lb;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 服务实例: 记录在途请求数、延迟(峰值EWMA)、连续失败次数与摘除状态
+ * @author liaochongwei
+ * @date 2026/10/18 21:00
+ */
+public class Endpoint {
+    /**
+     * EWMA衰减时间常数，无新样本时延迟按该常数向0衰减，使被冷落的实例重新获得流量
+     */
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private final String url;
+    private final int weight;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    /**
+     * 延迟EWMA(ns)及其更新时间
+     */
+    private double ewmaNanos;
+    private long ewmaUpdatedAt;
+    /**
+     * 被动摘除: 摘除截止时间(nanoTime)与累计摘除次数(决定下次摘除时长)
+     */
+    private volatile long ejectedUntil;
+    private volatile boolean ejected;
+    private final AtomicInteger ejections = new AtomicInteger();
+    /**
+     * 主动健康检查结果
+     */
+    private volatile boolean healthy = true;
+    private final AtomicInteger healthCheckStreak = new AtomicInteger();
+
+    Endpoint(String url, int weight) {
+        this.url = url;
+        this.weight = weight;
+        this.ewmaUpdatedAt = System.nanoTime();
+    }
+
+    /**
+     * 是否可被选择: 未被摘除且健康检查通过
+     * @param now System.nanoTime()
+     * @return boolean
+     */
+    boolean isAvailable(long now) {
+        return healthy && (!ejected || now - ejectedUntil >= 0);
+    }
+
+    /**
+     * 开始一次请求
+     */
+    void begin() {
+        outstanding.incrementAndGet();
+        requests.incrementAndGet();
+    }
+
+    /**
+     * 请求完成
+     * @param nanos 耗时
+     * @param failed 是否失败
+     * @return 连续失败次数
+     */
+    int complete(long nanos, boolean failed) {
+        outstanding.decrementAndGet();
+        this.observe(nanos);
+        if (failed) {
+            failures.incrementAndGet();
+            return consecutiveFailures.incrementAndGet();
+        }
+        consecutiveFailures.set(0);
+        return 0;
+    }
+
+    /**
+     * 请求未完成即放弃(被取消)，不计入统计
+     */
+    void release() {
+        outstanding.decrementAndGet();
+    }
+
+    /**
+     * 峰值EWMA: 样本高于当前值时直接取样本(快速感知变慢)，否则按时间衰减平滑
+     */
+    private synchronized void observe(long nanos) {
+        long now = System.nanoTime();
+        double weight = Math.exp(-Math.max(0, now - ewmaUpdatedAt) / DECAY_NANOS);
+        double decayed = ewmaNanos * weight;
+        ewmaNanos = nanos > decayed ? nanos : decayed + (nanos - decayed) * (1 - weight);
+        ewmaUpdatedAt = now;
+    }
+
+    /**
+     * 当前的延迟EWMA(含无样本期间的衰减)
+     * @return 延迟(ns)
+     */
+    public synchronized double getEwmaNanos() {
+        return ewmaNanos * Math.exp(-Math.max(0, System.nanoTime() - ewmaUpdatedAt) / DECAY_NANOS);
+    }
+
+    /**
+     * 摘除
+     * @param now System.nanoTime()
+     * @param baseNanos 基础摘除时长
+     * @param maxNanos 最大摘除时长
+     */
+    void eject(long now, long baseNanos, long maxNanos) {
+        int times = ejections.incrementAndGet();
+        this.ejectedUntil = now + Math.min(maxNanos, baseNanos * times);
+        this.ejected = true;
+        this.consecutiveFailures.set(0);
+    }
+
+    /**
+     * 摘除到期后恢复，长时间(最大摘除时长)未再被摘除时清零摘除次数
+     * @param now System.nanoTime()
+     * @param maxNanos 最大摘除时长
+     */
+    void restore(long now, long maxNanos) {
+        if (ejected && now - ejectedUntil >= 0) {
+            ejected = false;
+        }
+        if (!ejected && ejections.get() > 0 && now - ejectedUntil >= maxNanos) {
+            ejections.set(0);
+        }
+    }
+
+    /**
+     * 记录健康检查结果，连续达到阈值时切换健康状态
+     * @param passed 是否通过
+     * @param healthyThreshold 连续通过次数阈值
+     * @param unhealthyThreshold 连续失败次数阈值
+     * @return 健康状态是否变更
+     */
+    boolean checked(boolean passed, int healthyThreshold, int unhealthyThreshold) {
+        if (passed == healthy) {
+            healthCheckStreak.set(0);
+            return false;
+        }
+        if (healthCheckStreak.incrementAndGet() < (passed ? healthyThreshold : unhealthyThreshold)) {
+            return false;
+        }
+        healthCheckStreak.set(0);
+        this.healthy = passed;
+        return true;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public boolean isEjected() {
+        return ejected && System.nanoTime() - ejectedUntil < 0;
+    }
+
+    public int getEjections() {
+        return ejections.get();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    @Override
+    public String toString() {
+        return "Endpoint{" + url + ", weight=" + weight + ", outstanding=" + getOutstanding()
+                + ", ewma=" + TimeUnit.NANOSECONDS.toMillis((long) getEwmaNanos()) + "ms"
+                + ", ejected=" + isEjected() + ", healthy=" + healthy + '}';
+    }
+}
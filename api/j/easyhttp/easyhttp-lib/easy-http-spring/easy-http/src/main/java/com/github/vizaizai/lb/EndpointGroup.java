@@ -0,0 +1,303 @@
+package com.github.vizaizai.lb;
+
+import com.github.vizaizai.limit.RateLimiter;
+import com.github.vizaizai.logging.LoggerFactory;
+import com.github.vizaizai.util.Assert;
+import com.github.vizaizai.util.VUtils;
+import org.slf4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 实例组: 一个基本路径对应多个服务实例，按负载均衡策略选择实例，
+ * 可选被动异常摘除(连续失败)、主动健康检查与整组共用的限流。无可用实例时退化为在全部实例中选择
+ * @author liaochongwei
+ * @date 2026/10/18 21:30
+ */
+public class EndpointGroup implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(EndpointGroup.class);
+    private static final String HTTP = "http://";
+    private static final String HTTPS = "https://";
+    /**
+     * 健康检查定时器
+     */
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "easy-http-health-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    /**
+     * 逻辑地址: 代替实例地址计算缓存与合并的键
+     */
+    private final String logicalUrl = "lb://endpoint-group-" + SEQUENCE.incrementAndGet();
+    private final LoadBalancer loadBalancer;
+    private final List<Endpoint> endpoints = new CopyOnWriteArrayList<>();
+    private OutlierSettings outlierSettings;
+    private HealthCheckSettings healthCheckSettings;
+    private ScheduledFuture<?> healthCheck;
+    /**
+     * 整组共用的限流器(客户端与方法上未设置限流时生效)
+     */
+    private RateLimiter rateLimiter;
+
+    private EndpointGroup(LoadBalancer loadBalancer) {
+        Assert.notNull(loadBalancer, "loadBalancer must be not null");
+        this.loadBalancer = loadBalancer;
+    }
+
+    /**
+     * 创建实例组(轮询)
+     * @param urls 实例地址
+     * @return EndpointGroup
+     */
+    public static EndpointGroup create(String... urls) {
+        return create(LoadBalancers.roundRobin(), urls);
+    }
+
+    public static EndpointGroup create(LoadBalancer loadBalancer, String... urls) {
+        EndpointGroup group = new EndpointGroup(loadBalancer);
+        for (String url : urls) {
+            group.add(url);
+        }
+        return group;
+    }
+
+    /**
+     * 添加实例
+     * @param url 实例地址(如http://10.0.0.1:8080)
+     * @return EndpointGroup
+     */
+    public EndpointGroup add(String url) {
+        return this.add(url, 1);
+    }
+
+    /**
+     * 添加实例
+     * @param url 实例地址
+     * @param weight 权重(加权轮询时生效)
+     * @return EndpointGroup
+     */
+    public EndpointGroup add(String url, int weight) {
+        Assert.isTrue(VUtils.isNotBlank(url), "url must be not blank");
+        Assert.isTrue(weight > 0, "weight must be > 0");
+        if (!url.startsWith(HTTP) && !url.startsWith(HTTPS)) {
+            url = HTTP + url;
+        }
+        this.endpoints.add(new Endpoint(url, weight));
+        return this;
+    }
+
+    /**
+     * 开启被动异常摘除
+     * @param settings 设置
+     * @return EndpointGroup
+     */
+    public EndpointGroup outlierDetection(OutlierSettings settings) {
+        Assert.isTrue(settings.getConsecutiveFailures() > 0, "consecutiveFailures must be > 0");
+        Assert.isTrue(settings.getBaseEjectionTime() > 0 && settings.getMaxEjectionTime() >= settings.getBaseEjectionTime(),
+                "baseEjectionTime must be > 0 and maxEjectionTime must be >= baseEjectionTime");
+        this.outlierSettings = settings;
+        return this;
+    }
+
+    /**
+     * 开启主动健康检查(立即开始，close时停止)
+     * @param settings 设置
+     * @return EndpointGroup
+     */
+    public synchronized EndpointGroup healthCheck(HealthCheckSettings settings) {
+        Assert.isTrue(settings.getIntervalTime() > 0, "intervalTime must be > 0");
+        Assert.isTrue(settings.getHealthyThreshold() > 0 && settings.getUnhealthyThreshold() > 0, "thresholds must be > 0");
+        if (this.healthCheck != null) {
+            this.healthCheck.cancel(false);
+        }
+        this.healthCheckSettings = settings;
+        this.healthCheck = TIMER.scheduleWithFixedDelay(this::checkAll, 0, settings.getIntervalTime(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * 整组限流: 使用该实例组的所有客户端共用配额
+     * @param rateLimiter 限流器
+     * @return EndpointGroup
+     */
+    public EndpointGroup rateLimit(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * 选择实例
+     * @return Endpoint
+     */
+    public Endpoint choose() {
+        return this.choose(null);
+    }
+
+    /**
+     * 选择实例(重试时排除上一次的实例)
+     * @param exclude 排除的实例，只剩该实例时仍可选中
+     * @return Endpoint
+     */
+    public Endpoint choose(Endpoint exclude) {
+        List<Endpoint> all = this.endpoints;
+        Assert.isTrue(!all.isEmpty(), "No endpoints in the group");
+        long now = System.nanoTime();
+        long maxEjectionNanos = outlierSettings == null ? 0 : TimeUnit.MILLISECONDS.toNanos(outlierSettings.getMaxEjectionTime());
+        int available = 0;
+        for (Endpoint endpoint : all) {
+            endpoint.restore(now, maxEjectionNanos);
+            if (endpoint != exclude && endpoint.isAvailable(now)) {
+                available++;
+            }
+        }
+        // 全部可用时直接使用实例列表，避免每次选择都复制
+        if (exclude == null && available == all.size()) {
+            return loadBalancer.choose(all);
+        }
+        List<Endpoint> candidates = new ArrayList<>(Math.max(available, 1));
+        for (Endpoint endpoint : all) {
+            if (endpoint != exclude && endpoint.isAvailable(now)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            // 无可用实例: 优先在被排除的实例之外选择
+            for (Endpoint endpoint : all) {
+                if (endpoint != exclude) {
+                    candidates.add(endpoint);
+                }
+            }
+            if (candidates.isEmpty()) {
+                return exclude;
+            }
+        }
+        return loadBalancer.choose(candidates);
+    }
+
+    /**
+     * 开始一次请求(计入在途请求数)
+     * @param endpoint 实例
+     */
+    public void begin(Endpoint endpoint) {
+        endpoint.begin();
+    }
+
+    /**
+     * 记录请求结果，连续失败达到阈值时摘除实例
+     * @param endpoint 实例
+     * @param nanos 耗时
+     * @param failed 是否失败
+     */
+    public void record(Endpoint endpoint, long nanos, boolean failed) {
+        int consecutiveFailures = endpoint.complete(nanos, failed);
+        OutlierSettings settings = this.outlierSettings;
+        if (settings == null || consecutiveFailures < settings.getConsecutiveFailures()) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (endpoint.isEjected() || this.ejectedCount() + 1 > endpoints.size() * settings.getMaxEjectionPercent() / 100) {
+                return;
+            }
+            endpoint.eject(now, TimeUnit.MILLISECONDS.toNanos(settings.getBaseEjectionTime()),
+                    TimeUnit.MILLISECONDS.toNanos(settings.getMaxEjectionTime()));
+            log.warn("Endpoint ejected after {} consecutive failures: {}", consecutiveFailures, endpoint.getUrl());
+        }
+    }
+
+    /**
+     * 请求被取消，只释放在途计数
+     * @param endpoint 实例
+     */
+    public void release(Endpoint endpoint) {
+        endpoint.release();
+    }
+
+    private int ejectedCount() {
+        int count = 0;
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isEjected()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void checkAll() {
+        HealthCheckSettings settings = this.healthCheckSettings;
+        for (Endpoint endpoint : endpoints) {
+            boolean passed = this.check(endpoint, settings);
+            if (endpoint.checked(passed, settings.getHealthyThreshold(), settings.getUnhealthyThreshold())) {
+                log.warn("Endpoint is {}: {}", passed ? "healthy" : "unhealthy", endpoint.getUrl());
+            }
+        }
+    }
+
+    private boolean check(Endpoint endpoint, HealthCheckSettings settings) {
+        try {
+            String path = settings.getPath() == null ? "" : settings.getPath();
+            HttpURLConnection connection = (HttpURLConnection) new URL(endpoint.getUrl() + path).openConnection();
+            connection.setRequestMethod("GET");
+            connection.setConnectTimeout(settings.getTimeout());
+            connection.setReadTimeout(settings.getTimeout());
+            connection.setInstanceFollowRedirects(false);
+            int code = connection.getResponseCode();
+            // 读完响应体以复用连接
+            try (InputStream in = code < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (in != null) {
+                    while (in.read() != -1) {
+                        // skip
+                    }
+                }
+            }
+            return code >= 200 && code < 400;
+        }catch (IOException e) {
+            return false;
+        }catch (RuntimeException e) {
+            log.warn("Health check error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return Collections.unmodifiableList(endpoints);
+    }
+
+    public String getLogicalUrl() {
+        return logicalUrl;
+    }
+
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * 停止健康检查
+     */
+    @Override
+    public synchronized void close() {
+        if (this.healthCheck != null) {
+            this.healthCheck.cancel(false);
+            this.healthCheck = null;
+        }
+    }
+}
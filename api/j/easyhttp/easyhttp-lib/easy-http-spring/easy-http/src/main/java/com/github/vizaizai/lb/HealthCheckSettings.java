@@ -0,0 +1,69 @@
+package com.github.vizaizai.lb;
+
+/**
+ * 主动健康检查设置: 定时对每个实例发送GET请求，2xx/3xx为通过
+ * @author liaochongwei
+ * @date 2026/10/18 21:25
+ */
+public class HealthCheckSettings {
+    /**
+     * 检查路径(如/actuator/health)
+     */
+    private String path = "/";
+    /**
+     * 检查间隔(ms)
+     */
+    private Long intervalTime = 10000L;
+    /**
+     * 检查请求超时时间(ms)
+     */
+    private Integer timeout = 2000;
+    /**
+     * 不健康实例连续通过该次数后恢复
+     */
+    private Integer healthyThreshold = 2;
+    /**
+     * 健康实例连续失败该次数后标记为不健康
+     */
+    private Integer unhealthyThreshold = 2;
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public Long getIntervalTime() {
+        return intervalTime;
+    }
+
+    public void setIntervalTime(Long intervalTime) {
+        this.intervalTime = intervalTime;
+    }
+
+    public Integer getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Integer timeout) {
+        this.timeout = timeout;
+    }
+
+    public Integer getHealthyThreshold() {
+        return healthyThreshold;
+    }
+
+    public void setHealthyThreshold(Integer healthyThreshold) {
+        this.healthyThreshold = healthyThreshold;
+    }
+
+    public Integer getUnhealthyThreshold() {
+        return unhealthyThreshold;
+    }
+
+    public void setUnhealthyThreshold(Integer unhealthyThreshold) {
+        this.unhealthyThreshold = unhealthyThreshold;
+    }
+}
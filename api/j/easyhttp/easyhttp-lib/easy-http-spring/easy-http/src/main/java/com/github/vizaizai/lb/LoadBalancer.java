@@ -0,0 +1,18 @@
+package com.github.vizaizai.lb;
+
+import java.util.List;
+
+/**
+ * 负载均衡策略
+ * @author liaochongwei
+ * @date 2026/10/18 21:10
+ */
+@FunctionalInterface
+public interface LoadBalancer {
+    /**
+     * 选择一个实例
+     * @param candidates 可用实例(不为空)
+     * @return 实例
+     */
+    Endpoint choose(List<Endpoint> candidates);
+}
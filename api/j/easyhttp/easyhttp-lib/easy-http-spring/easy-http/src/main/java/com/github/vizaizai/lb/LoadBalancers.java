@@ -0,0 +1,99 @@
+package com.github.vizaizai.lb;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 常用负载均衡策略(有状态，每个实例组单独创建)
+ * @author liaochongwei
+ * @date 2026/10/18 21:15
+ */
+public class LoadBalancers {
+    private LoadBalancers() {
+    }
+
+    /**
+     * 轮询
+     * @return LoadBalancer
+     */
+    public static LoadBalancer roundRobin() {
+        AtomicInteger next = new AtomicInteger();
+        return candidates -> candidates.get((next.getAndIncrement() & Integer.MAX_VALUE) % candidates.size());
+    }
+
+    /**
+     * 平滑加权轮询: 每次选择时各实例的当前权重加上其权重，选当前权重最大者并减去总权重，
+     * 按权重比例分配且同一实例不会被连续集中选择
+     * @return LoadBalancer
+     */
+    public static LoadBalancer weighted() {
+        Map<Endpoint, Long> currentWeights = new IdentityHashMap<>();
+        return candidates -> {
+            synchronized (currentWeights) {
+                long total = 0;
+                Endpoint best = null;
+                long bestWeight = 0;
+                for (Endpoint endpoint : candidates) {
+                    long current = currentWeights.getOrDefault(endpoint, 0L) + endpoint.getWeight();
+                    currentWeights.put(endpoint, current);
+                    total += endpoint.getWeight();
+                    if (best == null || current > bestWeight) {
+                        best = endpoint;
+                        bestWeight = current;
+                    }
+                }
+                currentWeights.put(best, bestWeight - total);
+                return best;
+            }
+        };
+    }
+
+    /**
+     * 最少在途请求(相同时从随机位置开始取第一个，避免总是选中靠前的实例)
+     * @return LoadBalancer
+     */
+    public static LoadBalancer leastOutstanding() {
+        return candidates -> {
+            int size = candidates.size();
+            int offset = size == 1 ? 0 : ThreadLocalRandom.current().nextInt(size);
+            Endpoint best = null;
+            for (int i = 0; i < size; i++) {
+                Endpoint endpoint = candidates.get((offset + i) % size);
+                if (best == null || endpoint.getOutstanding() < best.getOutstanding()) {
+                    best = endpoint;
+                }
+            }
+            return best;
+        };
+    }
+
+    /**
+     * 两次随机选择(P2C): 随机取两个实例，选 延迟EWMA * (在途请求数 + 1) 较小者。
+     * 无需全量比较，且不会像最小值选择那样让所有客户端同时涌向同一个实例
+     * @return LoadBalancer
+     */
+    public static LoadBalancer powerOfTwoChoices() {
+        return candidates -> {
+            int size = candidates.size();
+            if (size == 1) {
+                return candidates.get(0);
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            Endpoint a = candidates.get(first);
+            Endpoint b = candidates.get(second);
+            return cost(a) <= cost(b) ? a : b;
+        };
+    }
+
+    private static double cost(Endpoint endpoint) {
+        return (endpoint.getEwmaNanos() + 1) * (endpoint.getOutstanding() + 1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.vizaizai.lb;
+
+/**
+ * 被动异常实例摘除设置: 实例连续失败(5xx或IO异常)达到阈值时暂时摘除，摘除时长随摘除次数递增
+ * @author liaochongwei
+ * @date 2026/10/18 21:20
+ */
+public class OutlierSettings {
+    /**
+     * 连续失败次数阈值
+     */
+    private Integer consecutiveFailures = 5;
+    /**
+     * 基础摘除时长(ms)，第n次摘除时长为 n * baseEjectionTime
+     */
+    private Long baseEjectionTime = 30000L;
+    /**
+     * 最大摘除时长(ms)
+     */
+    private Long maxEjectionTime = 300000L;
+    /**
+     * 最多摘除的实例比例(%)，避免故障扩散时摘除全部实例
+     */
+    private Integer maxEjectionPercent = 50;
+
+    public Integer getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public void setConsecutiveFailures(Integer consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+    }
+
+    public Long getBaseEjectionTime() {
+        return baseEjectionTime;
+    }
+
+    public void setBaseEjectionTime(Long baseEjectionTime) {
+        this.baseEjectionTime = baseEjectionTime;
+    }
+
+    public Long getMaxEjectionTime() {
+        return maxEjectionTime;
+    }
+
+    public void setMaxEjectionTime(Long maxEjectionTime) {
+        this.maxEjectionTime = maxEjectionTime;
+    }
+
+    public Integer getMaxEjectionPercent() {
+        return maxEjectionPercent;
+    }
+
+    public void setMaxEjectionPercent(Integer maxEjectionPercent) {
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+}
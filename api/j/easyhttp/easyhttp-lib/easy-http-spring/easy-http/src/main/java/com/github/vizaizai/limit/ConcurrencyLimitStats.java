@@ -0,0 +1,75 @@
+package com.github.vizaizai.limit;
+
+/**
+ * 并发限制统计快照
+ * @author liaochongwei
+ * @date 2026/10/18 23:05
+ */
+public class ConcurrencyLimitStats {
+    /**
+     * 限制器名称(客户端接口名或接口名#方法名)
+     */
+    private final String name;
+    /**
+     * 当前的并发上限
+     */
+    private final int limit;
+    /**
+     * 当前的在途请求数(限制器内不排队，即等待连接与响应的请求数)
+     */
+    private final int inFlight;
+    private final long accepted;
+    /**
+     * 超过上限被拒绝的请求数
+     */
+    private final long rejected;
+    /**
+     * 判定为过载(超时、IO异常、429或503)的请求数
+     */
+    private final long dropped;
+
+    ConcurrencyLimitStats(String name, int limit, int inFlight, long accepted, long rejected, long dropped) {
+        this.name = name;
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.accepted = accepted;
+        this.rejected = rejected;
+        this.dropped = dropped;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimitStats{" +
+                "name='" + name + '\'' +
+                ", limit=" + limit +
+                ", inFlight=" + inFlight +
+                ", accepted=" + accepted +
+                ", rejected=" + rejected +
+                ", dropped=" + dropped +
+                '}';
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.vizaizai.limit;
+
+import com.github.vizaizai.entity.ConcurrencyLimitSettings;
+import com.github.vizaizai.exception.CircuitBreakerOpenException;
+import com.github.vizaizai.exception.CodeStatusException;
+import com.github.vizaizai.exception.ConcurrencyLimitExceededException;
+import com.github.vizaizai.exception.DeadlineExceededException;
+import com.github.vizaizai.util.Assert;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 并发限制器(舱壁): 在途请求数达到上限时立即拒绝，不排队等待连接；
+ * 每次调用完成后按耗时与结果交给限制算法调整上限
+ * @author liaochongwei
+ * @date 2026/10/18 23:10
+ */
+public class ConcurrencyLimiter {
+    private final String name;
+    private final LimitAlgorithm algorithm;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private ConcurrencyLimiter(String name, LimitAlgorithm algorithm) {
+        Assert.notNull(algorithm, "algorithm must be not null");
+        this.name = name;
+        this.algorithm = algorithm;
+    }
+
+    public static ConcurrencyLimiter create(String name, LimitAlgorithm algorithm) {
+        return new ConcurrencyLimiter(name, algorithm);
+    }
+
+    public static ConcurrencyLimiter create(String name, ConcurrencyLimitSettings settings) {
+        int limit = settings.getLimit();
+        int min = Math.min(settings.getMinLimit(), limit);
+        int max = Math.max(settings.getMaxLimit(), limit);
+        switch (settings.getAlgorithm()) {
+            case AIMD:
+                return create(name, Limits.aimd(limit, min, max));
+            case GRADIENT:
+                return create(name, Limits.gradient(limit, min, max));
+            default:
+                return create(name, Limits.fixed(limit));
+        }
+    }
+
+    /**
+     * 获取许可
+     * @return 许可，达到上限时返回null
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= algorithm.getLimit()) {
+                rejected.increment();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return new Permit(current + 1);
+            }
+        }
+    }
+
+    /**
+     * 在并发限制内执行调用(异步调用在完成时释放许可)
+     * @param call 调用
+     * @param async 是否返回CompletableFuture
+     * @return 结果
+     * @throws ConcurrencyLimitExceededException 达到上限(异步时以失败的CompletableFuture返回)
+     */
+    public Object execute(Supplier<Object> call, boolean async) {
+        Permit permit = this.tryAcquire();
+        if (permit == null) {
+            ConcurrencyLimitExceededException e = new ConcurrencyLimitExceededException(name, algorithm.getLimit());
+            if (async) {
+                return CompletableFuture.failedFuture(e);
+            }
+            throw e;
+        }
+        Object result;
+        try {
+            result = call.get();
+        }catch (RuntimeException | Error e) {
+            permit.release(e);
+            throw e;
+        }
+        if (result instanceof CompletableFuture) {
+            ((CompletableFuture<?>) result).whenComplete((value, ex) -> permit.release(ex));
+        }else {
+            permit.release(null);
+        }
+        return result;
+    }
+
+    public ConcurrencyLimitStats stats() {
+        return new ConcurrencyLimitStats(name, algorithm.getLimit(), inFlight.get(), accepted.sum(), rejected.sum(), dropped.sum());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return algorithm.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 是否为过载信号: 超时等IO异常、429或503
+     */
+    private static boolean isDropped(Throwable cause) {
+        for (Throwable e = cause; e != null; e = e.getCause()) {
+            if (e instanceof IOException) {
+                return true;
+            }
+            if (e instanceof CodeStatusException) {
+                int code = ((CodeStatusException) e).getCode();
+                return code == 429 || code == 503;
+            }
+            if (e.getCause() == e) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 调用许可
+     */
+    public final class Permit {
+        private final long start = System.nanoTime();
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 释放许可并记录结果: 未实际发出(熔断、截止时间已到)的调用不计入算法
+         * @param cause 异常，成功时为null
+         */
+        public synchronized void release(Throwable cause) {
+            if (released) {
+                return;
+            }
+            released = true;
+            inFlight.decrementAndGet();
+            Throwable e = cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause;
+            if (e instanceof CircuitBreakerOpenException || e instanceof DeadlineExceededException
+                    || e instanceof ConcurrencyLimitExceededException) {
+                return;
+            }
+            boolean overload = isDropped(e);
+            if (overload) {
+                dropped.increment();
+            }
+            algorithm.onSample(System.nanoTime() - start, inFlightAtStart, overload);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.vizaizai.limit;
+
+/**
+ * 并发限制算法: 根据每次调用的耗时与结果调整并发上限
+ * @author liaochongwei
+ * @date 2026/10/18 22:40
+ */
+public interface LimitAlgorithm {
+    /**
+     * 当前的并发上限
+     * @return 上限
+     */
+    int getLimit();
+
+    /**
+     * 记录一次调用
+     * @param rttNanos 耗时(ns)
+     * @param inFlight 开始时的在途调用数
+     * @param dropped 是否过载(超时、IO异常、429或503)
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
@@ -0,0 +1,150 @@
+package com.github.vizaizai.limit;
+
+import com.github.vizaizai.util.Assert;
+
+/**
+ * 常用并发限制算法(有状态，每个限制器单独创建)
+ * @author liaochongwei
+ * @date 2026/10/18 22:45
+ */
+public class Limits {
+    private Limits() {
+    }
+
+    /**
+     * 固定上限
+     * @param limit 上限
+     * @return LimitAlgorithm
+     */
+    public static LimitAlgorithm fixed(int limit) {
+        Assert.isTrue(limit > 0, "limit must be > 0");
+        return new LimitAlgorithm() {
+            @Override
+            public int getLimit() {
+                return limit;
+            }
+
+            @Override
+            public void onSample(long rttNanos, int inFlight, boolean dropped) {
+                // 固定上限不调整
+            }
+        };
+    }
+
+    /**
+     * 加性增乘性减(AIMD): 过载时上限乘以0.9，否则在上限被充分使用(在途数达到一半以上)时加1
+     * @param initial 初始上限
+     * @param min 最小上限
+     * @param max 最大上限
+     * @return LimitAlgorithm
+     */
+    public static LimitAlgorithm aimd(int initial, int min, int max) {
+        check(initial, min, max);
+        return new AimdLimit(initial, min, max);
+    }
+
+    /**
+     * 梯度(类Vegas): 比较短期与长期的延迟EWMA，延迟上升时按比例收缩上限，
+     * 延迟平稳时以 sqrt(上限) 为排队余量逐步增长；过载时上限乘以0.9
+     * @param initial 初始上限
+     * @param min 最小上限
+     * @param max 最大上限
+     * @return LimitAlgorithm
+     */
+    public static LimitAlgorithm gradient(int initial, int min, int max) {
+        check(initial, min, max);
+        return new GradientLimit(initial, min, max);
+    }
+
+    private static void check(int initial, int min, int max) {
+        Assert.isTrue(min > 0 && max >= min, "min must be > 0 and max must be >= min");
+        Assert.isTrue(initial >= min && initial <= max, "initial must be between min and max");
+    }
+
+    private static final class AimdLimit implements LimitAlgorithm {
+        private static final double BACKOFF_RATIO = 0.9;
+        private final int min;
+        private final int max;
+        private volatile int limit;
+
+        private AimdLimit(int initial, int min, int max) {
+            this.limit = initial;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public int getLimit() {
+            return limit;
+        }
+
+        @Override
+        public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+            if (dropped) {
+                limit = Math.max(min, (int) (limit * BACKOFF_RATIO));
+            }else if (inFlight * 2 >= limit) {
+                limit = Math.min(max, limit + 1);
+            }
+        }
+    }
+
+    private static final class GradientLimit implements LimitAlgorithm {
+        private static final double BACKOFF_RATIO = 0.9;
+        /**
+         * 允许短期延迟高出长期延迟的倍数
+         */
+        private static final double TOLERANCE = 1.5;
+        private static final double SMOOTHING = 0.2;
+        private static final double SHORT_ALPHA = 2.0 / (10 + 1);
+        private static final double LONG_ALPHA = 2.0 / (600 + 1);
+        private final int min;
+        private final int max;
+        private double estimated;
+        private double shortRtt;
+        private double longRtt;
+        private volatile int limit;
+
+        private GradientLimit(int initial, int min, int max) {
+            this.estimated = initial;
+            this.limit = initial;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public int getLimit() {
+            return limit;
+        }
+
+        @Override
+        public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+            if (dropped) {
+                this.update(estimated * BACKOFF_RATIO);
+                return;
+            }
+            if (longRtt == 0) {
+                shortRtt = rttNanos;
+                longRtt = rttNanos;
+            }else {
+                shortRtt += (rttNanos - shortRtt) * SHORT_ALPHA;
+                longRtt += (rttNanos - longRtt) * LONG_ALPHA;
+            }
+            // 长期延迟明显偏高(如上游已恢复)时加快向短期延迟靠拢
+            if (longRtt / shortRtt > 2) {
+                longRtt *= 0.95;
+            }
+            // 上限未被充分使用时没有足够的信号，保持不变
+            if (inFlight < estimated / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+            double next = estimated * gradient + Math.sqrt(estimated);
+            this.update(estimated * (1 - SMOOTHING) + next * SMOOTHING);
+        }
+
+        private void update(double next) {
+            estimated = Math.max(min, Math.min(max, next));
+            limit = (int) estimated;
+        }
+    }
+}
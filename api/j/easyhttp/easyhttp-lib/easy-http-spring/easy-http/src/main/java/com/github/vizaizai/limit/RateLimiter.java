@@ -0,0 +1,184 @@
+package com.github.vizaizai.limit;
+
+import com.github.vizaizai.entity.Deadline;
+import com.github.vizaizai.entity.RateLimitSettings;
+import com.github.vizaizai.exception.RateLimitExceededException;
+import com.github.vizaizai.util.Assert;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 限流器(GCRA，无锁): 只保存理论到达时间(TAT)，每个许可将其推后一个发放间隔，
+ * TAT超出当前时间不多于突发容量时立即放行，否则需等待。等待的请求预约的是未来的许可，
+ * 因此WAIT模式下的同步调用休眠、异步调用由定时器延迟发出，都不会再次竞争
+ * @author liaochongwei
+ * @date 2026/10/18 23:55
+ */
+public class RateLimiter {
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "easy-http-rate-limiter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final String name;
+    /**
+     * 发放间隔(ns)
+     */
+    private final long intervalNanos;
+    /**
+     * 突发容量: (burst - 1) * 发放间隔
+     */
+    private final long toleranceNanos;
+    private final RateLimitSettings.Mode mode;
+    private final long timeoutNanos;
+    /**
+     * 理论到达时间(System.nanoTime())
+     */
+    private final AtomicLong tat;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWait = new LongAccumulator(Math::max, 0);
+
+    private RateLimiter(String name, RateLimitSettings settings) {
+        Assert.isTrue(settings.getPermitsPerSecond() != null && settings.getPermitsPerSecond() > 0, "permitsPerSecond must be > 0");
+        Assert.isTrue(settings.getBurst() != null && settings.getBurst() > 0, "burst must be > 0");
+        this.name = name;
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / settings.getPermitsPerSecond()));
+        this.toleranceNanos = intervalNanos * (settings.getBurst() - 1);
+        this.mode = settings.getMode() == null ? RateLimitSettings.Mode.WAIT : settings.getMode();
+        this.timeoutNanos = settings.getTimeout() == null ? 0 : TimeUnit.MILLISECONDS.toNanos(settings.getTimeout());
+        // 初始即有完整的突发容量
+        this.tat = new AtomicLong(System.nanoTime() - toleranceNanos);
+    }
+
+    public static RateLimiter create(String name, RateLimitSettings settings) {
+        return new RateLimiter(name, settings);
+    }
+
+    /**
+     * 预约一个许可
+     * @param maxWaitNanos 最长等待时间(ns)
+     * @return 需要等待的时间(ns)，超过最长等待时间时返回-1(不占用许可)
+     */
+    public long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long base = current - now > 0 ? current : now;
+            long wait = Math.max(0, base - toleranceNanos - now);
+            if (wait > maxWaitNanos) {
+                rejected.increment();
+                return -1;
+            }
+            if (tat.compareAndSet(current, base + intervalNanos)) {
+                acquired.increment();
+                if (wait > 0) {
+                    throttled.increment();
+                    waitNanos.add(wait);
+                    maxWait.accumulate(wait);
+                }
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * 立即获取许可
+     * @return 是否获取成功
+     */
+    public boolean tryAcquire() {
+        return this.reserve(0) == 0;
+    }
+
+    /**
+     * 本次调用允许的最长等待时间: FAIL_FAST为0，WAIT为timeout与剩余时间预算的较小值
+     * @return 等待时间(ns)
+     */
+    public long maxWaitNanos() {
+        if (mode == RateLimitSettings.Mode.FAIL_FAST) {
+            return 0;
+        }
+        Deadline deadline = Deadline.current();
+        return deadline == null ? timeoutNanos : Math.min(timeoutNanos, Math.max(0, deadline.remaining(TimeUnit.NANOSECONDS)));
+    }
+
+    /**
+     * 在速率限制内执行调用
+     * @param call 调用
+     * @param async 是否返回CompletableFuture
+     * @return 结果
+     * @throws RateLimitExceededException 超过速率(异步时以失败的CompletableFuture返回)
+     */
+    @SuppressWarnings("unchecked")
+    public Object execute(Supplier<Object> call, boolean async) {
+        long wait = this.reserve(this.maxWaitNanos());
+        if (wait < 0) {
+            RateLimitExceededException e = new RateLimitExceededException(name);
+            if (async) {
+                return CompletableFuture.failedFuture(e);
+            }
+            throw e;
+        }
+        if (wait == 0) {
+            return call.get();
+        }
+        if (!async) {
+            this.sleep(wait);
+            return call.get();
+        }
+        // 异步: 到预约时间再发出，截止时间沿用调用线程上下文
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Deadline deadline = Deadline.current();
+        TIMER.schedule(() -> {
+            try {
+                ((CompletableFuture<Object>) Deadline.with(deadline, call)).whenComplete((value, ex) -> {
+                    if (ex != null) {
+                        result.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                    }else {
+                        result.complete(value);
+                    }
+                });
+            }catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, wait, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private void sleep(long nanos) {
+        long until = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new RateLimitExceededException(name);
+            }
+            remaining = until - System.nanoTime();
+        }
+    }
+
+    public RateLimiterStats stats() {
+        return new RateLimiterStats(name, TimeUnit.SECONDS.toNanos(1) / (double) intervalNanos, acquired.sum(), throttled.sum(),
+                rejected.sum(), TimeUnit.NANOSECONDS.toMillis(waitNanos.sum()), TimeUnit.NANOSECONDS.toMillis(maxWait.get()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RateLimitSettings.Mode getMode() {
+        return mode;
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.vizaizai.limit;
+
+/**
+ * 限流统计快照
+ * @author liaochongwei
+ * @date 2026/10/18 23:58
+ */
+public class RateLimiterStats {
+    /**
+     * 限流器名称(客户端接口名、接口名#方法名或实例组)
+     */
+    private final String name;
+    /**
+     * 每秒许可数
+     */
+    private final double permitsPerSecond;
+    /**
+     * 获得许可的请求数(含等待后获得的)
+     */
+    private final long acquired;
+    /**
+     * 需要等待才获得许可的请求数
+     */
+    private final long throttled;
+    /**
+     * 超过速率被拒绝的请求数
+     */
+    private final long rejected;
+    /**
+     * 累计等待时间(ms)
+     */
+    private final long totalWaitMillis;
+    /**
+     * 最长的一次等待时间(ms)
+     */
+    private final long maxWaitMillis;
+
+    RateLimiterStats(String name, double permitsPerSecond, long acquired, long throttled, long rejected,
+                     long totalWaitMillis, long maxWaitMillis) {
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.acquired = acquired;
+        this.throttled = throttled;
+        this.rejected = rejected;
+        this.totalWaitMillis = totalWaitMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public long getAcquired() {
+        return acquired;
+    }
+
+    public long getThrottled() {
+        return throttled;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getTotalWaitMillis() {
+        return totalWaitMillis;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * 被限流请求的平均等待时间(ms)
+     * @return double
+     */
+    public double getAverageWaitMillis() {
+        return throttled == 0 ? 0 : (double) totalWaitMillis / throttled;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiterStats{" +
+                "name='" + name + '\'' +
+                ", permitsPerSecond=" + permitsPerSecond +
+                ", acquired=" + acquired +
+                ", throttled=" + throttled +
+                ", rejected=" + rejected +
+                ", totalWaitMillis=" + totalWaitMillis +
+                ", maxWaitMillis=" + maxWaitMillis +
+                '}';
+    }
+}
@@ -2,9 +2,12 @@ package com.github.vizaizai.parser;
 
 
 import com.github.vizaizai.annotation.Body;
+import com.github.vizaizai.annotation.Download;
 import com.github.vizaizai.annotation.Headers;
 import com.github.vizaizai.annotation.Param;
 import com.github.vizaizai.annotation.Var;
+import com.github.vizaizai.entity.Deadline;
+import com.github.vizaizai.entity.HttpRequestConfig;
 import com.github.vizaizai.exception.EasyHttpException;
 import com.github.vizaizai.util.TypeUtils;
 import com.github.vizaizai.util.VUtils;
@@ -20,6 +23,18 @@ import java.lang.reflect.Type;
  * @date 2020/7/30 15:40
  */
 public class Arg {
+    /**
+     * 流消费者参数类型(Consumer&lt;InputStream&gt;)
+     */
+    public static final String STREAM_CONSUMER = "streamConsumer";
+    /**
+     * 请求配置参数类型(HttpRequestConfig)，按次覆盖超时设置
+     */
+    public static final String CONFIG = "config";
+    /**
+     * 截止时间参数类型(Deadline)
+     */
+    public static final String DEADLINE = "deadline";
 
     /**
      * 参数源
@@ -53,26 +68,76 @@ public class Arg {
      * 参数名称
      */
     private String argName;
+    /**
+     * 是否已解析
+     */
+    private boolean parsed;
 
     public static Arg instance(Object source, Method method, int index) {
         return new Arg(source, method, index);
     }
+
+    /**
+     * 创建参数模板(不含参数值)，参数的静态信息只解析一次，每次调用通过bind绑定参数值
+     * @param method 方法
+     * @param index 参数索引
+     * @return Arg
+     */
+    public static Arg template(Method method, int index) {
+        Arg arg = new Arg(null, method, index);
+        arg.parseMetadata();
+        // 泛型变量类型需要根据参数值确定是否为基础类型，延迟到绑定时校验
+        if (!arg.isDynamicType()) {
+            arg.validate();
+        }
+        arg.parsed = true;
+        return arg;
+    }
     private Arg(Object source, Method method, int index) {
         this.source = source;
         this.method = method;
         this.index = index;
     }
 
+    /**
+     * 绑定参数值
+     * @param source 参数值
+     * @return 已解析的参数
+     */
+    public Arg bind(Object source) {
+        Arg arg = new Arg(source, this.method, this.index);
+        arg.dataType = this.dataType;
+        arg.baseType = this.baseType;
+        arg.type = this.type;
+        arg.varName = this.varName;
+        arg.argName = this.argName;
+        arg.parsed = true;
+        if (this.isDynamicType()) {
+            arg.baseType = TypeUtils.isBaseType(this.dataType, source);
+            arg.validate();
+        }
+        return arg;
+    }
+
     public void parse() {
+        if (this.parsed) {
+            return;
+        }
+        this.parseMetadata();
+        this.validate();
+        this.parsed = true;
+    }
+
+    private void parseMetadata() {
+        Parameter[] parameters = this.method.getParameters();
         // 判断参数时简单参数还是对象参数
-        Type argType = this.method.getParameters()[this.index].getParameterizedType();
+        Type argType = parameters[this.index].getParameterizedType();
         this.dataType =  argType;
         // 是否基础类型
         this.baseType = TypeUtils.isBaseType(argType, this.getSource());
         Annotation[] annotations = this.getParameterAnnotation();
 
         // 获取参数名称
-        Parameter[] parameters = this.method.getParameters();
         this.argName = parameters.length > this.index ? parameters[this.index].getName() : "arg" + this.index;
 
         // 一个参数最多一个注解
@@ -80,7 +145,15 @@ public class Arg {
             throw new EasyHttpException("There is at most one annotation on a parameter");
         }
         if (annotations.length == 0) {
-            this.type = Param.TYPE;
+            if (TypeUtils.isStreamConsumer(argType)) {
+                this.type = STREAM_CONSUMER;
+            }else if (HttpRequestConfig.class.equals(argType)) {
+                this.type = CONFIG;
+            }else if (Deadline.class.equals(argType)) {
+                this.type = DEADLINE;
+            }else {
+                this.type = Param.TYPE;
+            }
             this.varName = this.varNameFor(null);
         }else {
             Annotation annotation = annotations[0];
@@ -94,11 +167,18 @@ public class Arg {
                 this.type = Body.TYPE;
             }else if (annotation instanceof Headers) {
                 this.type = Headers.TYPE;
+            }else if (annotation instanceof Download) {
+                this.type = Download.TYPE;
             }else {
                 this.type = "non";
             }
         }
+    }
 
+    /**
+     * 参数规则校验
+     */
+    private void validate() {
         // 规则校验1: @Var只能注解在简单类型上
         if (Var.TYPE.equals(this.type) && !this.baseType) {
             throw new EasyHttpException("@Var must annotate on basic parameter. eg: String,Integer...");
@@ -107,9 +187,21 @@ public class Arg {
         if (Headers.TYPE.equals(this.type) && this.baseType) {
             throw new EasyHttpException("@Headers must annotate on JavaBean or Map.");
         }
+        // 规则校验3: @Download只能注解在Path或File上
+        if (Download.TYPE.equals(this.type) && !TypeUtils.isFileType(this.dataType)) {
+            throw new EasyHttpException("@Download must annotate on Path or File.");
+        }
 
     }
 
+    /**
+     * 数据类型是否需要根据参数值确定(泛型变量等)
+     * @return boolean
+     */
+    private boolean isDynamicType() {
+        return !(this.dataType instanceof Class);
+    }
+
     /**
      * 获取方法参数注解
      * @return Annotation[]
@@ -2,8 +2,11 @@ package com.github.vizaizai.parser;
 
 import com.github.vizaizai.annotation.Body;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * 参数解析
@@ -12,6 +15,10 @@ import java.util.stream.Collectors;
  */
 public class ArgsParser {
     private final List<Arg> args;
+    /**
+     * 按参数类型分组
+     */
+    private final Map<String, List<Arg>> typedArgs = new HashMap<>(8);
 
     public static ArgsParser doParse(List<Arg> args) {
         return new ArgsParser(args);
@@ -29,10 +36,18 @@ public class ArgsParser {
             if (Body.TYPE.equals(arg.getType())) {
                 has1 ++;
             }
+            typedArgs.computeIfAbsent(arg.getType(), k -> new ArrayList<>(2)).add(arg);
         }
         if (has1 > 1) {
             throw new IllegalArgumentException("@Body must be unique");
         }
+        // 2. 最多一个请求配置参数
+        if (this.getCount(Arg.CONFIG) > 1) {
+            throw new IllegalArgumentException("The argument of HttpRequestConfig must be unique");
+        }
+        if (this.getCount(Arg.DEADLINE) > 1) {
+            throw new IllegalArgumentException("The argument of Deadline must be unique");
+        }
     }
 
     public boolean isEmpty() {
@@ -40,10 +55,12 @@ public class ArgsParser {
     }
 
     public List<Arg> getArgs(String type) {
-        return args.stream().filter(e-> e.getType().equals(type)).collect(Collectors.toList());
+        List<Arg> list = typedArgs.get(type);
+        return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
     }
 
     public int getCount(String type) {
-        return (int) args.stream().filter(e->e.getType().equals(type)).count();
+        List<Arg> list = typedArgs.get(type);
+        return list == null ? 0 : list.size();
     }
 }
@@ -1,8 +1,21 @@
 package com.github.vizaizai.parser;
 
+import com.github.vizaizai.annotation.Batched;
+import com.github.vizaizai.annotation.CacheResult;
+import com.github.vizaizai.annotation.Coalesce;
+import com.github.vizaizai.annotation.Download;
+import com.github.vizaizai.annotation.ConcurrencyLimit;
+import com.github.vizaizai.annotation.Hedge;
 import com.github.vizaizai.annotation.Mapping;
+import com.github.vizaizai.annotation.RateLimit;
+import com.github.vizaizai.annotation.Timeout;
+import com.github.vizaizai.entity.ConcurrencyLimitSettings;
+import com.github.vizaizai.entity.HedgeSettings;
 import com.github.vizaizai.entity.HttpMethod;
+import com.github.vizaizai.entity.HttpRequestConfig;
+import com.github.vizaizai.entity.HttpResponse;
 import com.github.vizaizai.entity.MappingInfo;
+import com.github.vizaizai.entity.RateLimitSettings;
 import com.github.vizaizai.entity.RetrySettings;
 import com.github.vizaizai.entity.body.RequestBodyType;
 import com.github.vizaizai.exception.EasyHttpException;
@@ -18,11 +31,10 @@ import com.github.vizaizai.util.value.HeadersNameValues;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -44,6 +56,10 @@ public class MethodParser {
      * 参数变量个数
      */
     private Integer varCount;
+    /**
+     * 路径模板
+     */
+    private PathTemplate pathTemplate;
     /**
      * 目标方法
      */
@@ -64,6 +80,46 @@ public class MethodParser {
      * 是否异步
      */
     private boolean async;
+    /**
+     * 是否流式响应(返回InputStream/Reader或存在Consumer&lt;InputStream&gt;参数)
+     */
+    private boolean streaming;
+    /**
+     * 是否下载到文件(返回Path/File或存在@Download参数)
+     */
+    private boolean download;
+    /**
+     * 是否合并相同的在途请求
+     */
+    private boolean coalesce;
+    /**
+     * 方法结果缓存注解
+     */
+    private CacheResult cacheResult;
+    /**
+     * 自动批量注解
+     */
+    private Batched batched;
+    /**
+     * 超时覆盖配置(@Timeout)
+     */
+    private HttpRequestConfig timeout;
+    /**
+     * 总时间预算(ms)，小于0表示未设置
+     */
+    private long totalTimeout = -1;
+    /**
+     * 对冲请求设置(未开启时为null)
+     */
+    private HedgeSettings hedgeSettings;
+    /**
+     * 方法上的并发限制(@ConcurrencyLimit，未标注时为null)
+     */
+    private ConcurrencyLimitSettings concurrencyLimit;
+    /**
+     * 方法上的限流(@RateLimit，未标注时为null)
+     */
+    private RateLimitSettings rateLimit;
     /**
      * 方法上的拦截器
      */
@@ -110,10 +166,175 @@ public class MethodParser {
         this.addInterceptorsFromPath(interceptorClasses, proxyContext.getInterceptorGenerator());
         // 请求头注解
         this.headers = Utils.getHeaders(annotations);
-        // 计算路径变量
-        this.calVarCount(this.path);
+        // 编译路径模板
+        this.compilePath(this.path);
         // 是否异步请求
         this.async = TypeUtils.isAsync(this.target.getGenericReturnType());
+        // 是否下载到文件
+        this.download = this.checkDownload();
+        // 是否流式响应(下载到文件时响应体同样不缓存)
+        this.streaming = this.download || this.checkStreaming();
+        // 是否合并相同的在途请求
+        this.coalesce = this.checkCoalesce(proxyContext.isCoalesce());
+        // 方法结果缓存
+        this.cacheResult = this.checkCacheResult();
+        // 自动批量
+        this.batched = this.target.getAnnotation(Batched.class);
+        if (this.batched != null && this.streaming) {
+            throw new EasyHttpException("The method with @Batched must not be streaming");
+        }
+        // 超时设置
+        this.timeout = this.parseTimeout();
+        // 对冲请求
+        this.hedgeSettings = this.parseHedge(proxyContext.getHedgeSettings());
+        // 方法级别的并发限制
+        ConcurrencyLimit limit = this.target.getAnnotation(ConcurrencyLimit.class);
+        this.concurrencyLimit = limit == null ? null : ConcurrencyLimitSettings.of(limit);
+        // 方法级别的限流
+        RateLimit rateLimit = this.target.getAnnotation(RateLimit.class);
+        this.rateLimit = rateLimit == null ? null : RateLimitSettings.of(rateLimit);
+    }
+
+    /**
+     * 解析对冲设置: 方法注解 > 接口注解 > 全局设置，接口注解与全局设置只对GET/HEAD生效
+     * @param global 全局设置
+     * @return 对冲设置(未开启时为null)
+     */
+    private HedgeSettings parseHedge(HedgeSettings global) {
+        Hedge hedge = this.target.getAnnotation(Hedge.class);
+        if (hedge != null && hedge.value() && (this.streaming || !this.isIdempotent())) {
+            throw new EasyHttpException("The method with @Hedge must be idempotent and not streaming");
+        }
+        boolean readOnly = HttpMethod.GET.equals(this.httpMethod) || HttpMethod.HEAD.equals(this.httpMethod);
+        if (hedge == null) {
+            if (this.streaming || !readOnly) {
+                return null;
+            }
+            hedge = this.target.getDeclaringClass().getAnnotation(Hedge.class);
+        }
+        HedgeSettings settings = new HedgeSettings();
+        if (global != null) {
+            settings.setEnable(global.getEnable());
+            settings.setDelay(global.getDelay());
+            settings.setPercentile(global.getPercentile());
+            settings.setMaxRatio(global.getMaxRatio());
+            settings.setMaxBurst(global.getMaxBurst());
+        }
+        if (hedge != null) {
+            settings.setEnable(hedge.value());
+            settings.setPercentile(hedge.percentile());
+            if (hedge.delay() > -1) {
+                settings.setDelay(hedge.delay());
+            }
+        }
+        return Boolean.TRUE.equals(settings.getEnable()) ? settings : null;
+    }
+
+    /**
+     * 是否为幂等的请求方式
+     * @return boolean
+     */
+    private boolean isIdempotent() {
+        if (this.httpMethod == null) {
+            return false;
+        }
+        switch (this.httpMethod) {
+            case GET:
+            case HEAD:
+            case OPTIONS:
+            case TRACE:
+            case PUT:
+            case DELETE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 解析@Timeout: 方法注解 > 接口注解
+     * @return 超时覆盖配置(无注解时为null)
+     */
+    private HttpRequestConfig parseTimeout() {
+        Timeout timeout = this.target.getAnnotation(Timeout.class);
+        if (timeout == null) {
+            timeout = this.target.getDeclaringClass().getAnnotation(Timeout.class);
+        }
+        if (timeout == null) {
+            return null;
+        }
+        this.totalTimeout = timeout.total();
+        HttpRequestConfig config = new HttpRequestConfig();
+        config.setConnectTimeout(timeout.connect() < 0 ? null : timeout.connect());
+        config.setRequestTimeout(timeout.request() < 0 ? null : timeout.request());
+        config.setConnectionRequestTimeout(timeout.connectionRequest() < 0 ? null : timeout.connectionRequest());
+        return config;
+    }
+
+    /**
+     * 校验@CacheResult: 流式响应、无返回值及HttpResponse返回值不可缓存
+     * @return CacheResult
+     */
+    private CacheResult checkCacheResult() {
+        CacheResult cacheResult = this.target.getAnnotation(CacheResult.class);
+        if (cacheResult == null) {
+            return null;
+        }
+        Type returnType = TypeUtils.getDecodeType(this.target.getGenericReturnType());
+        if (this.streaming || TypeUtils.isVoid(returnType) || TypeUtils.equals(returnType, HttpResponse.class)) {
+            throw new EasyHttpException("The method with @CacheResult must return a decoded non-streaming value");
+        }
+        return cacheResult;
+    }
+
+    /**
+     * 判断是否合并在途请求: 方法注解 > 接口注解 > 全局配置，且只对GET/HEAD的非流式请求生效。
+     * 返回HttpResponse的方法不合并(响应与响应体不能被多个调用方共享)
+     * @param defaultValue 全局配置
+     * @return boolean
+     */
+    private boolean checkCoalesce(boolean defaultValue) {
+        Coalesce coalesce = this.target.getAnnotation(Coalesce.class);
+        boolean rawResponse = TypeUtils.equals(TypeUtils.getDecodeType(this.target.getGenericReturnType()), HttpResponse.class);
+        if (coalesce != null && coalesce.value() && rawResponse) {
+            throw new EasyHttpException("The method with @Coalesce must not return HttpResponse");
+        }
+        if (rawResponse || this.streaming || (!HttpMethod.GET.equals(this.httpMethod) && !HttpMethod.HEAD.equals(this.httpMethod))) {
+            return false;
+        }
+        if (coalesce == null) {
+            coalesce = this.target.getDeclaringClass().getAnnotation(Coalesce.class);
+        }
+        return coalesce == null ? defaultValue : coalesce.value();
+    }
+
+    /**
+     * 判断是否下载到文件
+     * @return boolean
+     */
+    private boolean checkDownload() {
+        Type returnType = TypeUtils.getDecodeType(this.target.getGenericReturnType());
+        boolean target = Stream.of(this.target.getParameterAnnotations())
+                .flatMap(Stream::of)
+                .anyMatch(e -> e instanceof Download);
+        if (target && !TypeUtils.isVoid(returnType) && !TypeUtils.isFileType(returnType)) {
+            throw new EasyHttpException("The method with @Download argument must return void, Path or File");
+        }
+        return target || TypeUtils.isFileType(returnType);
+    }
+
+    /**
+     * 判断是否流式响应
+     * @return boolean
+     */
+    private boolean checkStreaming() {
+        Type returnType = TypeUtils.getDecodeType(this.target.getGenericReturnType());
+        boolean consumer = Stream.of(this.target.getGenericParameterTypes()).anyMatch(TypeUtils::isStreamConsumer);
+        // 由Consumer消费响应流时，方法不能再有需要解码的返回值
+        if (consumer && !TypeUtils.isVoid(returnType) && !TypeUtils.equals(returnType, HttpResponse.class)) {
+            throw new EasyHttpException("The method with Consumer<InputStream> argument must return void or HttpResponse");
+        }
+        return consumer || TypeUtils.isStreamType(returnType);
     }
 
     /**
@@ -169,18 +390,12 @@ public class MethodParser {
     }
 
     /**
-     * 计算路径变量个数
+     * 编译路径模板并计算路径变量个数
      * @param path
      */
-    private void calVarCount(String path) {
-        Pattern p = Pattern.compile("\\{\\w+}", Pattern.CASE_INSENSITIVE);
-        Matcher m = p.matcher(path);
-        int count = 0;
-        while(m.find()){
-            count ++;
-        }
-        this.varCount = count;
-
+    private void compilePath(String path) {
+        this.pathTemplate = PathTemplate.compile(path);
+        this.varCount = this.pathTemplate.getVarCount();
     }
     public String getPath() {
         return path;
@@ -188,6 +403,7 @@ public class MethodParser {
 
     public void setPath(String path) {
         this.path = path;
+        this.compilePath(path);
     }
 
     public HttpMethod getHttpMethod() {
@@ -238,10 +454,54 @@ public class MethodParser {
         return async;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public boolean isDownload() {
+        return download;
+    }
+
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    public CacheResult getCacheResult() {
+        return cacheResult;
+    }
+
+    public HedgeSettings getHedgeSettings() {
+        return hedgeSettings;
+    }
+
+    public ConcurrencyLimitSettings getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    public RateLimitSettings getRateLimit() {
+        return rateLimit;
+    }
+
+    public Batched getBatched() {
+        return batched;
+    }
+
+    public HttpRequestConfig getTimeout() {
+        return timeout;
+    }
+
+    public long getTotalTimeout() {
+        return totalTimeout;
+    }
+
     public List<HttpInterceptor> getInterceptors() {
         return interceptors;
     }
 
+    public PathTemplate getPathTemplate() {
+        return pathTemplate;
+    }
+
     public RetrySettings getRetrySettings() {
         return retrySettings;
     }
@@ -0,0 +1,229 @@
+package com.github.vizaizai.parser;
+
+import com.github.vizaizai.batch.Batcher;
+import com.github.vizaizai.cache.ResultCache;
+import com.github.vizaizai.hedge.Hedger;
+import com.github.vizaizai.limit.ConcurrencyLimiter;
+import com.github.vizaizai.limit.RateLimiter;
+import com.github.vizaizai.entity.ConcurrencyLimitSettings;
+import com.github.vizaizai.entity.HttpRequestConfig;
+import com.github.vizaizai.entity.RateLimitSettings;
+import com.github.vizaizai.entity.RetrySettings;
+import com.github.vizaizai.interceptor.HttpInterceptor;
+import com.github.vizaizai.interceptor.InterceptorExecutor;
+import com.github.vizaizai.proxy.ProxyContext;
+import com.github.vizaizai.util.TypeUtils;
+import com.github.vizaizai.util.VUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 方法请求模板(每个方法只编译一次，缓存于ProxyContext)
+ * @author liaochongwei
+ * @date 2026/10/17 10:12
+ */
+public class MethodTemplate {
+    /**
+     * 接口解析器
+     */
+    private final InterfaceParser interfaceParser;
+    /**
+     * 方法解析器
+     */
+    private final MethodParser methodParser;
+    /**
+     * 参数模板
+     */
+    private final Arg[] argTemplates;
+    /**
+     * 已排序的拦截器(全局+方法级别)
+     */
+    private final List<HttpInterceptor> interceptors;
+    /**
+     * 合并后的重试设置
+     */
+    private final RetrySettings retrySettings;
+    /**
+     * 合并后的请求配置(全局配置+@Timeout)
+     */
+    private final HttpRequestConfig requestConfig;
+    /**
+     * 返回解码类型
+     */
+    private final Type returnType;
+    /**
+     * 方法结果缓存(@CacheResult)
+     */
+    private final ResultCache resultCache;
+    /**
+     * 批量合并器(@Batched)
+     */
+    private final Batcher batcher;
+    /**
+     * 对冲请求
+     */
+    private final Hedger hedger;
+    /**
+     * 并发限制器(方法上的@ConcurrencyLimit，否则为客户端共用的限制器)
+     */
+    private final ConcurrencyLimiter concurrencyLimiter;
+    /**
+     * 限流器: 方法上的@RateLimit > 客户端的限流器 > 实例组的限流器
+     */
+    private final RateLimiter rateLimiter;
+
+    private MethodTemplate(ProxyContext<?> proxyContext, Method method) {
+        this.interfaceParser = InterfaceParser.doParse(proxyContext.getTargetClazz());
+        this.methodParser = MethodParser.doParse(method, proxyContext);
+
+        int count = method.getParameterCount();
+        this.argTemplates = new Arg[count];
+        for (int i = 0; i < count; i++) {
+            this.argTemplates[i] = Arg.template(method, i);
+        }
+        // 提前校验参数规则
+        ArgsParser.doParse(Arrays.asList(this.argTemplates));
+
+        List<HttpInterceptor> all = new ArrayList<>();
+        if (proxyContext.getInterceptors() != null) {
+            all.addAll(proxyContext.getInterceptors());
+        }
+        if (VUtils.isNotEmpty(methodParser.getInterceptors())) {
+            all.addAll(methodParser.getInterceptors());
+        }
+        this.interceptors = Collections.unmodifiableList(InterceptorExecutor.sort(all));
+        this.retrySettings = mergeRetrySettings(proxyContext.getRetrySettings(), methodParser.getRetrySettings());
+        this.returnType = TypeUtils.getDecodeType(method.getGenericReturnType());
+        HttpRequestConfig global = proxyContext.getRequestConfig() == null ? HttpRequestConfig.defaultConfig() : proxyContext.getRequestConfig();
+        this.requestConfig = global.merge(methodParser.getTimeout());
+        this.resultCache = methodParser.getCacheResult() == null ? null
+                : ResultCache.create(method, methodParser.getCacheResult(), methodParser.isAsync());
+        this.batcher = methodParser.getBatched() == null ? null
+                : Batcher.create(proxyContext, method, methodParser.getBatched());
+        this.hedger = methodParser.getHedgeSettings() == null ? null
+                : Hedger.create(method, methodParser.getHedgeSettings());
+        ConcurrencyLimitSettings limit = methodParser.getConcurrencyLimit();
+        if (limit == null) {
+            this.concurrencyLimiter = proxyContext.getConcurrencyLimiter();
+        }else {
+            this.concurrencyLimiter = Boolean.TRUE.equals(limit.getEnable())
+                    ? ConcurrencyLimiter.create(method.getDeclaringClass().getSimpleName() + "#" + method.getName(), limit) : null;
+        }
+        RateLimitSettings rateLimit = methodParser.getRateLimit();
+        if (rateLimit == null) {
+            this.rateLimiter = proxyContext.getRateLimiter() != null ? proxyContext.getRateLimiter()
+                    : proxyContext.getEndpointGroup() == null ? null : proxyContext.getEndpointGroup().getRateLimiter();
+        }else {
+            this.rateLimiter = Boolean.TRUE.equals(rateLimit.getEnable())
+                    ? RateLimiter.create(method.getDeclaringClass().getSimpleName() + "#" + method.getName(), rateLimit) : null;
+        }
+    }
+
+    /**
+     * 编译方法模板
+     * @param proxyContext 代理环境
+     * @param method 目标方法
+     * @return MethodTemplate
+     */
+    public static MethodTemplate compile(ProxyContext<?> proxyContext, Method method) {
+        return new MethodTemplate(proxyContext, method);
+    }
+
+    /**
+     * 绑定本次调用的参数值
+     * @param args 方法参数
+     * @return ArgsParser
+     */
+    public ArgsParser bind(Object[] args) {
+        if (argTemplates.length == 0) {
+            return ArgsParser.doParse(Collections.emptyList());
+        }
+        List<Arg> argList = new ArrayList<>(argTemplates.length);
+        for (int i = 0; i < argTemplates.length; i++) {
+            argList.add(argTemplates[i].bind(args == null ? null : args[i]));
+        }
+        return ArgsParser.doParse(argList);
+    }
+
+    /**
+     * 合并重试设置(方法上的重试设置优先级更高)
+     * @param global 全局设置
+     * @param method 方法设置
+     * @return RetrySettings
+     */
+    private static RetrySettings mergeRetrySettings(RetrySettings global, RetrySettings method) {
+        if (method == null) {
+            return global;
+        }
+        RetrySettings merged = new RetrySettings();
+        if (global != null) {
+            merged.setEnable(global.getEnable());
+            merged.setMaxAttempts(global.getMaxAttempts());
+            merged.setIntervalTime(global.getIntervalTime());
+            merged.setRetryTrigger(global.getRetryTrigger());
+            merged.setBackoff(global.getBackoff());
+            merged.setBudget(global.getBudget());
+        }
+        if (method.getEnable() != null) {
+            merged.setEnable(method.getEnable());
+        }
+        if (method.getMaxAttempts() != null && method.getMaxAttempts() > 0) {
+            merged.setMaxAttempts(method.getMaxAttempts());
+        }
+        if (method.getIntervalTime() != null && method.getIntervalTime() > -1) {
+            merged.setIntervalTime(method.getIntervalTime());
+            // 方法上指定了间隔时，按固定间隔重试
+            merged.setBackoff(null);
+        }
+        return merged;
+    }
+
+    public InterfaceParser getInterfaceParser() {
+        return interfaceParser;
+    }
+
+    public MethodParser getMethodParser() {
+        return methodParser;
+    }
+
+    public List<HttpInterceptor> getInterceptors() {
+        return interceptors;
+    }
+
+    public RetrySettings getRetrySettings() {
+        return retrySettings;
+    }
+
+    public HttpRequestConfig getRequestConfig() {
+        return requestConfig;
+    }
+
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    public Batcher getBatcher() {
+        return batcher;
+    }
+
+    public Hedger getHedger() {
+        return hedger;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+}
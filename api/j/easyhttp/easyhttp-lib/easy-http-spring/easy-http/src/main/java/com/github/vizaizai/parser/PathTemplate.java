@@ -0,0 +1,201 @@
+package com.github.vizaizai.parser;
+
+import com.github.vizaizai.logging.LoggerFactory;
+import com.github.vizaizai.util.Utils;
+import org.slf4j.Logger;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.vizaizai.util.Utils.PLACEHOLDER_PREFIX;
+import static com.github.vizaizai.util.Utils.PLACEHOLDER_SUFFIX;
+
+/**
+ * 路径模板: 将 /books/{id} 或 /books?author={author} 一次性拆分为字面量片段和变量片段,
+ * 渲染时直接写入预估容量的StringBuilder
+ * @author liaochongwei
+ * @date 2026/10/17 13:20
+ */
+public class PathTemplate {
+    private static final Logger logger = LoggerFactory.getLogger(PathTemplate.class);
+    public static final String HTTP = "http://";
+    public static final String HTTPS = "https://";
+    /**
+     * 单个变量预估长度
+     */
+    private static final int VAR_ESTIMATE_LENGTH = 16;
+    /**
+     * 原始路径
+     */
+    private final String source;
+    /**
+     * 片段
+     */
+    private final Segment[] segments;
+    /**
+     * 变量名(去重)
+     */
+    private final String[] varNames;
+    /**
+     * 变量片段个数
+     */
+    private final int varCount;
+    /**
+     * 字面量总长度
+     */
+    private final int literalLength;
+    /**
+     * 是否为完整地址(http://或https://开头)
+     */
+    private final boolean absolute;
+
+    private PathTemplate(String source) {
+        this.source = source == null ? "" : source;
+        this.absolute = this.source.startsWith(HTTP) || this.source.startsWith(HTTPS);
+
+        List<Segment> segmentList = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int literals = 0;
+        int vars = 0;
+        int start = 0;
+        int prefix = this.source.indexOf(PLACEHOLDER_PREFIX);
+        while (prefix != -1) {
+            int suffix = this.source.indexOf(PLACEHOLDER_SUFFIX, prefix + PLACEHOLDER_PREFIX.length());
+            if (suffix == -1) {
+                break;
+            }
+            if (prefix > start) {
+                segmentList.add(Segment.literal(this.source.substring(start, prefix)));
+                literals += prefix - start;
+            }
+            String name = this.source.substring(prefix + PLACEHOLDER_PREFIX.length(), suffix);
+            int slot = names.indexOf(name);
+            if (slot == -1) {
+                slot = names.size();
+                names.add(name);
+            }
+            segmentList.add(Segment.variable(name, slot));
+            vars ++;
+            start = suffix + PLACEHOLDER_SUFFIX.length();
+            prefix = this.source.indexOf(PLACEHOLDER_PREFIX, start);
+        }
+        if (start < this.source.length()) {
+            segmentList.add(Segment.literal(this.source.substring(start)));
+            literals += this.source.length() - start;
+        }
+        this.segments = segmentList.toArray(new Segment[0]);
+        this.varNames = names.toArray(new String[0]);
+        this.varCount = vars;
+        this.literalLength = literals;
+    }
+
+    /**
+     * 编译路径模板
+     * @param path 路径
+     * @return PathTemplate
+     */
+    public static PathTemplate compile(String path) {
+        return new PathTemplate(path);
+    }
+
+    /**
+     * 获取变量槽位
+     * @param name 变量名
+     * @return 槽位，不存在返回-1
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < varNames.length; i++) {
+            if (varNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 渲染完整请求地址
+     * @param baseUrl 基础地址(路径为完整地址时忽略)
+     * @param values 变量值(按槽位，未编码)，为null的槽位保留占位符
+     * @param charset 编码
+     * @return url
+     */
+    public String expand(String baseUrl, Object[] values, Charset charset) {
+        String base = absolute || baseUrl == null ? "" : baseUrl;
+        if (varCount == 0) {
+            return base.isEmpty() ? source : base + source;
+        }
+        StringBuilder sb = new StringBuilder(base.length() + literalLength + varCount * VAR_ESTIMATE_LENGTH);
+        sb.append(base);
+        boolean bound = values != null;
+        for (Segment segment : segments) {
+            if (!segment.variable) {
+                // 字面量已是最终形式，直接追加
+                sb.append(segment.text);
+                continue;
+            }
+            Object value = bound ? values[segment.slot] : null;
+            if (value == null) {
+                if (bound) {
+                    logger.warn("Could not resolve placeholder {} in [{}]", segment.text, source);
+                }
+                sb.append(PLACEHOLDER_PREFIX).append(segment.text).append(PLACEHOLDER_SUFFIX);
+                continue;
+            }
+            Utils.urlEncode(value.toString(), charset, sb);
+        }
+        return sb.toString();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String[] getVarNames() {
+        return varNames.clone();
+    }
+
+    public int getVarSlots() {
+        return varNames.length;
+    }
+
+    public int getVarCount() {
+        return varCount;
+    }
+
+    public boolean isAbsolute() {
+        return absolute;
+    }
+
+    /**
+     * 路径片段
+     */
+    private static class Segment {
+        /**
+         * 字面量文本或变量名
+         */
+        private final String text;
+        /**
+         * 是否为变量
+         */
+        private final boolean variable;
+        /**
+         * 变量槽位
+         */
+        private final int slot;
+
+        private Segment(String text, boolean variable, int slot) {
+            this.text = text;
+            this.variable = variable;
+            this.slot = slot;
+        }
+
+        static Segment literal(String text) {
+            return new Segment(text, false, -1);
+        }
+
+        static Segment variable(String name, int slot) {
+            return new Segment(name, true, slot);
+        }
+    }
+}
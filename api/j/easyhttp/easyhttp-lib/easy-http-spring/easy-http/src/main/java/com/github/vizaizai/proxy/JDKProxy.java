@@ -20,6 +20,11 @@ public class JDKProxy<T> implements InvocationHandler {
     public T getProxy() {
         return (T) Proxy.newProxyInstance(proxyContext.getTargetClazz().getClassLoader(), new Class[]{ proxyContext.getTargetClazz() }, this);
     }
+
+    public ProxyContext<T> getProxyContext() {
+        return proxyContext;
+    }
+
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         return Object.class.equals(method.getDeclaringClass())
@@ -1,15 +1,34 @@
 package com.github.vizaizai.proxy;
 
+import com.github.vizaizai.breaker.CircuitBreakerRegistry;
+import com.github.vizaizai.buffer.BufferPool;
+import com.github.vizaizai.cache.HttpCache;
+import com.github.vizaizai.cache.ResultCache;
+import com.github.vizaizai.cache.ResultCacheStats;
 import com.github.vizaizai.client.AbstractClient;
 import com.github.vizaizai.codec.Decoder;
 import com.github.vizaizai.codec.Encoder;
+import com.github.vizaizai.hander.RequestCoalescer;
+import com.github.vizaizai.hedge.HedgeStats;
+import com.github.vizaizai.hedge.Hedger;
+import com.github.vizaizai.lb.EndpointGroup;
+import com.github.vizaizai.limit.ConcurrencyLimitStats;
+import com.github.vizaizai.limit.ConcurrencyLimiter;
+import com.github.vizaizai.limit.RateLimiter;
+import com.github.vizaizai.limit.RateLimiterStats;
 import com.github.vizaizai.hander.mapping.PathConverter;
 import com.github.vizaizai.interceptor.HttpInterceptor;
+import com.github.vizaizai.entity.HedgeSettings;
 import com.github.vizaizai.entity.HttpRequestConfig;
 import com.github.vizaizai.entity.RetrySettings;
 import com.github.vizaizai.interceptor.InterceptorGenerator;
+import com.github.vizaizai.parser.MethodTemplate;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 
 /**
@@ -62,11 +81,138 @@ public class ProxyContext<T> {
      * 拦截器生成器
      */
     private InterceptorGenerator interceptorGenerator;
+    /**
+     * 响应体缓冲池
+     */
+    private BufferPool bufferPool;
+    /**
+     * HTTP缓存
+     */
+    private HttpCache httpCache;
+    /**
+     * 是否合并相同的在途请求(GET/HEAD)
+     */
+    private boolean coalesce;
+    /**
+     * 传递剩余时间预算(ms)的请求头名称，为空时不传递
+     */
+    private String deadlineHeader;
+    /**
+     * 熔断器
+     */
+    private CircuitBreakerRegistry circuitBreakers;
+    /**
+     * 对冲请求设置(只对GET/HEAD生效，可被@Hedge覆盖)
+     */
+    private HedgeSettings hedgeSettings;
+    /**
+     * 实例组(负载均衡)，设置后代替url
+     */
+    private EndpointGroup endpointGroup;
+    /**
+     * 客户端共用的并发限制器(方法上的@ConcurrencyLimit使用单独的限制器)
+     */
+    private ConcurrencyLimiter concurrencyLimiter;
+    /**
+     * 客户端共用的限流器(方法上的@RateLimit使用单独的限流器)
+     */
+    private RateLimiter rateLimiter;
+    /**
+     * 在途请求合并器
+     */
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+    /**
+     * 方法请求模板缓存
+     */
+    private final Map<Method, MethodTemplate> methodTemplates = new ConcurrentHashMap<>();
 
     public ProxyContext(Class<T> targetClazz) {
         this.targetClazz = targetClazz;
     }
 
+    /**
+     * 获取方法请求模板(首次调用时编译)
+     * @param method 目标方法
+     * @return MethodTemplate
+     */
+    public MethodTemplate getMethodTemplate(Method method) {
+        MethodTemplate template = methodTemplates.get(method);
+        if (template == null) {
+            template = methodTemplates.computeIfAbsent(method, m -> MethodTemplate.compile(this, m));
+        }
+        return template;
+    }
+
+    /**
+     * 已编译方法的结果缓存统计(@CacheResult)
+     * @return 每个方法一项
+     */
+    public List<ResultCacheStats> getResultCacheStats() {
+        List<ResultCacheStats> stats = new ArrayList<>();
+        for (MethodTemplate template : methodTemplates.values()) {
+            ResultCache resultCache = template.getResultCache();
+            if (resultCache != null) {
+                stats.add(resultCache.stats());
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 已编译方法的对冲请求统计(@Hedge或全局对冲设置)
+     * @return 每个方法一项
+     */
+    public List<HedgeStats> getHedgeStats() {
+        List<HedgeStats> stats = new ArrayList<>();
+        for (MethodTemplate template : methodTemplates.values()) {
+            Hedger hedger = template.getHedger();
+            if (hedger != null) {
+                stats.add(hedger.stats());
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 并发限制统计: 客户端共用的限制器与已编译方法上的限制器
+     * @return 每个限制器一项
+     */
+    public List<ConcurrencyLimitStats> getConcurrencyLimitStats() {
+        List<ConcurrencyLimitStats> stats = new ArrayList<>();
+        if (concurrencyLimiter != null) {
+            stats.add(concurrencyLimiter.stats());
+        }
+        for (MethodTemplate template : methodTemplates.values()) {
+            ConcurrencyLimiter limiter = template.getConcurrencyLimiter();
+            if (limiter != null && limiter != concurrencyLimiter) {
+                stats.add(limiter.stats());
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 限流统计: 已编译方法使用的限流器(客户端、实例组或方法上的)
+     * @return 每个限流器一项
+     */
+    public List<RateLimiterStats> getRateLimiterStats() {
+        List<RateLimiter> limiters = new ArrayList<>();
+        if (rateLimiter != null) {
+            limiters.add(rateLimiter);
+        }
+        for (MethodTemplate template : methodTemplates.values()) {
+            RateLimiter limiter = template.getRateLimiter();
+            if (limiter != null && !limiters.contains(limiter)) {
+                limiters.add(limiter);
+            }
+        }
+        List<RateLimiterStats> stats = new ArrayList<>(limiters.size());
+        for (RateLimiter limiter : limiters) {
+            stats.add(limiter.stats());
+        }
+        return stats;
+    }
+
     public Class<T> getTargetClazz() {
         return targetClazz;
     }
@@ -150,4 +296,80 @@ public class ProxyContext<T> {
     public void setInterceptorGenerator(InterceptorGenerator interceptorGenerator) {
         this.interceptorGenerator = interceptorGenerator;
     }
+
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    public void setBufferPool(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    public HttpCache getHttpCache() {
+        return httpCache;
+    }
+
+    public void setHttpCache(HttpCache httpCache) {
+        this.httpCache = httpCache;
+    }
+
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    public void setCoalesce(boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+
+    public String getDeadlineHeader() {
+        return deadlineHeader;
+    }
+
+    public void setDeadlineHeader(String deadlineHeader) {
+        this.deadlineHeader = deadlineHeader;
+    }
+
+    public CircuitBreakerRegistry getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    public void setCircuitBreakers(CircuitBreakerRegistry circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    public HedgeSettings getHedgeSettings() {
+        return hedgeSettings;
+    }
+
+    public void setHedgeSettings(HedgeSettings hedgeSettings) {
+        this.hedgeSettings = hedgeSettings;
+    }
+
+    public EndpointGroup getEndpointGroup() {
+        return endpointGroup;
+    }
+
+    public void setEndpointGroup(EndpointGroup endpointGroup) {
+        this.endpointGroup = endpointGroup;
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
 }
@@ -1,9 +1,17 @@
 package com.github.vizaizai.proxy;
 
+import com.github.vizaizai.batch.Batcher;
+import com.github.vizaizai.cache.ResultCache;
+import com.github.vizaizai.entity.Deadline;
 import com.github.vizaizai.hander.AsyncHttpHandler;
+import com.github.vizaizai.hander.CoalescingHandler;
 import com.github.vizaizai.hander.HttpHandler;
 import com.github.vizaizai.hander.RequestHandler;
 import com.github.vizaizai.hander.ResponseHandler;
+import com.github.vizaizai.hedge.Hedger;
+import com.github.vizaizai.limit.ConcurrencyLimiter;
+import com.github.vizaizai.limit.RateLimiter;
+import com.github.vizaizai.parser.MethodTemplate;
 
 import java.lang.reflect.Method;
 
@@ -24,16 +32,65 @@ public class ProxyInvokes {
      * @return 代理返回结果
      */
     public static Object invoke(Method method, Object[] args, ProxyContext<?> proxyContext) {
+        MethodTemplate methodTemplate = proxyContext.getMethodTemplate(method);
+        // 方法结果缓存
+        ResultCache resultCache = methodTemplate.getResultCache();
+        if (resultCache != null) {
+            return resultCache.get(args, () -> doInvoke(methodTemplate, method, args, proxyContext), proxyContext.getExecutor());
+        }
+        return doInvoke(methodTemplate, method, args, proxyContext);
+    }
+
+    private static Object doInvoke(MethodTemplate methodTemplate, Method method, Object[] args, ProxyContext<?> proxyContext) {
+        // 合并为批量请求
+        Batcher batcher = methodTemplate.getBatcher();
+        if (batcher != null) {
+            return batcher.submit(args[0]);
+        }
+        // 限流(等待许可期间不占用并发许可)
+        RateLimiter rateLimiter = methodTemplate.getRateLimiter();
+        if (rateLimiter != null) {
+            return rateLimiter.execute(() -> limit(methodTemplate, method, args, proxyContext), methodTemplate.getMethodParser().isAsync());
+        }
+        return limit(methodTemplate, method, args, proxyContext);
+    }
+
+    private static Object limit(MethodTemplate methodTemplate, Method method, Object[] args, ProxyContext<?> proxyContext) {
+        // 并发限制(合并、对冲与重试都在一个许可内)
+        ConcurrencyLimiter limiter = methodTemplate.getConcurrencyLimiter();
+        if (limiter != null) {
+            return limiter.execute(() -> execute(methodTemplate, method, args, proxyContext), methodTemplate.getMethodParser().isAsync());
+        }
+        return execute(methodTemplate, method, args, proxyContext);
+    }
+
+    private static Object execute(MethodTemplate methodTemplate, Method method, Object[] args, ProxyContext<?> proxyContext) {
+        // 对冲请求(每次请求独立的处理器，截止时间沿用调用线程上下文)
+        Hedger hedger = methodTemplate.getHedger();
+        if (hedger != null) {
+            Deadline deadline = Deadline.current();
+            return hedger.execute(() -> Deadline.with(deadline, () -> {
+                RequestHandler requestHandler = RequestHandler.create(proxyContext, method, args);
+                return AsyncHttpHandler.create(requestHandler, ResponseHandler.create(proxyContext, requestHandler))
+                                       .addExecutor(proxyContext.getExecutor());
+            }), methodTemplate.getMethodParser().isAsync());
+        }
         // 构建请求处理
         RequestHandler requestHandler = RequestHandler.create(proxyContext, method, args);
         // 构建响应处理
         ResponseHandler responseHandler = ResponseHandler.create(proxyContext, requestHandler);
+        HttpHandler httpHandler;
         // 异步返回
         if (requestHandler.getRequest().isAsync()) {
-            return AsyncHttpHandler.create(requestHandler, responseHandler)
-                    .addExecutor(proxyContext.getExecutor())
-                    .execute();
+            httpHandler = AsyncHttpHandler.create(requestHandler, responseHandler)
+                    .addExecutor(proxyContext.getExecutor());
+        }else {
+            httpHandler = HttpHandler.create(requestHandler,responseHandler);
+        }
+        // 合并相同的在途请求
+        if (requestHandler.getMethodParser().isCoalesce()) {
+            return CoalescingHandler.create(httpHandler, proxyContext.getRequestCoalescer()).execute();
         }
-        return HttpHandler.create(requestHandler,responseHandler).execute();
+        return httpHandler.execute();
     }
 }
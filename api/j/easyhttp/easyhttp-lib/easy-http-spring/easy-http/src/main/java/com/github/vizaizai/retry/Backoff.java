@@ -0,0 +1,17 @@
+package com.github.vizaizai.retry;
+
+/**
+ * 重试退避策略
+ * @author liaochongwei
+ * @date 2026/10/18 16:10
+ */
+@FunctionalInterface
+public interface Backoff {
+    /**
+     * 计算下一次重试前的等待时间
+     * @param attempt 第几次重试(从1开始)
+     * @param previous 上一次的等待时间(ms)，首次重试时为0
+     * @return 等待时间(ms)
+     */
+    long delay(int attempt, long previous);
+}
@@ -0,0 +1,67 @@
+package com.github.vizaizai.retry;
+
+import com.github.vizaizai.util.Assert;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 常用退避策略
+ * @author liaochongwei
+ * @date 2026/10/18 16:15
+ */
+public class Backoffs {
+    private Backoffs() {
+    }
+
+    /**
+     * 固定间隔
+     * @param interval 间隔时间(ms)
+     * @return Backoff
+     */
+    public static Backoff fixed(long interval) {
+        Assert.isTrue(interval >= 0, "interval must be >= 0");
+        return (attempt, previous) -> interval;
+    }
+
+    /**
+     * 指数退避(倍数为2，全抖动)
+     * @param base 初始间隔(ms)
+     * @param max 最大间隔(ms)
+     * @return Backoff
+     */
+    public static Backoff exponential(long base, long max) {
+        return exponential(base, max, 2.0, true);
+    }
+
+    /**
+     * 指数退避: 第n次重试的上限为 min(max, base * multiplier^(n-1))，
+     * 开启抖动时在[0, 上限]内随机取值(全抖动)，避免客户端同步重试
+     * @param base 初始间隔(ms)
+     * @param max 最大间隔(ms)
+     * @param multiplier 倍数
+     * @param jitter 是否抖动
+     * @return Backoff
+     */
+    public static Backoff exponential(long base, long max, double multiplier, boolean jitter) {
+        Assert.isTrue(base > 0 && max >= base, "base must be > 0 and max must be >= base");
+        Assert.isTrue(multiplier >= 1, "multiplier must be >= 1");
+        return (attempt, previous) -> {
+            long ceiling = (long) Math.min(max, base * Math.pow(multiplier, attempt - 1));
+            return jitter ? ThreadLocalRandom.current().nextLong(ceiling + 1) : ceiling;
+        };
+    }
+
+    /**
+     * 去相关抖动: min(max, random(base, previous * 3))，间隔随上一次等待时间增长且相互错开
+     * @param base 初始间隔(ms)
+     * @param max 最大间隔(ms)
+     * @return Backoff
+     */
+    public static Backoff decorrelatedJitter(long base, long max) {
+        Assert.isTrue(base > 0 && max >= base, "base must be > 0 and max must be >= base");
+        return (attempt, previous) -> {
+            long upper = Math.max(base, Math.min(max, previous * 3));
+            return Math.min(max, ThreadLocalRandom.current().nextLong(base, upper + 1));
+        };
+    }
+}
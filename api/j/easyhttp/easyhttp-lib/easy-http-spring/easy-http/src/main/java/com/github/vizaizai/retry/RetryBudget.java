@@ -0,0 +1,132 @@
+package com.github.vizaizai.retry;
+
+import com.github.vizaizai.util.Assert;
+import com.github.vizaizai.util.Utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 重试预算(令牌桶): 每次请求存入ratio个令牌，每次重试取出1个令牌，令牌不足时不再重试。
+ * 稳定状态下重试量不超过请求量的ratio倍，桶容量maxTokens限制突发重试数量。
+ * 可按客户端共享一个桶，或按host(scheme://host:port)各自一个桶
+ * @author liaochongwei
+ * @date 2026/10/18 16:25
+ */
+public class RetryBudget {
+    /**
+     * 令牌以千分之一为单位存储
+     */
+    private static final long SCALE = 1000;
+    private final long deposit;
+    private final long capacity;
+    private final boolean perHost;
+    private final AtomicLong tokens;
+    private final Map<String, AtomicLong> hostTokens = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private RetryBudget(double ratio, int maxTokens, boolean perHost) {
+        Assert.isTrue(ratio >= 0, "ratio must be >= 0");
+        Assert.isTrue(maxTokens > 0, "maxTokens must be > 0");
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = maxTokens * SCALE;
+        this.perHost = perHost;
+        this.tokens = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * 客户端共享一个预算
+     * @param ratio 重试量占请求量的比例上限(如0.1即10%)
+     * @param maxTokens 桶容量(允许的突发重试数)
+     * @return RetryBudget
+     */
+    public static RetryBudget perClient(double ratio, int maxTokens) {
+        return new RetryBudget(ratio, maxTokens, false);
+    }
+
+    /**
+     * 每个host单独一个预算
+     * @param ratio 重试量占请求量的比例上限(如0.1即10%)
+     * @param maxTokens 桶容量(允许的突发重试数)
+     * @return RetryBudget
+     */
+    public static RetryBudget perHost(double ratio, int maxTokens) {
+        return new RetryBudget(ratio, maxTokens, true);
+    }
+
+    /**
+     * 记录一次请求(首次请求，不含重试)
+     * @param url 请求地址
+     */
+    public void deposit(String url) {
+        requests.increment();
+        AtomicLong bucket = this.bucket(url);
+        long current;
+        do {
+            current = bucket.get();
+            if (current >= capacity) {
+                return;
+            }
+        }while (!bucket.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    /**
+     * 尝试取出一次重试的令牌
+     * @param url 请求地址
+     * @return 是否允许重试
+     */
+    public boolean tryAcquire(String url) {
+        AtomicLong bucket = this.bucket(url);
+        long current;
+        do {
+            current = bucket.get();
+            if (current < SCALE) {
+                rejected.increment();
+                return false;
+            }
+        }while (!bucket.compareAndSet(current, current - SCALE));
+        retries.increment();
+        return true;
+    }
+
+    private AtomicLong bucket(String url) {
+        if (!perHost) {
+            return tokens;
+        }
+        return hostTokens.computeIfAbsent(Utils.hostOf(url), k -> new AtomicLong(capacity));
+    }
+
+    /**
+     * 当前可用令牌数
+     * @param url 请求地址(按客户端共享时忽略)
+     * @return 令牌数
+     */
+    public double getAvailable(String url) {
+        return (double) this.bucket(url).get() / SCALE;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public boolean isPerHost() {
+        return perHost;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryBudget{requests=" + getRequests() + ", retries=" + getRetries() + ", rejected=" + getRejected() + '}';
+    }
+}
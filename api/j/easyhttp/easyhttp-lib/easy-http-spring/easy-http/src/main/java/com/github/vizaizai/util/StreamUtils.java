@@ -1,6 +1,9 @@
 package com.github.vizaizai.util;
 
 import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 
 /**
@@ -14,6 +17,10 @@ public class StreamUtils {
      * The default buffer size used why copying bytes.
      */
     public static final int BUFFER_SIZE = 4096;
+    /**
+     * The maximum number of bytes requested per FileChannel transfer call.
+     */
+    private static final long TRANSFER_SIZE = 8L * 1024 * 1024;
     /**
      * Copy the contents of the given InputStream into a new byte array.
      * Leaves the stream open when done.
@@ -114,6 +121,29 @@ public class StreamUtils {
         }
     }
 
+    /**
+     * Transfer the contents of the given InputStream into the given FileChannel,
+     * starting at the channel's current size. Uses the stream's own channel when
+     * it is backed by a file, otherwise a small fixed-size transfer buffer, so
+     * heap usage does not depend on the content length.
+     * Leaves both the stream and the channel open when done.
+     * @param in the stream to copy from
+     * @param out the file channel to write to
+     * @return the number of bytes transferred
+     * @throws IOException in case of I/O errors
+     */
+    public static long transfer(InputStream in, FileChannel out) throws IOException {
+        ReadableByteChannel source = in instanceof FileInputStream
+                ? ((FileInputStream) in).getChannel() : Channels.newChannel(in);
+        long start = out.size();
+        long position = start;
+        long count;
+        while ((count = out.transferFrom(source, position, TRANSFER_SIZE)) > 0) {
+            position += count;
+        }
+        return position - start;
+    }
+
     public static void ensureClosed(Closeable closeable) {
         if (closeable != null) {
             try {
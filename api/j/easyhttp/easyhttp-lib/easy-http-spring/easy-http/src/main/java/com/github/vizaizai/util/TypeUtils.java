@@ -1,12 +1,17 @@
 package com.github.vizaizai.util;
 
+import java.io.File;
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -111,6 +116,41 @@ public class TypeUtils {
         return equals(rawType, CompletableFuture.class) || equals(rawType, Future.class);
     }
 
+    /**
+     * 是否为流式返回类型(InputStream、Reader)
+     * @param type
+     * @return boolean
+     */
+    public static boolean isStreamType(Type type) {
+        return equals(type, InputStream.class) || equals(type, Reader.class);
+    }
+
+    /**
+     * 是否为文件类型(Path、File)
+     * @param type
+     * @return boolean
+     */
+    public static boolean isFileType(Type type) {
+        return equals(type, Path.class) || equals(type, File.class);
+    }
+
+    /**
+     * 是否为流消费者参数(Consumer&lt;InputStream&gt;)
+     * @param type
+     * @return boolean
+     */
+    public static boolean isStreamConsumer(Type type) {
+        if (!(type instanceof ParameterizedType) || !equals(getRawType(type), Consumer.class)) {
+            return false;
+        }
+        Type argType = ((ParameterizedType) type).getActualTypeArguments()[0];
+        if (argType instanceof WildcardType) {
+            Type[] lowerBounds = ((WildcardType) argType).getLowerBounds();
+            argType = lowerBounds.length > 0 ? lowerBounds[0] : ((WildcardType) argType).getUpperBounds()[0];
+        }
+        return equals(argType, InputStream.class);
+    }
+
     /**
      * 获取需要编码的返回值类型
      * @param type
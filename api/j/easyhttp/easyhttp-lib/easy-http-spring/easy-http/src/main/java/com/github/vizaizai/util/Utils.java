@@ -67,6 +67,7 @@ public class Utils {
 
     public static final String PLACEHOLDER_PREFIX = "{";
     public static final String PLACEHOLDER_SUFFIX = "}";
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
     public static final String COLON = ":";
 
@@ -145,40 +146,52 @@ public class Utils {
 
 
     /**
-     * 格式化占位符
-     * /books?name={name}&author={author}
-     * @param source
-     * @param params
-     * @return path
+     * URL编码(与URLEncoder规则一致)，直接写入目标StringBuilder
+     * @param source 源字符
+     * @param charset 字符编码
+     * @param out 输出
      */
-    public static String formatPlaceholder(String source, Map<String,String> params) {
-        if (VUtils.isEmpty(params)) {
-            return source;
+    public static void urlEncode(CharSequence source, Charset charset, StringBuilder out) {
+        int length = source.length();
+        int i = 0;
+        // 快速路径: 无需编码的字符直接追加
+        while (i < length && isUrlSafe(source.charAt(i))) {
+            i++;
         }
-        StringBuilder buf = new StringBuilder(source);
-        int startIndex = buf.indexOf(PLACEHOLDER_PREFIX);
-        while (startIndex != -1) {
-            int endIndex = buf.indexOf(PLACEHOLDER_SUFFIX, startIndex + PLACEHOLDER_PREFIX.length());
-            if (endIndex != -1) {
-                String placeholder = buf.substring(startIndex + PLACEHOLDER_PREFIX.length(), endIndex);
-                int nextIndex = endIndex + PLACEHOLDER_SUFFIX.length();
-
-                String propVal = params.get(placeholder);
-                if (propVal != null) {
-                    buf.replace(startIndex, endIndex + PLACEHOLDER_SUFFIX.length(), propVal);
-                    nextIndex = startIndex + propVal.length();
-                } else {
-                    logger.warn("Could not resolve placeholder {} in [{}]", placeholder, source);
+        out.append(source, 0, i);
+        while (i < length) {
+            char c = source.charAt(i);
+            if (isUrlSafe(c)) {
+                out.append(c);
+                i++;
+            }else if (c == ' ') {
+                out.append('+');
+                i++;
+            }else if (c < 0x80) {
+                appendHex(out, c);
+                i++;
+            }else {
+                // 连续的非ASCII字符按字符集一次编码
+                int start = i;
+                while (i < length && source.charAt(i) >= 0x80) {
+                    i++;
+                }
+                byte[] bytes = source.subSequence(start, i).toString().getBytes(charset);
+                for (byte b : bytes) {
+                    appendHex(out, b & 0xFF);
                 }
-                startIndex = buf.indexOf(PLACEHOLDER_PREFIX, nextIndex);
-            } else {
-                startIndex = -1;
             }
         }
-        return buf.toString();
+    }
 
+    private static boolean isUrlSafe(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '-' || c == '*' || c == '_';
     }
 
+    private static void appendHex(StringBuilder out, int b) {
+        out.append('%').append(HEX_DIGITS[(b >> 4) & 0x0F]).append(HEX_DIGITS[b & 0x0F]);
+    }
 
     /**
      * 从@Headers获取请求头
@@ -344,6 +357,26 @@ public class Utils {
     }
 
 
+    /**
+     * 截取地址中的scheme://host:port部分
+     * @param url 请求地址
+     * @return host
+     */
+    public static String hostOf(String url) {
+        if (url == null) {
+            return "";
+        }
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : start + 3;
+        for (int i = start; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                return url.substring(0, i);
+            }
+        }
+        return url;
+    }
+
     public static String uuid() {
         return UUID.randomUUID().toString().replace("-","");
     }
@@ -0,0 +1,77 @@
+package com.github.vizaizai.util;
+
+import com.github.vizaizai.logging.LoggerFactory;
+import org.slf4j.Logger;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 虚拟线程工具: 运行时反射创建(编译仍兼容低版本JDK)。不支持时回退为固定大小的平台线程池，
+ * 线程数由系统属性指定(有上限，避免突发流量下线程数失控)
+ * @author liaochongwei
+ * @date 2026/10/17 19:55
+ */
+public class VirtualThreads {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+    /**
+     * 不支持虚拟线程时平台线程池的线程数(系统属性)，默认200
+     */
+    public static final String FALLBACK_THREADS_PROPERTY = "easy-http.virtual.fallback-threads";
+    private static final int DEFAULT_FALLBACK_THREADS = 200;
+    private VirtualThreads() {
+    }
+
+    /**
+     * 当前JDK是否支持虚拟线程
+     */
+    public static boolean isSupported() {
+        return Holder.SUPPORTED;
+    }
+
+    /**
+     * 共享的虚拟线程执行器(每个任务一个虚拟线程)
+     * @return ExecutorService，不支持虚拟线程时为固定大小的平台线程池(空闲线程超时回收)
+     */
+    public static ExecutorService executor() {
+        return Holder.EXECUTOR;
+    }
+
+    private static class Holder {
+        private static final boolean SUPPORTED;
+        private static final ExecutorService EXECUTOR;
+        static {
+            ExecutorService executor = null;
+            try {
+                executor = (ExecutorService) MethodHandles.publicLookup()
+                        .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                        .invoke();
+            }catch (Throwable e) {
+                // 不支持虚拟线程
+            }
+            SUPPORTED = executor != null;
+            EXECUTOR = executor != null ? executor : fallback();
+        }
+
+        private static ExecutorService fallback() {
+            int threads = Integer.getInteger(FALLBACK_THREADS_PROPERTY, DEFAULT_FALLBACK_THREADS);
+            Assert.isTrue(threads > 0, FALLBACK_THREADS_PROPERTY + " must be greater than 0");
+            log.warn("Virtual threads are not supported by this JDK({}), ExecutionMode.VIRTUAL falls back to {} platform threads",
+                    System.getProperty("java.version"), threads);
+            AtomicInteger sequence = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "easy-http-virtual-fallback-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
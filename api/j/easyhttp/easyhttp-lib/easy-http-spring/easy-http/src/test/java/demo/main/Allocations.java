@@ -0,0 +1,28 @@
+package demo.main;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * 单线程基准: 预热后统计每次调用的平均耗时与分配字节数
+ * @author liaochongwei
+ * @date 2026/10/19 00:30
+ */
+public class Allocations {
+
+    public static void measure(String name, int warmup, int rounds, Supplier<Object> task) {
+        for (int i = 0; i < warmup; i++) {
+            task.get();
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            task.get();
+        }
+        long ns = System.nanoTime() - start;
+        bytes = threadMXBean.getThreadAllocatedBytes(threadId) - bytes;
+        System.out.println(name + ": " + (ns / rounds) + " ns/op, " + (bytes / rounds) + " B/op");
+    }
+}
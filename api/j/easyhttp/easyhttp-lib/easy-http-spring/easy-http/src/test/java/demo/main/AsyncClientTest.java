@@ -0,0 +1,69 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.client.JdkHttpClient;
+import demo.model.ApiResult;
+import demo.model.Book;
+import demo.service.BookHttpService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 非阻塞客户端: 大量并发异步请求只占用少量线程(服务端延迟响应)
+ * @author liaochongwei
+ * @date 2026/10/17 18:40
+ */
+public class AsyncClientTest {
+    private static final int CONCURRENCY = 500;
+    private static final int DELAY_MS = 200;
+
+    @Test
+    public void concurrent() throws Exception {
+        byte[] payload = "{\"code\":200,\"message\":\"ok\",\"data\":[{\"id\":\"1\",\"name\":\"西游记\"}]}".getBytes(StandardCharsets.UTF_8);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (LocalServer server = LocalServer.start()) {
+            // 服务端延迟后在调度线程中响应，不占用处理线程
+            server.handle("/books", exchange -> scheduler.schedule(() -> {
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+                return null;
+            }, DELAY_MS, TimeUnit.MILLISECONDS));
+
+            BookHttpService bookHttpService = EasyHttp.builder()
+                                                      .url(server.url())
+                                                      .client(JdkHttpClient.getInstance())
+                                                      .build(BookHttpService.class);
+            // 预热
+            bookHttpService.foo().join();
+
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            int baseline = threadMXBean.getThreadCount();
+            threadMXBean.resetPeakThreadCount();
+            long start = System.currentTimeMillis();
+            List<CompletableFuture<ApiResult<List<Book>>>> futures = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(bookHttpService.foo());
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            long elapsed = System.currentTimeMillis() - start;
+            for (CompletableFuture<ApiResult<List<Book>>> future : futures) {
+                Assert.assertEquals("西游记", future.join().getData().get(0).getName());
+            }
+            int peak = threadMXBean.getPeakThreadCount();
+            System.out.println(CONCURRENCY + " requests: " + elapsed + " ms, threads " + baseline + " -> peak " + peak);
+        }finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.batch.Batcher;
+import demo.model.Book;
+import demo.service.BatchService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 自动批量: 并发的单键调用合并为批量请求，对比往返次数与耗时(本地服务，响应延迟20ms)
+ * @author liaochongwei
+ * @date 2026/10/18 00:15
+ */
+public class BatchBenchmarkTest {
+    private static final int KEYS = 500;
+    private static final int DELAY_MS = 20;
+
+    @Test
+    public void batch() throws Exception {
+        AtomicInteger roundTrips = new AtomicInteger();
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/books", exchange -> {
+                roundTrips.incrementAndGet();
+                try {
+                    Thread.sleep(DELAY_MS);
+                }catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                StringBuilder payload = new StringBuilder();
+                String path = exchange.getRequestURI().getPath();
+                if (path.startsWith("/books/")) {
+                    payload.append(book(path.substring("/books/".length())));
+                }else {
+                    payload.append('[');
+                    for (String pair : exchange.getRequestURI().getRawQuery().split("&")) {
+                        String id = URLDecoder.decode(pair.substring(pair.indexOf('=') + 1), "UTF-8");
+                        // 模拟不存在的图书
+                        if (!"missing".equals(id)) {
+                            payload.append(payload.length() > 1 ? "," : "").append(book(id));
+                        }
+                    }
+                    payload.append(']');
+                }
+                byte[] bytes = payload.toString().getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(50);
+            try {
+                BatchService service = EasyHttp.builder()
+                                               .url(server.url())
+                                               .executor(executor)
+                                               .build(BatchService.class);
+                // 预热
+                service.getBookAsync("0").join();
+                service.getBooks(List.of("0"));
+
+                roundTrips.set(0);
+                long ms = measure(service::getBookAsync);
+                System.out.println("single: " + KEYS + " keys, " + roundTrips.get() + " round trips in " + ms + " ms");
+                Assert.assertEquals(KEYS, roundTrips.get());
+
+                roundTrips.set(0);
+                ms = measure(service::getBookBatchedAsync);
+                Batcher batcher = EasyHttp.getProxyContext(service)
+                                          .getMethodTemplate(BatchService.class.getMethod("getBookBatchedAsync", String.class))
+                                          .getBatcher();
+                System.out.println("batched: " + KEYS + " keys, " + roundTrips.get() + " round trips in " + ms + " ms, "
+                        + batcher.getBatches() + " batches");
+                Assert.assertTrue(roundTrips.get() <= KEYS / 10);
+
+                // 同步调用及缺失的键: 窗口足够长，4个调用凑满一批后立即发出
+                roundTrips.set(0);
+                List<Future<Book>> futures = new ArrayList<>();
+                for (String id : List.of("a", "b", "a", "missing")) {
+                    futures.add(executor.submit(() -> service.getBookBatchedOfFour(id)));
+                }
+                Assert.assertEquals("a", futures.get(0).get().getId());
+                Assert.assertEquals("b", futures.get(1).get().getId());
+                Assert.assertEquals("a", futures.get(2).get().getId());
+                Assert.assertNull(futures.get(3).get());
+                Assert.assertEquals(1, roundTrips.get());
+            }finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 同步调用方占满客户端线程池时，窗口到期的批次仍能发出
+     */
+    @Test
+    public void syncCallersOnClientExecutor() throws Exception {
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/books", exchange -> {
+                byte[] bytes = ("[" + book("a") + "," + book("b") + "]").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                BatchService service = EasyHttp.builder()
+                                               .url(server.url())
+                                               .executor(executor)
+                                               .build(BatchService.class);
+                Future<Book> a = executor.submit(() -> service.getBookBatched("a"));
+                Future<Book> b = executor.submit(() -> service.getBookBatched("b"));
+                Assert.assertEquals("a", a.get(5, TimeUnit.SECONDS).getId());
+                Assert.assertEquals("b", b.get(5, TimeUnit.SECONDS).getId());
+            }finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static long measure(Function<String, CompletableFuture<Book>> call) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Book>> futures = new ArrayList<>(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            futures.add(call.apply(String.valueOf(i)));
+        }
+        for (int i = 0; i < KEYS; i++) {
+            Assert.assertEquals(String.valueOf(i), futures.get(i).join().getId());
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static String book(String id) {
+        return "{\"id\":\"" + id + "\",\"name\":\"book-" + id + "\"}";
+    }
+}
@@ -0,0 +1,84 @@
+package demo.main;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.buffer.BufferPool;
+import com.github.vizaizai.buffer.BufferPoolMetrics;
+import com.github.vizaizai.client.ApacheHttpClient;
+import demo.model.ApiResult;
+import demo.model.Book;
+import demo.service.BookHttpService;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 响应体缓冲池: 每次请求的分配字节数对比(本地服务)，通过-Dbenchmark=true运行
+ * @author liaochongwei
+ * @date 2026/10/17 17:40
+ */
+public class BufferPoolBenchmarkTest {
+    private static final int WARMUP = 300;
+    private static final int ROUNDS = 1000;
+    private static final int BOOKS = 300;
+
+    @Before
+    public void enabled() {
+        Assume.assumeTrue("run with -Dbenchmark=true", Boolean.getBoolean("benchmark"));
+    }
+
+    @Test
+    public void allocation() throws Exception {
+        byte[] payload = new ObjectMapper().writeValueAsBytes(apiResult());
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/books", exchange -> {
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+            });
+            System.out.println("payload: " + payload.length + " bytes");
+
+            BookHttpService plain = EasyHttp.builder()
+                                            .url(server.url())
+                                            .client(ApacheHttpClient.getInstance())
+                                            .build(BookHttpService.class);
+            Assert.assertEquals(BOOKS, plain.listAllBooks().getData().size());
+            Allocations.measure("no pool", WARMUP, ROUNDS, plain::listAllBooks);
+
+            BufferPool bufferPool = BufferPool.heap();
+            BookHttpService pooled = EasyHttp.builder()
+                                            .url(server.url())
+                                            .client(ApacheHttpClient.getInstance())
+                                            .bufferPool(bufferPool)
+                                            .build(BookHttpService.class);
+            Assert.assertEquals(BOOKS, pooled.listAllBooks().getData().size());
+            Allocations.measure("heap pool", WARMUP, ROUNDS, pooled::listAllBooks);
+            BufferPoolMetrics metrics = bufferPool.metrics();
+            System.out.println(metrics);
+            Assert.assertEquals(0, metrics.getOutstanding());
+        }
+    }
+
+    private static ApiResult<List<Book>> apiResult() {
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = new Book();
+            book.setId(String.valueOf(i));
+            book.setName("book-" + i);
+            book.setAuthor("author-" + i);
+            book.setPrice(BigDecimal.valueOf(3999, 2));
+            book.setDescription("description of book " + i);
+            books.add(book);
+        }
+        ApiResult<List<Book>> apiResult = new ApiResult<>();
+        apiResult.setCode(200);
+        apiResult.setMessage("ok");
+        apiResult.setData(books);
+        return apiResult;
+    }
+}
@@ -0,0 +1,133 @@
+package demo.main;
+
+import com.github.vizaizai.entity.body.ByteBufferBody;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 缓冲区请求/响应体: 输入流语义与读取
+ * @author liaochongwei
+ * @date 2026/10/19 01:15
+ */
+public class ByteBufferBodyTest {
+    private static final byte[] DATA = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void slice() throws Exception {
+        ByteBufferBody body = ByteBufferBody.wrap(DATA, 10, 6);
+        Assert.assertEquals(6, body.length());
+        Assert.assertTrue(body.isRepeatable());
+        Assert.assertEquals("abcdef", body.asString(StandardCharsets.US_ASCII));
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        body.writeTo(os);
+        Assert.assertEquals("abcdef", os.toString("US-ASCII"));
+
+        ByteBuffer buffer = body.asByteBuffer();
+        Assert.assertEquals(0, buffer.position());
+        Assert.assertEquals(6, buffer.remaining());
+        Assert.assertEquals('a', buffer.get(0));
+        try {
+            buffer.put(0, (byte) 'x');
+            Assert.fail();
+        }catch (ReadOnlyBufferException ignored) {
+        }
+        try {
+            ByteBufferBody.wrap(DATA, 15, 6);
+            Assert.fail();
+        }catch (IndexOutOfBoundsException ignored) {
+        }
+    }
+
+    @Test
+    public void partialReads() throws Exception {
+        ByteBufferBody body = ByteBufferBody.wrap(DATA, 10, 6);
+        InputStream in = body.asInputStream();
+        Assert.assertEquals(6, in.available());
+        Assert.assertEquals('a', in.read());
+        byte[] b = new byte[8];
+        Arrays.fill(b, (byte) '-');
+        // 偏移写入，读取量受目标长度限制
+        Assert.assertEquals(2, in.read(b, 3, 2));
+        Assert.assertEquals("---bc---", new String(b, StandardCharsets.US_ASCII));
+        Assert.assertEquals(0, in.read(b, 0, 0));
+        // 剩余不足时只读剩余部分
+        Assert.assertEquals(3, in.read(b, 0, 8));
+        Assert.assertEquals("def", new String(b, 0, 3, StandardCharsets.US_ASCII));
+        Assert.assertEquals(0, in.available());
+        Assert.assertEquals(-1, in.read());
+        Assert.assertEquals(-1, in.read(b, 0, 8));
+        Assert.assertEquals(0, in.read(b, 0, 0));
+        try {
+            in.read(b, 6, 3);
+            Assert.fail();
+        }catch (IndexOutOfBoundsException ignored) {
+        }
+        // 每次都是新的流
+        Assert.assertEquals('a', body.asInputStream().read());
+    }
+
+    @Test
+    public void skipMarkReset() throws Exception {
+        InputStream in = ByteBufferBody.wrap(DATA, 10, 6).asInputStream();
+        Assert.assertTrue(in.markSupported());
+        // 未标记时回到起始位置(切片的偏移处)
+        Assert.assertEquals(2, in.skip(2));
+        in.reset();
+        Assert.assertEquals('a', in.read());
+
+        Assert.assertEquals(0, in.skip(-1));
+        in.mark(0);
+        Assert.assertEquals('b', in.read());
+        Assert.assertEquals('c', in.read());
+        in.reset();
+        Assert.assertEquals('b', in.read());
+        // 越过末尾时只跳过剩余部分
+        Assert.assertEquals(4, in.skip(100));
+        Assert.assertEquals(-1, in.read());
+        in.reset();
+        Assert.assertEquals(5, in.available());
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        Assert.assertEquals(5, in.transferTo(os));
+        Assert.assertEquals("bcdef", os.toString("US-ASCII"));
+        Assert.assertEquals(0, in.transferTo(os));
+    }
+
+    @Test
+    public void readStream() throws Exception {
+        byte[] large = new byte[50000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) i;
+        }
+        // 声明长度准确、偏小、偏大及未知时都读取全部内容
+        for (long declared : new long[]{large.length, 100, large.length * 2L, -1, 0}) {
+            AtomicBoolean closed = new AtomicBoolean();
+            InputStream in = new ByteArrayInputStream(large) {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            };
+            ByteBufferBody body = ByteBufferBody.read(in, declared);
+            Assert.assertEquals(large.length, body.length());
+            Assert.assertArrayEquals(large, toArray(body.asByteBuffer()));
+            Assert.assertTrue(closed.get());
+        }
+        Assert.assertEquals(0, ByteBufferBody.read(new ByteArrayInputStream(new byte[0]), -1).length());
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
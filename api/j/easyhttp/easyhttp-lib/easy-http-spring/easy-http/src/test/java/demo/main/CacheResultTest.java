@@ -0,0 +1,145 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.annotation.CacheResult;
+import com.github.vizaizai.cache.ResultCache;
+import com.github.vizaizai.cache.ResultCacheStats;
+import com.github.vizaizai.exception.CodeStatusException;
+import com.github.vizaizai.interceptor.ErrorInterceptor;
+import demo.model.Book;
+import demo.service.CacheResultService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 方法结果缓存(@CacheResult): 有效期内不访问服务端，临近过期时后台刷新
+ * @author liaochongwei
+ * @date 2026/10/17 23:25
+ */
+public class CacheResultTest {
+
+    @Test
+    public void cacheResult() throws Exception {
+        AtomicInteger hits = new AtomicInteger();
+        AtomicInteger version = new AtomicInteger();
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/books", exchange -> {
+                hits.incrementAndGet();
+                String id = exchange.getRequestURI().getPath().substring("/books/".length());
+                if ("missing".equals(id)) {
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                    return;
+                }
+                byte[] payload = ("{\"id\":\"" + id + "\",\"name\":\"v" + version.get() + "\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+            });
+            CacheResultService service = EasyHttp.builder()
+                                                 .url(server.url())
+                                                 .withInterceptor(new ErrorInterceptor())
+                                                 .build(CacheResultService.class);
+
+            // 同步: 相同参数只请求一次
+            for (int i = 0; i < 10; i++) {
+                Assert.assertEquals("1", service.getBook("1").getId());
+            }
+            Assert.assertEquals(1, hits.get());
+            Assert.assertEquals("2", service.getBook("2").getId());
+            Assert.assertEquals(2, hits.get());
+            // 超过maxSize淘汰最久未使用的("1")
+            service.getBook("3");
+            service.getBook("1");
+            Assert.assertEquals(4, hits.get());
+
+            // 异常不缓存
+            for (int i = 0; i < 2; i++) {
+                try {
+                    service.getBook("missing");
+                    Assert.fail();
+                }catch (CodeStatusException ignored) {
+                }
+            }
+            Assert.assertEquals(6, hits.get());
+
+            // 异步: 并发调用只加载一次
+            hits.set(0);
+            List<CompletableFuture<Book>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(service.getBookAsync("4"));
+            }
+            for (CompletableFuture<Book> future : futures) {
+                Assert.assertEquals("4", future.join().getId());
+            }
+            Assert.assertEquals("4", service.getBookAsync("4").join().getId());
+            Assert.assertEquals(1, hits.get());
+
+            // 提前刷新: 超过ttl一半后命中仍返回旧值，后台加载新值
+            hits.set(0);
+            Assert.assertEquals("v0", service.getBookRefreshAhead("5").getName());
+            version.set(1);
+            Thread.sleep(400);
+            Assert.assertEquals("v0", service.getBookRefreshAhead("5").getName());
+            long deadline = System.currentTimeMillis() + 2000;
+            while (hits.get() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);
+            Assert.assertEquals("v1", service.getBookRefreshAhead("5").getName());
+            Assert.assertEquals(2, hits.get());
+
+            List<ResultCacheStats> stats = EasyHttp.getProxyContext(service).getResultCacheStats();
+            stats.forEach(System.out::println);
+            ResultCacheStats sync = stats.stream().filter(e -> e.getName().endsWith("#getBook")).findFirst().orElseThrow(AssertionError::new);
+            Assert.assertEquals(9, sync.getHits());
+            Assert.assertEquals(2, sync.getEvictions());
+            Assert.assertEquals(2, sync.getLoadFailures());
+        }
+    }
+
+    /**
+     * 淘汰近似LRU: 最近访问过的键在低位哈希桶中也应保留
+     */
+    @Test
+    public void evictionApproximatesLru() throws Exception {
+        Method method = CacheResultService.class.getMethod("getBookOfHundred", String.class);
+        ResultCache cache = ResultCache.create(method, method.getAnnotation(CacheResult.class), false);
+        for (int i = 0; i < 100; i++) {
+            cache.get(new Object[]{i}, identity(i), null);
+        }
+        // 访问前50个键，使后50个成为最久未访问的
+        for (int i = 0; i < 50; i++) {
+            cache.get(new Object[]{i}, identity(i), null);
+        }
+        for (int i = 100; i < 150; i++) {
+            cache.get(new Object[]{i}, identity(i), null);
+        }
+        Assert.assertEquals(100, cache.size());
+        // 加载失败不写入缓存，可用于探测键是否仍在缓存中
+        AtomicInteger missing = new AtomicInteger();
+        for (int i = 0; i < 50; i++) {
+            try {
+                cache.get(new Object[]{i}, () -> {
+                    missing.incrementAndGet();
+                    throw new IllegalStateException("evicted");
+                }, null);
+            }catch (IllegalStateException ignored) {
+            }
+        }
+        System.out.println("recently used keys evicted: " + missing.get() + "/50");
+        Assert.assertTrue(missing.get() <= 20);
+    }
+
+    private static Supplier<Object> identity(int value) {
+        return () -> value;
+    }
+}
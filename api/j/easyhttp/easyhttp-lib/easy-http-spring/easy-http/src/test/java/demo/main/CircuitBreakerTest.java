@@ -0,0 +1,143 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.breaker.CircuitBreaker;
+import com.github.vizaizai.breaker.CircuitBreakerRegistry;
+import com.github.vizaizai.breaker.CircuitBreakerSettings;
+import com.github.vizaizai.entity.HttpMethod;
+import com.github.vizaizai.exception.CircuitBreakerOpenException;
+import com.github.vizaizai.interceptor.ErrorInterceptor;
+import demo.service.CircuitBreakerService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 熔断: 失败率/慢调用率达到阈值后直接失败，等待后半开试探并恢复(本地服务)
+ * @author liaochongwei
+ * @date 2026/10/18 18:55
+ */
+public class CircuitBreakerTest {
+
+    @Test
+    public void circuitBreaker() throws Exception {
+        byte[] payload = "{\"id\":\"1\",\"name\":\"西游记\"}".getBytes(StandardCharsets.UTF_8);
+        AtomicBoolean healthy = new AtomicBoolean(false);
+        AtomicInteger hits = new AtomicInteger();
+        try (LocalServer server = LocalServer.start()) {
+            com.sun.net.httpserver.HttpHandler ok = exchange -> {
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+            };
+            server.handle("/books", exchange -> {
+                hits.incrementAndGet();
+                if (healthy.get()) {
+                    ok.handle(exchange);
+                }else {
+                    byte[] error = "unavailable".getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(503, error.length);
+                    exchange.getResponseBody().write(error);
+                    exchange.close();
+                }
+            });
+            server.handle("/other", ok);
+            server.handle("/slow", exchange -> {
+                sleep(150);
+                ok.handle(exchange);
+            });
+
+            CircuitBreakerSettings settings = new CircuitBreakerSettings();
+            settings.setSlidingWindowSize(10);
+            settings.setMinimumCalls(5);
+            settings.setSlowCallDuration(100L);
+            settings.setSlowCallRateThreshold(50F);
+            settings.setWaitDurationInOpen(300L);
+            settings.setPermittedCallsInHalfOpen(2);
+            List<String> transitions = new CopyOnWriteArrayList<>();
+            CircuitBreakerRegistry registry = CircuitBreakerRegistry.create(settings)
+                    .addListener((name, from, to) -> transitions.add(name.substring(name.lastIndexOf('/')) + ":" + from + "->" + to));
+            CircuitBreakerService service = EasyHttp.builder()
+                                                    .url(server.url())
+                                                    .withInterceptor(new ErrorInterceptor())
+                                                    .circuitBreaker(registry)
+                                                    .build(CircuitBreakerService.class);
+
+            // 失败率: 同一路由模板的不同参数共用一个熔断器
+            for (int i = 0; i < 5; i++) {
+                try {
+                    service.getBook(String.valueOf(i));
+                    Assert.fail();
+                }catch (CircuitBreakerOpenException e) {
+                    Assert.fail();
+                }catch (RuntimeException expected) {
+                }
+            }
+            CircuitBreaker breaker = registry.get(HttpMethod.GET, server.url() + "/books/1", "/books/{id}");
+            Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+            // 熔断期间直接失败，不再请求上游
+            try {
+                service.getBook("1");
+                Assert.fail();
+            }catch (CircuitBreakerOpenException expected) {
+            }
+            try {
+                service.getBookAsync("1").join();
+                Assert.fail();
+            }catch (CompletionException e) {
+                Assert.assertTrue(e.getCause() instanceof CircuitBreakerOpenException);
+            }
+            Assert.assertEquals(5, hits.get());
+            // 其他路由不受影响
+            Assert.assertEquals("1", service.other().getId());
+
+            // 半开试探成功后关闭
+            Thread.sleep(350);
+            healthy.set(true);
+            Assert.assertEquals("1", service.getBook("1").getId());
+            Assert.assertEquals("1", service.getBookAsync("2").join().getId());
+            Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+            // 慢调用率
+            for (int i = 0; i < 5; i++) {
+                Assert.assertEquals("1", service.slow().getId());
+            }
+            try {
+                service.slow();
+                Assert.fail();
+            }catch (CircuitBreakerOpenException expected) {
+            }
+            System.out.println(transitions);
+            Assert.assertEquals(Arrays.asList("/{id}:CLOSED->OPEN", "/{id}:OPEN->HALF_OPEN", "/{id}:HALF_OPEN->CLOSED",
+                    "/slow:CLOSED->OPEN"), transitions);
+            Assert.assertEquals(3, registry.getAll().size());
+        }
+    }
+
+    @Test
+    public void boundedRegistry() {
+        CircuitBreakerSettings settings = new CircuitBreakerSettings();
+        settings.setMaxBreakers(10);
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.create(settings);
+        for (int i = 0; i < 100; i++) {
+            registry.get(HttpMethod.GET, "http://host" + i + ":8080/books?page=" + i, "/books");
+        }
+        Assert.assertTrue(registry.getAll().size() <= 10);
+        Assert.assertEquals("GET http://host1:8080/books", CircuitBreakerRegistry.nameOf(HttpMethod.GET, "http://host1:8080/books/1?a=b", "/books/{id}").replace("/{id}", ""));
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.entity.body.Body;
+import com.github.vizaizai.exception.CodeStatusException;
+import com.github.vizaizai.hander.RequestCoalescer;
+import com.github.vizaizai.interceptor.ErrorInterceptor;
+import demo.model.Book;
+import demo.service.CoalesceService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 在途请求合并: 并发的相同请求只访问一次服务端(本地服务，响应延迟300ms)
+ * @author liaochongwei
+ * @date 2026/10/17 21:05
+ */
+public class CoalesceTest {
+    private static final int CALLERS = 50;
+
+    @Test
+    public void coalesce() throws Exception {
+        AtomicInteger hits = new AtomicInteger();
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/books", exchange -> {
+                hits.incrementAndGet();
+                try {
+                    Thread.sleep(300);
+                }catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                String id = exchange.getRequestURI().getPath().substring("/books/".length());
+                if ("missing".equals(id)) {
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                    return;
+                }
+                byte[] payload = ("{\"id\":\"" + id + "\",\"name\":\"西游记\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+            });
+            CoalesceService service = EasyHttp.builder()
+                                              .url(server.url())
+                                              .withInterceptor(new ErrorInterceptor())
+                                              .build(CoalesceService.class);
+            RequestCoalescer coalescer = EasyHttp.getProxyContext(service).getRequestCoalescer();
+
+            // 同步: 相同参数共享一次请求
+            List<Book> books = concurrently(service::getBook, "1");
+            Assert.assertEquals(CALLERS, books.size());
+            Assert.assertTrue(books.stream().allMatch(e -> "1".equals(e.getId())));
+            System.out.println("sync: " + CALLERS + " calls, " + hits.get() + " hits, " + coalescer.getCoalesced() + " coalesced");
+            Assert.assertTrue(hits.get() < CALLERS / 2);
+
+            // 异步
+            hits.set(0);
+            List<CompletableFuture<Book>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(service.getBookAsync("2"));
+            }
+            for (CompletableFuture<Book> future : futures) {
+                Assert.assertEquals("2", future.join().getId());
+            }
+            Assert.assertEquals(1, hits.get());
+
+            // 不同参数不合并
+            hits.set(0);
+            CompletableFuture<Book> a = service.getBookAsync("3");
+            CompletableFuture<Book> b = service.getBookAsync("4");
+            Assert.assertEquals("3", a.join().getId());
+            Assert.assertEquals("4", b.join().getId());
+            Assert.assertEquals(2, hits.get());
+
+            // 同一URL、返回类型不同的方法不合并，返回HttpResponse的方法不合并
+            hits.set(0);
+            CompletableFuture<Book> book = service.getBookAsync("6");
+            Assert.assertTrue(service.getBookJson("6").contains("\"id\":\"6\""));
+            Assert.assertEquals("6", book.join().getId());
+            Assert.assertEquals(2, hits.get());
+            hits.set(0);
+            concurrently(id -> {
+                try (Body body = service.getBookResponse(id).getBody()) {
+                    Assert.assertTrue(body.length() > 0);
+                }catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            }, "7");
+            Assert.assertTrue(hits.get() >= CALLERS);
+
+            // 异常同样共享
+            hits.set(0);
+            AtomicInteger failures = new AtomicInteger();
+            concurrently(id -> {
+                try {
+                    return service.getBook(id);
+                }catch (CodeStatusException e) {
+                    failures.incrementAndGet();
+                    return null;
+                }
+            }, "missing");
+            Assert.assertEquals(CALLERS, failures.get());
+            Assert.assertTrue(hits.get() < CALLERS / 2);
+
+            // @Coalesce(false)
+            hits.set(0);
+            concurrently(service::getBookUncoalesced, "5");
+            Assert.assertEquals(CALLERS, hits.get());
+            Assert.assertEquals(0, coalescer.getInFlight());
+        }
+    }
+
+    private static List<Book> concurrently(Function<String, Book> call, String id) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Book>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.apply(id);
+                }));
+            }
+            start.countDown();
+            List<Book> books = new ArrayList<>();
+            for (Future<Book> future : futures) {
+                books.add(future.get());
+            }
+            return books;
+        }finally {
+            executor.shutdownNow();
+        }
+    }
+}
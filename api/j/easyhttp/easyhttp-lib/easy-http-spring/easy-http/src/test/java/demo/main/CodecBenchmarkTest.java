@@ -0,0 +1,117 @@
+package demo.main;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.vizaizai.codec.Decoder;
+import com.github.vizaizai.codec.JacksonDecoder;
+import com.github.vizaizai.codec.JacksonEncoder;
+import com.github.vizaizai.entity.HttpResponse;
+import com.github.vizaizai.entity.body.Body;
+import com.github.vizaizai.entity.body.ByteArrayBody;
+import com.github.vizaizai.util.Utils;
+import demo.model.ApiResult;
+import demo.model.Book;
+import demo.service.BookHttpService;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson编解码对比: ApiResult&lt;List&lt;Book&gt;&gt;，通过-Dbenchmark=true运行
+ * @author liaochongwei
+ * @date 2026/10/17 15:40
+ */
+public class CodecBenchmarkTest {
+    private static final int WARMUP = 5000;
+    private static final int ROUNDS = 20000;
+    private static final int BOOKS = 100;
+
+    @Before
+    public void enabled() {
+        Assume.assumeTrue("run with -Dbenchmark=true", Boolean.getBoolean("benchmark"));
+    }
+
+    @Test
+    public void decode() throws Exception {
+        Type type = BookHttpService.class.getMethod("listAllBooks").getGenericReturnType();
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        byte[] payload = mapper.writeValueAsBytes(apiResult());
+        System.out.println("payload: " + payload.length + " bytes");
+
+        Decoder legacy = (response, t) -> {
+            try {
+                Reader reader = response.getBody().asReader(Utils.UTF_8);
+                if (!reader.markSupported()) {
+                    reader = new BufferedReader(reader, 1);
+                }
+                reader.mark(1);
+                if (reader.read() == -1) {
+                    return null;
+                }
+                reader.reset();
+                return mapper.readValue(reader, mapper.constructType(t));
+            }catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        JacksonDecoder decoder = new JacksonDecoder(mapper);
+        ApiResult<?> result = (ApiResult<?>) decoder.decode(HttpResponse.ok(new ByteArrayBody(payload)), type);
+        Assert.assertEquals(BOOKS, ((List<?>) result.getData()).size());
+
+        Allocations.measure("decode(reader + constructType)", WARMUP, ROUNDS, () -> legacy.decode(HttpResponse.ok(new ByteArrayBody(payload)), type));
+        Allocations.measure("decode(cached ObjectReader + bytes)", WARMUP, ROUNDS, () -> decoder.decode(HttpResponse.ok(new ByteArrayBody(payload)), type));
+    }
+
+    @Test
+    public void encode() throws Exception {
+        Type type = BookHttpService.class.getMethod("listAllBooks").getGenericReturnType();
+        ApiResult<List<Book>> apiResult = apiResult();
+        ObjectMapper mapper = new ObjectMapper();
+        JacksonEncoder encoder = new JacksonEncoder(mapper, true);
+        ByteArrayOutputStream os = new ByteArrayOutputStream(64 * 1024);
+
+        Allocations.measure("encode(writeValueAsString + getBytes)", WARMUP, ROUNDS, () -> {
+            try {
+                return mapper.writerFor(mapper.constructType(type)).writeValueAsString(apiResult).getBytes(Utils.UTF_8);
+            }catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Allocations.measure("encode(cached ObjectWriter + streaming writeTo)", WARMUP, ROUNDS, () -> {
+            os.reset();
+            try (Body body = encoder.encode(apiResult, type)) {
+                body.writeTo(os);
+            }catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return os;
+        });
+    }
+
+    private static ApiResult<List<Book>> apiResult() {
+        List<Book> books = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = new Book();
+            book.setId(String.valueOf(i));
+            book.setName("西游记-" + i);
+            book.setAuthor("吴承恩");
+            book.setPrice(BigDecimal.valueOf(3999, 2));
+            book.setDescription("Journey to the West, one of the Four Great Classical Novels of Chinese literature");
+            books.add(book);
+        }
+        ApiResult<List<Book>> apiResult = new ApiResult<>();
+        apiResult.setCode(200);
+        apiResult.setMessage("ok");
+        apiResult.setData(books);
+        return apiResult;
+    }
+}
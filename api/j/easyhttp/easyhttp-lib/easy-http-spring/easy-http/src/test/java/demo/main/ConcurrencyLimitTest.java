@@ -0,0 +1,137 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.exception.ConcurrencyLimitExceededException;
+import com.github.vizaizai.limit.ConcurrencyLimitStats;
+import com.github.vizaizai.limit.LimitAlgorithm;
+import com.github.vizaizai.limit.Limits;
+import demo.model.Book;
+import demo.service.ConcurrencyLimitService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 并发限制: 固定上限下超出的请求立即失败，自适应算法随延迟与过载调整上限(本地服务)
+ * @author liaochongwei
+ * @date 2026/10/18 23:30
+ */
+public class ConcurrencyLimitTest {
+
+    @Test
+    public void fixedLimit() throws Exception {
+        byte[] payload = "{\"id\":\"1\",\"name\":\"西游记\"}".getBytes(StandardCharsets.UTF_8);
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/slow", exchange -> {
+                sleep(300);
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+            });
+            ConcurrencyLimitService service = EasyHttp.builder()
+                                                      .url(server.url())
+                                                      .build(ConcurrencyLimitService.class);
+            // 接口上的限制由同步与异步方法共用
+            List<CompletableFuture<Book>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(service.slowAsync());
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            List<Future<Book>> syncCalls = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                syncCalls.add(executor.submit(service::slow));
+            }
+            sleep(100);
+            long start = System.nanoTime();
+            try {
+                service.slow();
+                Assert.fail();
+            }catch (ConcurrencyLimitExceededException e) {
+                Assert.assertEquals(5, e.getLimit());
+            }
+            try {
+                service.slowAsync().join();
+                Assert.fail();
+            }catch (CompletionException e) {
+                Assert.assertTrue(e.getCause() instanceof ConcurrencyLimitExceededException);
+            }
+            // 立即拒绝，不等待连接
+            Assert.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(50));
+
+            // 方法上的限制器单独计数，0表示不限制
+            List<CompletableFuture<Book>> own = new ArrayList<>();
+            own.add(service.own());
+            own.add(service.own());
+            Assert.assertTrue(service.own().isCompletedExceptionally());
+            CompletableFuture<Book> unlimited = service.unlimited();
+
+            List<ConcurrencyLimitStats> stats = EasyHttp.getProxyContext(service).getConcurrencyLimitStats();
+            System.out.println(stats);
+            ConcurrencyLimitStats client = stats.get(0);
+            Assert.assertEquals("ConcurrencyLimitService", client.getName());
+            Assert.assertEquals(5, client.getInFlight());
+            Assert.assertEquals(2, client.getRejected());
+
+            futures.forEach(f -> Assert.assertEquals("1", f.join().getId()));
+            for (Future<Book> call : syncCalls) {
+                Assert.assertEquals("1", call.get().getId());
+            }
+            own.forEach(f -> Assert.assertEquals("1", f.join().getId()));
+            Assert.assertEquals("1", unlimited.join().getId());
+            executor.shutdown();
+            for (ConcurrencyLimitStats s : EasyHttp.getProxyContext(service).getConcurrencyLimitStats()) {
+                Assert.assertEquals(0, s.getInFlight());
+            }
+            Assert.assertEquals("1", service.slowAsync().join().getId());
+        }
+    }
+
+    @Test
+    public void adaptiveLimits() {
+        long fast = TimeUnit.MILLISECONDS.toNanos(10);
+        // AIMD: 充分使用时加1，过载时乘以0.9
+        LimitAlgorithm aimd = Limits.aimd(10, 1, 100);
+        for (int i = 0; i < 20; i++) {
+            aimd.onSample(fast, aimd.getLimit(), false);
+        }
+        Assert.assertEquals(30, aimd.getLimit());
+        aimd.onSample(fast, 1, false);
+        Assert.assertEquals(30, aimd.getLimit());
+        aimd.onSample(fast, 30, true);
+        Assert.assertEquals(27, aimd.getLimit());
+
+        // 梯度: 延迟平稳时增长，延迟明显上升后收缩
+        LimitAlgorithm gradient = Limits.gradient(20, 5, 200);
+        for (int i = 0; i < 100; i++) {
+            gradient.onSample(fast, gradient.getLimit(), false);
+        }
+        int grown = gradient.getLimit();
+        Assert.assertTrue(grown > 20);
+        for (int i = 0; i < 100; i++) {
+            gradient.onSample(fast * 5, gradient.getLimit(), false);
+        }
+        int shrunk = gradient.getLimit();
+        System.out.println("gradient limit: 20 -> " + grown + " -> " + shrunk);
+        Assert.assertTrue(shrunk < grown / 2);
+        // 未充分使用时不调整
+        gradient.onSample(fast, 1, false);
+        Assert.assertEquals(shrunk, gradient.getLimit());
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.client.ApacheHttpClient;
+import com.github.vizaizai.client.apache.PoolSettings;
+import com.github.vizaizai.client.apache.PoolStats;
+import demo.service.BookHttpService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 连接池: 按主机限制连接数、获取连接的等待统计及空闲连接清理(本地服务，响应延迟200ms)
+ * @author liaochongwei
+ * @date 2026/10/18 10:30
+ */
+public class ConnectionPoolTest {
+    private static final int CALLERS = 8;
+
+    @Test
+    public void pool() throws Exception {
+        byte[] payload = "{\"code\":200,\"message\":\"ok\",\"data\":[{\"id\":\"1\",\"name\":\"西游记\"}]}".getBytes(StandardCharsets.UTF_8);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/books", exchange -> {
+                try {
+                    Thread.sleep(200);
+                }catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+            });
+            String route = server.url().substring("http://".length());
+            PoolSettings settings = new PoolSettings().maxPerRoute(route, 2);
+            settings.setMaxIdleTime(300L);
+            ApacheHttpClient client = ApacheHttpClient.getInstance(settings);
+            BookHttpService service = EasyHttp.builder()
+                                              .url(server.url())
+                                              .client(client)
+                                              .build(BookHttpService.class);
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(service::listAllBooks));
+            }
+            int maxPending = 0;
+            while (futures.stream().anyMatch(e -> !e.isDone())) {
+                PoolStats.Route total = client.getPoolStats().getTotal();
+                maxPending = Math.max(maxPending, total.getPending());
+                Assert.assertTrue(total.getLeased() <= 2);
+                Thread.sleep(20);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            PoolStats stats = client.getPoolStats();
+            System.out.println(stats + ", max pending " + maxPending);
+            Assert.assertTrue(maxPending > 0);
+            Assert.assertEquals(2, stats.getRoutes().get(server.url()).getMax());
+            Assert.assertEquals(CALLERS, stats.getLeaseWait().getCount());
+            // 8个请求2个连接，最后一批至少等待3轮响应
+            Assert.assertTrue(stats.getLeaseWait().getMax() >= 500);
+            Assert.assertEquals(2, stats.getTotal().getAvailable());
+
+            // 空闲连接被后台关闭
+            long deadline = System.currentTimeMillis() + 3000;
+            while (client.getPoolStats().getTotal().getAvailable() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            Assert.assertEquals(0, client.getPoolStats().getTotal().getAvailable());
+
+            // 获取连接超时
+            PoolSettings single = new PoolSettings().maxPerRoute(route, 1);
+            single.setConnectionRequestTimeout(50);
+            ApacheHttpClient singleClient = ApacheHttpClient.getInstance(single);
+            BookHttpService singleService = EasyHttp.builder()
+                                                    .url(server.url())
+                                                    .client(singleClient)
+                                                    .build(BookHttpService.class);
+            Future<?> first = executor.submit(singleService::listAllBooks);
+            Future<?> second = executor.submit(singleService::listAllBooks);
+            int failed = 0;
+            for (Future<?> future : List.of(first, second)) {
+                try {
+                    future.get();
+                }catch (Exception e) {
+                    failed++;
+                }
+            }
+            Assert.assertEquals(1, failed);
+            Assert.assertEquals(1, singleClient.getPoolStats().getLeaseWait().getTimeouts());
+        }finally {
+            executor.shutdownNow();
+        }
+    }
+}
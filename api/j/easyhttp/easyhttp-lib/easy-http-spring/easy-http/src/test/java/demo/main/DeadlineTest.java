@@ -0,0 +1,99 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.entity.Deadline;
+import com.github.vizaizai.entity.HttpRequestConfig;
+import com.github.vizaizai.exception.DeadlineExceededException;
+import com.github.vizaizai.interceptor.ErrorInterceptor;
+import demo.model.Book;
+import demo.service.DeadlineService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 截止时间: 每次请求的超时不超过剩余预算，预算不足时不再重试(本地服务，响应延迟500ms)
+ * @author liaochongwei
+ * @date 2026/10/18 12:45
+ */
+public class DeadlineTest {
+    private static final String HEADER = "X-Request-Budget";
+
+    @Test
+    public void deadline() throws Exception {
+        byte[] payload = "{\"id\":\"1\",\"name\":\"西游记\"}".getBytes(StandardCharsets.UTF_8);
+        List<String> budgets = new CopyOnWriteArrayList<>();
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/slow", exchange -> {
+                budgets.add(String.valueOf(exchange.getRequestHeaders().getFirst(HEADER)));
+                sleep(500);
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+            });
+            server.handle("/unavailable", exchange -> {
+                sleep(300);
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+            });
+            DeadlineService service = EasyHttp.builder()
+                                              .url(server.url())
+                                              .config(new HttpRequestConfig(1000, 5000, StandardCharsets.UTF_8))
+                                              .withInterceptor(new ErrorInterceptor())
+                                              .deadlineHeader(HEADER)
+                                              .build(DeadlineService.class);
+            Assert.assertEquals("1", service.slow().getId());
+            Assert.assertEquals("null", budgets.get(0));
+
+            // 参数
+            long ms = failed(() -> service.slow(Deadline.afterMillis(200)));
+            Assert.assertTrue(ms < 450);
+            long budget = Long.parseLong(budgets.get(budgets.size() - 1));
+            Assert.assertTrue(budget > 0 && budget <= 200);
+            // 注解
+            Assert.assertTrue(failed(service::slowWithBudget) < 450);
+            // 线程上下文(与参数同时存在时取较早的)
+            ms = failed(() -> Deadline.with(Deadline.afterMillis(200), () -> service.slow(Deadline.afterMillis(3000))));
+            Assert.assertTrue(ms < 450);
+            Assert.assertEquals("1", Deadline.with(Deadline.afterMillis(3000), () -> service.slow()).getId());
+
+            // 已过期不再发送请求
+            int requests = budgets.size();
+            try {
+                service.slow(Deadline.afterMillis(0));
+                Assert.fail();
+            }catch (DeadlineExceededException expected) {
+            }
+            Assert.assertEquals(requests, budgets.size());
+
+            // 重试共享预算: 6次请求(每次300ms)受1000ms预算限制
+            ms = failed(service::unavailable);
+            Assert.assertTrue(ms < 1500);
+        }
+    }
+
+    private static long failed(Supplier<Book> call) {
+        long start = System.nanoTime();
+        try {
+            call.get();
+        }catch (Exception e) {
+            long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.println("failed in " + ms + " ms: " + e);
+            return ms;
+        }
+        throw new AssertionError("expected failure");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.client.AbstractClient;
+import com.github.vizaizai.client.ApacheHttpClient;
+import com.github.vizaizai.client.DefaultURLClient;
+import demo.service.DownloadService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 下载到文件: 下载过程中堆内存占用不随文件大小增长
+ * 文件大小通过 -Ddownload.size.mb 指定，默认8MB(验证2GB以上的文件时如 -Ddownload.size.mb=2048)
+ * @author liaochongwei
+ * @date 2026/10/17 15:20
+ */
+public class DownloadBenchmarkTest {
+    private static final int CHUNK = 64 * 1024;
+
+    @Test
+    public void download() throws Exception {
+        long size = Long.getLong("download.size.mb", 8L) * 1024 * 1024;
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/download", exchange -> {
+                byte[] chunk = new byte[CHUNK];
+                exchange.sendResponseHeaders(200, size);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    for (long written = 0; written < size; written += CHUNK) {
+                        os.write(chunk, 0, (int) Math.min(CHUNK, size - written));
+                    }
+                }
+            });
+            download("apache", ApacheHttpClient.getInstance(), server, size);
+            download("url", DefaultURLClient.getInstance(), server, size);
+        }
+    }
+
+    private static void download(String name, AbstractClient client, LocalServer server, long size) throws Exception {
+        DownloadService downloadService = EasyHttp.builder()
+                                                  .url(server.url())
+                                                  .client(client)
+                                                  .build(DownloadService.class);
+        Path target = Files.createTempFile("easy-http-benchmark", ".bin");
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memoryMXBean.getHeapMemoryUsage().getUsed();
+        AtomicLong peak = new AtomicLong(baseline);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                peak.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+        long start = System.currentTimeMillis();
+        try {
+            downloadService.download(target);
+            long ms = Math.max(1, System.currentTimeMillis() - start);
+            running.set(false);
+            sampler.join();
+            Assert.assertEquals(size, Files.size(target));
+            System.out.println(name + ": " + (size >> 20) + "MB in " + ms + "ms ("
+                    + ((size >> 20) * 1000 / ms) + "MB/s), peak heap above baseline: "
+                    + ((peak.get() - baseline) >> 20) + "MB");
+        }finally {
+            running.set(false);
+            Files.deleteIfExists(target);
+        }
+    }
+}
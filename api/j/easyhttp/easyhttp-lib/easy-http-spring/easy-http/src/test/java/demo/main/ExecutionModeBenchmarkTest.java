@@ -0,0 +1,88 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.client.DefaultURLClient;
+import com.github.vizaizai.entity.ExecutionMode;
+import com.github.vizaizai.util.VirtualThreads;
+import demo.model.ApiResult;
+import demo.model.Book;
+import demo.service.BookHttpService;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 执行模式: 阻塞客户端下大量并发慢请求(本地服务，响应延迟500ms)，平台线程池与虚拟线程对比。
+ * 通过-Dbenchmark=true运行，并发数可通过-Dbenchmark.concurrency调整
+ * @author liaochongwei
+ * @date 2026/10/17 20:10
+ */
+public class ExecutionModeBenchmarkTest {
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 10000);
+    private static final int PLATFORM_THREADS = 200;
+    private static final int DELAY_MS = 500;
+
+    @Before
+    public void enabled() {
+        Assume.assumeTrue("run with -Dbenchmark=true", Boolean.getBoolean("benchmark"));
+    }
+
+    @Test
+    public void slowRequests() throws Exception {
+        byte[] payload = "{\"code\":200,\"message\":\"ok\",\"data\":[{\"id\":\"1\",\"name\":\"西游记\"}]}".getBytes(StandardCharsets.UTF_8);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/books", exchange -> scheduler.schedule(() -> {
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+                return null;
+            }, DELAY_MS, TimeUnit.MILLISECONDS));
+            System.out.println("virtual threads supported: " + VirtualThreads.isSupported());
+
+            measure("platform(" + PLATFORM_THREADS + ")", EasyHttp.builder()
+                                                               .url(server.url())
+                                                               .client(DefaultURLClient.getInstance())
+                                                               .executor(platform)
+                                                               .build(BookHttpService.class));
+            // 不支持虚拟线程时为固定大小的平台线程池
+            measure(VirtualThreads.isSupported() ? "virtual" : "virtual(platform fallback)", EasyHttp.builder()
+                                           .url(server.url())
+                                           .client(DefaultURLClient.getInstance())
+                                           .executionMode(ExecutionMode.VIRTUAL)
+                                           .build(BookHttpService.class));
+        }finally {
+            platform.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static void measure(String name, BookHttpService service) {
+        service.foo().join();
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        threadMXBean.resetPeakThreadCount();
+        long start = System.nanoTime();
+        List<CompletableFuture<ApiResult<List<Book>>>> futures = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(service.foo());
+        }
+        for (CompletableFuture<ApiResult<List<Book>>> future : futures) {
+            Assert.assertEquals("西游记", future.join().getData().get(0).getName());
+        }
+        long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.println(name + ": " + CONCURRENCY + " requests in " + ms + " ms, peak threads " + threadMXBean.getPeakThreadCount());
+    }
+}
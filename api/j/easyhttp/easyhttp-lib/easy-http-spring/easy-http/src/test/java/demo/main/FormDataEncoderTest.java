@@ -0,0 +1,121 @@
+package demo.main;
+
+import com.github.vizaizai.entity.form.BodyContent;
+import com.github.vizaizai.entity.form.FileContent;
+import com.github.vizaizai.entity.form.FormDataEncoder;
+import com.github.vizaizai.entity.form.FormDataNameValue;
+import com.github.vizaizai.entity.form.InputStreamContent;
+import com.github.vizaizai.entity.form.StringContent;
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.util.StreamUtils;
+import com.github.vizaizai.util.value.NameValue;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * form-data编码: 预先计算的字节数与实际写出的字节一致
+ * @author liaochongwei
+ * @date 2026/10/19 00:45
+ */
+public class FormDataEncoderTest {
+    private static final String BOUNDARY = "----EasyHttpBoundary7MA4YWxkTrZu0gW";
+
+    @Test
+    public void lengthMatchesEncodedBytes() throws Exception {
+        File file = tempFile(10000);
+        byte[] stream = randomBytes(3000);
+        try {
+            byte[] encoded = encode(new FormDataEncoder(BOUNDARY, StandardCharsets.UTF_8, mixed(file, stream)));
+            FormDataEncoder encoder = new FormDataEncoder(BOUNDARY, StandardCharsets.UTF_8, mixed(file, stream));
+            Assert.assertEquals(encoded.length, encoder.getLength());
+            Assert.assertFalse(encoder.isRepeatable());
+            // 输入流方式与直接写出的字节相同
+            try (InputStream is = encoder.asInputStream()) {
+                Assert.assertArrayEquals(encoded, StreamUtils.copyToByteArray(is));
+            }
+            String text = new String(encoded, StandardCharsets.UTF_8);
+            Assert.assertTrue(text.contains("name=\"书名\"\r\n\r\n西游记\r\n"));
+            Assert.assertTrue(text.contains("name=\"cover\"; filename=\"" + file.getName() + "\"\r\nContent-Type: image/png\r\n"));
+            Assert.assertTrue(text.endsWith("--" + BOUNDARY + "--\r\n"));
+        }finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    @Test
+    public void repeatableWhenAllPartsAre() throws Exception {
+        File file = tempFile(4096);
+        try {
+            List<NameValue<String, BodyContent>> parts = new ArrayList<>();
+            parts.add(new FormDataNameValue("name", StringContent.of("西游记")));
+            parts.add(new FormDataNameValue("cover", FileContent.of(file)));
+            FormDataEncoder encoder = new FormDataEncoder(BOUNDARY, StandardCharsets.UTF_8, parts);
+            Assert.assertTrue(encoder.isRepeatable());
+            byte[] first = encode(encoder);
+            byte[] second = encode(encoder);
+            Assert.assertEquals(encoder.getLength(), first.length);
+            Assert.assertArrayEquals(first, second);
+        }finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    @Test
+    public void notRepeatableWithInputStream() throws Exception {
+        List<NameValue<String, BodyContent>> parts = new ArrayList<>();
+        parts.add(new FormDataNameValue("name", StringContent.of("西游记")));
+        parts.add(new FormDataNameValue("data", InputStreamContent.of(new ByteArrayInputStream(randomBytes(100)), "data.bin")));
+        FormDataEncoder encoder = new FormDataEncoder(BOUNDARY, StandardCharsets.UTF_8, parts);
+        // 未声明长度的输入流: 字节数未知
+        Assert.assertEquals(-1, encoder.getLength());
+        encode(encoder);
+        try {
+            encode(encoder);
+            Assert.fail();
+        }catch (EasyHttpException ignored) {
+        }
+        try {
+            encoder.asInputStream();
+            Assert.fail();
+        }catch (EasyHttpException ignored) {
+        }
+    }
+
+    private static List<NameValue<String, BodyContent>> mixed(File file, byte[] stream) {
+        List<NameValue<String, BodyContent>> parts = new ArrayList<>();
+        parts.add(new FormDataNameValue("书名", StringContent.of("西游记")));
+        parts.add(new FormDataNameValue("cover", FileContent.of(file, "image/png")));
+        parts.add(new FormDataNameValue("data", InputStreamContent.of(new ByteArrayInputStream(stream), "data.bin")
+                                                                  .length(stream.length)));
+        parts.add(new FormDataNameValue("empty", StringContent.of("")));
+        return parts;
+    }
+
+    private static byte[] encode(FormDataEncoder encoder) throws Exception {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        encoder.encode(os);
+        return os.toByteArray();
+    }
+
+    private static File tempFile(int size) throws Exception {
+        File file = Files.createTempFile("easy-http-form", ".png").toFile();
+        Files.write(file.toPath(), randomBytes(size));
+        return file;
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
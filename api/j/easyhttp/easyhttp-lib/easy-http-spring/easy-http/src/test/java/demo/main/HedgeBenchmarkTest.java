@@ -0,0 +1,93 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.client.ApacheHttpClient;
+import com.github.vizaizai.client.JdkHttpClient;
+import com.github.vizaizai.client.apache.PoolSettings;
+import com.github.vizaizai.hedge.HedgeStats;
+import demo.service.HedgeService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 对冲请求: 每25个请求中有一个落到慢副本(延迟1000ms)，对比开启对冲前后的p99延迟(本地服务)
+ * @author liaochongwei
+ * @date 2026/10/18 20:25
+ */
+public class HedgeBenchmarkTest {
+    private static final int CALLS = 100;
+
+    @Test
+    public void hedge() throws Exception {
+        byte[] payload = "{\"id\":\"1\",\"name\":\"西游记\"}".getBytes(StandardCharsets.UTF_8);
+        AtomicInteger counter = new AtomicInteger();
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/books", exchange -> {
+                sleep(counter.incrementAndGet() % 25 == 0 ? 1000 : 5);
+                try {
+                    exchange.sendResponseHeaders(200, payload.length);
+                    exchange.getResponseBody().write(payload);
+                }finally {
+                    exchange.close();
+                }
+            });
+            ApacheHttpClient client = ApacheHttpClient.getInstance(new PoolSettings());
+            HedgeService service = EasyHttp.builder()
+                                           .url(server.url())
+                                           .client(client)
+                                           .build(HedgeService.class);
+            long plain = measure("plain", service::plain);
+            long hedged = measure("hedged(50ms)", service::hedged);
+            Assert.assertTrue(plain >= 900);
+            Assert.assertTrue(hedged < 500);
+            // 慢请求被取消后连接立即释放
+            Thread.sleep(100);
+            Assert.assertEquals(0, client.getPoolStats().getTotal().getLeased());
+
+            HedgeService async = EasyHttp.builder()
+                                         .url(server.url())
+                                         .client(JdkHttpClient.getInstance())
+                                         .build(HedgeService.class);
+            measure("warm-up", id -> async.adaptive(id).join());
+            long adaptive = measure("hedged(p90)", id -> async.adaptive(id).join());
+            Assert.assertTrue(adaptive < 500);
+
+            for (HedgeStats stats : EasyHttp.getProxyContext(service).getHedgeStats()) {
+                System.out.println(stats);
+                Assert.assertTrue(stats.getHedges() >= 3 && stats.getWins() >= 3);
+                Assert.assertTrue(stats.getHedgeRate() <= 0.2);
+            }
+            HedgeStats stats = EasyHttp.getProxyContext(async).getHedgeStats().get(0);
+            System.out.println(stats);
+            Assert.assertTrue(stats.getDelayMillis() > -1 && stats.getDelayMillis() < 1000);
+            Assert.assertTrue(stats.getWins() >= 3);
+        }
+    }
+
+    private static long measure(String name, Function<String, Object> call) {
+        long[] latencies = new long[CALLS];
+        for (int i = 0; i < CALLS; i++) {
+            long start = System.nanoTime();
+            Assert.assertNotNull(call.apply(String.valueOf(i)));
+            latencies[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        Arrays.sort(latencies);
+        long p99 = latencies[CALLS * 99 / 100 - 1];
+        System.out.println(name + ": p50 " + latencies[CALLS / 2] + " ms, p99 " + p99 + " ms, max " + latencies[CALLS - 1] + " ms");
+        return p99;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
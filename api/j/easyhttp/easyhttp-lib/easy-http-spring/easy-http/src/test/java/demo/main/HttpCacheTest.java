@@ -0,0 +1,151 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.cache.HttpCache;
+import com.github.vizaizai.cache.HttpCacheStats;
+import com.github.vizaizai.client.JdkHttpClient;
+import com.sun.net.httpserver.HttpExchange;
+import demo.service.CacheService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP缓存: 新鲜度、ETag/Last-Modified验证、失效及磁盘层(本地服务)
+ * @author liaochongwei
+ * @date 2026/10/17 22:35
+ */
+public class HttpCacheTest {
+    private static final String LAST_MODIFIED = "Mon, 12 Oct 2026 08:00:00 GMT";
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    @Test
+    public void cache() throws Exception {
+        Path directory = Files.createTempDirectory("easy-http-cache");
+        try (LocalServer server = this.start()) {
+            // 内存容量只够放下约两项，其余溢出到磁盘
+            HttpCache httpCache = HttpCache.create(700, directory, 1024 * 1024);
+            CacheService service = EasyHttp.builder()
+                                           .url(server.url())
+                                           .httpCache(httpCache)
+                                           .build(CacheService.class);
+
+            // max-age: 第二次直接使用缓存
+            Assert.assertEquals("1", service.fresh("1").getId());
+            Assert.assertEquals("1", service.fresh("1").getId());
+            Assert.assertEquals(1, hits("/fresh/1"));
+
+            // 请求no-cache: 强制访问服务端
+            Assert.assertEquals("1", service.noCache("1").getId());
+            Assert.assertEquals(2, hits("/fresh/1"));
+
+            // POST使缓存失效
+            service.update("1");
+            Assert.assertEquals("1", service.fresh("1").getId());
+            Assert.assertEquals(4, hits("/fresh/1"));
+
+            // ETag: 每次验证，304时使用缓存的响应体
+            for (int i = 0; i < 3; i++) {
+                Assert.assertEquals("etag", service.etag().getId());
+            }
+            Assert.assertEquals(3, hits("/etag"));
+            // Last-Modified
+            for (int i = 0; i < 3; i++) {
+                Assert.assertEquals("last-modified", service.lastModified().getId());
+            }
+            Assert.assertEquals(3, hits("/last-modified"));
+            Assert.assertEquals(4, notModified.get());
+
+            // 磁盘层: 早先的缓存项已被淘汰到磁盘，读取时提升回内存
+            for (int i = 2; i <= 5; i++) {
+                service.fresh(String.valueOf(i));
+            }
+            HttpCacheStats before = httpCache.stats();
+            Assert.assertTrue(before.getDiskEntries() > 0);
+            for (int i = 2; i <= 5; i++) {
+                Assert.assertEquals(String.valueOf(i), service.fresh(String.valueOf(i)).getId());
+                Assert.assertEquals(1, hits("/fresh/" + i));
+            }
+            HttpCacheStats stats = httpCache.stats();
+            System.out.println(stats);
+            Assert.assertTrue(stats.getDiskHits() > before.getDiskHits());
+            Assert.assertEquals(4, stats.getNotModified());
+
+            // 非阻塞客户端同样经过缓存
+            CacheService asyncService = EasyHttp.builder()
+                                                .url(server.url())
+                                                .client(JdkHttpClient.getInstance())
+                                                .httpCache(httpCache)
+                                                .build(CacheService.class);
+            Assert.assertEquals("6", asyncService.freshAsync("6").join().getId());
+            Assert.assertEquals("6", asyncService.freshAsync("6").join().getId());
+            Assert.assertEquals(1, hits("/fresh/6"));
+        }finally {
+            try (java.util.stream.Stream<Path> files = Files.list(directory)) {
+                files.forEach(e -> e.toFile().delete());
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private LocalServer start() throws IOException {
+        LocalServer server = LocalServer.start();
+        server.handle("/fresh", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            hits.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+            if ("POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("Cache-Control", "max-age=60");
+            send(exchange, path.substring("/fresh/".length()));
+        });
+        server.handle("/etag", exchange -> {
+            hits.computeIfAbsent("/etag", k -> new AtomicInteger()).incrementAndGet();
+            exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            send(exchange, "etag");
+        });
+        server.handle("/last-modified", exchange -> {
+            hits.computeIfAbsent("/last-modified", k -> new AtomicInteger()).incrementAndGet();
+            exchange.getResponseHeaders().add("Cache-Control", "max-age=0");
+            exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+            if (LAST_MODIFIED.equals(exchange.getRequestHeaders().getFirst("If-Modified-Since"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            send(exchange, "last-modified");
+        });
+        return server;
+    }
+
+    private static void send(HttpExchange exchange, String id) throws IOException {
+        byte[] payload = ("{\"id\":\"" + id + "\",\"name\":\"西游记\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, payload.length);
+        exchange.getResponseBody().write(payload);
+        exchange.close();
+    }
+
+    private int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+}
@@ -0,0 +1,105 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.client.AbstractClient;
+import com.github.vizaizai.client.ApacheHttpClient;
+import com.github.vizaizai.client.JdkHttpClient;
+import demo.model.Book;
+import demo.service.BookHttpService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 高并发下ApacheHttpClient(每路由20个连接)与JdkHttpClient的吞吐对比(本地服务，响应延迟100ms)
+ * @author liaochongwei
+ * @date 2026/10/17 19:30
+ */
+public class JdkHttpClientBenchmarkTest {
+    private static final int THREADS = 200;
+    private static final int REQUESTS_PER_THREAD = 6;
+    private static final int DELAY_MS = 100;
+
+    @Test
+    public void concurrency() throws Exception {
+        byte[] list = "{\"code\":200,\"message\":\"ok\",\"data\":[{\"id\":\"1\",\"name\":\"西游记\"}]}".getBytes(StandardCharsets.UTF_8);
+        byte[] ok = "{\"code\":200,\"message\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+        AtomicInteger posted = new AtomicInteger();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/books", exchange -> {
+                byte[] payload = list;
+                if ("POST".equals(exchange.getRequestMethod())) {
+                    try (InputStream in = exchange.getRequestBody()) {
+                        if (new String(in.readAllBytes(), StandardCharsets.UTF_8).contains("\"name\":\"西游记\"")) {
+                            posted.incrementAndGet();
+                        }
+                    }
+                    payload = ok;
+                }
+                byte[] response = payload;
+                scheduler.schedule(() -> {
+                    exchange.sendResponseHeaders(200, response.length);
+                    exchange.getResponseBody().write(response);
+                    exchange.close();
+                    return null;
+                }, DELAY_MS, TimeUnit.MILLISECONDS);
+            });
+
+            measure("apache", server.url(), ApacheHttpClient.getInstance(), posted);
+            measure("jdk", server.url(), JdkHttpClient.getInstance(), posted);
+        }finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static void measure(String name, String url, AbstractClient client, AtomicInteger posted) throws Exception {
+        BookHttpService service = EasyHttp.builder()
+                                          .url(url)
+                                          .client(client)
+                                          .build(BookHttpService.class);
+        Book book = new Book();
+        book.setId("1");
+        book.setName("西游记");
+        book.setPrice(BigDecimal.TEN);
+        service.listAllBooks();
+        posted.set(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                        if (j % 2 == 0) {
+                            Assert.assertEquals("西游记", service.listAllBooks().getData().get(0).getName());
+                        }else {
+                            Assert.assertEquals(200, (int) service.addBook(book).getCode());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            int total = THREADS * REQUESTS_PER_THREAD;
+            Assert.assertEquals(total / 2, posted.get());
+            System.out.println(name + ": " + total + " requests in " + ms + " ms, " + (total * 1000L / Math.max(ms, 1)) + " req/s");
+        }finally {
+            executor.shutdownNow();
+        }
+    }
+}
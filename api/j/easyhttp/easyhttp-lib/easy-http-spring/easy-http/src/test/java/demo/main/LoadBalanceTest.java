@@ -0,0 +1,229 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.cache.HttpCache;
+import com.github.vizaizai.interceptor.ErrorInterceptor;
+import com.github.vizaizai.lb.Endpoint;
+import com.github.vizaizai.lb.EndpointGroup;
+import com.github.vizaizai.lb.HealthCheckSettings;
+import com.github.vizaizai.lb.LoadBalancers;
+import com.github.vizaizai.lb.OutlierSettings;
+import demo.service.CircuitBreakerService;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 客户端负载均衡: 多个本地服务作为实例，验证各策略的分布、异常摘除、重试换实例与健康检查
+ * @author liaochongwei
+ * @date 2026/10/18 22:10
+ */
+public class LoadBalanceTest {
+    private final List<LocalServer> servers = new ArrayList<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    /**
+     * 实例编号 -> 响应延迟(ms)，小于0时返回503
+     */
+    private final Map<String, Integer> behaviors = new ConcurrentHashMap<>();
+    private final AtomicBoolean healthy = new AtomicBoolean(true);
+    private final AtomicBoolean cacheable = new AtomicBoolean(false);
+
+    @Before
+    public void start() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            String id = String.valueOf(i);
+            byte[] payload = ("{\"id\":\"" + id + "\",\"name\":\"西游记\"}").getBytes(StandardCharsets.UTF_8);
+            hits.put(id, new AtomicInteger());
+            LocalServer server = LocalServer.start();
+            server.handle("/books", exchange -> {
+                hits.get(id).incrementAndGet();
+                int behavior = behaviors.getOrDefault(id, 0);
+                if (behavior < 0) {
+                    byte[] error = "unavailable".getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(503, error.length);
+                    exchange.getResponseBody().write(error);
+                    exchange.close();
+                    return;
+                }
+                if (behavior > 0) {
+                    sleep(behavior);
+                }
+                if (cacheable.get()) {
+                    exchange.getResponseHeaders().add("Cache-Control", "max-age=60");
+                }
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+            });
+            server.handle("/health", exchange -> {
+                int code = "2".equals(id) && !healthy.get() ? 503 : 200;
+                exchange.sendResponseHeaders(code, -1);
+                exchange.close();
+            });
+            servers.add(server);
+        }
+    }
+
+    @After
+    public void stop() {
+        servers.forEach(LocalServer::close);
+    }
+
+    @Test
+    public void roundRobinAndWeighted() {
+        CircuitBreakerService service = this.build(EndpointGroup.create(urls()));
+        for (int i = 0; i < 30; i++) {
+            service.getBook("1");
+        }
+        Assert.assertEquals("{0=10, 1=10, 2=10}", this.hitsAndReset());
+
+        EndpointGroup weighted = EndpointGroup.create(LoadBalancers.weighted())
+                                              .add(servers.get(0).url(), 1)
+                                              .add(servers.get(1).url(), 2)
+                                              .add(servers.get(2).url(), 3);
+        service = this.build(weighted);
+        for (int i = 0; i < 60; i++) {
+            service.getBook("1");
+        }
+        Assert.assertEquals("{0=10, 1=20, 2=30}", this.hitsAndReset());
+    }
+
+    @Test
+    public void latencyAware() {
+        behaviors.put("0", 40);
+        for (EndpointGroup group : new EndpointGroup[] {
+                EndpointGroup.create(LoadBalancers.powerOfTwoChoices(), urls()),
+                EndpointGroup.create(LoadBalancers.leastOutstanding(), urls())}) {
+            CircuitBreakerService service = this.build(group);
+            long start = System.nanoTime();
+            // 保持10个在途请求
+            Semaphore concurrency = new Semaphore(10);
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                concurrency.acquireUninterruptibly();
+                futures.add(service.getBookAsync("1").whenComplete((book, ex) -> concurrency.release()));
+            }
+            futures.forEach(CompletableFuture::join);
+            long cost = (System.nanoTime() - start) / 1000000;
+            int slow = hits.get("0").get();
+            System.out.println(group.getEndpoints() + " slow instance share: " + slow + "/300, cost: " + cost + "ms");
+            // 轮询时慢实例分到1/3的请求
+            Assert.assertTrue(slow < 60);
+            this.hitsAndReset();
+        }
+    }
+
+    @Test
+    public void outlierEjectionAndRetry() {
+        behaviors.put("2", -1);
+        OutlierSettings settings = new OutlierSettings();
+        settings.setConsecutiveFailures(3);
+        settings.setBaseEjectionTime(200L);
+        settings.setMaxEjectionTime(1000L);
+        EndpointGroup group = EndpointGroup.create(urls()).outlierDetection(settings);
+        CircuitBreakerService service = EasyHttp.builder()
+                                                .withInterceptor(new ErrorInterceptor())
+                                                .retryable(1, 0)
+                                                .loadBalance(group)
+                                                .build(CircuitBreakerService.class);
+        // 失败的实例重试时换到其它实例
+        for (int i = 0; i < 30; i++) {
+            Assert.assertNotEquals("2", service.getBook("1").getId());
+        }
+        Endpoint failing = group.getEndpoints().get(2);
+        Assert.assertTrue(failing.isEjected());
+        Assert.assertEquals(3, hits.get("2").get());
+        Assert.assertEquals(1, failing.getEjections());
+
+        // 摘除到期后恢复
+        behaviors.remove("2");
+        sleep(250);
+        this.hitsAndReset();
+        for (int i = 0; i < 30; i++) {
+            service.getBook("1");
+        }
+        Assert.assertEquals(10, hits.get("2").get());
+        group.getEndpoints().forEach(endpoint -> Assert.assertEquals(0, endpoint.getOutstanding()));
+    }
+
+    @Test
+    public void healthCheck() {
+        HealthCheckSettings settings = new HealthCheckSettings();
+        settings.setPath("/health");
+        settings.setIntervalTime(50L);
+        settings.setHealthyThreshold(1);
+        settings.setUnhealthyThreshold(1);
+        healthy.set(false);
+        try (EndpointGroup group = EndpointGroup.create(urls()).healthCheck(settings)) {
+            CircuitBreakerService service = this.build(group);
+            sleep(150);
+            for (int i = 0; i < 20; i++) {
+                service.getBook("1");
+            }
+            Assert.assertFalse(group.getEndpoints().get(2).isHealthy());
+            Assert.assertEquals(0, hits.get("2").get());
+
+            healthy.set(true);
+            sleep(150);
+            for (int i = 0; i < 30; i++) {
+                service.getBook("1");
+            }
+            Assert.assertTrue(hits.get("2").get() > 0);
+        }
+    }
+
+    @Test
+    public void cacheSharedAcrossEndpoints() {
+        cacheable.set(true);
+        HttpCache httpCache = HttpCache.memory(1024 * 1024);
+        CircuitBreakerService service = EasyHttp.builder()
+                                                .withInterceptor(new ErrorInterceptor())
+                                                .httpCache(httpCache)
+                                                .loadBalance(EndpointGroup.create(urls()))
+                                                .build(CircuitBreakerService.class);
+        // 缓存键与选中的实例无关，轮询到其它实例时同样命中
+        for (int i = 0; i < 6; i++) {
+            Assert.assertEquals("0", service.getBook("1").getId());
+        }
+        Assert.assertEquals("{0=1, 1=0, 2=0}", this.hitsAndReset());
+        Assert.assertEquals(5, httpCache.stats().getHits());
+    }
+
+    private CircuitBreakerService build(EndpointGroup group) {
+        return EasyHttp.builder()
+                       .withInterceptor(new ErrorInterceptor())
+                       .loadBalance(group)
+                       .build(CircuitBreakerService.class);
+    }
+
+    private String[] urls() {
+        return servers.stream().map(LocalServer::url).toArray(String[]::new);
+    }
+
+    private String hitsAndReset() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < servers.size(); i++) {
+            sb.append(i == 0 ? "" : ", ").append(i).append('=').append(hits.get(String.valueOf(i)).getAndSet(0));
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package demo.main;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 本地测试服务(基于JDK HttpServer)，用于不依赖外部服务的基准测试
+ * @author liaochongwei
+ * @date 2026/10/17 15:10
+ */
+public class LocalServer implements Closeable {
+    static {
+        // 关闭Nagle算法，避免与客户端延迟ACK叠加导致每个请求约40ms的延迟
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private LocalServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(executor);
+    }
+
+    public static LocalServer start() throws IOException {
+        LocalServer localServer = new LocalServer();
+        localServer.server.start();
+        return localServer;
+    }
+
+    public LocalServer handle(String path, com.sun.net.httpserver.HttpHandler handler) {
+        this.server.createContext(path, handler);
+        return this;
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,71 @@
+package demo.main;
+
+import com.github.vizaizai.parser.PathTemplate;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 路径模板: 变量展开与URL编码
+ * @author liaochongwei
+ * @date 2026/10/19 01:00
+ */
+public class PathTemplateTest {
+    private static final String BASE = "http://127.0.0.1:8888";
+
+    @Test
+    public void expandEncodesReservedCharacters() throws Exception {
+        PathTemplate template = PathTemplate.compile("/books/{id}/chapters/{chapter}");
+        Assert.assertArrayEquals(new String[]{"id", "chapter"}, template.getVarNames());
+        for (String value : new String[]{"a/b?c&d=e#f", "100% off", "西游记 第1回", "+~!'()*._-", "emoji😀"}) {
+            String expected = BASE + "/books/" + URLEncoder.encode(value, "UTF-8") + "/chapters/" + URLEncoder.encode(value, "UTF-8");
+            Assert.assertEquals(expected, template.expand(BASE, new Object[]{value, value}, StandardCharsets.UTF_8));
+        }
+        Charset gbk = Charset.forName("GBK");
+        Assert.assertEquals(BASE + "/books/" + URLEncoder.encode("西游记", "GBK") + "/chapters/1",
+                template.expand(BASE, new Object[]{"西游记", 1}, gbk));
+    }
+
+    @Test
+    public void repeatedVariableSharesSlot() {
+        PathTemplate template = PathTemplate.compile("/a/{x}/b/{x}?y={y}");
+        Assert.assertEquals(2, template.getVarSlots());
+        Assert.assertEquals(3, template.getVarCount());
+        Assert.assertEquals(0, template.indexOf("x"));
+        Assert.assertEquals(1, template.indexOf("y"));
+        Assert.assertEquals(-1, template.indexOf("z"));
+        Assert.assertEquals("/a/1/b/1?y=2", template.expand(null, new Object[]{1, 2}, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void missingValuesKeepPlaceholder() {
+        PathTemplate template = PathTemplate.compile("/books/{id}/{name}");
+        Assert.assertEquals(BASE + "/books/{id}/a%2Fb",
+                template.expand(BASE, new Object[]{null, "a/b"}, StandardCharsets.UTF_8));
+        // 未绑定参数时原样保留
+        Assert.assertEquals(BASE + "/books/{id}/{name}", template.expand(BASE, null, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void literalsAndAbsolutePaths() {
+        PathTemplate plain = PathTemplate.compile("/books?size=10");
+        Assert.assertEquals(0, plain.getVarCount());
+        Assert.assertEquals(BASE + "/books?size=10", plain.expand(BASE, new Object[0], StandardCharsets.UTF_8));
+
+        // 未闭合的占位符按字面量处理
+        PathTemplate unclosed = PathTemplate.compile("/books/{id");
+        Assert.assertEquals(0, unclosed.getVarCount());
+        Assert.assertEquals(BASE + "/books/{id", unclosed.expand(BASE, null, StandardCharsets.UTF_8));
+
+        PathTemplate absolute = PathTemplate.compile("https://example.com/books/{id}");
+        Assert.assertTrue(absolute.isAbsolute());
+        Assert.assertEquals("https://example.com/books/1", absolute.expand(BASE, new Object[]{1}, StandardCharsets.UTF_8));
+
+        PathTemplate empty = PathTemplate.compile(null);
+        Assert.assertEquals("", empty.getSource());
+        Assert.assertEquals(BASE, empty.expand(BASE, null, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,150 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.entity.RateLimitSettings;
+import com.github.vizaizai.exception.RateLimitExceededException;
+import com.github.vizaizai.limit.RateLimiter;
+import com.github.vizaizai.limit.RateLimiterStats;
+import demo.model.Book;
+import demo.service.RateLimitService;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 限流: 等待模式平滑请求、快速失败、异步方法由定时器延迟发出(本地服务)
+ * @author liaochongwei
+ * @date 2026/10/19 00:15
+ */
+public class RateLimitTest {
+    private LocalServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+
+    @Before
+    public void start() throws Exception {
+        byte[] payload = "{\"id\":\"1\",\"name\":\"西游记\"}".getBytes(StandardCharsets.UTF_8);
+        server = LocalServer.start();
+        server.handle("/books", exchange -> {
+            hits.incrementAndGet();
+            exchange.sendResponseHeaders(200, payload.length);
+            exchange.getResponseBody().write(payload);
+            exchange.close();
+        });
+    }
+
+    @After
+    public void stop() {
+        server.close();
+    }
+
+    @Test
+    public void waitMode() {
+        RateLimitService service = this.build();
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals("1", service.getBook().getId());
+        }
+        long cost = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // 20/s: 第一个立即放行，其后每50ms一个
+        Assert.assertTrue("cost: " + cost, cost >= 420);
+
+        RateLimiterStats stats = EasyHttp.getProxyContext(service).getRateLimiterStats().get(0);
+        System.out.println(stats);
+        Assert.assertEquals("RateLimitService", stats.getName());
+        Assert.assertEquals(10, stats.getAcquired());
+        Assert.assertTrue(stats.getThrottled() >= 8);
+        Assert.assertTrue(stats.getTotalWaitMillis() >= 300);
+        Assert.assertEquals(0, stats.getRejected());
+
+        // 方法上的0表示不限流
+        start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            service.unlimited();
+        }
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    public void failFastAndTimeout() {
+        RateLimitService service = this.build();
+        service.unlimited();
+        service.failFast();
+        service.strict();
+        long start = System.nanoTime();
+        try {
+            service.failFast();
+            Assert.fail();
+        }catch (RateLimitExceededException e) {
+            Assert.assertEquals("RateLimitService#failFast", e.getName());
+        }
+        // 需要等待500ms，超过100ms的最长等待时间，立即失败
+        try {
+            service.strict();
+            Assert.fail();
+        }catch (RateLimitExceededException e) {
+            Assert.assertEquals("RateLimitService#strict", e.getName());
+        }
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(3, hits.get());
+    }
+
+    @Test
+    public void asyncScheduling() {
+        RateLimitService service = this.build();
+        long start = System.nanoTime();
+        List<CompletableFuture<Book>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(service.getBookAsync());
+        }
+        // 调用线程不等待许可
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(100));
+        Assert.assertTrue(hits.get() < 10);
+        futures.forEach(future -> Assert.assertEquals("1", future.join().getId()));
+        long cost = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue("cost: " + cost, cost >= 420);
+        Assert.assertEquals(10, hits.get());
+    }
+
+    @Test
+    public void sharedLimiter() {
+        RateLimitSettings settings = new RateLimitSettings();
+        settings.setPermitsPerSecond(10.0);
+        settings.setBurst(5);
+        settings.setMode(RateLimitSettings.Mode.FAIL_FAST);
+        RateLimiter limiter = RateLimiter.create("partner", settings);
+        // 突发容量内立即放行，之后按速率恢复
+        int acquired = 0;
+        for (int i = 0; i < 10; i++) {
+            if (limiter.tryAcquire()) {
+                acquired++;
+            }
+        }
+        Assert.assertEquals(5, acquired);
+        sleep(220);
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertTrue(limiter.tryAcquire());
+        Assert.assertFalse(limiter.tryAcquire());
+    }
+
+    private RateLimitService build() {
+        return EasyHttp.builder()
+                       .url(server.url())
+                       .build(RateLimitService.class);
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
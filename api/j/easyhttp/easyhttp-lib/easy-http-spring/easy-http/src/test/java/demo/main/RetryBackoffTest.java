@@ -0,0 +1,136 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.exception.CodeStatusException;
+import com.github.vizaizai.exception.EasyHttpException;
+import com.github.vizaizai.interceptor.ErrorInterceptor;
+import com.github.vizaizai.retry.Backoff;
+import com.github.vizaizai.retry.Backoffs;
+import com.github.vizaizai.retry.RetryBudget;
+import demo.model.Book;
+import demo.service.RetryService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 重试: 退避策略、重试预算与异步定时重试(本地服务，每个id首次请求返回503)
+ * @author liaochongwei
+ * @date 2026/10/18 17:10
+ */
+public class RetryBackoffTest {
+
+    @Test
+    public void backoffs() {
+        Backoff exponential = Backoffs.exponential(100, 1000, 2.0, false);
+        Assert.assertEquals(100, exponential.delay(1, 0));
+        Assert.assertEquals(400, exponential.delay(3, 200));
+        Assert.assertEquals(1000, exponential.delay(10, 1000));
+        Backoff jitter = Backoffs.exponential(100, 1000);
+        Backoff decorrelated = Backoffs.decorrelatedJitter(100, 1000);
+        long previous = 0;
+        for (int i = 1; i <= 20; i++) {
+            long delay = jitter.delay(i, 0);
+            Assert.assertTrue(delay >= 0 && delay <= Math.min(1000, 100L << (i - 1)));
+            delay = decorrelated.delay(i, previous);
+            Assert.assertTrue(delay >= 100 && delay <= 1000 && delay <= Math.max(100, previous * 3));
+            previous = delay;
+        }
+    }
+
+    @Test
+    public void retry() throws Exception {
+        byte[] payload = "{\"id\":\"1\",\"name\":\"西游记\"}".getBytes(StandardCharsets.UTF_8);
+        Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/flaky", exchange -> {
+                int hit = hits.computeIfAbsent(exchange.getRequestURI().getPath(), k -> new AtomicInteger()).incrementAndGet();
+                if (hit == 1 || exchange.getRequestURI().getPath().startsWith("/flaky/down")) {
+                    exchange.sendResponseHeaders(503, -1);
+                }else {
+                    exchange.sendResponseHeaders(200, payload.length);
+                    exchange.getResponseBody().write(payload);
+                }
+                exchange.close();
+            });
+            RetryBudget budget = RetryBudget.perClient(0.1, 2);
+            RetryService service = EasyHttp.builder()
+                                           .url(server.url())
+                                           .withInterceptor(new ErrorInterceptor())
+                                           .retryable(3, Backoffs.fixed(300), null)
+                                           .retryBudget(budget)
+                                           .executor(worker)
+                                           .build(RetryService.class);
+            Assert.assertEquals("1", service.flaky("sync").getId());
+            Assert.assertEquals(2, hits.get("/flaky/sync").get());
+
+            // 异步重试由定时器调度: 单个工作线程下10个请求的重试间隔并行等待
+            List<CompletableFuture<Book>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            RetryService unlimited = EasyHttp.builder()
+                                             .url(server.url())
+                                             .withInterceptor(new ErrorInterceptor())
+                                             .retryable(3, Backoffs.fixed(300), null)
+                                             .executor(worker)
+                                             .build(RetryService.class);
+            for (int i = 0; i < 10; i++) {
+                futures.add(unlimited.flakyAsync("async" + i));
+            }
+            for (CompletableFuture<Book> future : futures) {
+                Assert.assertEquals("1", future.join().getId());
+            }
+            long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.println("10 async retries in " + ms + " ms");
+            Assert.assertTrue(ms < 1500);
+
+            // 重试预算: 桶容量2，每次请求只存入0.1个令牌，令牌耗尽后不再重试
+            int failed = 0;
+            for (int i = 0; i < 5; i++) {
+                try {
+                    service.flaky("budget" + i);
+                }catch (RuntimeException e) {
+                    failed++;
+                }
+            }
+            System.out.println(budget);
+            Assert.assertEquals(6, budget.getRequests());
+            Assert.assertEquals(2, budget.getRetries());
+            Assert.assertEquals(4, budget.getRejected());
+            Assert.assertEquals(4, failed);
+
+            // 重试用尽仍失败时抛出异常(未配置错误拦截器时同样如此)
+            RetryService plain = EasyHttp.builder()
+                                         .url(server.url())
+                                         .retryable(2, Backoffs.fixed(10), null)
+                                         .build(RetryService.class);
+            try {
+                plain.flaky("down");
+                Assert.fail();
+            }catch (EasyHttpException e) {
+                Assert.assertTrue(e.getCause() instanceof CodeStatusException);
+                Assert.assertEquals(503, ((CodeStatusException) e.getCause()).getCode());
+            }
+            Assert.assertEquals(3, hits.get("/flaky/down").get());
+            try {
+                plain.flakyAsync("down-async").join();
+                Assert.fail();
+            }catch (CompletionException e) {
+                Assert.assertTrue(e.getCause() instanceof EasyHttpException);
+            }
+        }finally {
+            worker.shutdownNow();
+        }
+    }
+}
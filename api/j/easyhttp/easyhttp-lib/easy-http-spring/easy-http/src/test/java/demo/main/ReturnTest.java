@@ -9,6 +9,7 @@ import com.github.vizaizai.entity.form.FormData;
 import com.github.vizaizai.hander.mapping.PathConverter;
 import com.github.vizaizai.interceptor.ErrorInterceptor;
 import com.github.vizaizai.interceptor.LogInterceptor;
+import com.github.vizaizai.util.StreamUtils;
 import demo.model.ApiResult;
 import demo.model.Book1;
 import demo.service.ParamService;
@@ -16,7 +17,8 @@ import demo.service.ReturnService;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.io.File;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -74,4 +76,22 @@ public class ReturnTest {
         System.out.println(returnService.testDouble_5());
         returnService.testDouble_4();
     }
+
+    @Test
+    public void test5() throws IOException {
+        // 流式响应，关闭流后归还连接
+        try (InputStream in = returnService.testStream_1()) {
+            System.out.println(StreamUtils.copyToString(in, StandardCharsets.UTF_8));
+        }
+        try (Reader reader = returnService.testStream_2()) {
+            System.out.println(new BufferedReader(reader).readLine());
+        }
+        returnService.testStream_3(in -> {
+            try {
+                System.out.println(StreamUtils.copyToString(in, StandardCharsets.UTF_8));
+            }catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
 }
@@ -0,0 +1,101 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.client.AbstractClient;
+import com.github.vizaizai.entity.HttpRequest;
+import com.github.vizaizai.entity.HttpRequestConfig;
+import com.github.vizaizai.entity.HttpResponse;
+import com.github.vizaizai.entity.RetrySettings;
+import com.github.vizaizai.entity.body.ByteArrayBody;
+import com.github.vizaizai.parser.MethodTemplate;
+import com.github.vizaizai.proxy.ProxyContext;
+import demo.service.BookHttpService;
+import demo.service.ParamService;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 方法模板缓存: 模板复用、合并重试设置不修改全局设置；分配/耗时对比通过-Dbenchmark=true运行(不发起网络请求)
+ * @author liaochongwei
+ * @date 2026/10/17 11:02
+ */
+public class TemplateBenchmarkTest {
+    private static final int WARMUP = 20000;
+    private static final int ROUNDS = 200000;
+
+    @Test
+    public void templateCached() throws Exception {
+        ParamService paramService = EasyHttp.builder()
+                                            .url("127.0.0.1:1141")
+                                            .client(new StubClient())
+                                            .build(ParamService.class);
+        ProxyContext<?> proxyContext = EasyHttp.getProxyContext(paramService);
+        Method method = ParamService.class.getMethod("test3", String.class, String.class);
+        Assert.assertEquals("ok", paramService.test3("author", "lang"));
+        MethodTemplate template = proxyContext.getMethodTemplate(method);
+        Assert.assertEquals("ok", paramService.test3("author2", "lang2"));
+        Assert.assertSame(template, proxyContext.getMethodTemplate(method));
+    }
+
+    @Test
+    public void globalRetrySettingsNotMutated() throws Exception {
+        BookHttpService bookHttpService = EasyHttp.builder()
+                                                  .url("127.0.0.1:1141")
+                                                  .client(new StubClient())
+                                                  .retryable(3, 500)
+                                                  .build(BookHttpService.class);
+        ProxyContext<?> proxyContext = EasyHttp.getProxyContext(bookHttpService);
+        RetrySettings global = proxyContext.getRetrySettings();
+
+        // 方法上的重试设置(retries = 1, interval = 10)覆盖全局设置
+        RetrySettings merged = proxyContext.getMethodTemplate(BookHttpService.class.getMethod("bar1", List.class)).getRetrySettings();
+        Assert.assertNotSame(global, merged);
+        Assert.assertEquals(Integer.valueOf(1), merged.getMaxAttempts());
+        Assert.assertEquals(Integer.valueOf(10), merged.getIntervalTime());
+        Assert.assertTrue(merged.getEnable());
+        // 方法上没有重试设置时沿用全局设置
+        RetrySettings inherited = proxyContext.getMethodTemplate(BookHttpService.class.getMethod("listAllBooks")).getRetrySettings();
+        Assert.assertEquals(Integer.valueOf(3), inherited.getMaxAttempts());
+        Assert.assertEquals(Integer.valueOf(500), inherited.getIntervalTime());
+        Assert.assertTrue(inherited.getEnable());
+
+        // 全局设置未被修改
+        Assert.assertSame(global, proxyContext.getRetrySettings());
+        Assert.assertEquals(Integer.valueOf(3), global.getMaxAttempts());
+        Assert.assertEquals(Integer.valueOf(500), global.getIntervalTime());
+        Assert.assertTrue(global.getEnable());
+    }
+
+    @Test
+    public void allocation() throws Exception {
+        Assume.assumeTrue("run with -Dbenchmark=true", Boolean.getBoolean("benchmark"));
+        ParamService paramService = EasyHttp.builder()
+                                            .url("127.0.0.1:1141")
+                                            .client(new StubClient())
+                                            .build(ParamService.class);
+        Allocations.measure("proxy call(cached template)", WARMUP, ROUNDS, () -> paramService.test3("author", "lang"));
+
+        ProxyContext<ParamService> proxyContext = new ProxyContext<>(ParamService.class);
+        proxyContext.setRequestConfig(HttpRequestConfig.defaultConfig());
+        Method method = ParamService.class.getMethod("test3", String.class, String.class);
+        Object[] args = new Object[]{"author", "lang"};
+        Allocations.measure("compile + bind", WARMUP, ROUNDS, () -> MethodTemplate.compile(proxyContext, method).bind(args));
+        Allocations.measure("cached + bind", WARMUP, ROUNDS, () -> proxyContext.getMethodTemplate(method).bind(args));
+    }
+
+    /**
+     * 直接返回固定响应的客户端
+     */
+    static class StubClient extends AbstractClient {
+        private static final byte[] OK = "ok".getBytes(StandardCharsets.UTF_8);
+        @Override
+        public HttpResponse request(HttpRequest request) {
+            return HttpResponse.ok(new ByteArrayBody(OK));
+        }
+    }
+}
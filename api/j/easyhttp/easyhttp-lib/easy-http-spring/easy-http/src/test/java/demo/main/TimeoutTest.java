@@ -0,0 +1,72 @@
+package demo.main;
+
+import com.github.vizaizai.EasyHttp;
+import com.github.vizaizai.entity.HttpRequestConfig;
+import demo.model.Book;
+import demo.service.TimeoutService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 按方法(@Timeout)及按次(HttpRequestConfig参数)设置超时，共享同一个客户端(本地服务，响应延迟500ms)
+ * @author liaochongwei
+ * @date 2026/10/18 11:15
+ */
+public class TimeoutTest {
+
+    @Test
+    public void timeout() throws Exception {
+        byte[] payload = "{\"id\":\"1\",\"name\":\"西游记\"}".getBytes(StandardCharsets.UTF_8);
+        try (LocalServer server = LocalServer.start()) {
+            server.handle("/slow", exchange -> {
+                try {
+                    Thread.sleep(500);
+                }catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+                exchange.close();
+            });
+            TimeoutService service = EasyHttp.builder()
+                                             .url(server.url())
+                                             .config(new HttpRequestConfig(1000, 2000, StandardCharsets.UTF_8))
+                                             .build(TimeoutService.class);
+
+            // 长超时与短超时交替调用，互不影响
+            Assert.assertEquals("1", service.slow().getId());
+            long ms = failed(service::failFast);
+            Assert.assertTrue(ms < 450);
+            Assert.assertEquals("1", service.slow().getId());
+
+            HttpRequestConfig config = new HttpRequestConfig();
+            config.setRequestTimeout(100);
+            ms = failed(() -> service.slow(config));
+            Assert.assertTrue(ms < 450);
+            Assert.assertEquals("1", service.slow(null).getId());
+
+            // 并发: 短超时与长超时同时进行
+            CompletableFuture<Long> fast = CompletableFuture.supplyAsync(() -> failed(service::failFast));
+            CompletableFuture<Book> slow = CompletableFuture.supplyAsync(service::slow);
+            Assert.assertTrue(fast.get() < 450);
+            Assert.assertEquals("1", slow.get().getId());
+        }
+    }
+
+    private static long failed(Supplier<Book> call) {
+        long start = System.nanoTime();
+        try {
+            call.get();
+        }catch (Exception e) {
+            long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.println("failed in " + ms + " ms: " + e);
+            return ms;
+        }
+        throw new AssertionError("expected timeout");
+    }
+}
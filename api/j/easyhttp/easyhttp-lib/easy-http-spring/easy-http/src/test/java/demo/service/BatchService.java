@@ -0,0 +1,35 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Batched;
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.Param;
+import com.github.vizaizai.annotation.Var;
+import demo.model.Book;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/18 00:10
+ */
+public interface BatchService {
+
+    @Get("/books/{id}")
+    CompletableFuture<Book> getBookAsync(@Var("id") String id);
+
+    @Batched(method = "getBooks", key = "id", window = 5, maxSize = 50)
+    @Get("/books/{id}")
+    Book getBookBatched(@Var("id") String id);
+
+    @Batched(method = "getBooks", key = "id", window = 5, maxSize = 50)
+    @Get("/books/{id}")
+    CompletableFuture<Book> getBookBatchedAsync(@Var("id") String id);
+
+    @Batched(method = "getBooks", key = "id", window = 1000, maxSize = 4)
+    @Get("/books/{id}")
+    Book getBookBatchedOfFour(@Var("id") String id);
+
+    @Get("/books")
+    List<Book> getBooks(@Param("ids") List<String> ids);
+}
@@ -0,0 +1,32 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.CacheResult;
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.Var;
+import demo.model.Book;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/17 23:20
+ */
+public interface CacheResultService {
+
+    @CacheResult(ttl = 10, maxSize = 2)
+    @Get("/books/{id}")
+    Book getBook(@Var("id") String id);
+
+    @CacheResult(ttl = 10)
+    @Get("/books/{id}")
+    CompletableFuture<Book> getBookAsync(@Var("id") String id);
+
+    @CacheResult(ttl = 600, unit = TimeUnit.MILLISECONDS, refreshAhead = 0.5)
+    @Get("/books/{id}")
+    Book getBookRefreshAhead(@Var("id") String id);
+
+    @CacheResult(ttl = 10, maxSize = 100)
+    @Get("/books/{id}")
+    Book getBookOfHundred(@Var("id") String id);
+}
@@ -0,0 +1,35 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.Headers;
+import com.github.vizaizai.annotation.Post;
+import com.github.vizaizai.annotation.Var;
+import demo.model.Book;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/17 22:30
+ */
+public interface CacheService {
+
+    @Get("/fresh/{id}")
+    Book fresh(@Var("id") String id);
+
+    @Get("/fresh/{id}")
+    CompletableFuture<Book> freshAsync(@Var("id") String id);
+
+    @Headers("Cache-Control: no-cache")
+    @Get("/fresh/{id}")
+    Book noCache(@Var("id") String id);
+
+    @Post("/fresh/{id}")
+    void update(@Var("id") String id);
+
+    @Get("/etag")
+    Book etag();
+
+    @Get("/last-modified")
+    Book lastModified();
+}
@@ -0,0 +1,26 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.Var;
+import demo.model.Book;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/18 18:50
+ */
+public interface CircuitBreakerService {
+
+    @Get("/books/{id}")
+    Book getBook(@Var String id);
+
+    @Get("/books/{id}")
+    CompletableFuture<Book> getBookAsync(@Var String id);
+
+    @Get("/slow")
+    Book slow();
+
+    @Get("/other")
+    Book other();
+}
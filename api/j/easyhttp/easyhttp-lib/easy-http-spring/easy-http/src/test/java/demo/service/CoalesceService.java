@@ -0,0 +1,33 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Coalesce;
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.Var;
+import com.github.vizaizai.entity.HttpResponse;
+import demo.model.Book;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/17 21:00
+ */
+@Coalesce
+public interface CoalesceService {
+
+    @Get("/books/{id}")
+    Book getBook(@Var("id") String id);
+
+    @Get("/books/{id}")
+    CompletableFuture<Book> getBookAsync(@Var("id") String id);
+
+    @Get("/books/{id}")
+    String getBookJson(@Var("id") String id);
+
+    @Get("/books/{id}")
+    HttpResponse getBookResponse(@Var("id") String id);
+
+    @Coalesce(false)
+    @Get("/books/{id}")
+    Book getBookUncoalesced(@Var("id") String id);
+}
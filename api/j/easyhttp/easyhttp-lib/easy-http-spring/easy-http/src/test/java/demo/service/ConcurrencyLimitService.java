@@ -0,0 +1,29 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.ConcurrencyLimit;
+import com.github.vizaizai.annotation.Get;
+import demo.model.Book;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/18 23:25
+ */
+@ConcurrencyLimit(5)
+public interface ConcurrencyLimitService {
+
+    @Get("/slow")
+    Book slow();
+
+    @Get("/slow")
+    CompletableFuture<Book> slowAsync();
+
+    @ConcurrencyLimit(2)
+    @Get("/slow")
+    CompletableFuture<Book> own();
+
+    @ConcurrencyLimit(0)
+    @Get("/slow")
+    CompletableFuture<Book> unlimited();
+}
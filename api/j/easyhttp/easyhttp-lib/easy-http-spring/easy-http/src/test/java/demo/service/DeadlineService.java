@@ -0,0 +1,27 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.Timeout;
+import com.github.vizaizai.entity.Deadline;
+import demo.model.Book;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/18 12:40
+ */
+public interface DeadlineService {
+
+    @Get("/slow")
+    Book slow();
+
+    @Get("/slow")
+    Book slow(Deadline deadline);
+
+    @Timeout(total = 200)
+    @Get("/slow")
+    Book slowWithBudget();
+
+    @Timeout(total = 1000)
+    @Get(value = "/unavailable", retries = 5, interval = 100)
+    Book unavailable();
+}
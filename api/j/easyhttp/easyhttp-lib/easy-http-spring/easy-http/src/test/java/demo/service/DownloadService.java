@@ -0,0 +1,23 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Download;
+import com.github.vizaizai.annotation.Get;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/17 15:12
+ */
+public interface DownloadService {
+
+    @Get("/download")
+    Path download();
+
+    @Get("/download")
+    File downloadFile();
+
+    @Get("/download")
+    void download(@Download Path target);
+}
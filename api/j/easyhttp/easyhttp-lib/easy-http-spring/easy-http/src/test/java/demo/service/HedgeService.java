@@ -0,0 +1,26 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.Hedge;
+import com.github.vizaizai.annotation.Var;
+import demo.model.Book;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/18 20:20
+ */
+public interface HedgeService {
+
+    @Get("/books/{id}")
+    Book plain(@Var String id);
+
+    @Hedge(delay = 50)
+    @Get("/books/{id}")
+    Book hedged(@Var String id);
+
+    @Hedge(percentile = 90)
+    @Get("/books/{id}")
+    CompletableFuture<Book> adaptive(@Var String id);
+}
@@ -0,0 +1,34 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.RateLimit;
+import com.github.vizaizai.entity.RateLimitSettings;
+import demo.model.Book;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/19 00:10
+ */
+@RateLimit(20)
+public interface RateLimitService {
+
+    @Get("/books")
+    Book getBook();
+
+    @Get("/books")
+    CompletableFuture<Book> getBookAsync();
+
+    @RateLimit(value = 1, mode = RateLimitSettings.Mode.FAIL_FAST)
+    @Get("/books")
+    Book failFast();
+
+    @RateLimit(value = 2, timeout = 100)
+    @Get("/books")
+    Book strict();
+
+    @RateLimit(0)
+    @Get("/books")
+    Book unlimited();
+}
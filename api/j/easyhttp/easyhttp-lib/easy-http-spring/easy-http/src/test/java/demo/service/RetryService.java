@@ -0,0 +1,20 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.Var;
+import demo.model.Book;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/18 17:05
+ */
+public interface RetryService {
+
+    @Get("/flaky/{id}")
+    Book flaky(@Var String id);
+
+    @Get("/flaky/{id}")
+    CompletableFuture<Book> flakyAsync(@Var String id);
+}
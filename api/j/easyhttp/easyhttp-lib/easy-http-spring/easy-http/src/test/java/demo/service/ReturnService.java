@@ -5,9 +5,12 @@ import com.github.vizaizai.entity.HttpResponse;
 import demo.model.ApiResult;
 import demo.model.Book1;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author liaochongwei
@@ -50,4 +53,13 @@ public interface ReturnService {
 
     @Get("/testDouble")
     Double testDouble_5();
+
+    @Get("/listAllBooks")
+    InputStream testStream_1();
+
+    @Get("/listAllBooks")
+    Reader testStream_2();
+
+    @Get("/listAllBooks")
+    void testStream_3(Consumer<InputStream> consumer);
 }
@@ -0,0 +1,23 @@
+package demo.service;
+
+import com.github.vizaizai.annotation.Get;
+import com.github.vizaizai.annotation.Timeout;
+import com.github.vizaizai.entity.HttpRequestConfig;
+import demo.model.Book;
+
+/**
+ * @author liaochongwei
+ * @date 2026/10/18 11:10
+ */
+public interface TimeoutService {
+
+    @Get("/slow")
+    Book slow();
+
+    @Timeout(request = 200)
+    @Get("/slow")
+    Book failFast();
+
+    @Get("/slow")
+    Book slow(HttpRequestConfig config);
+}